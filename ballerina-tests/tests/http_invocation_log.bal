@@ -0,0 +1,61 @@
+// Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerinax/azure.functions as af;
+import ballerina/http;
+import ballerina/test;
+
+service /logging on new af:HttpListener() {
+
+    resource function post greet(@http:Payload string name) returns string {
+        af:printDebug("binding " + name);
+        af:printInfo("greeting " + name);
+        af:printWarn("greeting without a title");
+        af:printError("greeting failed", error("NoTitle"));
+        return "Hello " + name;
+    }
+}
+
+@test:Config {}
+function testUserLogsInInvocation() returns error? {
+    json request = {
+        "Data": {
+            "httpPayload": {
+                "Url": "http://localhost:7071/logging/greet",
+                "Method": "POST",
+                "Query": {},
+                "Headers": {"Content-Type": ["text/plain"]},
+                "Params": {},
+                "Identities": [],
+                "Body": "Jack"
+            }
+        },
+        "Metadata": {
+            "Query": {},
+            "Headers": {"Content-Type": "text/plain"},
+            "sys": {"MethodName": "post-logging-greet"}
+        }
+    };
+    json response = check clientEndpoint1->post("/post-logging-greet", request);
+    test:assertEquals(check response.Outputs.outResp.body, "Hello Jack");
+    string[] logs = check (check response.Logs).fromJsonWithType();
+    // DEBUG entries are below the default level.
+    test:assertEquals(logs.length(), 3);
+    test:assertEquals(logs[0], "INFO: greeting Jack");
+    test:assertEquals(logs[1], "WARN: greeting without a title");
+    test:assertTrue(logs[2].startsWith("ERROR: greeting failed: "), logs[2]);
+    test:assertTrue(logs[2].includes("NoTitle"), logs[2]);
+}
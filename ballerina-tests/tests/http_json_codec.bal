@@ -0,0 +1,251 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerinax/azure.functions as af;
+import ballerina/lang.value;
+import ballerina/test;
+
+type CodecItem record {|
+    string sku;
+    int quantity;
+    decimal price;
+|};
+
+type CodecItems CodecItem[];
+
+type CodecAddress record {|
+    string street;
+    string city;
+    string? zip;
+|};
+
+type CodecOrder record {|
+    string id;
+    CodecAddress shipping;
+    CodecItem[] items;
+    string[] tags;
+    CodecAddress? billing;
+|};
+
+type CodecOptional record {|
+    string name;
+    int age?;
+    string? nickname;
+    string? email?;
+|};
+
+type CodecDefaults record {|
+    string name;
+    int retries = 3;
+    boolean enabled = true;
+    string region = "eastus";
+|};
+
+type CodecOpen record {
+    string name;
+};
+
+type CodecRest record {|
+    string name;
+    json...;
+|};
+
+type CodecText record {|
+    string value;
+|};
+
+type CodecNumbers record {|
+    int maxInt;
+    int minInt;
+    float large;
+    float small;
+    float negativeZero;
+    float fraction;
+    float integral;
+    decimal precise;
+    decimal tiny;
+    decimal exponent;
+|};
+
+service /codec on new af:HttpListener() {
+
+    resource function post orders(CodecOrder p) returns CodecOrder {
+        return p;
+    }
+
+    resource function post items(CodecItem[] p) returns CodecItem[] {
+        return p;
+    }
+
+    resource function post optional(CodecOptional p) returns CodecOptional {
+        return p;
+    }
+
+    resource function post defaults(CodecDefaults p) returns CodecDefaults {
+        return p;
+    }
+
+    resource function post open(CodecOpen p) returns CodecOpen {
+        return p;
+    }
+
+    resource function post rest(CodecRest p) returns CodecRest {
+        return p;
+    }
+
+    resource function post text(CodecText p) returns CodecText {
+        return p;
+    }
+
+    resource function post numbers(CodecNumbers p) returns CodecNumbers {
+        return p;
+    }
+
+    resource function post readonlyItem(readonly & CodecItem p) returns map<json> {
+        return {item: p, frozen: p is readonly};
+    }
+
+    resource function post readonlyItems(readonly & CodecItem[] p) returns map<json> {
+        return {items: p, frozen: p is readonly};
+    }
+}
+
+@test:Config {}
+function testCodecReadonlyPayload() returns error? {
+    string payload = "{\"sku\":\"A-1\",\"quantity\":2,\"price\":10.50}";
+    json body = check postCodecPayload("readonlyItem", payload);
+    test:assertEquals(check body.frozen, true);
+    CodecItem item = check (check body.item).fromJsonWithType();
+    test:assertEquals(item, {sku: "A-1", quantity: 2, price: 10.50d});
+}
+
+@test:Config {}
+function testCodecReadonlyArrayPayload() returns error? {
+    string payload = "[{\"sku\":\"A-1\",\"quantity\":2,\"price\":10.50},{\"sku\":\"B-2\",\"quantity\":1,\"price\":3}]";
+    json body = check postCodecPayload("readonlyItems", payload);
+    test:assertEquals(check body.frozen, true);
+    CodecItem[] items = check (check body.items).fromJsonWithType();
+    test:assertEquals(items, [{sku: "A-1", quantity: 2, price: 10.50d}, {sku: "B-2", quantity: 1, price: 3d}]);
+}
+
+@test:Config {
+    dataProvider: codecRoundTripDataProvider
+}
+function testCodecRoundTrip(string path, string payload, typedesc<anydata> targetType) returns error? {
+    json body = check postCodecPayload(path, payload);
+    anydata expected = check value:fromJsonStringWithType(payload, targetType);
+    // The bound value is the one of the generic conversion, and it is written back the same way as toJsonString.
+    test:assertEquals(check value:fromJsonWithType(body, targetType), expected);
+    test:assertEquals(body, check value:fromJsonString(expected.toJsonString()));
+}
+
+function codecRoundTripDataProvider() returns map<[string, string, typedesc<anydata>]>|error {
+    map<[string, string, typedesc<anydata>]> dataSet = {
+        "optionalFieldsPresent": ["optional",
+            "{\"name\":\"Ann\",\"age\":30,\"nickname\":\"A\",\"email\":\"ann@example.com\"}", CodecOptional],
+        "optionalFieldsAbsent": ["optional", "{\"name\":\"Ann\",\"nickname\":null}", CodecOptional],
+        "optionalFieldNil": ["optional", "{\"nickname\":\"A\",\"email\":null,\"name\":\"Ann\"}", CodecOptional],
+        "defaultValues": ["defaults", "{\"name\":\"job\"}", CodecDefaults],
+        "defaultValuesOverridden": ["defaults",
+            "{\"name\":\"job\",\"retries\":0,\"enabled\":false,\"region\":\"westus\"}", CodecDefaults],
+        "openRecord": ["open",
+            "{\"name\":\"Ann\",\"extra\":{\"values\":[1,2.5,\"x\",null,true]},\"count\":3}", CodecOpen],
+        "restFields": ["rest", "{\"name\":\"Ann\",\"score\":1.5,\"tags\":[\"x\",\"y\"],\"meta\":{\"k\":null}}",
+            CodecRest],
+        "nestedRecord": ["orders", "{\"id\":\"o-1\",\"shipping\":{\"street\":\"1 Main St\",\"city\":\"Colombo\"," +
+            "\"zip\":null},\"items\":[{\"sku\":\"A-1\",\"quantity\":2,\"price\":10.50},{\"sku\":\"B-2\"," +
+            "\"quantity\":1,\"price\":3}],\"tags\":[\"gift\"],\"billing\":{\"street\":\"2 Hill St\"," +
+            "\"city\":\"Kandy\",\"zip\":\"20000\"}}", CodecOrder],
+        "nestedRecordEmpty": ["orders", " {\n  \"billing\" : null , \"tags\" : [ ] ,\n  \"items\" : [],\n  " +
+            "\"shipping\" : { \"zip\" : \"10100\", \"city\" : \"Galle\", \"street\" : \"\" },\n  \"id\" : \"o-2\"\n}\n",
+            CodecOrder],
+        "recordArray": ["items", "[{\"sku\":\"A-1\",\"quantity\":2,\"price\":10.50},{\"sku\":\"B-2\"," +
+            "\"quantity\":-1,\"price\":0}]", CodecItems],
+        "emptyRecordArray": ["items", "[]", CodecItems],
+        "escapes": ["text", "{\"value\":\"quote \\\" backslash \\\\ slash \\/ newline \\n tab \\t return \\r " +
+            "backspace \\b feed \\f control \\u0001 \\u001f\"}", CodecText],
+        "unicode": ["text", "{\"value\":\"caf\\u00e9 \\u4e2d\\u6587 \\ud83d\\ude00 café 中文 😀\"}", CodecText],
+        "numbers": ["numbers", "{\"maxInt\":9223372036854775807,\"minInt\":-9223372036854775808," +
+            "\"large\":1.7976931348623157E308,\"small\":4.9E-324,\"negativeZero\":-0.0,\"fraction\":0.1," +
+            "\"integral\":42,\"precise\":1.234567890123456789012345678901234,\"tiny\":-0.0000001," +
+            "\"exponent\":1E+10}", CodecNumbers]
+    };
+    return dataSet;
+}
+
+@test:Config {
+    dataProvider: codecMalformedPayloadDataProvider
+}
+function testCodecMalformedPayload(string path, string payload, string? expectedError) returns error? {
+    json response = check postCodecRequest(path, payload);
+    test:assertEquals(check response.Outputs.outResp.statusCode, 400);
+    json body = check response.Outputs.outResp.body;
+    test:assertTrue(body is string);
+    if expectedError is string {
+        test:assertEquals(body, expectedError);
+    }
+}
+
+function codecMalformedPayloadDataProvider() returns map<[string, string, string?]>|error {
+    map<[string, string, string?]> dataSet = {
+        "unknownField": ["text", "{\"value\":\"a\",\"other\":1}", "{ballerina}ConversionError"],
+        "missingField": ["items", "[{\"sku\":\"A-1\",\"quantity\":2}]", "{ballerina}ConversionError"],
+        "wrongFieldType": ["items", "[{\"sku\":\"A-1\",\"quantity\":\"two\",\"price\":1}]",
+            "{ballerina}ConversionError"],
+        "intOverflow": ["items", "[{\"sku\":\"A-1\",\"quantity\":9223372036854775808,\"price\":1}]", ()],
+        "syntaxError": ["text", "{\"value\": }", ()],
+        "unterminatedString": ["text", "{\"value\":\"a}", ()],
+        "trailingContent": ["text", "{\"value\":\"a\"} {}", ()]
+    };
+    return dataSet;
+}
+
+# Posts a JSON payload to a resource of the codec service and returns the response body.
+#
+# + path - resource path
+# + payload - JSON text of the request body
+# + return - the response body, or an error if the response is not successful
+function postCodecPayload(string path, string payload) returns json|error {
+    json response = check postCodecRequest(path, payload);
+    int statusCode = check response.Outputs.outResp.statusCode;
+    if statusCode != 201 {
+        json body = check response.Outputs.outResp.body;
+        return error(string `unexpected status code ${statusCode}: ${body.toString()}`);
+    }
+    return response.Outputs.outResp.body;
+}
+
+function postCodecRequest(string path, string payload) returns json|error {
+    json request = {
+        "Data": {
+            "httpPayload": {
+                "Url": "http://localhost:7071/codec/" + path,
+                "Method": "POST",
+                "Query": {},
+                "Headers": {"Content-Type": ["application/json"]},
+                "Params": {},
+                "Identities": [],
+                "Body": payload
+            }
+        },
+        "Metadata": {
+            "Query": {},
+            "Headers": {"Content-Type": "application/json"},
+            "sys": {"MethodName": "post-codec-" + path}
+        }
+    };
+    return clientEndpoint1->post("/post-codec-" + path, request);
+}
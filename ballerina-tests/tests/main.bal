@@ -200,6 +200,15 @@ service /hello on ep {
         return err;
     }
 
+    resource function post httpResError(@http:Payload string greeting) returns @af:HttpOutput string|error {
+        return error("Helloworld failed");
+    }
+
+    resource function post traceContext(@http:Payload string greeting) returns @af:HttpOutput string {
+        af:TraceContext? traceContext = af:getTraceContext();
+        return traceContext is () ? "no trace context" : traceContext.traceparent;
+    }
+
     resource function post foo(@http:Payload string greeting) returns @af:HttpOutput string {
         return "Hello from foo path " + greeting;
     }
@@ -414,6 +414,68 @@ function httpResTest4() returns error? {
     test:assertEquals(resp, expectedResp);
 }
 
+@test:Config {}
+function httpResErrorLogsTest() returns error? {
+    final http:Client clientEndpoint = check new ("http://localhost:3000");
+    string jsonFilePath = "./tests/resources/httpResError.json";
+    json readJson = check io:fileReadJson(jsonFilePath);
+    json resp = check clientEndpoint->post("/post-hello-httpResError", readJson);
+    test:assertEquals(resp.Outputs, {"outResp": {"statusCode": 500}});
+    json[] logs = <json[]>check resp.Logs;
+    test:assertEquals(logs.length(), 1);
+    string errorLog = <string>logs[0];
+    test:assertTrue(errorLog.startsWith("ERROR: function returned an error: "));
+    test:assertTrue(errorLog.includes("Helloworld failed"));
+}
+
+@test:Config {}
+function invocationMetricsTest() returns error? {
+    final http:Client clientEndpoint = check new ("http://localhost:3000");
+    json readJson = check io:fileReadJson("./tests/resources/httpResTest4.json");
+    json _ = check clientEndpoint->post("/post-hello-httpResTest4", readJson);
+    json metrics = check clientEndpoint->get("/admin/invocation-metrics");
+    test:assertEquals(check metrics.enabled, true);
+    map<json> functions = check (check metrics.functions).ensureType();
+    map<json> phases = check functions["post-hello-httpResTest4"].ensureType();
+    foreach string phase in ["envelopeParsing", "parameterBinding", "userCode", "responseShaping", "total"] {
+        map<json> latency = check phases[phase].ensureType();
+        int count = check latency["count"].ensureType();
+        test:assertTrue(count >= 1, phase);
+        float p50 = check latency["p50Millis"].cloneWithType();
+        float p999 = check latency["p999Millis"].cloneWithType();
+        float max = check latency["maxMillis"].cloneWithType();
+        test:assertTrue(p50 <= p999 && p999 <= max, phase);
+    }
+}
+
+@test:Config {}
+function traceContextTest() returns error? {
+    final http:Client clientEndpoint = check new ("http://localhost:3000");
+    string jsonFilePath = "./tests/resources/trace-context.json";
+    json readJson = check io:fileReadJson(jsonFilePath);
+    json resp = check clientEndpoint->post("/post-hello-traceContext", readJson);
+    json body = check resp.Outputs.outResp.body;
+    string traceparent = check body.ensureType();
+    test:assertTrue(traceparent.startsWith("00-4bf92f3577b34da6a3ce929d0e0e4736-"));
+    test:assertFalse(traceparent.includes("00f067aa0ba902b7"));
+
+    string spanId = traceparent.substring(36, 52);
+    json[] spans = check clientEndpoint->get("/admin/trace-spans");
+    map<json> invocationSpan = {};
+    string[] phases = [];
+    foreach json span in spans {
+        map<json> spanMap = check span.ensureType();
+        if spanMap["spanId"] == spanId {
+            invocationSpan = spanMap;
+        } else if spanMap["parentSpanId"] == spanId {
+            phases.push(check spanMap["name"].ensureType());
+        }
+    }
+    test:assertEquals(invocationSpan["name"], "invoke post-hello-traceContext");
+    test:assertEquals(invocationSpan["parentSpanId"], "00f067aa0ba902b7");
+    test:assertEquals(phases.sort(), ["binding", "outputBinding", "responseShaping", "userCode"]);
+}
+
 @test:Config {}
 function nonHttpResTest1() returns error? {
     final http:Client clientEndpoint = check new ("http://localhost:3000");
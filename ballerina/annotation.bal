@@ -20,6 +20,22 @@ public type FunctionConfiguration record {|
     string name;
 |};
 
+# Parameter binding descriptor of a function. This is generated by the compiler plugin and is not meant to be
+# attached manually.
+#
+# + params - Binding kind of each parameter in declaration order, excluding the resource path parameters
+# + outputs - Output binding annotation of each member of a tuple return type
+# + treatNilableAsOptional - Whether a missing header is bound as nil to a nilable header parameter
+# + routed - Whether the resource is served by the catch-all HTTP router function instead of its own function
+public type BindingDescriptorConfiguration record {|
+    string[] params;
+    string[] outputs?;
+    boolean treatNilableAsOptional = true;
+    boolean routed = false;
+|};
+
+public const annotation BindingDescriptorConfiguration BindingDescriptor on function;
+
 public type AUTH_LEVEL "anonymous"|"function"|"admin";
 public const annotation HTTPTriggerConfiguration HttpTrigger on source listener, service;
 
@@ -24,6 +24,8 @@ public class BlobListener {
         AzureRemoteAdapter adaptor = new(svc);
         self.httpService = new (adaptor, "onUpdate");
         check httpListener.attach(<DispatcherService>self.httpService, name);
+        check attachInvocationMetricsService();
+        recordStartupCheckpoint("BlobListener.attach");
     }
 
     public isolated function detach(BlobService svc) returns error? {
@@ -31,6 +33,7 @@ public class BlobListener {
 
     public function 'start() returns error? {
         check httpListener.'start();
+        recordListenerStart();
     }
 
     public isolated function gracefulStop() returns error? {
@@ -29,14 +29,28 @@ isolated service class DispatcherService {
     }
 
     isolated resource function post .(http:Caller caller, http:Request request) returns error? {
+        int receivedAt = nanoTime();
         http:Response response = new;
         json platformPayload = check request.getJsonPayload();
-        map<anydata>|error callRemoteFunction = self.adaptor.callRemoteFunction(<map<json>>platformPayload, self.remoteMethodName);
+        string functionName = getInvokedFunctionName(platformPayload, self.remoteMethodName);
+        int parsedAt = nanoTime();
+        InvocationLog invocationLog = new;
+        string|error callRemoteFunction = self.adaptor.callRemoteFunction(<map<json>>platformPayload,
+                self.remoteMethodName, functionName, invocationLog);
         if (callRemoteFunction is error) {
-            log:printError(callRemoteFunction.message());
+            recordInvocation(functionName, receivedAt, parsedAt);
+            // No response is sent, so the buffered entries are written along with the error.
+            log:printError(callRemoteFunction.message(), logs = invocationLog.toJson());
             return;
         }
-        response.setJsonPayload({Outputs: callRemoteFunction.toJson(), Logs: [], ReturnValue: null});
+        response.setTextPayload(getOutputsPayload(callRemoteFunction, invocationLog), "application/json");
+        recordInvocation(functionName, receivedAt, parsedAt);
         check caller->respond(response);
+        completeStartupTimeline(receivedAt);
     }
 }
+
+isolated function getInvokedFunctionName(json platformPayload, string remoteMethodName) returns string {
+    json|error methodName = platformPayload.Metadata.sys.MethodName;
+    return methodName is string ? methodName : remoteMethodName;
+}
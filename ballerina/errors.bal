@@ -18,6 +18,8 @@ public type Error distinct error;
 
 public type FunctionNotFoundError distinct Error;
 
+public type RouteNotFoundError distinct Error;
+
 public type PayloadNotFoundError distinct Error;
 
 public type InvalidPayloadError distinct Error;
@@ -15,6 +15,10 @@
 // under the License.
 
 //TODO See if unused methods are required for a listener declaration
+const HTTP_ROUTER_FUNCTION_NAME = "ballerina-http-router";
+
+boolean routerAttached = false;
+
 public class HttpListener {
     ResourceService[] httpServices;
 
@@ -29,6 +33,12 @@ public class HttpListener {
             ResourceService httpService = new (adaptor);
             check httpListener.attach(<ResourceService>httpService, resourcePath);
         }
+        if adaptor.registerRoutes(name) && !routerAttached {
+            check httpListener.attach(new RouterService(), HTTP_ROUTER_FUNCTION_NAME);
+            routerAttached = true;
+        }
+        check attachInvocationMetricsService();
+        recordStartupCheckpoint("HttpListener.attach");
     }
 
     public isolated function detach(HttpService svc) returns error? {
@@ -36,6 +46,7 @@ public class HttpListener {
 
     public function 'start() returns error? {
         check httpListener.'start();
+        recordListenerStart();
     }
 
     public isolated function gracefulStop() returns error? {
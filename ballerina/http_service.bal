@@ -16,6 +16,7 @@
 
 import ballerina/http;
 import ballerina/log;
+import ballerina/observe;
 
 isolated service class ResourceService {
     *http:Service;
@@ -27,24 +28,71 @@ isolated service class ResourceService {
     }
 
     isolated resource function post .(http:Caller caller, http:Request request) returns error? {
+        int receivedAt = nanoTime();
         http:Response response = new;
         json message = check request.getJsonPayload();
         Payload payload = check message.cloneWithType(Payload);
         string functionName = payload.Metadata.sys.MethodName;
-        map<anydata>|error callRegisterMethod = self.adaptor.callNativeMethod(payload.Data, functionName);
-        response.setJsonPayload(getResponsePayload(callRegisterMethod));
+        int parsedAt = nanoTime();
+        InvocationLog invocationLog = new;
+        string|error callRegisterMethod = self.adaptor.callNativeMethod(payload.Data, functionName, invocationLog);
+        response.setTextPayload(getResponsePayload(callRegisterMethod, invocationLog), "application/json");
+        recordInvocation(functionName, receivedAt, parsedAt);
         check caller->respond(response);
+        completeStartupTimeline(receivedAt);
     }
 }
 
-isolated function getResponsePayload (map<anydata>|error nativeResponse) returns json {
-    if (nativeResponse is PayloadNotFoundError || nativeResponse is InvalidPayloadError || nativeResponse is HeaderNotFoundError) {
-        return {"Outputs": {"outResp": {"statusCode": 400, "body": nativeResponse.message(),"headers": {"Content-Type": "text/plain"}}}, "Logs": [], "ReturnValue": null};
+isolated service class RouterService {
+    *http:Service;
+
+    isolated resource function post .(http:Caller caller, http:Request request) returns error? {
+        int receivedAt = nanoTime();
+        http:Response response = new;
+        json message = check request.getJsonPayload();
+        Payload payload = check message.cloneWithType(Payload);
+        string|error functionName = resolveRoute(payload.Data);
+        int parsedAt = nanoTime();
+        InvocationLog invocationLog = new;
+        string|error callRegisterMethod;
+        if functionName is error {
+            callRegisterMethod = functionName;
+        } else {
+            // Keeps the metrics of each resource apart, as all the routed resources share this service.
+            error? tagResult = observe:addTagToMetrics("azure_function", functionName);
+            if tagResult is error {
+                log:printDebug("unable to tag metrics with the function name", 'error = tagResult);
+            }
+            callRegisterMethod = callRoutedMethod(payload.Data, functionName, invocationLog);
+        }
+        response.setTextPayload(getResponsePayload(callRegisterMethod, invocationLog), "application/json");
+        if functionName is string {
+            recordInvocation(functionName, receivedAt, parsedAt);
+        }
+        check caller->respond(response);
+        completeStartupTimeline(receivedAt);
+    }
+}
+
+isolated function getResponsePayload (string|error nativeResponse, InvocationLog invocationLog) returns string {
+    if (nativeResponse is RouteNotFoundError) {
+        json outputs = {"outResp": {"statusCode": 404, "body": nativeResponse.message(),"headers": {"Content-Type": "text/plain"}}};
+        return getOutputsPayload(outputs.toJsonString(), invocationLog);
+    } else if (nativeResponse is PayloadNotFoundError || nativeResponse is InvalidPayloadError || nativeResponse is HeaderNotFoundError) {
+        json outputs = {"outResp": {"statusCode": 400, "body": nativeResponse.message(),"headers": {"Content-Type": "text/plain"}}};
+        return getOutputsPayload(outputs.toJsonString(), invocationLog);
     } else if (nativeResponse is error) {
-        log:printError(nativeResponse.message());
-        return {"Outputs": {"outResp": {"statusCode": 500}}, "Logs": [], "ReturnValue": null};
+        // The native callback has already logged the error to the invocation.
+        json outputs = {"outResp": {"statusCode": 500}};
+        return getOutputsPayload(outputs.toJsonString(), invocationLog);
     } else {
-        return {Outputs: nativeResponse.toJson(), Logs: [], ReturnValue: null};
+        // Outputs are already encoded as JSON by the native adaptor.
+        return getOutputsPayload(nativeResponse, invocationLog);
     }
 }
 
+isolated function getOutputsPayload(string outputs, InvocationLog invocationLog) returns string {
+    // Entries logged during the invocation are written by the Functions host along with the invocation ID.
+    return string `{"Outputs":${outputs},"Logs":${invocationLog.toJson()},"ReturnValue":null}`;
+}
+
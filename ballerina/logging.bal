@@ -0,0 +1,52 @@
+// Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Logs a message at the `DEBUG` level to the invocation being handled. The entries of an invocation are returned in
+# the `Logs` field of the response, so the Functions host writes them along with the invocation ID.
+#
+# + msg - Message to log
+public isolated function printDebug(string msg) {
+    print("DEBUG", msg, ());
+}
+
+# Logs a message at the `INFO` level to the invocation being handled.
+#
+# + msg - Message to log
+public isolated function printInfo(string msg) {
+    print("INFO", msg, ());
+}
+
+# Logs a message at the `WARN` level to the invocation being handled.
+#
+# + msg - Message to log
+# + 'error - Error to log with the message, along with its stack trace
+public isolated function printWarn(string msg, error? 'error = ()) {
+    print("WARN", msg, 'error);
+}
+
+# Logs a message at the `ERROR` level to the invocation being handled.
+#
+# + msg - Message to log
+# + 'error - Error to log with the message, along with its stack trace
+public isolated function printError(string msg, error? 'error = ()) {
+    print("ERROR", msg, 'error);
+}
+
+isolated function print(string level, string msg, error? 'error) = @java:Method {
+    'class: "io.ballerina.stdlib.azure.functions.logging.InvocationLog"
+} external;
@@ -0,0 +1,57 @@
+// Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/os;
+
+const INVOCATION_METRICS_PATH = "admin/invocation-metrics";
+const INVOCATION_METRICS_ENDPOINT_ENV = "AZURE_FUNCTIONS_METRICS_ENDPOINT";
+const TRACE_SPANS_PATH = "admin/trace-spans";
+const TRACE_EXPORTER_ENV = "AZURE_FUNCTIONS_TRACE_EXPORTER";
+
+boolean invocationMetricsAttached = false;
+
+// The custom handler port is only reachable by the Functions host, so the endpoint is not exposed by the function app.
+function attachInvocationMetricsService() returns error? {
+    if invocationMetricsAttached || os:getEnv(INVOCATION_METRICS_ENDPOINT_ENV) != "true" {
+        return;
+    }
+    check httpListener.attach(new InvocationMetricsService(), INVOCATION_METRICS_PATH);
+    if os:getEnv(TRACE_EXPORTER_ENV) == "memory" {
+        check httpListener.attach(new TraceSpansService(), TRACE_SPANS_PATH);
+    }
+    invocationMetricsAttached = true;
+}
+
+isolated service class InvocationMetricsService {
+    *http:Service;
+
+    isolated resource function get .(http:Caller caller) returns error? {
+        http:Response response = new;
+        response.setTextPayload(getInvocationMetrics(), "application/json");
+        check caller->respond(response);
+    }
+}
+
+isolated service class TraceSpansService {
+    *http:Service;
+
+    isolated resource function get .(http:Caller caller) returns error? {
+        http:Response response = new;
+        response.setTextPayload(getRecordedSpans(), "application/json");
+        check caller->respond(response);
+    }
+}
@@ -24,12 +24,27 @@ isolated class HttpToAzureAdaptor {
         'class: "io.ballerina.stdlib.azure.functions.NativeHttpToAzureAdaptor"
     } external;
 
-    isolated function callNativeMethod(map<HttpPayload|string> body, string functionName) returns map<anydata>|error = 
+    isolated function callNativeMethod(map<HttpPayload|string> body, string functionName,
+            InvocationLog invocationLog) returns string|error = 
     @java:Method {
         'class: "io.ballerina.stdlib.azure.functions.NativeHttpToAzureAdaptor"
     } external;
+
+    isolated function registerRoutes(string[]|string? name) returns boolean = @java:Method {
+        'class: "io.ballerina.stdlib.azure.functions.HttpRouter"
+    } external;
 }
 
+isolated function resolveRoute(map<HttpPayload|string> body) returns string|error = @java:Method {
+    'class: "io.ballerina.stdlib.azure.functions.HttpRouter"
+} external;
+
+isolated function callRoutedMethod(map<HttpPayload|string> body, string functionName,
+        InvocationLog invocationLog) returns string|error =
+@java:Method {
+    'class: "io.ballerina.stdlib.azure.functions.HttpRouter"
+} external;
+
 isolated function externInit(HttpToAzureAdaptor adaptor, HttpService serviceObj) = @java:Method {
     'class: "io.ballerina.stdlib.azure.functions.NativeHttpToAzureAdaptor"
 } external;
@@ -41,7 +56,8 @@ isolated class AzureRemoteAdapter {
         externRemoteInit(self, 'service);
     }
 
-    isolated function callRemoteFunction(map<json> body, string functionName) returns map<anydata>|error = 
+    isolated function callRemoteFunction(map<json> body, string remoteMethodName, string functionName,
+            InvocationLog invocationLog) returns string|error = 
     @java:Method {
         'class: "io.ballerina.stdlib.azure.functions.NativeRemoteAdapter"
     } external;
@@ -50,3 +66,46 @@ isolated class AzureRemoteAdapter {
 isolated function externRemoteInit(AzureRemoteAdapter adaptor, RemoteService serviceObj) = @java:Method {
     'class: "io.ballerina.stdlib.azure.functions.NativeRemoteAdapter"
 } external;
+
+# Buffers the log entries of an invocation, which are returned in the `Logs` field of the response.
+isolated class InvocationLog {
+    isolated function init() {
+        externInvocationLogInit(self);
+    }
+
+    isolated function toJson() returns string = @java:Method {
+        'class: "io.ballerina.stdlib.azure.functions.logging.InvocationLog"
+    } external;
+}
+
+isolated function externInvocationLogInit(InvocationLog invocationLog) = @java:Method {
+    'class: "io.ballerina.stdlib.azure.functions.logging.InvocationLog"
+} external;
+
+isolated function nanoTime() returns int = @java:Method {
+    'class: "io.ballerina.stdlib.azure.functions.metrics.InvocationMetrics"
+} external;
+
+isolated function recordInvocation(string functionName, int receivedAt, int parsedAt) = @java:Method {
+    'class: "io.ballerina.stdlib.azure.functions.metrics.InvocationMetrics"
+} external;
+
+isolated function getInvocationMetrics() returns string = @java:Method {
+    'class: "io.ballerina.stdlib.azure.functions.metrics.InvocationMetrics"
+} external;
+
+isolated function getRecordedSpans() returns string = @java:Method {
+    'class: "io.ballerina.stdlib.azure.functions.tracing.InMemorySpanExporter"
+} external;
+
+isolated function recordStartupCheckpoint(string name) = @java:Method {
+    'class: "io.ballerina.stdlib.azure.functions.metrics.StartupTimeline"
+} external;
+
+isolated function recordListenerStart() = @java:Method {
+    'class: "io.ballerina.stdlib.azure.functions.metrics.StartupTimeline"
+} external;
+
+isolated function recordResponseWritten(int receivedAt) returns string? = @java:Method {
+    'class: "io.ballerina.stdlib.azure.functions.metrics.StartupTimeline"
+} external;
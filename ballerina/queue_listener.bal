@@ -24,6 +24,8 @@ public class QueueListener {
         AzureRemoteAdapter adaptor = new(svc);
         self.httpService = new (adaptor, "onMessage");
         check httpListener.attach(<DispatcherService>self.httpService, name);
+        check attachInvocationMetricsService();
+        recordStartupCheckpoint("QueueListener.attach");
     }
 
     public isolated function detach(QueueService svc) returns error? {
@@ -31,6 +33,7 @@ public class QueueListener {
 
     public function 'start() returns error? {
         check httpListener.'start();
+        recordListenerStart();
     }
 
     public isolated function gracefulStop() returns error? {
@@ -0,0 +1,64 @@
+// Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.value;
+import ballerina/log;
+import ballerina/observe;
+
+const STARTUP_CHECKPOINT_METRIC = "azure_functions_startup_checkpoint_ms";
+
+type StartupCheckpoint record {
+    string name;
+    float sinceProcessStartMillis;
+};
+
+type StartupTimeline record {
+    string runtime;
+    StartupCheckpoint[] checkpoints;
+};
+
+// Logs the startup timeline once, after the first response is written, and publishes each checkpoint as a gauge when
+// metrics are enabled, so the cold start of releases can be compared.
+isolated function completeStartupTimeline(int receivedAt) {
+    string? timeline = recordResponseWritten(receivedAt);
+    if timeline is () {
+        return;
+    }
+    json|error timelineJson = value:fromJsonString(timeline);
+    if timelineJson is error {
+        log:printDebug("unable to read the startup timeline", 'error = timelineJson);
+        return;
+    }
+    log:printInfo("worker startup timeline", startupTimeline = timelineJson);
+    if !observe:isMetricsEnabled() {
+        return;
+    }
+    StartupTimeline|error startupTimeline = timelineJson.cloneWithType();
+    if startupTimeline is error {
+        log:printDebug("unable to read the startup timeline", 'error = startupTimeline);
+        return;
+    }
+    foreach StartupCheckpoint checkpoint in startupTimeline.checkpoints {
+        observe:Gauge gauge = new (STARTUP_CHECKPOINT_METRIC, "Time from the process start to a startup checkpoint",
+                {"checkpoint": checkpoint.name, "runtime": startupTimeline.runtime});
+        error? result = gauge.register();
+        if result is error {
+            log:printDebug("unable to register the startup checkpoint metric", 'error = result);
+            continue;
+        }
+        gauge.setValue(checkpoint.sinceProcessStartMillis);
+    }
+}
@@ -24,6 +24,8 @@ public class TimerListener {
         AzureRemoteAdapter adaptor = new(svc);
         self.httpService = new (adaptor, "onTrigger");
         check httpListener.attach(<DispatcherService>self.httpService, name);
+        check attachInvocationMetricsService();
+        recordStartupCheckpoint("TimerListener.attach");
     }
 
     public isolated function detach(TimerService svc) returns error? {
@@ -31,6 +33,7 @@ public class TimerListener {
 
     public function 'start() returns error? {
         check httpListener.'start();
+        recordListenerStart();
     }
 
     public isolated function gracefulStop() returns error? {
@@ -0,0 +1,38 @@
+// Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# W3C trace context of the invocation being handled
+#
+# + traceId - ID of the trace, as 32 lowercase hexadecimal digits
+# + spanId - ID of the span of the invocation, as 16 lowercase hexadecimal digits
+# + traceparent - `traceparent` header to send with downstream calls, so their spans are part of the trace
+# + tracestate - `tracestate` header received with the invocation, if any
+public type TraceContext record {|
+    string traceId;
+    string spanId;
+    string traceparent;
+    string tracestate?;
+|};
+
+# Returns the trace context of the invocation being handled. The context continues the `traceparent` header received
+# with the HTTP request, and is nil when the request has none and spans are not recorded.
+#
+# + return - Trace context of the invocation, or nil when called outside of an invocation
+public isolated function getTraceContext() returns TraceContext? = @java:Method {
+    'class: "io.ballerina.stdlib.azure.functions.tracing.InvocationTrace"
+} external;
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.azurefunctions.test;
+
+import io.ballerina.projects.ProjectException;
+import org.ballerinax.azurefunctions.Util;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Test cases for splitting the GraalVM build options.
+ */
+public class BuildOptionsTest {
+
+    @Test
+    public void testSplitOnWhitespace() {
+
+        Assert.assertEquals(Util.splitBuildOptions("  --pgo\t-O2 \n--no-fallback "),
+                List.of("--pgo", "-O2", "--no-fallback"));
+        Assert.assertEquals(Util.splitBuildOptions(""), List.of());
+        Assert.assertEquals(Util.splitBuildOptions(null), List.of());
+    }
+
+    @Test
+    public void testQuotedOptions() {
+
+        Assert.assertEquals(Util.splitBuildOptions("--pgo \"-H:Name=my app\" '-Dgreeting=hello world'"),
+                List.of("--pgo", "-H:Name=my app", "-Dgreeting=hello world"));
+        Assert.assertEquals(Util.splitBuildOptions("-Dkey=\"a b\"c ''"), List.of("-Dkey=a bc", ""));
+        Assert.assertEquals(Util.splitBuildOptions("\"say \\\"hi\\\"\" 'no \\escape'"),
+                List.of("say \"hi\"", "no \\escape"));
+        Assert.assertEquals(Util.splitBuildOptions("-Dpath=a\\ b"), List.of("-Dpath=a b"));
+    }
+
+    @Test(expectedExceptions = ProjectException.class)
+    public void testUnterminatedQuote() {
+
+        Util.splitBuildOptions("--pgo \"-H:Name=app");
+    }
+}
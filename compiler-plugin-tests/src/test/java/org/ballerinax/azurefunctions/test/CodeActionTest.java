@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.azurefunctions.test;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.projects.plugins.codeaction.CodeAction;
+import io.ballerina.projects.plugins.codeaction.CodeActionContextImpl;
+import io.ballerina.projects.plugins.codeaction.CodeActionExecutionContextImpl;
+import io.ballerina.projects.plugins.codeaction.CodeActionInfo;
+import io.ballerina.projects.plugins.codeaction.DocumentEdit;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.text.LinePosition;
+import org.ballerinax.azurefunctions.codeactions.AddIsolatedQualifierCodeAction;
+import org.ballerinax.azurefunctions.codeactions.AddReadonlyIntersectionCodeAction;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Tests the quick fixes of the concurrency warnings.
+ */
+public class CodeActionTest {
+
+    private static final Path PROJECT_DIRECTORY =
+            ProjectValidationTests.RESOURCE_DIRECTORY.resolve("concurrency-code-actions");
+
+    @Test
+    public void testAddIsolatedQualifier() {
+        Map<String, Optional<String>> fixes = applyCodeActions(new AddIsolatedQualifierCodeAction());
+        // Functions that access mutable module state, directly or through a non-isolated function, cannot be marked
+        // as isolated.
+        Assert.assertEquals(fixes.get("AF_022:get count"), Optional.empty());
+        Assert.assertEquals(fixes.get("AF_022:get greet"), Optional.empty());
+        Assert.assertEquals(fixes.get("AF_022:get currency"), Optional.empty());
+        // A service with fields needs private fields and 'lock' statements to be isolated.
+        Assert.assertEquals(fixes.get("AF_021:hits"), Optional.empty());
+        Assert.assertTrue(fixes.get("AF_022:get .").orElseThrow()
+                .contains("isolated resource function get .() returns int {"));
+        // Marking a mutable module-level variable as isolated requires 'lock' statements around its accesses.
+        Assert.assertFalse(fixes.containsKey("AF_023:requestCount"));
+    }
+
+    @Test
+    public void testAddReadonlyIntersection() {
+        Map<String, Optional<String>> fixes = applyCodeActions(new AddReadonlyIntersectionCodeAction());
+        Assert.assertTrue(fixes.get("AF_024:currencies").orElseThrow()
+                .contains("final readonly & map<string> currencies = {\"LK\": \"LKR\"};"));
+    }
+
+    /**
+     * Applies the code action to each supported warning of the project, and checks that each fix compiles without
+     * errors.
+     *
+     * @return source after the fix, keyed by the diagnostic code and the first quoted name of the message
+     */
+    private static Map<String, Optional<String>> applyCodeActions(CodeAction codeAction) {
+        BuildProject project = BuildProject.load(PROJECT_DIRECTORY);
+        Module module = project.currentPackage().getDefaultModule();
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        Assert.assertEquals(compilation.diagnosticResult().errorCount(), 0);
+        SemanticModel semanticModel = compilation.getSemanticModel(module.moduleId());
+        Map<String, Optional<String>> fixes = new HashMap<>();
+        for (Diagnostic diagnostic : compilation.diagnosticResult().warnings()) {
+            if (!codeAction.supportedDiagnosticCodes().contains(diagnostic.diagnosticInfo().code())) {
+                continue;
+            }
+            Document document = getDocument(module, diagnostic.location().lineRange().fileName());
+            Path filePath = project.documentPath(document.documentId()).orElseThrow();
+            String fileUri = filePath.toUri().toString();
+            LinePosition position = diagnostic.location().lineRange().startLine();
+            Optional<CodeActionInfo> info = codeAction.codeActionInfo(CodeActionContextImpl.from(fileUri, filePath,
+                    position, document, semanticModel, diagnostic));
+            String key = diagnostic.diagnosticInfo().code() + ":" + getName(diagnostic, document);
+            if (info.isEmpty()) {
+                fixes.put(key, Optional.empty());
+                continue;
+            }
+            List<DocumentEdit> edits = codeAction.execute(CodeActionExecutionContextImpl.from(fileUri, filePath,
+                    position, document, semanticModel, info.get().getArguments()));
+            Assert.assertEquals(edits.size(), 1);
+            String source = edits.get(0).getModifiedSyntaxTree().toSourceCode();
+            Document fixedDocument = document.modify().withContent(source).apply();
+            PackageCompilation fixedCompilation = fixedDocument.module().packageInstance().getCompilation();
+            Assert.assertEquals(fixedCompilation.diagnosticResult().errorCount(), 0, "fix of " + key +
+                    " does not compile: " + fixedCompilation.diagnosticResult().errors());
+            fixes.put(key, Optional.of(source));
+        }
+        return fixes;
+    }
+
+    private static Document getDocument(Module module, String fileName) {
+        for (DocumentId documentId : module.documentIds()) {
+            Document document = module.document(documentId);
+            if (document.name().equals(fileName)) {
+                return document;
+            }
+        }
+        throw new IllegalStateException("document not found: " + fileName);
+    }
+
+    /**
+     * Returns the first name quoted in the message, or for the service warnings, the service path in the source.
+     */
+    private static String getName(Diagnostic diagnostic, Document document) {
+        String text = diagnostic.message();
+        char quote = '\'';
+        if (text.indexOf(quote) < 0) {
+            text = document.textDocument().line(diagnostic.location().lineRange().startLine().line()).text();
+            quote = '"';
+        }
+        int start = text.indexOf(quote);
+        return text.substring(start + 1, text.indexOf(quote, start + 1));
+    }
+}
@@ -0,0 +1,398 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.azurefunctions.test;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.CodeModifierResult;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.plugins.AnalysisTask;
+import io.ballerina.projects.plugins.CodeAnalysisContext;
+import io.ballerina.projects.plugins.CompilationAnalysisContext;
+import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
+import org.ballerinax.azurefunctions.AzureFunctionNameGenerator;
+import org.ballerinax.azurefunctions.AzureFunctionServiceExtractor;
+import org.ballerinax.azurefunctions.AzureFunctionsCodeAnalyzer;
+import org.ballerinax.azurefunctions.FunctionContext;
+import org.ballerinax.azurefunctions.FunctionsArtifact;
+import org.ballerinax.azurefunctions.test.utils.SyntheticProjectGenerator;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.ballerinax.azurefunctions.test.utils.TestUtils.loadPackage;
+
+/**
+ * Compiles generated projects of N services with M resources each and times the phases of the compiler plugin
+ * separately, to find the phases which grow faster than the size of the project.
+ * <p>
+ * The tasks the code analyzer registers are replayed on the compiled package one by one, the code modifier is timed
+ * through {@code runCodeModifierPlugins} with the name generation timed on its own, and the code generated task is
+ * split into the function extraction and the writing of the artifacts. For every phase the growth exponent along N and
+ * along M is estimated from the timings, and phases with an exponent above {@code benchmark.superLinearThreshold} are
+ * flagged. The timings are written to {@code build/reports/benchmark/compiler-plugin-scalability.json} to be used as a
+ * baseline. Run with {@code -PbenchmarkTest}, set {@code benchmark.services} and {@code benchmark.resourcesPerService}
+ * to change the grid, and set {@code benchmark.failOnSuperLinear} to fail the benchmark on a flagged phase. The phases
+ * of a single large project are also reported, with {@code benchmark.resources} HTTP resources in services of 50.
+ */
+public class CompilerPluginScalabilityBenchmark {
+
+    private static final PrintStream OUT = System.out;
+    private static final Path BENCHMARK_DIRECTORY = Paths.get("build", "benchmark", "scalability");
+    private static final Path REPORT_PATH = Paths.get("build", "reports", "benchmark",
+            "compiler-plugin-scalability.json");
+    // Phases faster than this at the largest size are not flagged, as their timings are mostly noise.
+    private static final double MIN_FLAGGED_MILLIS = 5;
+    private static final int LARGE_PROJECT_RESOURCES_PER_SERVICE = 50;
+
+    @Test
+    public void benchmarkPluginPhases() throws IOException {
+
+        int[] serviceCounts = getSizes("benchmark.services", "2,8,32");
+        int[] resourceCounts = getSizes("benchmark.resourcesPerService", "5,20,40");
+        int iterations = Integer.getInteger("benchmark.iterations", 3);
+        double threshold = Double.parseDouble(System.getProperty("benchmark.superLinearThreshold", "1.3"));
+
+        // Warms up the compiler and the plugin so the first grid point is not charged with class loading.
+        measure(serviceCounts[0], resourceCounts[0]);
+
+        Map<String, double[][]> timings = new LinkedHashMap<>();
+        JsonArray runs = new JsonArray();
+        for (int n = 0; n < serviceCounts.length; n++) {
+            for (int m = 0; m < resourceCounts.length; m++) {
+                Map<String, Double> best = new LinkedHashMap<>();
+                for (int i = 0; i < iterations; i++) {
+                    measure(serviceCounts[n], resourceCounts[m]).forEach((phase, millis) ->
+                            best.merge(phase, millis, Math::min));
+                }
+                JsonObject run = new JsonObject();
+                run.addProperty("services", serviceCounts[n]);
+                run.addProperty("resourcesPerService", resourceCounts[m]);
+                JsonObject phases = new JsonObject();
+                for (Map.Entry<String, Double> entry : best.entrySet()) {
+                    timings.computeIfAbsent(entry.getKey(),
+                            key -> new double[serviceCounts.length][resourceCounts.length])[n][m] = entry.getValue();
+                    phases.addProperty(entry.getKey(), entry.getValue());
+                }
+                run.add("phasesMillis", phases);
+                runs.add(run);
+            }
+        }
+
+        OUT.println("Compiler plugin scalability with services " + Arrays.toString(serviceCounts) +
+                " and resources per service " + Arrays.toString(resourceCounts));
+        OUT.printf("\t%-40s %12s %12s %12s%n", "phase", "max ms", "exp. N", "exp. M");
+        JsonObject exponents = new JsonObject();
+        List<String> flagged = new ArrayList<>();
+        for (Map.Entry<String, double[][]> entry : timings.entrySet()) {
+            double[][] millis = entry.getValue();
+            double[] alongServices = new double[serviceCounts.length];
+            for (int n = 0; n < serviceCounts.length; n++) {
+                alongServices[n] = millis[n][resourceCounts.length - 1];
+            }
+            double serviceExponent = getExponent(serviceCounts, alongServices);
+            double resourceExponent = getExponent(resourceCounts, millis[serviceCounts.length - 1]);
+            double maxMillis = millis[serviceCounts.length - 1][resourceCounts.length - 1];
+            boolean superLinear = maxMillis >= MIN_FLAGGED_MILLIS &&
+                    (serviceExponent > threshold || resourceExponent > threshold);
+            OUT.printf("\t%-40s %12.1f %12.2f %12.2f%s%n", entry.getKey(), maxMillis, serviceExponent,
+                    resourceExponent, superLinear ? "  SUPER-LINEAR" : "");
+            JsonObject exponent = new JsonObject();
+            exponent.addProperty("services", serviceExponent);
+            exponent.addProperty("resourcesPerService", resourceExponent);
+            exponent.addProperty("superLinear", superLinear);
+            exponents.add(entry.getKey(), exponent);
+            if (superLinear) {
+                flagged.add(entry.getKey());
+            }
+        }
+
+        JsonObject report = new JsonObject();
+        report.addProperty("iterations", iterations);
+        report.addProperty("superLinearThreshold", threshold);
+        report.add("runs", runs);
+        report.add("exponents", exponents);
+        Files.createDirectories(REPORT_PATH.toAbsolutePath().getParent());
+        Files.writeString(REPORT_PATH, new GsonBuilder().setPrettyPrinting().create().toJson(report),
+                StandardCharsets.UTF_8);
+        OUT.println("\treport written to " + REPORT_PATH.toAbsolutePath());
+        if (Boolean.getBoolean("benchmark.failOnSuperLinear")) {
+            Assert.assertTrue(flagged.isEmpty(), "super-linear phases: " + flagged);
+        }
+    }
+
+    @Test
+    public void benchmarkLargeProjectCompilation() throws IOException {
+
+        int resourceCount = Integer.getInteger("benchmark.resources", 2000);
+        int services = (resourceCount + LARGE_PROJECT_RESOURCES_PER_SERVICE - 1) /
+                LARGE_PROJECT_RESOURCES_PER_SERVICE;
+        Map<String, Double> phases = measure(services, LARGE_PROJECT_RESOURCES_PER_SERVICE);
+
+        OUT.println("Compiler plugin phases with " + services + " services of " +
+                LARGE_PROJECT_RESOURCES_PER_SERVICE + " resources");
+        for (Map.Entry<String, Double> phase : phases.entrySet()) {
+            OUT.printf("\t%-40s %12.1f ms%n", phase.getKey(), phase.getValue());
+        }
+    }
+
+    private static Map<String, Double> measure(int services, int resourcesPerService) throws IOException {
+
+        Path projectDir = BENCHMARK_DIRECTORY.resolve("services_" + services + "_resources_" + resourcesPerService);
+        deleteDirectory(projectDir);
+        SyntheticProjectGenerator.generate(projectDir, services, resourcesPerService);
+        Map<String, Double> phases = new LinkedHashMap<>();
+
+        long start = System.nanoTime();
+        Package currentPackage = loadPackage(projectDir);
+        PackageCompilation compilation = currentPackage.getCompilation();
+        phases.put("compilation", toMillis(System.nanoTime() - start));
+        Assert.assertFalse(compilation.diagnosticResult().hasErrors(),
+                compilation.diagnosticResult().errors().toString());
+
+        measureCodeAnalyzer(currentPackage, compilation, phases);
+
+        start = System.nanoTime();
+        CodeModifierResult codeModifierResult = currentPackage.runCodeModifierPlugins();
+        Package updatedPackage = codeModifierResult.updatedPackage().orElseThrow();
+        updatedPackage.getCompilation();
+        phases.put("codeModifier", toMillis(System.nanoTime() - start));
+
+        start = System.nanoTime();
+        for (Module module : currentPackage.modules()) {
+            for (DocumentId documentId : module.documentIds()) {
+                for (Node node : getNodes(module.document(documentId).syntaxTree(),
+                        SyntaxKind.SERVICE_DECLARATION)) {
+                    new AzureFunctionNameGenerator((ServiceDeclarationNode) node);
+                }
+            }
+        }
+        phases.put("codeModifier.nameGeneration", toMillis(System.nanoTime() - start));
+
+        start = System.nanoTime();
+        List<FunctionContext> functions = new AzureFunctionServiceExtractor(updatedPackage).extractFunctions();
+        phases.put("codeGenerated.extraction", toMillis(System.nanoTime() - start));
+        Assert.assertEquals(functions.size(), SyntheticProjectGenerator.getFunctionCount(services,
+                resourcesPerService));
+
+        Map<String, JsonObject> generatedFunctions = new HashMap<>();
+        for (FunctionContext ctx : functions) {
+            generatedFunctions.put(ctx.getFunctionName(), ctx.getFunctionJson());
+        }
+        Path jarPath = projectDir.resolve("target").resolve("bin").resolve("synthetic.jar");
+        Files.createDirectories(jarPath.getParent());
+        Files.write(jarPath, new byte[0]);
+        start = System.nanoTime();
+        new FunctionsArtifact(generatedFunctions, jarPath, updatedPackage.project()).generate();
+        phases.put("codeGenerated.artifactWriting", toMillis(System.nanoTime() - start));
+        return phases;
+    }
+
+    private static void measureCodeAnalyzer(Package currentPackage, PackageCompilation compilation,
+                                            Map<String, Double> phases) {
+
+        List<AnalysisTask<CompilationAnalysisContext>> compilationTasks = new ArrayList<>();
+        Map<AnalysisTask<SyntaxNodeAnalysisContext>, List<SyntaxKind>> syntaxNodeTasks = new LinkedHashMap<>();
+        new AzureFunctionsCodeAnalyzer().init(createRegistrationContext(currentPackage, compilationTasks,
+                syntaxNodeTasks));
+
+        Map<String, Object> compilationValues = new HashMap<>();
+        compilationValues.put("currentPackage", currentPackage);
+        compilationValues.put("compilation", compilation);
+        for (AnalysisTask<CompilationAnalysisContext> compilationTask : compilationTasks) {
+            long start = System.nanoTime();
+            compilationTask.perform(createContext(CompilationAnalysisContext.class, compilationValues));
+            phases.put("codeAnalyzer." + compilationTask.getClass().getSimpleName(),
+                    toMillis(System.nanoTime() - start));
+        }
+
+        for (Map.Entry<AnalysisTask<SyntaxNodeAnalysisContext>, List<SyntaxKind>> task :
+                syntaxNodeTasks.entrySet()) {
+            long elapsed = 0;
+            for (Module module : currentPackage.modules()) {
+                SemanticModel semanticModel = compilation.getSemanticModel(module.moduleId());
+                for (DocumentId documentId : module.documentIds()) {
+                    SyntaxTree syntaxTree = module.document(documentId).syntaxTree();
+                    for (SyntaxKind kind : task.getValue()) {
+                        for (Node node : getNodes(syntaxTree, kind)) {
+                            Map<String, Object> values = new HashMap<>(compilationValues);
+                            values.put("node", node);
+                            values.put("moduleId", module.moduleId());
+                            values.put("documentId", documentId);
+                            values.put("syntaxTree", syntaxTree);
+                            values.put("semanticModel", semanticModel);
+                            SyntaxNodeAnalysisContext context = createContext(SyntaxNodeAnalysisContext.class,
+                                    values);
+                            long taskStart = System.nanoTime();
+                            task.getKey().perform(context);
+                            elapsed += System.nanoTime() - taskStart;
+                        }
+                    }
+                }
+            }
+            phases.put("codeAnalyzer." + task.getKey().getClass().getSimpleName(), toMillis(elapsed));
+        }
+    }
+
+    /**
+     * Creates a code analysis context recording the tasks the analyzer registers, so that the benchmark replays the
+     * same tasks as the compiler.
+     */
+    @SuppressWarnings("unchecked")
+    private static CodeAnalysisContext createRegistrationContext(
+            Package currentPackage, List<AnalysisTask<CompilationAnalysisContext>> compilationTasks,
+            Map<AnalysisTask<SyntaxNodeAnalysisContext>, List<SyntaxKind>> syntaxNodeTasks) {
+
+        Object context = Proxy.newProxyInstance(CompilerPluginScalabilityBenchmark.class.getClassLoader(),
+                new Class<?>[]{CodeAnalysisContext.class}, (self, method, args) -> {
+                    switch (method.getName()) {
+                        case "addCompilationAnalysisTask":
+                            compilationTasks.add((AnalysisTask<CompilationAnalysisContext>) args[0]);
+                            return null;
+                        case "addSyntaxNodeAnalysisTask":
+                            List<SyntaxKind> kinds = args[1] instanceof SyntaxKind ? List.of((SyntaxKind) args[1]) :
+                                    new ArrayList<>((Collection<SyntaxKind>) args[1]);
+                            syntaxNodeTasks.put((AnalysisTask<SyntaxNodeAnalysisContext>) args[0], kinds);
+                            return null;
+                        case "currentPackage":
+                            return currentPackage;
+                        case "hashCode":
+                            return System.identityHashCode(self);
+                        case "equals":
+                            return self == args[0];
+                        default:
+                            return null;
+                    }
+                });
+        return (CodeAnalysisContext) context;
+    }
+
+    /**
+     * Creates an analysis context answering its accessors from the given values. Reported diagnostics are dropped, as
+     * they are already part of the compilation.
+     */
+    private static <T> T createContext(Class<T> type, Map<String, Object> values) {
+
+        Object context = Proxy.newProxyInstance(CompilerPluginScalabilityBenchmark.class.getClassLoader(),
+                new Class<?>[]{type}, (self, method, args) -> {
+                    switch (method.getName()) {
+                        case "hashCode":
+                            return System.identityHashCode(self);
+                        case "equals":
+                            return self == args[0];
+                        default:
+                            return values.get(method.getName());
+                    }
+                });
+        return type.cast(context);
+    }
+
+    private static List<Node> getNodes(SyntaxTree syntaxTree, SyntaxKind kind) {
+
+        List<Node> nodes = new ArrayList<>();
+        collectNodes(syntaxTree.rootNode(), kind, nodes);
+        return nodes;
+    }
+
+    private static void collectNodes(Node node, SyntaxKind kind, List<Node> nodes) {
+
+        if (node.kind() == kind) {
+            nodes.add(node);
+        }
+        if (node instanceof NonTerminalNode) {
+            for (Node child : ((NonTerminalNode) node).children()) {
+                collectNodes(child, kind, nodes);
+            }
+        }
+    }
+
+    /**
+     * Returns the slope of the least squares fit of the timings against the sizes on a log-log scale, which is the
+     * exponent k of {@code time ~ size^k}.
+     */
+    private static double getExponent(int[] sizes, double[] millis) {
+
+        List<double[]> points = new ArrayList<>();
+        for (int i = 0; i < sizes.length; i++) {
+            if (millis[i] > 0) {
+                points.add(new double[]{Math.log(sizes[i]), Math.log(millis[i])});
+            }
+        }
+        if (points.size() < 2) {
+            return 0;
+        }
+        double meanX = points.stream().mapToDouble(point -> point[0]).average().orElse(0);
+        double meanY = points.stream().mapToDouble(point -> point[1]).average().orElse(0);
+        double covariance = 0;
+        double variance = 0;
+        for (double[] point : points) {
+            covariance += (point[0] - meanX) * (point[1] - meanY);
+            variance += (point[0] - meanX) * (point[0] - meanX);
+        }
+        return variance == 0 ? 0 : covariance / variance;
+    }
+
+    private static int[] getSizes(String property, String defaultValue) {
+
+        return Arrays.stream(System.getProperty(property, defaultValue).split(",")).map(String::trim)
+                .mapToInt(Integer::parseInt).sorted().toArray();
+    }
+
+    private static void deleteDirectory(Path dir) throws IOException {
+
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private static double toMillis(long nanos) {
+
+        return nanos / 1e6;
+    }
+}
@@ -86,5 +86,18 @@ public class DeploymentTest {
         Files.deleteIfExists(handlers.resolve("main.jar"));
         FileUtils.deleteDirectory(handlers.resolve("azure_functions").toFile());
     }
-}
 
+    @Test
+    public void testDuplicateFunctionNamesAcrossModules() throws Exception {
+        Path project = SOURCE_DIR.resolve("validations").resolve("duplicate-function-names");
+        Path depedenciesToml = project.resolve("Dependencies.toml");
+        Files.deleteIfExists(depedenciesToml);
+        ProcessOutput processOutput = TestUtils.compileProject(project, false, false, false, null);
+        String output = processOutput.getStdOutput() + processOutput.getErrOutput();
+        Assert.assertTrue(output.contains("function name 'get-hello' is also generated for a service in"), output);
+        Assert.assertFalse(Files.exists(project.resolve("target").resolve("azure_functions")
+                .resolve("get-hello")));
+        Files.deleteIfExists(depedenciesToml);
+        FileUtils.deleteDirectory(project.resolve("target").toFile());
+    }
+}
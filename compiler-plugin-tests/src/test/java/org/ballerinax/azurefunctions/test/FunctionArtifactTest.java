@@ -23,21 +23,34 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import io.ballerina.projects.CodeModifierResult;
 import io.ballerina.projects.DiagnosticResult;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.directory.BuildProject;
 import org.ballerinax.azurefunctions.AzureFunctionServiceExtractor;
 import org.ballerinax.azurefunctions.FunctionContext;
+import org.ballerinax.azurefunctions.NativeImageMetadata;
 import org.ballerinax.azurefunctions.service.Binding;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 /**
  * Test cases to generated function.json in different cases.
@@ -50,13 +63,14 @@ public class FunctionArtifactTest {
 
     private JsonParser jsonParser = new JsonParser();
     private Map<String, JsonObject> generatedFunctions = new HashMap<>();
+    private Package updatedPackage;
 
     @BeforeClass
     public void compileSample() {
 
         BuildProject project = BuildProject.load(RESOURCE_DIRECTORY);
         CodeModifierResult codeModifierResult = project.currentPackage().runCodeModifierPlugins();
-        Package updatedPackage = codeModifierResult.updatedPackage().orElseThrow();
+        updatedPackage = codeModifierResult.updatedPackage().orElseThrow();
         PackageCompilation compilation = updatedPackage.getCompilation();
 
         AzureFunctionServiceExtractor azureFunctionServiceExtractor =
@@ -403,4 +417,79 @@ public class FunctionArtifactTest {
         JsonElement parse = jsonParser.parse(str);
         Assert.assertEquals(actual, parse);
     }
+
+    @Test
+    public void testNativeImageMetadataBindingTypes() {
+
+        Set<String> bindingTypes = new NativeImageMetadata(updatedPackage).collectBindingTypes();
+        Assert.assertTrue(bindingTypes.contains("ballerinax.azure_functions_tests.3.$value$Person"));
+        Assert.assertTrue(bindingTypes.contains("ballerinax.azure_functions_tests.3.$value$DBEntry"));
+    }
+
+    @Test
+    public void testNativeImageMetadataWrite() throws IOException {
+
+        Path jarPath = Files.createTempFile("native-image-metadata", ".jar");
+        try {
+            try (OutputStream out = Files.newOutputStream(jarPath);
+                 ZipOutputStream zip = new ZipOutputStream(out)) {
+                zip.putNextEntry(new ZipEntry("META-INF/MANIFEST.MF"));
+                zip.write("Manifest-Version: 1.0\n".getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+            NativeImageMetadata metadata = new NativeImageMetadata(updatedPackage);
+            metadata.collectBindingTypes();
+            metadata.write(jarPath);
+
+            String metadataDir = "META-INF/native-image/" + updatedPackage.packageOrg().value() + "/" +
+                    updatedPackage.packageName().value();
+            try (FileSystem jarFs = FileSystems.newFileSystem(URI.create("jar:" + jarPath.toUri()),
+                    new HashMap<String, String>())) {
+                Path reachability = jarFs.getPath(metadataDir, "reachability-metadata.json");
+                Path reflectConfig = jarFs.getPath(metadataDir, "reflect-config.json");
+                Assert.assertTrue(Files.exists(jarFs.getPath("META-INF/MANIFEST.MF")));
+                Assert.assertTrue(Files.exists(reachability));
+                Assert.assertTrue(Files.exists(reflectConfig));
+                Assert.assertFalse(Files.exists(jarFs.getPath(metadataDir, "native-image.properties")));
+
+                JsonArray reflection = jsonParser.parse(Files.readString(reachability))
+                        .getAsJsonObject().getAsJsonArray("reflection");
+                Assert.assertTrue(containsProperty(reflection, "type",
+                        "ballerinax.azure_functions_tests.3.$value$Person"));
+                JsonArray reflectEntries = jsonParser.parse(Files.readString(reflectConfig)).getAsJsonArray();
+                Assert.assertTrue(containsProperty(reflectEntries, "name",
+                        "ballerinax.azure_functions_tests.3.$value$DBEntry"));
+            }
+        } finally {
+            Files.deleteIfExists(jarPath);
+        }
+    }
+
+    private static boolean containsProperty(JsonArray entries, String property, String value) {
+
+        for (JsonElement entry : entries) {
+            if (value.equals(entry.getAsJsonObject().get(property).getAsString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Test
+    public void testGeneratedBindingDescriptors() {
+
+        Module defaultModule = updatedPackage.getDefaultModule();
+        StringBuilder source = new StringBuilder();
+        for (DocumentId documentId : defaultModule.documentIds()) {
+            source.append(defaultModule.document(documentId).syntaxTree().toSourceCode());
+        }
+        String compactSource = source.toString().replaceAll("\\s+", "");
+        Assert.assertTrue(compactSource.contains("@af:BindingDescriptor{params:[\"QUERY\",\"PAYLOAD\"]}"));
+        Assert.assertTrue(compactSource.contains("@af:BindingDescriptor{params:[\"DATA\"]}"));
+        Assert.assertTrue(compactSource.contains("@af:BindingDescriptor{params:[\"QUERY\"],outputs:" +
+                "[\"HttpOutput\",\"QueueOutput\"]}"));
+        Assert.assertTrue(compactSource.contains("@af:BindingDescriptor{params:[\"PAYLOAD\"],outputs:" +
+                "[\"HttpOutput\",\"QueueOutput\"]}"));
+        Assert.assertFalse(compactSource.contains("return[..."));
+    }
 }
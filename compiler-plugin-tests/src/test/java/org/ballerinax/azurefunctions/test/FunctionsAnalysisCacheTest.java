@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.azurefunctions.test;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.ballerinax.azurefunctions.FunctionContext;
+import org.ballerinax.azurefunctions.FunctionsAnalysisCache;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Test cases for the per document analysis cache.
+ */
+public class FunctionsAnalysisCacheTest {
+
+    @Test
+    public void testCachedFunctionsOfUnchangedDocument() throws IOException {
+
+        Path cacheFile = Files.createTempDirectory("analysis-cache").resolve("analysis.json");
+        FunctionsAnalysisCache cache = new FunctionsAnalysisCache(cacheFile, "env");
+        Assert.assertTrue(cache.get("main/main.bal", "hash").isEmpty());
+        cache.put("main/main.bal", "hash", List.of(new FunctionContext("get-hello", createFunctionJson())));
+        cache.save();
+
+        FunctionsAnalysisCache reloaded = new FunctionsAnalysisCache(cacheFile, "env");
+        Optional<List<FunctionContext>> functions = reloaded.get("main/main.bal", "hash");
+        Assert.assertTrue(functions.isPresent());
+        Assert.assertEquals(functions.get().size(), 1);
+        Assert.assertEquals(functions.get().get(0).getFunctionName(), "get-hello");
+        Assert.assertEquals(functions.get().get(0).getFunctionJson(), createFunctionJson());
+        Assert.assertTrue(reloaded.get("main/main.bal", "changed").isEmpty());
+    }
+
+    @Test
+    public void testServiceIndexIsCached() throws IOException {
+
+        Path cacheFile = Files.createTempDirectory("analysis-cache").resolve("analysis.json");
+        FunctionsAnalysisCache cache = new FunctionsAnalysisCache(cacheFile, "env");
+        FunctionContext second = new FunctionContext("get-second", createFunctionJson());
+        second.setServiceIndex(1);
+        cache.put("main/main.bal", "hash", List.of(new FunctionContext("get-first", createFunctionJson()), second));
+        cache.save();
+
+        List<FunctionContext> functions = new FunctionsAnalysisCache(cacheFile, "env").get("main/main.bal", "hash")
+                .orElseThrow();
+        Assert.assertEquals(functions.get(0).getServiceIndex(), 0);
+        Assert.assertEquals(functions.get(1).getServiceIndex(), 1);
+    }
+
+    @Test
+    public void testCacheInvalidatedByEnvironment() throws IOException {
+
+        Path cacheFile = Files.createTempDirectory("analysis-cache").resolve("analysis.json");
+        FunctionsAnalysisCache cache = new FunctionsAnalysisCache(cacheFile, "env");
+        cache.put("main/main.bal", "hash", List.of(new FunctionContext("get-hello", createFunctionJson())));
+        cache.save();
+
+        Assert.assertTrue(new FunctionsAnalysisCache(cacheFile, "upgraded").get("main/main.bal", "hash").isEmpty());
+    }
+
+    @Test
+    public void testRemovedDocumentsArePruned() throws IOException {
+
+        Path cacheFile = Files.createTempDirectory("analysis-cache").resolve("analysis.json");
+        FunctionsAnalysisCache cache = new FunctionsAnalysisCache(cacheFile, "env");
+        cache.put("main/main.bal", "hash", List.of(new FunctionContext("get-hello", createFunctionJson())));
+        cache.put("main/old.bal", "hash", List.of(new FunctionContext("get-old", createFunctionJson())));
+        cache.save();
+
+        FunctionsAnalysisCache secondBuild = new FunctionsAnalysisCache(cacheFile, "env");
+        Assert.assertTrue(secondBuild.get("main/main.bal", "hash").isPresent());
+        secondBuild.save();
+
+        FunctionsAnalysisCache thirdBuild = new FunctionsAnalysisCache(cacheFile, "env");
+        Assert.assertTrue(thirdBuild.get("main/main.bal", "hash").isPresent());
+        Assert.assertTrue(thirdBuild.get("main/old.bal", "hash").isEmpty());
+    }
+
+    private JsonObject createFunctionJson() {
+
+        JsonObject trigger = new JsonObject();
+        trigger.addProperty("type", "httpTrigger");
+        trigger.addProperty("route", "hello");
+        JsonArray bindings = new JsonArray();
+        bindings.add(trigger);
+        JsonObject function = new JsonObject();
+        function.add("bindings", bindings);
+        return function;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.azurefunctions.test;
+
+import org.ballerinax.azurefunctions.FunctionsArtifact;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+
+/**
+ * Test cases for the incremental update of the azure_functions directory.
+ */
+public class FunctionsArtifactTest {
+
+    @Test
+    public void testWriteIfChangedKeepsUnchangedFiles() throws IOException {
+
+        Path functionsDir = Files.createTempDirectory("functions-artifact");
+        Path hostJson = functionsDir.resolve("host.json");
+        TestFunctionsArtifact artifact = new TestFunctionsArtifact();
+
+        artifact.write(hostJson, "{\"version\":\"2.0\"}");
+        FileTime oldTime = FileTime.fromMillis(System.currentTimeMillis() - 60000);
+        Files.setLastModifiedTime(hostJson, oldTime);
+
+        artifact.write(hostJson, "{\"version\":\"2.0\"}");
+        Assert.assertEquals(Files.getLastModifiedTime(hostJson), oldTime);
+
+        artifact.write(hostJson, "{\"version\":\"3.0\"}");
+        Assert.assertNotEquals(Files.getLastModifiedTime(hostJson), oldTime);
+        Assert.assertEquals(Files.readString(hostJson), "{\"version\":\"3.0\"}");
+
+        // Same length, different content.
+        artifact.write(hostJson, "{\"version\":\"4.0\"}");
+        Assert.assertEquals(Files.readString(hostJson), "{\"version\":\"4.0\"}");
+    }
+
+    @Test
+    public void testDeleteStaleArtifacts() throws IOException {
+
+        Path functionsDir = Files.createTempDirectory("functions-artifact-stale");
+        Path staleFunction = Files.createDirectories(functionsDir.resolve("removed-function"));
+        Files.writeString(staleFunction.resolve("function.json"), "{}");
+        Path staleLibrary = Files.writeString(functionsDir.resolve("libstale.so"), "binary");
+        Path localSettings = Files.writeString(functionsDir.resolve("local.settings.json"), "{}");
+
+        TestFunctionsArtifact artifact = new TestFunctionsArtifact();
+        Path function = Files.createDirectories(functionsDir.resolve("get-hello"));
+        artifact.write(function.resolve("function.json"), "{}");
+        artifact.markGenerated(function);
+        artifact.write(functionsDir.resolve("host.json"), "{}");
+        artifact.markGenerated(localSettings);
+        artifact.deleteStaleArtifacts(functionsDir);
+
+        Assert.assertFalse(Files.exists(staleFunction));
+        Assert.assertFalse(Files.exists(staleLibrary));
+        Assert.assertTrue(Files.exists(function.resolve("function.json")));
+        Assert.assertTrue(Files.exists(functionsDir.resolve("host.json")));
+        Assert.assertTrue(Files.exists(localSettings));
+    }
+
+    private static class TestFunctionsArtifact extends FunctionsArtifact {
+
+        TestFunctionsArtifact() {
+            super(new HashMap<>(), null, null);
+        }
+
+        void write(Path path, String content) throws IOException {
+            writeIfChanged(path, content.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        protected void markGenerated(Path artifact) {
+            super.markGenerated(artifact);
+        }
+
+        @Override
+        protected void deleteStaleArtifacts(Path functionsDir) throws IOException {
+            super.deleteStaleArtifacts(functionsDir);
+        }
+    }
+}
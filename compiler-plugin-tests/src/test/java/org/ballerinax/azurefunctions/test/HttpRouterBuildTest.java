@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.azurefunctions.test;
+
+import org.ballerinax.azurefunctions.Constants;
+import org.ballerinax.azurefunctions.test.utils.ProcessOutput;
+import org.ballerinax.azurefunctions.test.utils.TestUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Test cases for building a project with and without the HTTP router function.
+ */
+public class HttpRouterBuildTest {
+
+    private static final Path SOURCE_DIR = Paths.get("src").resolve("test").resolve("resources");
+
+    @Test
+    public void testToggleRouterBetweenBuilds() throws Exception {
+
+        Path projectDir = SOURCE_DIR.resolve("http-router");
+        Path functionsDir = projectDir.resolve("target").resolve("azure_functions");
+
+        ProcessOutput routed = build(projectDir, "anonymous");
+        Assert.assertEquals(routed.getExitCode(), 0, routed.getErrOutput());
+        Assert.assertTrue(Files.exists(functionsDir.resolve(Constants.HTTP_ROUTER_FUNCTION_NAME)));
+        Assert.assertFalse(Files.exists(functionsDir.resolve("get-hello-greeting")));
+
+        // The sources are unchanged, so only the router setting can tell the cached functions apart.
+        ProcessOutput unrouted = build(projectDir, null);
+        Assert.assertEquals(unrouted.getExitCode(), 0, unrouted.getErrOutput());
+        Assert.assertFalse(Files.exists(functionsDir.resolve(Constants.HTTP_ROUTER_FUNCTION_NAME)));
+        Assert.assertTrue(Files.exists(functionsDir.resolve("get-hello-greeting").resolve("function.json")));
+        Assert.assertTrue(Files.exists(functionsDir.resolve("post-hello-echo").resolve("function.json")));
+        Path modifiedSources = projectDir.resolve("target").resolve(Constants.ANALYSIS_CACHE_DIRECTORY)
+                .resolve(Constants.MODIFIED_SOURCE_CACHE_FILE_NAME);
+        Assert.assertFalse(Files.readString(modifiedSources).contains("routed: true"));
+    }
+
+    private static ProcessOutput build(Path projectDir, String routerAuthLevel) throws Exception {
+
+        Map<String, String> environment = new HashMap<>();
+        environment.put(Constants.HTTP_ROUTER_ENV, routerAuthLevel);
+        return TestUtils.compileProject(projectDir, false, false, false, null, environment);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.azurefunctions.test;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.ballerinax.azurefunctions.FunctionContext;
+import org.ballerinax.azurefunctions.HttpRouterFunction;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Test cases for merging the HTTP functions into the router function.
+ */
+public class HttpRouterFunctionTest {
+
+    @Test
+    public void testMergeHttpFunctions() {
+
+        List<FunctionContext> functions = List.of(
+                createFunction("get-hello", "anonymous", "GET", null, true),
+                createFunction("post-hello", "anonymous", "POST", null, true),
+                createFunction("get-admin", "admin", "GET", null, false),
+                createFunction("post-queue", "anonymous", "POST", "queue", false));
+        List<FunctionContext> merged = HttpRouterFunction.merge(functions, "anonymous");
+
+        Assert.assertEquals(merged.size(), 3);
+        Assert.assertEquals(merged.get(0).getFunctionName(), "get-admin");
+        Assert.assertEquals(merged.get(1).getFunctionName(), "post-queue");
+        FunctionContext router = merged.get(2);
+        Assert.assertEquals(router.getFunctionName(), "ballerina-http-router");
+        JsonObject trigger = router.getFunctionJson().getAsJsonArray("bindings").get(0).getAsJsonObject();
+        Assert.assertEquals(trigger.get("route").getAsString(), "{*route}");
+        Assert.assertEquals(trigger.get("authLevel").getAsString(), "anonymous");
+        Assert.assertEquals(trigger.getAsJsonArray("methods").toString(), "[\"GET\",\"POST\"]");
+    }
+
+    @Test
+    public void testMergeWithoutRoutedFunctions() {
+
+        List<FunctionContext> functions = List.of(createFunction("get-admin", "admin", "GET", null, false));
+        Assert.assertSame(HttpRouterFunction.merge(functions, "anonymous"), functions);
+    }
+
+    @Test
+    public void testMergeKeepsFunctionsWithoutRoutedDescriptor() {
+
+        // Resources without a generated binding descriptor, such as the ones with a rest parameter, are not
+        // dispatched by the runtime, so they keep their function even if they only use the HTTP bindings.
+        List<FunctionContext> functions = List.of(
+                createFunction("get-hello", "anonymous", "GET", null, true),
+                createFunction("get-files", "anonymous", "GET", null, false));
+        List<FunctionContext> merged = HttpRouterFunction.merge(functions, "anonymous");
+
+        Assert.assertEquals(merged.size(), 2);
+        Assert.assertEquals(merged.get(0).getFunctionName(), "get-files");
+        Assert.assertEquals(merged.get(0).getFunctionJson(), functions.get(1).getFunctionJson());
+        Assert.assertEquals(merged.get(1).getFunctionName(), "ballerina-http-router");
+        JsonObject trigger = merged.get(1).getFunctionJson().getAsJsonArray("bindings").get(0).getAsJsonObject();
+        Assert.assertEquals(trigger.getAsJsonArray("methods").toString(), "[\"GET\"]");
+    }
+
+    private static FunctionContext createFunction(String name, String authLevel, String method, String queueName,
+                                                  boolean routed) {
+
+        JsonArray bindings = new JsonArray();
+        bindings.add(new JsonParser().parse("{\"type\":\"httpTrigger\",\"authLevel\":\"" + authLevel +
+                "\",\"methods\":[\"" + method + "\"],\"direction\":\"in\",\"name\":\"httpPayload\"," +
+                "\"route\":\"" + name + "\"}"));
+        bindings.add(new JsonParser().parse("{\"type\":\"http\",\"direction\":\"out\",\"name\":\"outResp\"}"));
+        if (queueName != null) {
+            bindings.add(new JsonParser().parse("{\"type\":\"queue\",\"direction\":\"out\",\"name\":\"outResp1\"," +
+                    "\"queueName\":\"" + queueName + "\"}"));
+        }
+        JsonObject functionJson = new JsonObject();
+        functionJson.add("bindings", bindings);
+        FunctionContext functionContext = new FunctionContext(name, functionJson);
+        functionContext.setRouted(routed);
+        return functionContext;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.azurefunctions.test;
+
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.directory.BuildProject;
+import org.ballerinax.azurefunctions.ModifiedSourceCache;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Test cases for the per document cache of the modified sources.
+ */
+public class ModifiedSourceCacheTest {
+
+    private static final Path HANDLERS_DIRECTORY = Paths.get("src/test/resources/handlers/");
+
+    @Test
+    public void testCachedSourceOfUnchangedDocument() throws IOException {
+
+        Path cacheFile = Files.createTempDirectory("modified-source-cache").resolve("modified-sources.json");
+        ModifiedSourceCache cache = new ModifiedSourceCache(cacheFile, "env", "declarations");
+        Assert.assertFalse(cache.isUnchanged("main/main.bal", "source"));
+        Assert.assertTrue(cache.get("main/main.bal", "source").isEmpty());
+        cache.put("main/main.bal", "source", "modified");
+        cache.save();
+
+        ModifiedSourceCache reloaded = new ModifiedSourceCache(cacheFile, "env", "declarations");
+        Assert.assertTrue(reloaded.isUnchanged("main/main.bal", "source"));
+        Assert.assertEquals(reloaded.get("main/main.bal", "source").orElseThrow(), "modified");
+        Assert.assertTrue(reloaded.get("main/main.bal", "changed").isEmpty());
+    }
+
+    @Test
+    public void testCacheInvalidatedByDeclarationsAndEnvironment() throws IOException {
+
+        Path cacheFile = Files.createTempDirectory("modified-source-cache").resolve("modified-sources.json");
+        ModifiedSourceCache cache = new ModifiedSourceCache(cacheFile, "env", "declarations");
+        cache.put("main/main.bal", "source", "modified");
+        cache.save();
+
+        Assert.assertFalse(new ModifiedSourceCache(cacheFile, "env", "changed")
+                .isUnchanged("main/main.bal", "source"));
+        Assert.assertFalse(new ModifiedSourceCache(cacheFile, "upgraded", "declarations")
+                .isUnchanged("main/main.bal", "source"));
+    }
+
+    @Test
+    public void testModifiedSourcesAreReused() throws IOException {
+
+        Path cacheFile = HANDLERS_DIRECTORY.resolve("target").resolve("azure_functions_cache")
+                .resolve("modified-sources.json");
+        Files.deleteIfExists(cacheFile);
+        Package firstBuild = modify();
+        Assert.assertTrue(Files.exists(cacheFile));
+
+        Package secondBuild = modify();
+        Assert.assertEquals(getSources(secondBuild), getSources(firstBuild));
+        Assert.assertEquals(secondBuild.getCompilation().diagnosticResult().errorCount(), 0);
+    }
+
+    private static Package modify() {
+
+        BuildProject project = BuildProject.load(HANDLERS_DIRECTORY);
+        return project.currentPackage().runCodeModifierPlugins().updatedPackage().orElseThrow();
+    }
+
+    private static List<String> getSources(Package currentPackage) {
+
+        List<String> sources = new ArrayList<>();
+        for (ModuleId moduleId : currentPackage.moduleIds()) {
+            Module module = currentPackage.module(moduleId);
+            List<Document> documents = new ArrayList<>();
+            module.documentIds().forEach(documentId -> documents.add(module.document(documentId)));
+            documents.sort(Comparator.comparing(Document::name));
+            for (Document document : documents) {
+                sources.add(module.moduleName() + "/" + document.name() + "\n" +
+                        document.syntaxTree().toSourceCode());
+            }
+        }
+        sources.sort(String::compareTo);
+        return sources;
+    }
+}
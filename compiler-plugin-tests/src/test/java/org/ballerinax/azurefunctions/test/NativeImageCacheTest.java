@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.azurefunctions.test;
+
+import org.ballerinax.azurefunctions.NativeImageCache;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Test cases for the native executable build cache.
+ */
+public class NativeImageCacheTest {
+
+    @Test
+    public void testKeyIgnoresJarTimestamps() throws IOException {
+
+        Path dir = Files.createTempDirectory("native-cache-key");
+        Path first = createJar(dir.resolve("first.jar"), "content", 1000L);
+        Path second = createJar(dir.resolve("second.jar"), "content", 2000L);
+        Path changed = createJar(dir.resolve("changed.jar"), "changed", 1000L);
+        List<String> flags = List.of("app", "--no-fallback");
+
+        String key = NativeImageCache.computeKey(first, flags, "GraalVM 21");
+        Assert.assertEquals(NativeImageCache.computeKey(second, flags, "GraalVM 21"), key);
+        Assert.assertNotEquals(NativeImageCache.computeKey(changed, flags, "GraalVM 21"), key);
+        Assert.assertNotEquals(NativeImageCache.computeKey(first, List.of("app"), "GraalVM 21"), key);
+        Assert.assertNotEquals(NativeImageCache.computeKey(first, flags, "GraalVM 22"), key);
+    }
+
+    @Test
+    public void testStoreAndRestore() throws IOException {
+
+        Path cacheDir = Files.createTempDirectory("native-cache");
+        Path outputDir = Files.createTempDirectory("native-output");
+        Path executable = outputDir.resolve("app");
+        Files.writeString(executable, "binary");
+        NativeImageCache cache = new NativeImageCache(cacheDir);
+
+        Assert.assertFalse(cache.restore("key", outputDir));
+        cache.store("key", List.of(executable));
+        Files.delete(executable);
+        Assert.assertTrue(cache.restore("key", outputDir));
+        Assert.assertEquals(Files.readString(executable), "binary");
+    }
+
+    @Test
+    public void testSharedLibrariesAreRestoredWithExecutable() throws IOException {
+
+        Path cacheDir = Files.createTempDirectory("native-cache-outputs");
+        Path outputDir = Files.createTempDirectory("native-output-outputs");
+        Path executable = Files.writeString(outputDir.resolve("app"), "binary");
+        Path library = Files.writeString(outputDir.resolve("libawt.so"), "library");
+        NativeImageCache cache = new NativeImageCache(cacheDir);
+
+        cache.store("key", List.of(executable, library));
+        Path restoreDir = Files.createTempDirectory("native-restore-outputs");
+        Assert.assertTrue(cache.restore("key", restoreDir));
+        Assert.assertEquals(Files.readString(restoreDir.resolve("app")), "binary");
+        Assert.assertEquals(Files.readString(restoreDir.resolve("libawt.so")), "library");
+    }
+
+    @Test
+    public void testEntriesWithoutOutputSetAreIgnored() throws IOException {
+
+        Path cacheDir = Files.createTempDirectory("native-cache-legacy");
+        Files.writeString(Files.createDirectories(cacheDir.resolve("key")).resolve("app"), "binary");
+        NativeImageCache cache = new NativeImageCache(cacheDir);
+
+        Assert.assertFalse(cache.restore("key", Files.createTempDirectory("native-restore-legacy")));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntriesArePruned() throws IOException {
+
+        Path cacheDir = Files.createTempDirectory("native-cache-prune");
+        Path outputDir = Files.createTempDirectory("native-output-prune");
+        Path executable = outputDir.resolve("app");
+        NativeImageCache cache = new NativeImageCache(cacheDir, 13);
+
+        Files.writeString(executable, "first!");
+        cache.store("first", List.of(executable));
+        Files.writeString(executable, "second");
+        cache.store("second", List.of(executable));
+        long now = System.currentTimeMillis();
+        Files.setLastModifiedTime(cacheDir.resolve("first"), FileTime.fromMillis(now - 20000));
+        Files.setLastModifiedTime(cacheDir.resolve("second"), FileTime.fromMillis(now - 10000));
+
+        // Restoring marks the entry as recently used, so the older "second" entry is pruned instead.
+        Assert.assertTrue(cache.restore("first", executable.getParent()));
+        Files.writeString(executable, "third!");
+        cache.store("third", List.of(executable));
+
+        Assert.assertTrue(Files.exists(cacheDir.resolve("first")));
+        Assert.assertFalse(Files.exists(cacheDir.resolve("second")));
+        Assert.assertTrue(cache.restore("third", executable.getParent()));
+        Assert.assertEquals(Files.readString(executable), "third!");
+    }
+
+    @Test
+    public void testNewEntryIsKeptWhenLargerThanLimit() throws IOException {
+
+        Path cacheDir = Files.createTempDirectory("native-cache-limit");
+        Path executable = Files.createTempDirectory("native-output-limit").resolve("app");
+        NativeImageCache cache = new NativeImageCache(cacheDir, 4);
+
+        Files.writeString(executable, "small");
+        cache.store("small", List.of(executable));
+        Files.writeString(executable, "larger binary");
+        cache.store("large", List.of(executable));
+
+        Assert.assertFalse(Files.exists(cacheDir.resolve("small")));
+        Assert.assertTrue(cache.restore("large", executable.getParent()));
+    }
+
+    private Path createJar(Path path, String content, long time) throws IOException {
+
+        try (ZipOutputStream outputStream = new ZipOutputStream(Files.newOutputStream(path))) {
+            ZipEntry entry = new ZipEntry("main.class");
+            entry.setTime(time);
+            outputStream.putNextEntry(entry);
+            outputStream.write(content.getBytes(StandardCharsets.UTF_8));
+            outputStream.closeEntry();
+        }
+        return path;
+    }
+}
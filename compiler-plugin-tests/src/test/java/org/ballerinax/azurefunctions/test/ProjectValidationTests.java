@@ -18,6 +18,8 @@
 package org.ballerinax.azurefunctions.test;
 
 import io.ballerina.projects.DiagnosticResult;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.directory.BuildProject;
@@ -27,6 +29,9 @@ import org.testng.annotations.Test;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.ballerinax.azurefunctions.test.utils.TestUtils.loadPackage;
 
@@ -217,9 +222,81 @@ public class ProjectValidationTests {
                 "annotations to avoid ambiguity", "AF_017");
     }
 
+    @Test
+    public void concurrencyLintTest() {
+        BuildProject project = BuildProject.load(RESOURCE_DIRECTORY.resolve("concurrency"));
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        DiagnosticResult diagnosticResult = compilation.diagnosticResult();
+        Assert.assertEquals(diagnosticResult.errorCount(), 0);
+        List<String> codes = diagnosticResult.warnings().stream()
+                .map(diagnostic -> diagnostic.diagnosticInfo().code())
+                .sorted()
+                .collect(Collectors.toList());
+        Assert.assertEquals(codes, List.of("AF_021", "AF_022", "AF_023", "AF_024", "AF_025"));
+        for (Diagnostic diagnostic : diagnosticResult.warnings()) {
+            String message = diagnostic.diagnosticInfo().messageFormat();
+            switch (diagnostic.diagnosticInfo().code()) {
+                case "AF_022":
+                    Assert.assertTrue(message.startsWith("resource function 'post create' is not isolated"));
+                    break;
+                case "AF_023":
+                    Assert.assertTrue(message.startsWith("mutable module-level variable 'requestCount' is " +
+                            "accessed by 'post create'"));
+                    break;
+                case "AF_024":
+                    Assert.assertTrue(message.startsWith("final module-level variable 'currencies'"));
+                    break;
+                case "AF_025":
+                    Assert.assertTrue(message.startsWith("payload parameter 'purchase' has a mutable type with 20 " +
+                            "fields"));
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    @Test
+    public void cosmosQueryLintTest() {
+        BuildProject project = BuildProject.load(RESOURCE_DIRECTORY.resolve("cosmos-query"));
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        DiagnosticResult diagnosticResult = compilation.diagnosticResult();
+        Assert.assertEquals(diagnosticResult.errorCount(), 0);
+        List<Diagnostic> warnings = diagnosticResult.warnings().stream()
+                .sorted(Comparator.comparing(diagnostic -> diagnostic.diagnosticInfo().code()))
+                .collect(Collectors.toList());
+        Assert.assertEquals(warnings.size(), 3);
+        Assert.assertEquals(warnings.get(0).diagnosticInfo().code(), "AF_026");
+        Assert.assertTrue(warnings.get(0).diagnosticInfo().messageFormat().startsWith("'sqlQuery' of Cosmos DB " +
+                "input 'items' is run across all partitions"));
+        Assert.assertTrue(warnings.get(0).diagnosticInfo().messageFormat().contains("'{category}'"));
+        Assert.assertEquals(warnings.get(1).diagnosticInfo().code(), "AF_027");
+        Assert.assertTrue(warnings.get(1).diagnosticInfo().messageFormat().startsWith("Cosmos DB input 'items' " +
+                "reads document '{Query.id}' without a 'partitionKey'"));
+        Assert.assertEquals(warnings.get(2).diagnosticInfo().code(), "AF_028");
+        Assert.assertEquals(warnings.get(2).diagnosticInfo().messageFormat(), "binding expression '{name}' of " +
+                "Cosmos DB input 'items' is not bound to a path parameter or a query parameter of the resource");
+    }
+
     private void assertTrue(DiagnosticResult diagnosticResult, int index, String message, String code) {
         Diagnostic diagnostic = (Diagnostic) diagnosticResult.errors().toArray()[index];
         Assert.assertTrue(diagnostic.diagnosticInfo().messageFormat().contains(message));
         Assert.assertEquals(diagnostic.diagnosticInfo().code(), code);
     }
+
+    @Test
+    public void testBindingDescriptorsOfNonLiteralValues() {
+        Package currentPackage = loadPackage(RESOURCE_DIRECTORY.resolve("binding-descriptors"));
+        Package updatedPackage = currentPackage.runCodeModifierPlugins().updatedPackage().orElseThrow();
+        Module defaultModule = updatedPackage.getDefaultModule();
+        StringBuilder source = new StringBuilder();
+        for (DocumentId documentId : defaultModule.documentIds()) {
+            source.append(defaultModule.document(documentId).syntaxTree().toSourceCode());
+        }
+        String compactSource = source.toString().replaceAll("\\s+", "");
+        // Only the service with a literal treatNilableAsOptional and a plain header name gets a descriptor.
+        Assert.assertTrue(compactSource.contains("@af:BindingDescriptor{params:[\"HEADER:x-request-id\"]," +
+                "treatNilableAsOptional:false}"), compactSource);
+        Assert.assertEquals(compactSource.split("@af:BindingDescriptor", -1).length - 1, 1, compactSource);
+    }
 }
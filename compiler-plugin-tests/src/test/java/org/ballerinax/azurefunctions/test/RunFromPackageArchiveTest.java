@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.azurefunctions.test;
+
+import com.google.gson.JsonObject;
+import org.ballerinax.azurefunctions.RunFromPackageArchive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Test cases for the run-from-package zip generation.
+ */
+public class RunFromPackageArchiveTest {
+
+    @Test
+    public void testReproducibleArchive() throws IOException {
+
+        Path functionsDir = Files.createTempDirectory("azure_functions");
+        Files.createDirectories(functionsDir.resolve("post-hello"));
+        Files.writeString(functionsDir.resolve("post-hello").resolve("function.json"), "{}");
+        Files.writeString(functionsDir.resolve("host.json"), "{}");
+        Files.writeString(functionsDir.resolve("local.settings.json"), "{}");
+        Files.writeString(functionsDir.resolve("app.jar"), "jar");
+        Map<String, JsonObject> functions = Map.of("post-hello", new JsonObject());
+        Path outputDir = Files.createTempDirectory("azure_functions_zip");
+
+        Path first = outputDir.resolve("first.zip");
+        new RunFromPackageArchive(functionsDir, functions).write(first);
+        Files.setLastModifiedTime(functionsDir.resolve("host.json"), FileTime.fromMillis(0));
+        Path second = outputDir.resolve("second.zip");
+        new RunFromPackageArchive(functionsDir, functions).write(second);
+        Assert.assertEquals(Files.readAllBytes(first), Files.readAllBytes(second));
+
+        try (ZipFile zipFile = new ZipFile(first.toFile())) {
+            Assert.assertNull(zipFile.getEntry("local.settings.json"));
+            Assert.assertEquals(zipFile.getEntry("app.jar").getMethod(), ZipEntry.STORED);
+            Assert.assertNotNull(zipFile.getEntry("package-manifest.json"));
+        }
+    }
+}
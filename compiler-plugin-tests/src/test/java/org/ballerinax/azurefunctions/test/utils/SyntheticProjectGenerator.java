@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.azurefunctions.test.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Generates Ballerina projects with a given number of HTTP services and resources per service, to benchmark the
+ * compiler plugin on large projects.
+ * <p>
+ * The resources rotate through record, JSON and string payloads, path and query parameters, tuple returns with a queue
+ * output and Cosmos DB inputs. Each HTTP service is paired with a queue, timer, Cosmos DB or blob triggered service, so
+ * a project has {@code services * (resourcesPerService + 1)} functions.
+ */
+public class SyntheticProjectGenerator {
+
+    private SyntheticProjectGenerator() {
+    }
+
+    /**
+     * Writes the project to the directory.
+     *
+     * @param projectDir          directory of the project
+     * @param services            number of HTTP services
+     * @param resourcesPerService number of resources of each HTTP service
+     * @return directory of the project
+     * @throws IOException if the project cannot be written
+     */
+    public static Path generate(Path projectDir, int services, int resourcesPerService) throws IOException {
+
+        Files.createDirectories(projectDir);
+        Path fileName = projectDir.getFileName();
+        String name = fileName == null ? "synthetic" : fileName.toString();
+        Files.writeString(projectDir.resolve("Ballerina.toml"), "[package]\norg = \"ballerinax\"\nname = \"" + name +
+                "\"\nversion = \"1.0.0\"\n\n[build-options]\ncloud = \"azure_functions\"\n");
+
+        StringBuilder source = new StringBuilder();
+        source.append("import ballerinax/azure.functions as af;\n");
+        source.append("import ballerina/http;\n\n");
+        source.append("listener af:HttpListener ep = new ();\n\n");
+        source.append("public type Entry record {\n    string id;\n    int count;\n};\n\n");
+        for (int service = 0; service < services; service++) {
+            source.append("service /svc").append(service).append(" on ep {\n");
+            for (int resource = 0; resource < resourcesPerService; resource++) {
+                appendResource(source, resource);
+            }
+            source.append("}\n\n");
+            appendTriggerService(source, service);
+        }
+        Files.writeString(projectDir.resolve("main.bal"), source.toString());
+        return projectDir;
+    }
+
+    /**
+     * Returns the number of functions generated for a project.
+     *
+     * @param services            number of HTTP services
+     * @param resourcesPerService number of resources of each HTTP service
+     * @return number of functions
+     */
+    public static int getFunctionCount(int services, int resourcesPerService) {
+
+        return services * (resourcesPerService + 1);
+    }
+
+    private static void appendResource(StringBuilder source, int resource) {
+
+        switch (resource % 5) {
+            case 0:
+                source.append("    resource function post res").append(resource)
+                        .append("(@http:Payload Entry entry) returns string {\n")
+                        .append("        return entry.id;\n    }\n");
+                break;
+            case 1:
+                source.append("    resource function get res").append(resource)
+                        .append("/[string id](string query, @http:Header string? xid) returns string {\n")
+                        .append("        return id + query;\n    }\n");
+                break;
+            case 2:
+                source.append("    resource function put res").append(resource)
+                        .append("(@http:Payload json payload) returns @af:HttpOutput json {\n")
+                        .append("        return payload;\n    }\n");
+                break;
+            case 3:
+                source.append("    resource function post res").append(resource)
+                        .append("(@http:Payload string body) returns [@af:HttpOutput string, ")
+                        .append("@af:QueueOutput {queueName: \"queue").append(resource).append("\"} string] {\n")
+                        .append("        return [body, body];\n    }\n");
+                break;
+            default:
+                source.append("    resource function get res").append(resource)
+                        .append("(@af:CosmosDBInput {connectionStringSetting: \"CosmosDBConnection\", ")
+                        .append("databaseName: \"db1\", collectionName: \"c1\", sqlQuery: \"SELECT * FROM Items\", ")
+                        .append("partitionKey: \"id\"} Entry[] entries) returns @af:HttpOutput string {\n")
+                        .append("        return entries.length().toString();\n    }\n");
+                break;
+        }
+    }
+
+    private static void appendTriggerService(StringBuilder source, int service) {
+
+        switch (service % 4) {
+            case 0:
+                source.append("@af:QueueTrigger {queueName: \"in").append(service).append("\"}\n")
+                        .append("service \"queue").append(service).append("\" on new af:QueueListener() {\n")
+                        .append("    remote function onMessage(string inMsg) returns ")
+                        .append("@af:QueueOutput {queueName: \"out").append(service).append("\"} string {\n")
+                        .append("        return inMsg;\n    }\n}\n\n");
+                break;
+            case 1:
+                source.append("@af:TimerTrigger {schedule: \"*/10 * * * * *\"}\n")
+                        .append("service \"timer").append(service).append("\" on new af:TimerListener() {\n")
+                        .append("    remote function onTrigger(af:TimerMetadata inMsg) returns ")
+                        .append("@af:QueueOutput {queueName: \"out").append(service).append("\"} string {\n")
+                        .append("        return \"tick\";\n    }\n}\n\n");
+                break;
+            case 2:
+                source.append("@af:CosmosDBTrigger {connectionStringSetting: \"CosmosDBConnection\", ")
+                        .append("databaseName: \"db1\", collectionName: \"c").append(service).append("\"}\n")
+                        .append("service \"cosmos").append(service).append("\" on new af:CosmosDBListener() {\n")
+                        .append("    remote function onUpdate(Entry[] inMsg) returns ")
+                        .append("@af:QueueOutput {queueName: \"out").append(service).append("\"} string {\n")
+                        .append("        return inMsg.length().toString();\n    }\n}\n\n");
+                break;
+            default:
+                source.append("@af:BlobTrigger {path: \"in").append(service).append("/{name}\"}\n")
+                        .append("service \"blob").append(service).append("\" on new af:BlobListener() {\n")
+                        .append("    remote function onUpdate(byte[] blobIn, @af:BindingName string name) returns ")
+                        .append("@af:BlobOutput {path: \"out").append(service).append("/{name}\"} byte[] {\n")
+                        .append("        return blobIn;\n    }\n}\n\n");
+                break;
+        }
+    }
+}
@@ -84,6 +84,23 @@ public class TestUtils {
     public static ProcessOutput compileProject(Path sourceDirectory, boolean isNative, boolean failDocker,
                                                boolean isLocal, String fileName)
             throws InterruptedException, IOException {
+
+        return compileProject(sourceDirectory, isNative, failDocker, isLocal, fileName, Map.of());
+    }
+
+    /**
+     * Compile a ballerina file in a given directory with additional environment variables.
+     *
+     * @param sourceDirectory Ballerina source directory
+     * @param environmentVariables environment variables of the build, where a null value removes the variable
+     * @return Exit code
+     * @throws InterruptedException if an error occurs while compiling
+     * @throws IOException          if an error occurs while writing file
+     */
+    public static ProcessOutput compileProject(Path sourceDirectory, boolean isNative, boolean failDocker,
+                                               boolean isLocal, String fileName,
+                                               Map<String, String> environmentVariables)
+            throws InterruptedException, IOException {
         
 
         Path ballerinaInternalLog = Paths.get(sourceDirectory.toAbsolutePath().toString(), "ballerina-internal.log");
@@ -112,6 +129,13 @@ public class TestUtils {
         if (failDocker) {
             environment.put("DOCKER_HOST", "tcp://192.168.59.103:2300");
         }
+        environmentVariables.forEach((name, value) -> {
+            if (value == null) {
+                environment.remove(name);
+            } else {
+                environment.put(name, value);
+            }
+        });
         log.info(COMPILING + sourceDirectory.normalize());
         log.debug(EXECUTING_COMMAND + commands);
         pb.directory(sourceDirectory.toFile());
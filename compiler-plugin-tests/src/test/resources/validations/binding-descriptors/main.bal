@@ -0,0 +1,44 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerinax/azure.functions as af;
+
+const boolean TREAT_NILABLE = false;
+
+@http:ServiceConfig {
+    treatNilableAsOptional: TREAT_NILABLE
+}
+service /constant on new af:HttpListener() {
+    resource function get header(@http:Header string? host) returns string? {
+        return host;
+    }
+}
+
+@http:ServiceConfig {
+    treatNilableAsOptional: false
+}
+service /literal on new af:HttpListener() {
+    resource function get header(@http:Header {name: "x-request-id"} string? id) returns string? {
+        return id;
+    }
+}
+
+service /escaped on new af:HttpListener() {
+    resource function get header(@http:Header {name: "x\"id"} string? id) returns string? {
+        return id;
+    }
+}
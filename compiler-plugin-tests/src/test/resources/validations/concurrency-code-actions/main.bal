@@ -0,0 +1,58 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerinax/azure.functions as af;
+
+int requestCount = 0;
+
+final map<string> currencies = {"LK": "LKR"};
+
+function greeting(string name) returns string {
+    requestCount += 1;
+    return "Hello " + name;
+}
+
+listener af:HttpListener ep = new ();
+
+service "counter" on ep {
+    resource function get count() returns int {
+        requestCount += 1;
+        return requestCount;
+    }
+
+    resource function get greet(string name) returns string {
+        return greeting(name);
+    }
+
+    resource function get currency(string country) returns string {
+        return currencies[country] ?: "USD";
+    }
+
+    resource function get hello(string name) returns string {
+        return "Hello " + name.trim();
+    }
+}
+
+listener af:HttpListener ep2 = new ();
+
+service "hits" on ep2 {
+    int hits = 0;
+
+    resource function get .() returns int {
+        self.hits += 1;
+        return self.hits;
+    }
+}
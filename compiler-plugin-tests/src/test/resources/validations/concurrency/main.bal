@@ -0,0 +1,60 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerinax/azure.functions as af;
+
+type Address record {|
+    string street;
+    string city;
+    string state;
+    string zip;
+    string country;
+|};
+
+type Order record {|
+    string id;
+    string customer;
+    string email;
+    string phone;
+    int quantity;
+    decimal price;
+    string currency;
+    boolean express;
+    Address shipping;
+    Address billing;
+|};
+
+int requestCount = 0;
+
+final map<string> currencies = {"LK": "LKR"};
+
+listener af:HttpListener ep = new ();
+
+service "orders" on ep {
+    resource function post create(@http:Payload Order purchase) returns string {
+        requestCount += 1;
+        return purchase.id + (currencies["LK"] ?: "");
+    }
+}
+
+listener af:HttpListener ep2 = new ();
+
+isolated service "isolated-orders" on ep2 {
+    isolated resource function post create(@http:Payload readonly & Order purchase) returns string {
+        return purchase.id;
+    }
+}
@@ -0,0 +1,65 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerinax/azure.functions as af;
+
+type Item record {
+    string id;
+    string category;
+    string name;
+};
+
+isolated service "items" on new af:HttpListener() {
+
+    isolated resource function get category/[string category](@af:CosmosDBInput {
+                                                                   connectionStringSetting: "CosmosDBConnection",
+                                                                   databaseName: "db1",
+                                                                   collectionName: "items",
+                                                                   sqlQuery: "SELECT * FROM c WHERE c.category = {category}"
+                                                               } Item[] items) returns Item[] {
+        return items;
+    }
+
+    isolated resource function get category/[string category]/item/[string id](@af:CosmosDBInput {
+                                                                                    connectionStringSetting: "CosmosDBConnection",
+                                                                                    databaseName: "db1",
+                                                                                    collectionName: "items",
+                                                                                    id: "{id}",
+                                                                                    partitionKey: "{category}"
+                                                                                } Item[] items) returns Item[] {
+        return items;
+    }
+
+    isolated resource function get lookup(string id, @af:CosmosDBInput {
+                                                         connectionStringSetting: "CosmosDBConnection",
+                                                         databaseName: "db1",
+                                                         collectionName: "items",
+                                                         id: "{Query.id}"
+                                                     } Item[] items) returns Item[] {
+        return items;
+    }
+
+    isolated resource function get search(string category, @af:CosmosDBInput {
+                                                               connectionStringSetting: "CosmosDBConnection",
+                                                               databaseName: "db1",
+                                                               collectionName: "items",
+                                                               sqlQuery: "SELECT * FROM c WHERE c.name = {name} AND c.note != '{note}'",
+                                                               partitionKey: "{Query.category}"
+                                                           } Item[] items) returns Item[] {
+        return items;
+    }
+}
@@ -17,13 +17,14 @@
  */
 package org.ballerinax.azurefunctions;
 
-import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.Package;
 import io.ballerina.projects.Project;
+import io.ballerina.projects.ProjectKind;
 import io.ballerina.projects.plugins.CompilerLifecycleEventContext;
 import io.ballerina.projects.plugins.CompilerLifecycleTask;
-import org.ballerinax.azurefunctions.service.Binding;
+import io.ballerina.tools.diagnostics.Location;
 
 import java.io.IOException;
 import java.io.PrintStream;
@@ -49,24 +50,30 @@ public class AzureCodeGeneratedTask implements CompilerLifecycleTask<CompilerLif
             return;
         }
 
-        AzureFunctionServiceExtractor azureFunctionServiceExtractor =
-                new AzureFunctionServiceExtractor(compilerLifecycleEventContext.currentPackage());
-        List<FunctionContext> functionContexts = azureFunctionServiceExtractor.extractFunctions();
+        Package currentPackage = compilerLifecycleEventContext.currentPackage();
+        AzureFunctionServiceExtractor azureFunctionServiceExtractor = new AzureFunctionServiceExtractor(currentPackage);
+        List<FunctionContext> functionContexts;
+        if (currentPackage.project().kind() == ProjectKind.BUILD_PROJECT) {
+            FunctionsAnalysisCache analysisCache = FunctionsAnalysisCache.forPackage(currentPackage);
+            functionContexts = azureFunctionServiceExtractor.extractFunctions(analysisCache);
+            analysisCache.save();
+        } else {
+            functionContexts = azureFunctionServiceExtractor.extractFunctions();
+        }
+        if (reportDuplicateFunctionNames(compilerLifecycleEventContext, functionContexts)) {
+            return;
+        }
+        Optional<String> routerAuthLevel = HttpRouterFunction.getAuthLevel();
+        if (routerAuthLevel.isPresent()) {
+            functionContexts = HttpRouterFunction.merge(functionContexts, routerAuthLevel.get());
+        }
         Map<String, JsonObject> generatedFunctions = new HashMap<>();
-
         for (FunctionContext ctx : functionContexts) {
-            JsonObject functions = new JsonObject();
-            JsonArray bindings = new JsonArray();
-            List<Binding> bindingList = ctx.getBindingList();
-            for (Binding binding : bindingList) {
-                bindings.add(binding.getJsonObject());
-            }
-            functions.add("bindings", bindings);
-            generatedFunctions.put(ctx.getFunctionName(), functions);
+            generatedFunctions.put(ctx.getFunctionName(), ctx.getFunctionJson());
         }
 
         Optional<Path> generatedArtifactPath = compilerLifecycleEventContext.getGeneratedArtifactPath();
-        Project project = compilerLifecycleEventContext.currentPackage().project();
+        Project project = currentPackage.project();
         BuildOptions buildOptions = project.buildOptions();
         String cloud = buildOptions.cloud();
         if (cloud == null || cloud.isEmpty()) {
@@ -97,6 +104,35 @@ public class AzureCodeGeneratedTask implements CompilerLifecycleTask<CompilerLif
         });
     }
 
+    /**
+     * Reports functions of different services that were given the same name, which would otherwise overwrite each
+     * other's function.json.
+     *
+     * @param context          compiler lifecycle context
+     * @param functionContexts functions extracted from all modules
+     * @return true if a duplicate was found
+     */
+    private boolean reportDuplicateFunctionNames(CompilerLifecycleEventContext context,
+                                                 List<FunctionContext> functionContexts) {
+
+        Map<String, FunctionContext> functionsByName = new HashMap<>();
+        boolean hasDuplicates = false;
+        for (FunctionContext ctx : functionContexts) {
+            FunctionContext existing = functionsByName.putIfAbsent(ctx.getFunctionName(), ctx);
+            if (existing == null) {
+                continue;
+            }
+            hasDuplicates = true;
+            String existingFile = existing.getLocation().map(location -> location.lineRange().fileName())
+                    .orElse("<unknown>");
+            // Every extracted function carries the location of its service.
+            Location location = ctx.getLocation().orElseThrow();
+            context.reportDiagnostic(Util.getDiagnostic(location, AzureDiagnosticCodes.AF_029,
+                    ctx.getFunctionName(), existingFile));
+        }
+        return hasDuplicates;
+    }
+
     private void generateFunctionsArtifact(Map<String, JsonObject> functions, Path binaryPath, boolean isNative,
                                            Project project)
             throws IOException {
@@ -34,14 +34,18 @@ import java.util.Map;
 public class AzureCodeModifier extends CodeModifier {
 
     private final Map<DocumentId, DocumentContext> payloadParamContextMap;
+    private final ModifiedSourceCache.Holder modifiedSourceCache;
 
     public AzureCodeModifier() {
         this.payloadParamContextMap = new HashMap<>();
+        this.modifiedSourceCache = new ModifiedSourceCache.Holder();
     }
     @Override
     public void init(CodeModifierContext codeModifierContext) {
         codeModifierContext.addSyntaxNodeAnalysisTask(
-                new HttpPayloadParamIdentifier(this.payloadParamContextMap), List.of(SyntaxKind.SERVICE_DECLARATION));
-        codeModifierContext.addSourceModifierTask(new FunctionUpdaterTask(this.payloadParamContextMap));
+                new HttpPayloadParamIdentifier(this.payloadParamContextMap, this.modifiedSourceCache),
+                List.of(SyntaxKind.SERVICE_DECLARATION));
+        codeModifierContext.addSourceModifierTask(
+                new FunctionUpdaterTask(this.payloadParamContextMap, this.modifiedSourceCache));
     }
 }
@@ -19,6 +19,8 @@ package org.ballerinax.azurefunctions;
 
 import io.ballerina.projects.plugins.CompilerPlugin;
 import io.ballerina.projects.plugins.CompilerPluginContext;
+import org.ballerinax.azurefunctions.codeactions.AddIsolatedQualifierCodeAction;
+import org.ballerinax.azurefunctions.codeactions.AddReadonlyIntersectionCodeAction;
 
 /**
  * Azure Functions Compiler plugin initializer.
@@ -31,5 +33,7 @@ public class AzureCompilerPlugin extends CompilerPlugin {
         pluginContext.addCodeAnalyzer(new AzureFunctionsCodeAnalyzer());
         pluginContext.addCodeModifier(new AzureCodeModifier());
         pluginContext.addCompilerLifecycleListener(new AzureLifecycleListener());
+        pluginContext.addCodeAction(new AddIsolatedQualifierCodeAction());
+        pluginContext.addCodeAction(new AddReadonlyIntersectionCodeAction());
     }
 }
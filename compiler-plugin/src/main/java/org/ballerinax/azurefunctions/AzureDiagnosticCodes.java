@@ -61,6 +61,27 @@ public enum AzureDiagnosticCodes {
             "Use an accessor that supports entity body", ERROR),
 
     AF_020("AF_020", "invalid payload parameter type: '%s'", ERROR),
+
+    AF_021("AF_021", "service is not isolated: invocations of its functions are not run concurrently, which " +
+            "limits the throughput of each instance. Mark the service as 'isolated'", WARNING),
+    AF_022("AF_022", "resource function '%s' is not isolated: its invocations are not run concurrently, which " +
+            "limits the throughput of each instance. Mark the function as 'isolated'", WARNING),
+    AF_023("AF_023", "mutable module-level variable '%s' is accessed by '%s', which prevents the function from " +
+            "running concurrently. Declare the variable as 'isolated' and access it within a 'lock' statement",
+            WARNING),
+    AF_024("AF_024", "final module-level variable '%s' accessed by '%s' has a mutable type, which prevents the " +
+            "function from running concurrently. Use a 'readonly' type for the variable", WARNING),
+    AF_025("AF_025", "payload parameter '%s' has a mutable type with %s fields: sharing it with isolated code " +
+            "requires a deep copy on every invocation. Use a 'readonly' intersection type to bind it as an " +
+            "immutable value", WARNING),
+    AF_026("AF_026", "'sqlQuery' of Cosmos DB input '%s' is run across all partitions on every invocation. Set " +
+            "'partitionKey' to a binding expression such as '%s' to route the query to a single partition", WARNING),
+    AF_027("AF_027", "Cosmos DB input '%s' reads document '%s' without a 'partitionKey', which runs the lookup " +
+            "across all partitions. Set 'partitionKey' to route it to a single partition", WARNING),
+    AF_028("AF_028", "binding expression '{%s}' of Cosmos DB input '%s' is not bound to a path parameter or a " +
+            "query parameter of the resource", WARNING),
+    AF_029("AF_029", "function name '%s' is also generated for a service in '%s'. Change the service path or the " +
+            "resource path so that each function name in the package is unique", ERROR),
     ;
 
     private final String code;
@@ -46,6 +46,7 @@ import io.ballerina.compiler.syntax.tree.MetadataNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeFactory;
 import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.NodeParser;
 import io.ballerina.compiler.syntax.tree.ParameterNode;
 import io.ballerina.compiler.syntax.tree.QualifiedNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.RequiredParameterNode;
@@ -118,7 +119,6 @@ public class AzureFunctionModifier extends TreeModifier {
     @Override
     public ServiceDeclarationNode transform(ServiceDeclarationNode serviceDeclarationNode) {
 
-        String servicePath = Util.resourcePathToString(serviceDeclarationNode.absoluteResourcePath());
         ExpressionNode listenerExpressionNode = serviceDeclarationNode.expressions().get(0);
         Optional<TypeSymbol> listenerSymbol = semanticModel.typeOf(listenerExpressionNode);
         if (listenerSymbol.isEmpty()) {
@@ -144,15 +144,18 @@ public class AzureFunctionModifier extends TreeModifier {
             return super.transform(serviceDeclarationNode);
         }
         NodeList<Node> members = serviceDeclarationNode.members();
+        ServiceContext serviceContext = getServiceContext(serviceDeclarationNode);
         AzureFunctionNameGenerator nameGen = new AzureFunctionNameGenerator(serviceDeclarationNode);
+        BindingDescriptorBuilder descriptorBuilder =
+                new BindingDescriptorBuilder(semanticModel, serviceDeclarationNode);
         NodeList<Node> newMembersList = NodeFactory.createNodeList();
         for (Node node : members) {
             Node modifiedMember = node;
             boolean isNetworkFunction = SyntaxKind.RESOURCE_ACCESSOR_DEFINITION == node.kind() ||
                     SyntaxKind.OBJECT_METHOD_DEFINITION == node.kind();
             if (isNetworkFunction) {
-                modifiedMember = getModifiedFunction((FunctionDefinitionNode) node, servicePath,
-                        nameGen, getServiceContext(serviceDeclarationNode));
+                modifiedMember = getModifiedFunction((FunctionDefinitionNode) node, nameGen, descriptorBuilder,
+                        serviceContext);
             }
             newMembersList = newMembersList.add(modifiedMember);
         }
@@ -167,47 +170,85 @@ public class AzureFunctionModifier extends TreeModifier {
         return documentContext.getServiceContext(serviceDeclarationNode.hashCode());
     }
 
-    public FunctionDefinitionNode getModifiedFunction(FunctionDefinitionNode functionDefNode, String servicePath,
-                                    AzureFunctionNameGenerator nameGen, ServiceContext serviceContext) {
+    public FunctionDefinitionNode getModifiedFunction(FunctionDefinitionNode functionDefNode,
+                                                      AzureFunctionNameGenerator nameGen,
+                                                      BindingDescriptorBuilder descriptorBuilder,
+                                                      ServiceContext serviceContext) {
         FunctionBodyNode functionBodyNode = functionDefNode.functionBody();
         if (functionBodyNode.kind() != SyntaxKind.FUNCTION_BODY_BLOCK) {
             return functionDefNode;
         }
 
-        FunctionDefinitionNode.FunctionDefinitionNodeModifier functionDefModifier = functionDefNode.modify().
-                withFunctionBody(getSpreadModifiedFunctionBody((FunctionBodyBlockNode) functionBodyNode));
-
+        FunctionDefinitionNode.FunctionDefinitionNodeModifier functionDefModifier = functionDefNode.modify();
+        Optional<String> descriptor = Optional.empty();
         if (SyntaxKind.RESOURCE_ACCESSOR_DEFINITION == functionDefNode.kind()) {
             getPayloadAnnotationFunctionSignature(serviceContext, functionDefNode)
                     .ifPresent(functionDefModifier::withFunctionSignature);
-            getAnnotatedFunction(functionDefNode, servicePath, nameGen).ifPresent(functionDefModifier::withMetadata);
+            descriptor = descriptorBuilder.getDescriptor(functionDefNode,
+                    getPayloadParamIndex(serviceContext, functionDefNode));
+            getAnnotatedFunction(functionDefNode, nameGen, descriptor).ifPresent(functionDefModifier::withMetadata);
+        } else if (isRemoteFunction(functionDefNode)) {
+            descriptor = descriptorBuilder.getDescriptor(functionDefNode, -1);
+            getAnnotatedFunction(functionDefNode, null, descriptor).ifPresent(functionDefModifier::withMetadata);
+        }
+        // The descriptor records the output binding of each tuple member, so returned tuples are only copied into
+        // the annotated return type when it could not be generated.
+        if (descriptor.isEmpty()) {
+            functionDefModifier.withFunctionBody(
+                    getSpreadModifiedFunctionBody((FunctionBodyBlockNode) functionBodyNode));
         }
         return functionDefModifier.apply();
     }
 
     private Optional<MetadataNode> getAnnotatedFunction(FunctionDefinitionNode functionDefinitionNode,
-                                                        String servicePath, AzureFunctionNameGenerator nameGen) {
-        String uniqueFunctionName = nameGen.getUniqueFunctionName(servicePath, functionDefinitionNode);
+                                                        AzureFunctionNameGenerator nameGen,
+                                                        Optional<String> descriptor) {
         Optional<MetadataNode> metadata = functionDefinitionNode.metadata();
         NodeList<AnnotationNode> existingAnnotations = NodeFactory.createNodeList();
         MetadataNode metadataNode;
+        boolean addFunctionAnnotation = nameGen != null;
         if (metadata.isPresent()) {
             metadataNode = metadata.get();
-            if (isFunctionAnnotationExist(functionDefinitionNode)) {
-                return Optional.empty();
+            if (addFunctionAnnotation && isFunctionAnnotationExist(functionDefinitionNode)) {
+                addFunctionAnnotation = false;
             }
             existingAnnotations = metadataNode.annotations();
         } else {
             metadataNode = NodeFactory.createMetadataNode(null, existingAnnotations);
         }
+        if (!addFunctionAnnotation && descriptor.isEmpty()) {
+            return Optional.empty();
+        }
 
         //Create and add annotation
-        NodeList<AnnotationNode> modifiedAnnotations =
-                existingAnnotations.add(createFunctionAnnotation(uniqueFunctionName));
+        NodeList<AnnotationNode> modifiedAnnotations = existingAnnotations;
+        if (addFunctionAnnotation) {
+            String uniqueFunctionName = nameGen.getUniqueFunctionName(functionDefinitionNode);
+            modifiedAnnotations = modifiedAnnotations.add(createFunctionAnnotation(uniqueFunctionName));
+        }
+        if (descriptor.isPresent()) {
+            modifiedAnnotations = modifiedAnnotations.add(createBindingDescriptorAnnotation(descriptor.get()));
+        }
         return Optional.of(new MetadataNode.MetadataNodeModifier(metadataNode).withAnnotations(modifiedAnnotations)
                 .apply());
     }
 
+    private boolean isRemoteFunction(FunctionDefinitionNode functionDefinitionNode) {
+        for (Token qualifier : functionDefinitionNode.qualifierList()) {
+            if (qualifier.kind() == SyntaxKind.REMOTE_KEYWORD) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int getPayloadParamIndex(ServiceContext serviceContext, FunctionDefinitionNode functionDefNode) {
+        if (serviceContext == null || !serviceContext.containsResource(functionDefNode.hashCode())) {
+            return -1;
+        }
+        return serviceContext.getResourceContext(functionDefNode.hashCode()).getIndex();
+    }
+
     private FunctionBodyBlockNode getSpreadModifiedFunctionBody(FunctionBodyBlockNode functionBodyBlockNode) {
 
         NodeList<StatementNode> statements = functionBodyBlockNode.statements();
@@ -343,4 +384,16 @@ public class AzureFunctionModifier extends TreeModifier {
         return NodeFactory.createAnnotationNode(NodeFactory.createToken(SyntaxKind.AT_TOKEN), azureFunctionAnnotRef,
                 annotationValue);
     }
+
+    public AnnotationNode createBindingDescriptorAnnotation(String descriptor) {
+
+        QualifiedNameReferenceNode descriptorAnnotRef =
+                NodeFactory.createQualifiedNameReferenceNode(NodeFactory.createIdentifierToken(modulePrefix),
+                        NodeFactory.createToken(SyntaxKind.COLON_TOKEN),
+                        NodeFactory.createIdentifierToken(Constants.BINDING_DESCRIPTOR_ANNOTATION));
+        MappingConstructorExpressionNode annotationValue =
+                (MappingConstructorExpressionNode) NodeParser.parseExpression(descriptor);
+        return NodeFactory.createAnnotationNode(NodeFactory.createToken(SyntaxKind.AT_TOKEN), descriptorAnnotRef,
+                annotationValue);
+    }
 }
@@ -18,58 +18,67 @@
 package org.ballerinax.azurefunctions;
 
 import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
-import io.ballerina.compiler.syntax.tree.IdentifierToken;
 import io.ballerina.compiler.syntax.tree.Node;
-import io.ballerina.compiler.syntax.tree.NodeList;
-import io.ballerina.compiler.syntax.tree.ResourcePathParameterNode;
 import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
-import io.ballerina.compiler.syntax.tree.Token;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Responsible for generating Azure function name for each resource function.
+ * <p>
+ * Names of all resources in the service are assigned in a single pass. Resources sharing a name get a numeric
+ * suffix, and the next suffix to try is remembered per name so that the assignment stays linear in the number of
+ * resources.
  *
  * @since 2.0.0
  */
 public class AzureFunctionNameGenerator {
 
-    private List<String> functionNames = new ArrayList<>();
-    private List<String> generatedNames = new ArrayList<>();
+    private final Map<Integer, String> uniqueNames = new HashMap<>();
 
     public AzureFunctionNameGenerator(ServiceDeclarationNode serviceDeclarationNode) {
-        NodeList<Node> members = serviceDeclarationNode.members();
         String servicePath = Util.resourcePathToString(serviceDeclarationNode.absoluteResourcePath());
-        for (Node node : members) {
+        List<FunctionDefinitionNode> resources = new ArrayList<>();
+        List<String> functionNames = new ArrayList<>();
+        Map<String, Integer> nameCounts = new HashMap<>();
+        for (Node node : serviceDeclarationNode.members()) {
             if (SyntaxKind.RESOURCE_ACCESSOR_DEFINITION != node.kind()) {
                 continue;
             }
             FunctionDefinitionNode functionDefinitionNode = (FunctionDefinitionNode) node;
             String functionName = getFunctionName(servicePath, functionDefinitionNode);
-            this.functionNames.add(functionName);
+            resources.add(functionDefinitionNode);
+            functionNames.add(functionName);
+            nameCounts.merge(functionName, 1, Integer::sum);
+        }
+
+        Set<String> generatedNames = new HashSet<>();
+        Map<String, Integer> nextIndexes = new HashMap<>();
+        for (int i = 0; i < resources.size(); i++) {
+            String initialName = functionNames.get(i);
+            // Suffixes below the remembered index are either taken or clash with another resource's name.
+            int index = nextIndexes.getOrDefault(initialName, 0);
+            String newName = index == 0 ? initialName : initialName + "-" + index;
+            while (generatedNames.contains(newName) || nameCounts.getOrDefault(newName, 0) > 1) {
+                index++;
+                newName = initialName + "-" + index;
+            }
+            nextIndexes.put(initialName, index + 1);
+            generatedNames.add(newName);
+            this.uniqueNames.put(resources.get(i).hashCode(), newName);
         }
     }
 
     private String getFunctionName(String servicePath, FunctionDefinitionNode functionDefinitionNode) {
         String method = functionDefinitionNode.functionName().text();
-        StringBuilder resourcePath = new StringBuilder();
-        servicePath = servicePath.replace("\\", "");
-        resourcePath.append(servicePath);
-        for (Node pathBlock : functionDefinitionNode.relativeResourcePath()) {
-            if (pathBlock.kind() == SyntaxKind.IDENTIFIER_TOKEN) {
-                String specialCharReplacedPathBlock = (((IdentifierToken) pathBlock).text()).replace("\\", "");
-                resourcePath.append("/").append(specialCharReplacedPathBlock);
-            } else if (pathBlock.kind() == SyntaxKind.RESOURCE_PATH_SEGMENT_PARAM) {
-                Token token = ((ResourcePathParameterNode) pathBlock).paramName().get();
-                resourcePath.append("/").append(token.text());
-            } else if (pathBlock.kind() == SyntaxKind.RESOURCE_PATH_REST_PARAM) {
-                Token token = ((ResourcePathParameterNode) pathBlock).paramName().get();
-                resourcePath.append("/").append(token.text());
-            }
-        }
-        return getEncodedAzureFunctionName(resourcePath.toString(), servicePath, method);
+        String resourcePath = Util.getResourcePath(servicePath, functionDefinitionNode, false);
+        return getEncodedAzureFunctionName(resourcePath, servicePath.replace("\\", ""), method);
     }
     //TODO move slashs, dashes to consts
     private String getEncodedAzureFunctionName(String resourcePath, String servicePath, String method) {
@@ -80,34 +89,13 @@ public class AzureFunctionNameGenerator {
         return method + "-" + functionName;
     }
 
-    public String getUniqueFunctionName(String servicePath, FunctionDefinitionNode functionDefinitionNode) {
-        String functionName = getFunctionName(servicePath, functionDefinitionNode);
-        functionName = generateUniqueName(functionName, 0);
-        generatedNames.add(functionName);
-        return functionName;
-    }
-
-    private String generateUniqueName(String initialName, int index) {
-        String newName;
-        if (index == 0) {
-            newName = initialName;
-        } else {
-            newName = initialName + "-" + index;
-        }
-
-        if (!isDuplicateName(newName)) {
-            return newName;
-        }
-        return generateUniqueName(initialName, index + 1);
-    }
-
-    private boolean isDuplicateName(String initialName) {
-        int count = 0;
-        for (String functionName : this.functionNames) {
-            if (functionName.equals(initialName)) {
-                count++;
-            }
-        }
-        return generatedNames.contains(initialName) || count > 1;
+    /**
+     * Returns the unique Azure function name assigned to the given resource function.
+     *
+     * @param functionDefinitionNode resource function of the service
+     * @return unique function name
+     */
+    public String getUniqueFunctionName(FunctionDefinitionNode functionDefinitionNode) {
+        return this.uniqueNames.get(functionDefinitionNode.hashCode());
     }
 }
@@ -19,19 +19,28 @@ package org.ballerinax.azurefunctions;
 
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.projects.Document;
-import io.ballerina.projects.DocumentId;
 import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleId;
 import io.ballerina.projects.Package;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Responsible for Extracting azure functions from a ballerina project.
+ * <p>
+ * Documents of each module are scanned once, in parallel on the common fork-join pool, to collect the type
+ * definitions and service declarations. The syntax trees are fetched sequentially beforehand, as the document parses
+ * its tree lazily without synchronization, and each tree is then only walked by a single thread. The bindings are
+ * then extracted in document order using the semantic model of the module, which is not safe to share between
+ * threads, so the result is deterministic.
  *
  * @since 2.0.0
  */
@@ -44,27 +53,105 @@ public class AzureFunctionServiceExtractor {
     }
 
     public List<FunctionContext> extractFunctions() {
-        Module module = this.currentPackage.getDefaultModule();
-        List<FunctionContext> moduleFunctions = new ArrayList<>();
-        Collection<DocumentId> documentIds = module.documentIds();
+        return extractFunctions(null);
+    }
+
+    /**
+     * Extracts the functions of all modules, reusing the cached functions of unchanged documents.
+     *
+     * @param analysisCache cache of previously extracted functions, or null to extract all documents
+     * @return functions of the package
+     */
+    public List<FunctionContext> extractFunctions(FunctionsAnalysisCache analysisCache) {
+        List<Module> modules = new ArrayList<>();
+        for (ModuleId moduleId : this.currentPackage.moduleIds()) {
+            modules.add(this.currentPackage.module(moduleId));
+        }
+        modules.sort(Comparator.comparing((Module module) -> !module.isDefaultModule())
+                .thenComparing(module -> module.moduleName().toString()));
+
+        String declarationsHash = analysisCache == null ? null :
+                ModifiedSourceCache.hashDeclarations(this.currentPackage);
+        List<FunctionContext> functions = new ArrayList<>();
+        for (Module module : modules) {
+            functions.addAll(extractModuleFunctions(module, analysisCache, declarationsHash));
+        }
+        return functions;
+    }
+
+    private List<FunctionContext> extractModuleFunctions(Module module, FunctionsAnalysisCache analysisCache,
+                                                         String declarationsHash) {
+        List<Document> documents = new ArrayList<>();
+        module.documentIds().forEach(documentId -> documents.add(module.document(documentId)));
+        documents.sort(Comparator.comparing(Document::name));
+
+        List<SyntaxTree> syntaxTrees = documents.stream().map(Document::syntaxTree).toList();
+        List<AzureFunctionTypeVisitor> documentVisitors = syntaxTrees.parallelStream()
+                .map(syntaxTree -> {
+                    AzureFunctionTypeVisitor visitor = new AzureFunctionTypeVisitor();
+                    syntaxTree.rootNode().accept(visitor);
+                    return visitor;
+                })
+                .toList();
+
         Map<String, Node> types = new HashMap<>();
-        for (DocumentId doc : documentIds) {
-            Document document = module.document(doc);
-            Node node = document.syntaxTree().rootNode();
-            AzureFunctionTypeVisitor visitor = new AzureFunctionTypeVisitor();
-            node.accept(visitor);
+        boolean hasServices = false;
+        for (AzureFunctionTypeVisitor visitor : documentVisitors) {
             types.putAll(visitor.getTypes());
+            hasServices |= !visitor.getServices().isEmpty();
         }
-        
-        for (DocumentId documentId : documentIds) {
-            Document document = module.document(documentId);
-            Node node = document.syntaxTree().rootNode();
-            SemanticModel semanticModel = module.getCompilation().getSemanticModel();
+        if (!hasServices) {
+            return new ArrayList<>();
+        }
+
+        SemanticModel semanticModel = null;
+        List<FunctionContext> functions = new ArrayList<>();
+        for (int i = 0; i < documents.size(); i++) {
+            List<ServiceDeclarationNode> services = documentVisitors.get(i).getServices();
+            if (services.isEmpty()) {
+                continue;
+            }
+            Document document = documents.get(i);
+            String documentKey = module.moduleName() + "/" + document.name();
+            String contentHash = null;
+            if (analysisCache != null) {
+                contentHash = FunctionsAnalysisCache.hash(syntaxTrees.get(i).toSourceCode(), declarationsHash);
+                Optional<List<FunctionContext>> cachedFunctions = analysisCache.get(documentKey, contentHash);
+                if (cachedFunctions.isPresent() && restoreLocations(cachedFunctions.get(), services)) {
+                    functions.addAll(cachedFunctions.get());
+                    continue;
+                }
+            }
+            if (semanticModel == null) {
+                semanticModel = module.getCompilation().getSemanticModel();
+            }
             AzureFunctionServiceVisitor azureFunctionVisitor = new AzureFunctionServiceVisitor(semanticModel, types);
-            node.accept(azureFunctionVisitor);
-            moduleFunctions.addAll(azureFunctionVisitor.getFunctionContexts());
+            List<FunctionContext> documentFunctions = azureFunctionVisitor.getFunctionContexts();
+            for (int serviceIndex = 0; serviceIndex < services.size(); serviceIndex++) {
+                ServiceDeclarationNode service = services.get(serviceIndex);
+                int extracted = documentFunctions.size();
+                service.accept(azureFunctionVisitor);
+                for (int j = extracted; j < documentFunctions.size(); j++) {
+                    documentFunctions.get(j).setLocation(service.location());
+                    documentFunctions.get(j).setServiceIndex(serviceIndex);
+                }
+            }
+            if (analysisCache != null) {
+                analysisCache.put(documentKey, contentHash, documentFunctions);
+            }
+            functions.addAll(documentFunctions);
+        }
+        return functions;
+    }
+
+    private static boolean restoreLocations(List<FunctionContext> functions, List<ServiceDeclarationNode> services) {
+        for (FunctionContext function : functions) {
+            int serviceIndex = function.getServiceIndex();
+            if (serviceIndex < 0 || serviceIndex >= services.size()) {
+                return false;
+            }
+            function.setLocation(services.get(serviceIndex).location());
         }
-        
-        return moduleFunctions;
+        return true;
     }
 }
@@ -19,21 +19,26 @@ package org.ballerinax.azurefunctions;
 
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
- * Visitor for extracting types defined in the document.
+ * Visitor for extracting types and services defined in the document.
  *
  * @since 2.0.0
  */
 public class AzureFunctionTypeVisitor extends NodeVisitor {
     
     private Map<String, Node> types;
+    private List<ServiceDeclarationNode> services;
     public AzureFunctionTypeVisitor() {
         this.types = new HashMap<>();
+        this.services = new ArrayList<>();
     }
     
     @Override
@@ -42,7 +47,16 @@ public class AzureFunctionTypeVisitor extends NodeVisitor {
         this.types.put(variableName, typeDefinitionNode.typeDescriptor());
     }
 
+    @Override
+    public void visit(ServiceDeclarationNode serviceDeclarationNode) {
+        this.services.add(serviceDeclarationNode);
+    }
+
     public Map<String, Node> getTypes() {
         return types;
     }
+
+    public List<ServiceDeclarationNode> getServices() {
+        return services;
+    }
 }
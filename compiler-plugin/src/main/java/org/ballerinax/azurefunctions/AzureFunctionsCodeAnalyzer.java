@@ -22,6 +22,8 @@ import io.ballerina.projects.plugins.CodeAnalysisContext;
 import io.ballerina.projects.plugins.CodeAnalyzer;
 import org.ballerinax.azurefunctions.validators.http.HttpServiceValidator;
 import org.ballerinax.azurefunctions.validators.output.OutputBindingValidator;
+import org.ballerinax.azurefunctions.validators.performance.ConcurrencyValidator;
+import org.ballerinax.azurefunctions.validators.performance.CosmosDBQueryValidator;
 
 /**
  * Contains the code analyzers for azure functions.
@@ -35,5 +37,7 @@ public class AzureFunctionsCodeAnalyzer extends CodeAnalyzer {
         codeAnalysisCtx.addCompilationAnalysisTask(new AzureFunctionsCloudValidator());
         codeAnalysisCtx.addSyntaxNodeAnalysisTask(new HttpServiceValidator(), SyntaxKind.SERVICE_DECLARATION);
         codeAnalysisCtx.addSyntaxNodeAnalysisTask(new OutputBindingValidator(), SyntaxKind.RETURN_TYPE_DESCRIPTOR);
+        codeAnalysisCtx.addSyntaxNodeAnalysisTask(new ConcurrencyValidator(), SyntaxKind.SERVICE_DECLARATION);
+        codeAnalysisCtx.addSyntaxNodeAnalysisTask(new CosmosDBQueryValidator(), SyntaxKind.SERVICE_DECLARATION);
     }
 }
@@ -0,0 +1,406 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.azurefunctions;
+
+import io.ballerina.compiler.api.ModuleID;
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.AnnotationSymbol;
+import io.ballerina.compiler.api.symbols.FunctionSymbol;
+import io.ballerina.compiler.api.symbols.MemberTypeSymbol;
+import io.ballerina.compiler.api.symbols.ModuleSymbol;
+import io.ballerina.compiler.api.symbols.ParameterSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.TupleTypeSymbol;
+import io.ballerina.compiler.api.symbols.TypeReferenceTypeSymbol;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.compiler.api.symbols.UnionTypeSymbol;
+import io.ballerina.compiler.syntax.tree.AnnotationNode;
+import io.ballerina.compiler.syntax.tree.DefaultableParameterNode;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.IdentifierToken;
+import io.ballerina.compiler.syntax.tree.MappingConstructorExpressionNode;
+import io.ballerina.compiler.syntax.tree.MappingFieldNode;
+import io.ballerina.compiler.syntax.tree.MetadataNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.ParameterNode;
+import io.ballerina.compiler.syntax.tree.QualifiedNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.RequiredParameterNode;
+import io.ballerina.compiler.syntax.tree.ReturnTypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
+import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
+import io.ballerina.compiler.syntax.tree.SpecificFieldNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import org.ballerinax.azurefunctions.service.ServiceHandler;
+import org.ballerinax.azurefunctions.service.TriggerBinding;
+import org.ballerinax.azurefunctions.service.http.HTTPTriggerBinding;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Builds the binding descriptor of a function, which tells the runtime how each parameter is bound.
+ * <p>
+ * The descriptor is attached as the {@code @af:BindingDescriptor} annotation, so the runtime does not need to
+ * inspect the parameter annotations of the function for every invocation. Each parameter is described by its binding
+ * kind, followed by the header name or the input binding annotation name where applicable. For tuple return types the
+ * output binding of each member is described as well. Resources served by the HTTP router function are marked as
+ * routed.
+ *
+ * @since 4.2.0
+ */
+public class BindingDescriptorBuilder {
+
+    private final SemanticModel semanticModel;
+    private final Optional<Boolean> treatNilableAsOptional;
+    private final boolean routerEnabled;
+
+    public BindingDescriptorBuilder(SemanticModel semanticModel, ServiceDeclarationNode serviceDeclarationNode) {
+        this.semanticModel = semanticModel;
+        this.treatNilableAsOptional = isTreatNilableAsOptional(serviceDeclarationNode);
+        this.routerEnabled = isRouterEnabled(semanticModel, serviceDeclarationNode);
+    }
+
+    /**
+     * Returns the source of the annotation value describing the parameters of the given function.
+     *
+     * @param functionDefNode   resource or remote function
+     * @param payloadParamIndex index of the unannotated parameter the code modifier binds to the payload, or -1
+     * @return mapping constructor source, or empty if the parameters cannot be described
+     */
+    public Optional<String> getDescriptor(FunctionDefinitionNode functionDefNode, int payloadParamIndex) {
+
+        Optional<Symbol> symbol = this.semanticModel.symbol(functionDefNode);
+        if (symbol.isEmpty() || !(symbol.get() instanceof FunctionSymbol)) {
+            return Optional.empty();
+        }
+        FunctionSymbol functionSymbol = (FunctionSymbol) symbol.get();
+        if (functionSymbol.typeDescriptor().restParam().isPresent()) {
+            return Optional.empty();
+        }
+        List<ParameterSymbol> params = functionSymbol.typeDescriptor().params().orElse(new ArrayList<>());
+        SeparatedNodeList<ParameterNode> paramNodes = functionDefNode.functionSignature().parameters();
+        if (params.size() != paramNodes.size()) {
+            return Optional.empty();
+        }
+        boolean isResource = functionDefNode.kind() == SyntaxKind.RESOURCE_ACCESSOR_DEFINITION;
+        if (isResource && this.treatNilableAsOptional.isEmpty()) {
+            return Optional.empty();
+        }
+        List<String> kinds = new ArrayList<>();
+        for (int i = 0; i < params.size(); i++) {
+            if (i == payloadParamIndex) {
+                kinds.add(Constants.BINDING_KIND_PAYLOAD);
+                continue;
+            }
+            Optional<String> kind = getBindingKind(params.get(i), paramNodes.get(i), isResource);
+            if (kind.isEmpty()) {
+                return Optional.empty();
+            }
+            kinds.add(kind.get());
+        }
+
+        StringBuilder descriptor = new StringBuilder("{params: [");
+        for (int i = 0; i < kinds.size(); i++) {
+            if (i > 0) {
+                descriptor.append(", ");
+            }
+            descriptor.append('"').append(kinds.get(i)).append('"');
+        }
+        descriptor.append("]");
+        Optional<List<String>> outputs = getOutputBindings(functionSymbol);
+        if (outputs.isEmpty()) {
+            return Optional.empty();
+        }
+        if (!outputs.get().isEmpty()) {
+            descriptor.append(", ").append(Constants.BINDING_DESCRIPTOR_OUTPUTS_FIELD).append(": [");
+            for (int i = 0; i < outputs.get().size(); i++) {
+                if (i > 0) {
+                    descriptor.append(", ");
+                }
+                descriptor.append('"').append(outputs.get().get(i)).append('"');
+            }
+            descriptor.append("]");
+        }
+        if (isResource && this.routerEnabled && isRouted(functionDefNode, kinds, outputs.get())) {
+            descriptor.append(", ").append(Constants.BINDING_DESCRIPTOR_ROUTED_FIELD).append(": true");
+        }
+        if (isResource && !this.treatNilableAsOptional.get()) {
+            descriptor.append(", ").append(Constants.TREAT_NILABLE_AS_OPTIONAL).append(": false");
+        }
+        descriptor.append("}");
+        return Optional.of(descriptor.toString());
+    }
+
+    /**
+     * Returns the output binding of each member of a tuple return type. The runtime reads the layout from the
+     * descriptor, so a returned tuple does not have to carry the annotated return type at runtime.
+     *
+     * @param functionSymbol resource or remote function
+     * @return output binding names, an empty list if the function does not return a tuple, or empty if the tuple
+     * members cannot be described
+     */
+    private Optional<List<String>> getOutputBindings(FunctionSymbol functionSymbol) {
+
+        Optional<TypeSymbol> returnType = functionSymbol.typeDescriptor().returnTypeDescriptor();
+        if (returnType.isEmpty()) {
+            return Optional.of(List.of());
+        }
+        List<TupleTypeSymbol> tuples = new ArrayList<>();
+        collectTupleTypes(returnType.get(), tuples);
+        if (tuples.isEmpty()) {
+            return Optional.of(List.of());
+        }
+        if (tuples.size() > 1 || tuples.get(0).restTypeDescriptor().isPresent()) {
+            return Optional.empty();
+        }
+        List<String> outputs = new ArrayList<>();
+        for (MemberTypeSymbol member : tuples.get(0).members()) {
+            Optional<String> output = Optional.empty();
+            for (AnnotationSymbol annotation : member.annotations()) {
+                if (Util.isSymbolAzureFunctions(annotation)) {
+                    output = annotation.getName();
+                }
+            }
+            if (output.isEmpty()) {
+                return Optional.empty();
+            }
+            outputs.add(output.get());
+        }
+        return Optional.of(outputs);
+    }
+
+    /**
+     * Checks whether the resource only uses the HTTP trigger and the HTTP output, which are the functions merged into
+     * the router function by {@link HttpRouterFunction}.
+     */
+    private static boolean isRouted(FunctionDefinitionNode functionDefNode, List<String> kinds, List<String> outputs) {
+
+        for (String kind : kinds) {
+            if (kind.startsWith(Constants.BINDING_KIND_INPUT)) {
+                return false;
+            }
+        }
+        if (outputs.size() > 1 || (outputs.size() == 1 && !Constants.HTTP_OUTPUT_BINDING.equals(outputs.get(0)))) {
+            return false;
+        }
+        Optional<ReturnTypeDescriptorNode> returnTypeDesc = functionDefNode.functionSignature().returnTypeDesc();
+        if (returnTypeDesc.isEmpty() || !outputs.isEmpty()) {
+            return true;
+        }
+        for (AnnotationNode annotation : returnTypeDesc.get().annotations()) {
+            Node annotReference = annotation.annotReference();
+            if (annotReference.kind() == SyntaxKind.QUALIFIED_NAME_REFERENCE &&
+                    !Constants.HTTP_OUTPUT_BINDING.equals(((QualifiedNameReferenceNode) annotReference).identifier()
+                            .text())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isRouterEnabled(SemanticModel semanticModel, ServiceDeclarationNode serviceDeclarationNode) {
+
+        Optional<String> routerAuthLevel = HttpRouterFunction.getAuthLevel();
+        if (routerAuthLevel.isEmpty()) {
+            return false;
+        }
+        Optional<TriggerBinding> builder = ServiceHandler.getBuilder(serviceDeclarationNode, semanticModel,
+                new HashMap<>());
+        return builder.isPresent() && builder.get() instanceof HTTPTriggerBinding &&
+                routerAuthLevel.get().equals(((HTTPTriggerBinding) builder.get()).getServiceAuthLevel());
+    }
+
+    private static void collectTupleTypes(TypeSymbol typeSymbol, List<TupleTypeSymbol> tuples) {
+
+        switch (typeSymbol.typeKind()) {
+            case TUPLE:
+                tuples.add((TupleTypeSymbol) typeSymbol);
+                break;
+            case TYPE_REFERENCE:
+                collectTupleTypes(((TypeReferenceTypeSymbol) typeSymbol).typeDescriptor(), tuples);
+                break;
+            case UNION:
+                for (TypeSymbol member : ((UnionTypeSymbol) typeSymbol).memberTypeDescriptors()) {
+                    collectTupleTypes(member, tuples);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private Optional<String> getBindingKind(ParameterSymbol param, ParameterNode paramNode, boolean isResource) {
+
+        List<AnnotationSymbol> annotations = param.annotations();
+        if (annotations.isEmpty()) {
+            return Optional.of(isResource ? Constants.BINDING_KIND_QUERY : Constants.BINDING_KIND_DATA);
+        }
+        boolean azureAnnotationExist = false;
+        for (AnnotationSymbol annotation : annotations) {
+            Optional<String> name = annotation.getName();
+            Optional<ModuleSymbol> module = annotation.getModule();
+            if (name.isEmpty() || module.isEmpty()) {
+                continue;
+            }
+            ModuleID moduleId = module.get().id();
+            if (Constants.AZURE_FUNCTIONS_PACKAGE_ORG.equals(moduleId.orgName()) &&
+                    Constants.AZURE_FUNCTIONS_MODULE_NAME.equals(moduleId.moduleName())) {
+                azureAnnotationExist = true;
+                switch (name.get()) {
+                    case Constants.BLOB_INPUT_BINDING:
+                    case Constants.COSMOS_INPUT_BINDING:
+                        return Optional.of(Constants.BINDING_KIND_INPUT + ":" + name.get());
+                    case Constants.BINDING_NAME_ANNOTATION:
+                        if (!isResource) {
+                            return Optional.of(Constants.BINDING_KIND_BINDING_NAME);
+                        }
+                        break;
+                    default:
+                        break;
+                }
+                continue;
+            }
+            if (!isResource || !Constants.BALLERINA_ORG.equals(moduleId.orgName()) ||
+                    !Constants.HTTP.equals(moduleId.moduleName())) {
+                continue;
+            }
+            switch (name.get()) {
+                case Constants.PAYLOAD_ANNOTATION:
+                    return Optional.of(Constants.BINDING_KIND_PAYLOAD);
+                case Constants.QUERY_ANNOTATION:
+                    return Optional.of(Constants.BINDING_KIND_QUERY);
+                case Constants.HEADER_ANNOTATION:
+                    // Header names given by a constant reference are left to the runtime to resolve.
+                    return getHeaderName(paramNode).map(headerName -> headerName.isEmpty() ?
+                            Constants.BINDING_KIND_HEADER : Constants.BINDING_KIND_HEADER + ":" + headerName);
+                default:
+                    break;
+            }
+        }
+        if (!isResource && !azureAnnotationExist) {
+            return Optional.of(Constants.BINDING_KIND_DATA);
+        }
+        return Optional.of(Constants.BINDING_KIND_NONE);
+    }
+
+    private Optional<String> getHeaderName(ParameterNode paramNode) {
+
+        NodeList<AnnotationNode> annotations;
+        if (paramNode.kind() == SyntaxKind.REQUIRED_PARAM) {
+            annotations = ((RequiredParameterNode) paramNode).annotations();
+        } else if (paramNode.kind() == SyntaxKind.DEFAULTABLE_PARAM) {
+            annotations = ((DefaultableParameterNode) paramNode).annotations();
+        } else {
+            return Optional.empty();
+        }
+        for (AnnotationNode annotation : annotations) {
+            Node annotReference = annotation.annotReference();
+            if (annotReference.kind() != SyntaxKind.QUALIFIED_NAME_REFERENCE ||
+                    !Constants.HEADER_ANNOTATION.equals(((QualifiedNameReferenceNode) annotReference).identifier()
+                            .text())) {
+                continue;
+            }
+            Optional<SpecificFieldNode> nameField = getField(annotation.annotValue(), "name");
+            if (nameField.isEmpty()) {
+                return Optional.of("");
+            }
+            // The name is copied into a string literal of the descriptor, so names with escapes are left to the
+            // runtime instead.
+            return Util.extractValueFromAnnotationField(nameField.get())
+                    .filter(headerName -> headerName.indexOf('"') < 0 && headerName.indexOf('\\') < 0);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Reads the {@code treatNilableAsOptional} field of the service config.
+     *
+     * @return value of the field, true if it is not set, or empty if it is not given as a boolean literal
+     */
+    private static Optional<Boolean> isTreatNilableAsOptional(ServiceDeclarationNode serviceDeclarationNode) {
+
+        Optional<MetadataNode> metadata = serviceDeclarationNode.metadata();
+        if (metadata.isEmpty()) {
+            return Optional.of(true);
+        }
+        for (AnnotationNode annotation : metadata.get().annotations()) {
+            Node annotReference = annotation.annotReference();
+            if (annotReference.kind() != SyntaxKind.QUALIFIED_NAME_REFERENCE ||
+                    !Constants.SERVICE_CONFIG_ANNOTATION.equals(((QualifiedNameReferenceNode) annotReference)
+                            .identifier().text())) {
+                continue;
+            }
+            Optional<MappingConstructorExpressionNode> annotValue = annotation.annotValue();
+            if (annotValue.isEmpty()) {
+                continue;
+            }
+            for (MappingFieldNode field : annotValue.get().fields()) {
+                if (field.kind() != SyntaxKind.SPECIFIC_FIELD) {
+                    // A spread field may set the value.
+                    return Optional.empty();
+                }
+                SpecificFieldNode specificField = (SpecificFieldNode) field;
+                if (!Constants.TREAT_NILABLE_AS_OPTIONAL.equals(getFieldName(specificField))) {
+                    continue;
+                }
+                Optional<ExpressionNode> valueExpr = specificField.valueExpr();
+                if (valueExpr.isEmpty() || valueExpr.get().kind() != SyntaxKind.BOOLEAN_LITERAL) {
+                    return Optional.empty();
+                }
+                return Optional.of(Boolean.parseBoolean(valueExpr.get().toSourceCode().trim()));
+            }
+        }
+        return Optional.of(true);
+    }
+
+    private static String getFieldName(SpecificFieldNode specificField) {
+
+        Node fieldName = specificField.fieldName();
+        if (fieldName.kind() == SyntaxKind.IDENTIFIER_TOKEN) {
+            return ((IdentifierToken) fieldName).text();
+        }
+        String text = fieldName.toSourceCode().trim();
+        if (fieldName.kind() == SyntaxKind.STRING_LITERAL && text.length() >= 2) {
+            return text.substring(1, text.length() - 1);
+        }
+        return text;
+    }
+
+    private static Optional<SpecificFieldNode> getField(Optional<MappingConstructorExpressionNode> mapping,
+                                                        String fieldName) {
+
+        if (mapping.isEmpty()) {
+            return Optional.empty();
+        }
+        for (MappingFieldNode field : mapping.get().fields()) {
+            if (field.kind() != SyntaxKind.SPECIFIC_FIELD) {
+                continue;
+            }
+            SpecificFieldNode specificField = (SpecificFieldNode) field;
+            if (specificField.fieldName().kind() == SyntaxKind.IDENTIFIER_TOKEN &&
+                    fieldName.equals(((IdentifierToken) specificField.fieldName()).text())) {
+                return Optional.of(specificField);
+            }
+        }
+        return Optional.empty();
+    }
+}
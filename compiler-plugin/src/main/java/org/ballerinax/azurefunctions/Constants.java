@@ -78,6 +78,39 @@ public class Constants {
     public static final String NATIVE_BUILDER_IMAGE_NAME = "azf_native_builder";
     public static final String NATIVE_BUILDER_IMAGE = BALLERINA_ORG + "/" + NATIVE_BUILDER_IMAGE_NAME + ":" + "java21";
 
+    public static final String NATIVE_IMAGE_METADATA_DIR = "META-INF/native-image";
+    public static final String REACHABILITY_METADATA_FILE_NAME = "reachability-metadata.json";
+    public static final String REFLECT_CONFIG_FILE_NAME = "reflect-config.json";
+
+    public static final String PGO_BUILD_OPTION = "--pgo";
+    public static final String PGO_INSTRUMENT_OPTION = "--pgo-instrument";
+    public static final String INSTALL_EXIT_HANDLERS_OPTION = "--install-exit-handlers";
+    public static final String NATIVE_BUILD_DIRECTORY = "azure_functions_native";
+    public static final String PGO_DIRECTORY = "pgo";
+    public static final String PGO_INSTRUMENTED_DIRECTORY = "instrumented";
+    public static final String PGO_WORKLOAD_DIRECTORY = "pgo-workload";
+    public static final String PGO_PROFILE_EXTENSION = ".iprof";
+    public static final String PGO_DEFAULT_PROFILE_NAME = "default" + PGO_PROFILE_EXTENSION;
+    public static final String PGO_WORKLOAD_LOG_FILE_NAME = "workload.log";
+    public static final String FUNCTIONS_CUSTOMHANDLER_PORT = "FUNCTIONS_CUSTOMHANDLER_PORT";
+
+    public static final String NATIVE_CACHE_DIRECTORY = ".ballerina/cache/azure_functions/native";
+    public static final String NATIVE_CACHE_DIR_ENV = "AZURE_FUNCTIONS_NATIVE_CACHE_DIR";
+    public static final String NATIVE_CACHE_MAX_SIZE_ENV = "AZURE_FUNCTIONS_NATIVE_CACHE_MAX_SIZE_MB";
+    public static final long NATIVE_CACHE_DEFAULT_MAX_SIZE_MB = 2048;
+
+    public static final String RUN_FROM_PACKAGE_ENV = "AZURE_FUNCTIONS_RUN_FROM_PACKAGE";
+    public static final String RUN_FROM_PACKAGE_ZIP_NAME = FUNCTION_DIRECTORY + ".zip";
+    public static final String PACKAGE_MANIFEST_FILE_NAME = "package-manifest.json";
+
+    public static final String HTTP_ROUTER_ENV = "AZURE_FUNCTIONS_HTTP_ROUTER";
+    public static final String HTTP_ROUTER_FUNCTION_NAME = "ballerina-http-router";
+    public static final String HTTP_ROUTER_ROUTE = "{*route}";
+
+    public static final String ANALYSIS_CACHE_DIRECTORY = "azure_functions_cache";
+    public static final String ANALYSIS_CACHE_FILE_NAME = "analysis.json";
+    public static final String MODIFIED_SOURCE_CACHE_FILE_NAME = "modified-sources.json";
+
     public static final String CONTAINER_OUTPUT_PATH = ":/app/build/output";
     
     public static final String DOCKER_PLATFORM_FLAG = "--platform";
@@ -127,4 +160,18 @@ public class Constants {
     public static final String MIME_ENTITY_OBJECT = "Entity";
 
     public static final String BALLERINA_DEBUG_FLAGS_KEY = "%BALLERINA_DEBUG_FLAGS%";
+
+    public static final String BINDING_DESCRIPTOR_ANNOTATION = "BindingDescriptor";
+    public static final String BINDING_DESCRIPTOR_OUTPUTS_FIELD = "outputs";
+    public static final String BINDING_DESCRIPTOR_ROUTED_FIELD = "routed";
+    public static final String HEADER_ANNOTATION = "Header";
+    public static final String QUERY_ANNOTATION = "Query";
+    public static final String BINDING_NAME_ANNOTATION = "BindingName";
+    public static final String BINDING_KIND_QUERY = "QUERY";
+    public static final String BINDING_KIND_PAYLOAD = "PAYLOAD";
+    public static final String BINDING_KIND_HEADER = "HEADER";
+    public static final String BINDING_KIND_INPUT = "INPUT";
+    public static final String BINDING_KIND_BINDING_NAME = "BINDING_NAME";
+    public static final String BINDING_KIND_DATA = "DATA";
+    public static final String BINDING_KIND_NONE = "NONE";
 }
@@ -17,9 +17,14 @@
  */
 package org.ballerinax.azurefunctions;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import io.ballerina.tools.diagnostics.Location;
 import org.ballerinax.azurefunctions.service.Binding;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Represents a the function.json structure.
@@ -29,17 +34,80 @@ import java.util.List;
 public class FunctionContext {
     private String functionName;
     private List<Binding> bindingList;
+    private JsonObject functionJson;
+    private Location location;
+    private int serviceIndex;
+    private boolean routed;
 
     public FunctionContext(String functionName, List<Binding> bindingList) {
         this.functionName = functionName;
         this.bindingList = bindingList;
     }
 
+    public FunctionContext(String functionName, JsonObject functionJson) {
+        this.functionName = functionName;
+        this.bindingList = new ArrayList<>();
+        this.functionJson = functionJson;
+    }
+
     public String getFunctionName() {
         return functionName;
     }
 
+    /**
+     * Returns the location of the service the function was generated from, used to report diagnostics after the
+     * extraction. It is not stored in the analysis cache, which restores it from the {@link #getServiceIndex()}.
+     *
+     * @return location of the service
+     */
+    public Optional<Location> getLocation() {
+        return Optional.ofNullable(location);
+    }
+
+    public void setLocation(Location location) {
+        this.location = location;
+    }
+
+    /**
+     * Returns the position of the service the function was generated from among the services of its document.
+     *
+     * @return index of the service in the document
+     */
+    public int getServiceIndex() {
+        return serviceIndex;
+    }
+
+    public void setServiceIndex(int serviceIndex) {
+        this.serviceIndex = serviceIndex;
+    }
+
+    /**
+     * Returns whether the binding descriptor of the resource marks it as served by the HTTP router function, which is
+     * the only rule {@link HttpRouterFunction#merge} uses to replace the function.
+     *
+     * @return true if the function is routed
+     */
+    public boolean isRouted() {
+        return routed;
+    }
+
+    public void setRouted(boolean routed) {
+        this.routed = routed;
+    }
+
     public List<Binding> getBindingList() {
         return bindingList;
     }
+
+    public JsonObject getFunctionJson() {
+        if (functionJson == null) {
+            JsonArray bindings = new JsonArray();
+            for (Binding binding : bindingList) {
+                bindings.add(binding.getJsonObject());
+            }
+            functionJson = new JsonObject();
+            functionJson.add("bindings", bindings);
+        }
+        return functionJson;
+    }
 }
@@ -31,9 +31,12 @@ import io.ballerina.projects.ModuleId;
 import io.ballerina.projects.plugins.ModifierTask;
 import io.ballerina.projects.plugins.SourceModifierContext;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocuments;
 import org.ballerinax.azurefunctions.context.DocumentContext;
 
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * {@code FunctionUpdaterTask} modifies the source by adding required meta-info for the azure function service
@@ -42,9 +45,12 @@ import java.util.Map;
 public class FunctionUpdaterTask implements ModifierTask<SourceModifierContext> {
 
     private final Map<DocumentId, DocumentContext> documentContextMap;
+    private final ModifiedSourceCache.Holder modifiedSourceCache;
 
-    public FunctionUpdaterTask(Map<DocumentId, DocumentContext> documentContextMap) {
+    public FunctionUpdaterTask(Map<DocumentId, DocumentContext> documentContextMap,
+                               ModifiedSourceCache.Holder modifiedSourceCache) {
         this.documentContextMap = documentContextMap;
+        this.modifiedSourceCache = modifiedSourceCache;
     }
 
     @Override
@@ -58,36 +64,53 @@ public class FunctionUpdaterTask implements ModifierTask<SourceModifierContext>
             return;
         }
 
-        Module module = context.currentPackage().getDefaultModule();
-        SemanticModel semanticModel = module.getCompilation().getSemanticModel();
-        for (DocumentId documentId : module.documentIds()) {
-            Document document = module.document(documentId);
-            ModulePartNode rootNode = document.syntaxTree().rootNode();
-            DocumentContext documentContext = documentContextMap.get(documentId);
-            AzureFunctionModifier azureFunctionVisitor = new AzureFunctionModifier(semanticModel, documentContext);
-            rootNode = (ModulePartNode) rootNode.apply(azureFunctionVisitor);
-            NodeList<ImportDeclarationNode> updatedImports = addHttpImport(rootNode.imports(), documentContext);
-            ModulePartNode newModulePart = rootNode.modify(updatedImports, rootNode.members(), rootNode.eofToken());
-            SyntaxTree updatedSyntaxTree = document.syntaxTree().modifyWith(newModulePart);
-            context.modifySourceFile(updatedSyntaxTree.textDocument(), documentId);
-        }
-
-        // for test files
+        Optional<ModifiedSourceCache> cache = this.modifiedSourceCache.get(context.currentPackage());
         for (ModuleId modId : context.currentPackage().moduleIds()) {
-            Module currentModule = context.currentPackage().module(modId);
-            for (DocumentId docId : currentModule.testDocumentIds()) {
-                Document document = module.document(docId);
-                ModulePartNode rootNode = document.syntaxTree().rootNode();
-                DocumentContext documentContext = documentContextMap.get(docId);
-                AzureFunctionModifier azureFunctionVisitor = new AzureFunctionModifier(semanticModel, documentContext);
-                rootNode = (ModulePartNode) rootNode.apply(azureFunctionVisitor);
-                NodeList<ImportDeclarationNode> updatedImports = addHttpImport(rootNode.imports(), documentContext);
-                ModulePartNode newModulePart = rootNode.modify(updatedImports, rootNode.members(), rootNode.eofToken());
-                SyntaxTree updatedSyntaxTree = document.syntaxTree().modifyWith(newModulePart);
-                context.modifyTestSourceFile(updatedSyntaxTree.textDocument(), docId);
+            Module module = context.currentPackage().module(modId);
+            SemanticModel semanticModel = module.getCompilation().getSemanticModel();
+            for (DocumentId documentId : module.documentIds()) {
+                TextDocument updatedDocument = modifyDocument(module, documentId, semanticModel, cache);
+                context.modifySourceFile(updatedDocument, documentId);
+            }
+
+            // for test files
+            for (DocumentId docId : module.testDocumentIds()) {
+                TextDocument updatedDocument = modifyDocument(module, docId, semanticModel, cache);
+                context.modifyTestSourceFile(updatedDocument, docId);
             }
         }
+        cache.ifPresent(ModifiedSourceCache::save);
     }
+
+    private TextDocument modifyDocument(Module module, DocumentId documentId, SemanticModel semanticModel,
+                                        Optional<ModifiedSourceCache> cache) {
+
+        Document document = module.document(documentId);
+        if (cache.isEmpty()) {
+            return modifyDocument(document, semanticModel).textDocument();
+        }
+        String documentKey = ModifiedSourceCache.getDocumentKey(module, documentId);
+        String source = document.syntaxTree().toSourceCode();
+        Optional<String> cachedSource = cache.get().get(documentKey, source);
+        if (cachedSource.isPresent()) {
+            return TextDocuments.from(cachedSource.get());
+        }
+        SyntaxTree updatedSyntaxTree = modifyDocument(document, semanticModel);
+        cache.get().put(documentKey, source, updatedSyntaxTree.toSourceCode());
+        return updatedSyntaxTree.textDocument();
+    }
+
+    private SyntaxTree modifyDocument(Document document, SemanticModel semanticModel) {
+
+        ModulePartNode rootNode = document.syntaxTree().rootNode();
+        DocumentContext documentContext = documentContextMap.get(document.documentId());
+        AzureFunctionModifier azureFunctionVisitor = new AzureFunctionModifier(semanticModel, documentContext);
+        rootNode = (ModulePartNode) rootNode.apply(azureFunctionVisitor);
+        NodeList<ImportDeclarationNode> updatedImports = addHttpImport(rootNode.imports(), documentContext);
+        ModulePartNode newModulePart = rootNode.modify(updatedImports, rootNode.members(), rootNode.eofToken());
+        return document.syntaxTree().modifyWith(newModulePart);
+    }
+
     private NodeList<ImportDeclarationNode> addHttpImport(NodeList<ImportDeclarationNode> oldImports,
                                                           DocumentContext documentContext) {
 
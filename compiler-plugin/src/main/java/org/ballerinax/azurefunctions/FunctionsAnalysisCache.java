@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.azurefunctions;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageDescriptor;
+import io.ballerina.projects.ResolvedPackageDependency;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Per document cache of the extracted functions, persisted in the target directory.
+ * <p>
+ * An entry holds the {@code function.json} content of the functions declared in a document and the index of the
+ * service each one was generated from. It is keyed like the {@link ModifiedSourceCache}, by the hash of the document
+ * source and of the module level declarations of the package, so a change that invalidates one cache invalidates the
+ * other. The whole cache is discarded when the resolved dependency versions change, which also covers upgrades of
+ * this compiler plugin.
+ *
+ * @since 4.2.0
+ */
+public class FunctionsAnalysisCache {
+
+    private static final String ENVIRONMENT = "environment";
+    private static final String DOCUMENTS = "documents";
+    private static final String HASH = "hash";
+    private static final String FUNCTIONS = "functions";
+    private static final String NAME = "name";
+    private static final String FUNCTION = "function";
+    private static final String SERVICE = "service";
+    private static final String ROUTED = "routed";
+
+    private final Path cacheFile;
+    private final String environmentKey;
+    private final JsonObject previousDocuments;
+    private final Map<String, JsonObject> currentDocuments = new TreeMap<>();
+
+    public FunctionsAnalysisCache(Path cacheFile, String environmentKey) {
+        this.cacheFile = cacheFile;
+        this.environmentKey = environmentKey;
+        this.previousDocuments = readDocuments(cacheFile, environmentKey);
+    }
+
+    /**
+     * Creates the cache of the given package in its target directory.
+     *
+     * @param currentPackage package being built
+     * @return analysis cache
+     */
+    public static FunctionsAnalysisCache forPackage(Package currentPackage) {
+
+        Path cacheFile = currentPackage.project().targetDir().resolve(Constants.ANALYSIS_CACHE_DIRECTORY)
+                .resolve(Constants.ANALYSIS_CACHE_FILE_NAME);
+        return new FunctionsAnalysisCache(cacheFile, getEnvironmentKey(currentPackage));
+    }
+
+    /**
+     * Computes the key of the resolved dependency versions of the package, which includes this compiler plugin, and of
+     * the HTTP router mode, which decides the resources marked as routed.
+     *
+     * @param currentPackage package being built
+     * @return hex encoded key
+     */
+    static String getEnvironmentKey(Package currentPackage) {
+
+        List<String> dependencies = new ArrayList<>();
+        for (ResolvedPackageDependency dependency : currentPackage.getResolution().allDependencies()) {
+            PackageDescriptor descriptor = dependency.packageInstance().descriptor();
+            dependencies.add(descriptor.org().value() + "/" + descriptor.name().value() + ":" +
+                    descriptor.version().value());
+        }
+        dependencies.sort(String::compareTo);
+        dependencies.add("router=" + HttpRouterFunction.getAuthLevel().orElse("disabled"));
+        return hash(String.join(",", dependencies));
+    }
+
+    /**
+     * Returns the functions cached for the given document.
+     *
+     * @param documentKey module qualified name of the document
+     * @param contentHash hash of the document and the declarations it depends on
+     * @return cached functions if the document is unchanged
+     */
+    public Optional<List<FunctionContext>> get(String documentKey, String contentHash) {
+
+        JsonElement entry = this.previousDocuments.get(documentKey);
+        if (entry == null || !entry.isJsonObject()) {
+            return Optional.empty();
+        }
+        JsonObject entryObj = entry.getAsJsonObject();
+        if (!entryObj.has(HASH) || !contentHash.equals(entryObj.get(HASH).getAsString())) {
+            return Optional.empty();
+        }
+        List<FunctionContext> functions = new ArrayList<>();
+        for (JsonElement function : entryObj.getAsJsonArray(FUNCTIONS)) {
+            JsonObject functionObj = function.getAsJsonObject();
+            if (!functionObj.has(SERVICE)) {
+                return Optional.empty();
+            }
+            FunctionContext functionContext = new FunctionContext(functionObj.get(NAME).getAsString(),
+                    functionObj.getAsJsonObject(FUNCTION));
+            functionContext.setServiceIndex(functionObj.get(SERVICE).getAsInt());
+            functionContext.setRouted(functionObj.has(ROUTED) && functionObj.get(ROUTED).getAsBoolean());
+            functions.add(functionContext);
+        }
+        this.currentDocuments.put(documentKey, entryObj);
+        return Optional.of(functions);
+    }
+
+    /**
+     * Records the functions extracted from a document.
+     *
+     * @param documentKey module qualified name of the document
+     * @param contentHash hash of the document and the declarations it depends on
+     * @param functions   functions declared in the document
+     */
+    public void put(String documentKey, String contentHash, List<FunctionContext> functions) {
+
+        JsonArray functionsArray = new JsonArray();
+        for (FunctionContext function : functions) {
+            JsonObject functionObj = new JsonObject();
+            functionObj.addProperty(NAME, function.getFunctionName());
+            functionObj.add(FUNCTION, function.getFunctionJson());
+            functionObj.addProperty(SERVICE, function.getServiceIndex());
+            if (function.isRouted()) {
+                functionObj.addProperty(ROUTED, true);
+            }
+            functionsArray.add(functionObj);
+        }
+        JsonObject entry = new JsonObject();
+        entry.addProperty(HASH, contentHash);
+        entry.add(FUNCTIONS, functionsArray);
+        this.currentDocuments.put(documentKey, entry);
+    }
+
+    /**
+     * Writes the entries used by the current build, dropping the ones of removed documents. Failures are ignored as
+     * the cache is only an optimization.
+     */
+    public void save() {
+
+        writeDocuments(this.cacheFile, this.environmentKey, this.currentDocuments);
+    }
+
+    static void writeDocuments(Path cacheFile, String environmentKey, Map<String, JsonObject> currentDocuments) {
+
+        JsonObject documents = new JsonObject();
+        currentDocuments.forEach(documents::add);
+        JsonObject cache = new JsonObject();
+        cache.addProperty(ENVIRONMENT, environmentKey);
+        cache.add(DOCUMENTS, documents);
+        Path tempFile = null;
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            tempFile = Files.createTempFile(cacheFile.getParent(), getFileName(cacheFile), ".tmp");
+            Files.writeString(tempFile, cache.toString(), StandardCharsets.UTF_8);
+            Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException ignored) {
+                    // Nothing to clean up.
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the hash of the given strings.
+     *
+     * @param parts strings to be hashed
+     * @return hex encoded hash
+     */
+    public static String hash(String... parts) {
+
+        MessageDigest digest = Util.getSha256Digest();
+        for (String part : parts) {
+            digest.update(part.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return Util.toHex(digest.digest());
+    }
+
+    private static String getFileName(Path path) {
+
+        Path fileName = path.getFileName();
+        return fileName == null ? "" : fileName.toString();
+    }
+
+    static JsonObject readDocuments(Path cacheFile, String environmentKey) {
+
+        if (!Files.isRegularFile(cacheFile)) {
+            return new JsonObject();
+        }
+        try {
+            JsonElement cache = new JsonParser().parse(Files.readString(cacheFile, StandardCharsets.UTF_8));
+            if (!cache.isJsonObject()) {
+                return new JsonObject();
+            }
+            JsonObject cacheObj = cache.getAsJsonObject();
+            JsonElement environment = cacheObj.get(ENVIRONMENT);
+            if (environment == null || !environmentKey.equals(environment.getAsString()) ||
+                    !cacheObj.has(DOCUMENTS)) {
+                return new JsonObject();
+            }
+            return cacheObj.getAsJsonObject(DOCUMENTS);
+        } catch (IOException | RuntimeException e) {
+            // A corrupted cache is rebuilt from scratch.
+            return new JsonObject();
+        }
+    }
+}
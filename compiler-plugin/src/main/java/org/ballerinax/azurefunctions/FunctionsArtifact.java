@@ -26,30 +26,36 @@ import com.google.gson.JsonPrimitive;
 import io.ballerina.projects.Project;
 
 import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.PrintStream;
 import java.io.UnsupportedEncodingException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Represents the output artifact (.zip) generated for Azure Functions.
  */
 public class FunctionsArtifact {
 
+    private static final PrintStream OUT = System.out;
+
     protected Map<String, JsonObject> functions;
     protected Path jarPath;
     protected Project project;
 
     protected Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    protected Set<String> generatedArtifacts = new HashSet<>();
 
     public FunctionsArtifact(Map<String, JsonObject> functions, Path jarPath, Project project) {
         this.functions = functions;
@@ -106,9 +112,9 @@ public class FunctionsArtifact {
         return hostJson;
     }
 
-    protected InputStream jtos(Object element) {
+    protected byte[] jtob(Object element) {
         try {
-            return new ByteArrayInputStream(this.gson.toJson(element).getBytes(Constants.CHARSET));
+            return this.gson.toJson(element).getBytes(Constants.CHARSET);
         } catch (UnsupportedEncodingException e) {
             throw new IllegalStateException(e);
         }
@@ -121,53 +127,108 @@ public class FunctionsArtifact {
         }
 
         Path functionsDir = Util.getAzureFunctionsDir(project, jarPath);
-        Optional<String> cachedLocalSettings = cacheLocalSettings(functionsDir);
-        Util.deleteDirectory(functionsDir);
         Files.createDirectories(functionsDir);
+        this.generatedArtifacts.clear();
         generateExecutable(functionsDir);
-        Files.copy(this.jtos(this.generateHostJson()), functionsDir.resolve(Constants.HOST_JSON_NAME),
-                StandardCopyOption.REPLACE_EXISTING);
-        if (cachedLocalSettings.isEmpty()) {
-            generateLocalSettings(functionsDir);
-        } else {
-            useCachedLocalSettings(functionsDir, cachedLocalSettings.get());
-        }
+        writeIfChanged(functionsDir.resolve(Constants.HOST_JSON_NAME), jtob(this.generateHostJson()));
+        generateLocalSettings(functionsDir);
         createFunctionArtifact(functionsDir);
+        deleteStaleArtifacts(functionsDir);
+        if (Boolean.parseBoolean(System.getenv(Constants.RUN_FROM_PACKAGE_ENV))) {
+            Path zipPath = Util.getTargetDir(project, jarPath).resolve(Constants.RUN_FROM_PACKAGE_ZIP_NAME);
+            new RunFromPackageArchive(functionsDir, this.functions).write(zipPath);
+            OUT.println("\t@azure.functions: Run from package zip generated at " + zipPath);
+        }
     }
 
     protected void generateExecutable(Path functionsDir) throws IOException {
         Path jarFileName = this.jarPath.getFileName();
         Path azureFunctionsJar = functionsDir.resolve(jarFileName);
-        Files.copy(this.jarPath, azureFunctionsJar, StandardCopyOption.REPLACE_EXISTING);
+        linkOrCopy(this.jarPath, azureFunctionsJar);
+        markGenerated(azureFunctionsJar);
     }
 
-    private void useCachedLocalSettings(Path functionsDir, String localSettings) throws IOException {
-        ByteArrayInputStream inStream =
-                new ByteArrayInputStream(localSettings.getBytes(StandardCharsets.UTF_8));
-        Files.copy(inStream, functionsDir.resolve(Constants.SETTINGS_LOCAL_FILE_NAME),
-                StandardCopyOption.REPLACE_EXISTING);
+    /**
+     * Marks a top level entry of the azure_functions directory as an output of the current generation so that it is
+     * not removed as stale.
+     *
+     * @param artifact generated file or directory
+     */
+    protected void markGenerated(Path artifact) {
+        Path fileName = artifact.getFileName();
+        if (fileName != null) {
+            this.generatedArtifacts.add(fileName.toString());
+        }
+    }
+
+    /**
+     * Writes the content only when it differs from the existing file, so unchanged outputs keep their timestamps.
+     *
+     * @param path    file to write
+     * @param content content of the file
+     * @throws IOException if the file cannot be read or written
+     */
+    protected void writeIfChanged(Path path, byte[] content) throws IOException {
+        markGenerated(path);
+        if (Files.isRegularFile(path) && Files.size(path) == content.length &&
+                Arrays.equals(Files.readAllBytes(path), content)) {
+            return;
+        }
+        Files.write(path, content);
+    }
+
+    private void linkOrCopy(Path source, Path target) throws IOException {
+        if (Files.exists(target) && Files.isSameFile(source, target)) {
+            return;
+        }
+        Files.deleteIfExists(target);
+        try {
+            Files.createLink(target, source);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
     }
 
     private void createFunctionArtifact(Path functionsDir) throws IOException {
         for (Map.Entry<String, JsonObject> entry : this.functions.entrySet()) {
             Path functionDir = functionsDir.resolve(entry.getKey());
             Files.createDirectories(functionDir);
-            Files.copy(this.jtos(entry.getValue()), functionDir.resolve(Constants.FUNCTION_JSON_NAME),
-                    StandardCopyOption.REPLACE_EXISTING);
+            markGenerated(functionDir);
+            writeIfChanged(functionDir.resolve(Constants.FUNCTION_JSON_NAME), jtob(entry.getValue()));
         }
     }
 
     protected void generateLocalSettings(Path azureFunctionsDir) throws IOException {
-        Files.copy(jtos(new LocalSettings()), azureFunctionsDir.resolve(Constants.SETTINGS_LOCAL_FILE_NAME),
-                StandardCopyOption.REPLACE_EXISTING);
+        Path localSettings = azureFunctionsDir.resolve(Constants.SETTINGS_LOCAL_FILE_NAME);
+        markGenerated(localSettings);
+        if (Files.exists(localSettings)) {
+            return;
+        }
+        Files.write(localSettings, jtob(new LocalSettings()));
     }
 
-    protected Optional<String> cacheLocalSettings(Path azureFunctionsDir) throws IOException {
-        Path localSettingsPath = azureFunctionsDir.resolve(Constants.SETTINGS_LOCAL_FILE_NAME);
-        if (localSettingsPath.toFile().exists()) {
-            return Optional.of(Files.readString(localSettingsPath));
+    /**
+     * Deletes the top level entries of the azure_functions directory that were not generated in this run.
+     *
+     * @param functionsDir azure_functions directory
+     * @throws IOException if an entry cannot be deleted
+     */
+    protected void deleteStaleArtifacts(Path functionsDir) throws IOException {
+        List<Path> staleArtifacts = new ArrayList<>();
+        try (Stream<Path> artifacts = Files.list(functionsDir)) {
+            artifacts.forEach(artifact -> {
+                Path fileName = artifact.getFileName();
+                if (fileName != null && !this.generatedArtifacts.contains(fileName.toString())) {
+                    staleArtifacts.add(artifact);
+                }
+            });
+        }
+        for (Path artifact : staleArtifacts) {
+            if (Files.isDirectory(artifact)) {
+                Util.deleteDirectory(artifact);
+            } else {
+                Files.deleteIfExists(artifact);
+            }
         }
-        return Optional.empty();
     }
 }
-
@@ -33,6 +33,7 @@ import io.ballerina.compiler.syntax.tree.NodeList;
 import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
 import io.ballerina.projects.plugins.AnalysisTask;
 import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
 import org.ballerinax.azurefunctions.context.DocumentContext;
@@ -54,7 +55,6 @@ import static org.ballerinax.azurefunctions.Constants.HEAD;
 import static org.ballerinax.azurefunctions.Constants.OPTIONS;
 import static org.ballerinax.azurefunctions.Constants.PAYLOAD_ANNOTATION_TYPE;
 import static org.ballerinax.azurefunctions.Util.diagnosticContainsErrors;
-import static org.ballerinax.azurefunctions.Util.getCtxTypes;
 import static org.ballerinax.azurefunctions.Util.getEffectiveTypeFromReadonlyIntersection;
 import static org.ballerinax.azurefunctions.Util.updateDiagnostic;
 import static org.ballerinax.azurefunctions.validators.http.HttpServiceValidator.isNilableType;
@@ -67,10 +67,14 @@ import static org.ballerinax.azurefunctions.validators.http.HttpServiceValidator
  * @since 2201.5.0
  */
 public class HttpPayloadParamIdentifier implements AnalysisTask<SyntaxNodeAnalysisContext> {
+    private final Util.CtxTypesCache ctxTypes = new Util.CtxTypesCache();
     private final Map<DocumentId, DocumentContext> documentContextMap;
+    private final ModifiedSourceCache.Holder modifiedSourceCache;
 
-    public HttpPayloadParamIdentifier(Map<DocumentId, DocumentContext> documentContextMap) {
+    public HttpPayloadParamIdentifier(Map<DocumentId, DocumentContext> documentContextMap,
+                                      ModifiedSourceCache.Holder modifiedSourceCache) {
         this.documentContextMap = documentContextMap;
+        this.modifiedSourceCache = modifiedSourceCache;
     }
 
     @Override
@@ -78,13 +82,27 @@ public class HttpPayloadParamIdentifier implements AnalysisTask<SyntaxNodeAnalys
         if (diagnosticContainsErrors(syntaxNodeAnalysisContext)) {
             return;
         }
-        Map<String, TypeSymbol> typeSymbols = getCtxTypes(syntaxNodeAnalysisContext);
+        if (isUnchangedDocument(syntaxNodeAnalysisContext)) {
+            // The source modifier reuses the cached source of the document, which already reflects this analysis.
+            return;
+        }
+        Map<String, TypeSymbol> typeSymbols = this.ctxTypes.get(syntaxNodeAnalysisContext);
         SyntaxKind kind = syntaxNodeAnalysisContext.node().kind();
         if (kind == SyntaxKind.SERVICE_DECLARATION) {
             validateServiceDeclaration(syntaxNodeAnalysisContext, typeSymbols);
         }
     }
 
+    private boolean isUnchangedDocument(SyntaxNodeAnalysisContext ctx) {
+        Optional<ModifiedSourceCache> cache = this.modifiedSourceCache.get(ctx.currentPackage());
+        if (cache.isEmpty()) {
+            return false;
+        }
+        Module module = ctx.currentPackage().module(ctx.moduleId());
+        return cache.get().isUnchanged(ModifiedSourceCache.getDocumentKey(module, ctx.documentId()),
+                ctx.syntaxTree().toSourceCode());
+    }
+
     private void validateServiceDeclaration(SyntaxNodeAnalysisContext syntaxNodeAnalysisContext,
                                             Map<String, TypeSymbol> typeSymbols) {
         ServiceDeclarationNode serviceDeclarationNode = Util.getServiceDeclarationNode(syntaxNodeAnalysisContext);
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.azurefunctions;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Merges the HTTP functions of the package into a single catch-all function.
+ * <p>
+ * The mode is enabled by setting the {@code AZURE_FUNCTIONS_HTTP_ROUTER} environment variable to the auth level of the
+ * router function. HTTP resources which only have the HTTP trigger and the HTTP output, and use the same auth level,
+ * are served by a {@code {*route}} function and dispatched to the matching resource by the runtime. The runtime only
+ * dispatches to resources whose binding descriptor is marked as routed, so the functions to merge are taken from the
+ * same mark. Other resources, including the ones without a binding descriptor, keep their own function.
+ *
+ * @since 4.2.0
+ */
+public class HttpRouterFunction {
+
+    private static final Set<String> AUTH_LEVELS = Set.of("anonymous", "function", "admin");
+
+    private HttpRouterFunction() {
+    }
+
+    /**
+     * Returns the auth level of the router function, if the router mode is enabled.
+     *
+     * @return auth level, or empty if the mode is disabled
+     */
+    public static Optional<String> getAuthLevel() {
+
+        String authLevel = System.getenv(Constants.HTTP_ROUTER_ENV);
+        if (authLevel == null || !AUTH_LEVELS.contains(authLevel.trim().toLowerCase())) {
+            return Optional.empty();
+        }
+        return Optional.of(authLevel.trim().toLowerCase());
+    }
+
+    /**
+     * Replaces the HTTP functions marked as routed with the router function.
+     *
+     * @param functionContexts generated functions
+     * @param authLevel        auth level of the router function
+     * @return functions to be generated
+     */
+    public static List<FunctionContext> merge(List<FunctionContext> functionContexts, String authLevel) {
+
+        List<FunctionContext> merged = new ArrayList<>();
+        Set<String> methods = new TreeSet<>();
+        for (FunctionContext ctx : functionContexts) {
+            if (!ctx.isRouted()) {
+                merged.add(ctx);
+                continue;
+            }
+            JsonArray bindings = ctx.getFunctionJson().getAsJsonArray("bindings");
+            for (JsonElement method : bindings.get(0).getAsJsonObject().getAsJsonArray("methods")) {
+                methods.add(method.getAsString());
+            }
+        }
+        if (methods.isEmpty()) {
+            return functionContexts;
+        }
+        merged.add(new FunctionContext(Constants.HTTP_ROUTER_FUNCTION_NAME, createFunctionJson(authLevel, methods)));
+        return merged;
+    }
+
+    private static JsonObject createFunctionJson(String authLevel, Set<String> methods) {
+
+        JsonObject trigger = new JsonObject();
+        trigger.addProperty("type", "httpTrigger");
+        trigger.addProperty("authLevel", authLevel);
+        JsonArray methodArray = new JsonArray();
+        methods.forEach(methodArray::add);
+        trigger.add("methods", methodArray);
+        trigger.addProperty("direction", Constants.DIRECTION_IN);
+        trigger.addProperty("name", "httpPayload");
+        trigger.addProperty("route", Constants.HTTP_ROUTER_ROUTE);
+
+        JsonObject output = new JsonObject();
+        output.addProperty("type", "http");
+        output.addProperty("direction", Constants.DIRECTION_OUT);
+        output.addProperty("name", Constants.RETURN_VAR_NAME);
+
+        JsonArray bindings = new JsonArray();
+        bindings.add(trigger);
+        bindings.add(output);
+        JsonObject functionJson = new JsonObject();
+        functionJson.add("bindings", bindings);
+        return functionJson;
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.azurefunctions;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.ProjectKind;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Per document cache of the sources produced by the code modifier, persisted in the target directory.
+ * <p>
+ * The modifier consults the semantic model for the listener, parameter and return types of each resource, and the
+ * payload parameter analysis does the same before it. Both depend only on the document and on the module level
+ * declarations of the package, so an entry is keyed by the hash of the document source and of those declarations,
+ * with function bodies and service declarations left out. A document whose key is unchanged skips both analyses and
+ * is replaced with the cached source. The whole cache is discarded when the resolved dependency versions change.
+ *
+ * @since 4.2.0
+ */
+public class ModifiedSourceCache {
+
+    private static final String HASH = "hash";
+    private static final String SOURCE = "source";
+    private static final String TEST_DOCUMENT_PREFIX = "tests:";
+
+    private final Path cacheFile;
+    private final String environmentKey;
+    private final String declarationsHash;
+    private final JsonObject previousDocuments;
+    private final Map<String, JsonObject> currentDocuments = new TreeMap<>();
+    private final Map<String, Boolean> unchangedDocuments = new HashMap<>();
+
+    public ModifiedSourceCache(Path cacheFile, String environmentKey, String declarationsHash) {
+        this.cacheFile = cacheFile;
+        this.environmentKey = environmentKey;
+        this.declarationsHash = declarationsHash;
+        this.previousDocuments = FunctionsAnalysisCache.readDocuments(cacheFile, environmentKey);
+    }
+
+    /**
+     * Creates the cache of the given package in its target directory.
+     *
+     * @param currentPackage package being modified
+     * @return modified source cache, or empty if the project has no target directory
+     */
+    public static Optional<ModifiedSourceCache> forPackage(Package currentPackage) {
+
+        if (currentPackage.project().kind() != ProjectKind.BUILD_PROJECT) {
+            return Optional.empty();
+        }
+        Path cacheFile = currentPackage.project().targetDir().resolve(Constants.ANALYSIS_CACHE_DIRECTORY)
+                .resolve(Constants.MODIFIED_SOURCE_CACHE_FILE_NAME);
+        return Optional.of(new ModifiedSourceCache(cacheFile, FunctionsAnalysisCache.getEnvironmentKey(currentPackage),
+                hashDeclarations(currentPackage)));
+    }
+
+    /**
+     * Returns the key of a document that is unique within the package.
+     *
+     * @param module     module of the document
+     * @param documentId id of the document
+     * @return document key
+     */
+    public static String getDocumentKey(Module module, DocumentId documentId) {
+
+        String prefix = module.testDocumentIds().contains(documentId) ? TEST_DOCUMENT_PREFIX : "";
+        return prefix + module.moduleName() + "/" + module.document(documentId).name();
+    }
+
+    /**
+     * Returns whether the cached source of the document can be used, without recording the entry for this build.
+     *
+     * @param documentKey key of the document
+     * @param source      source of the document before modification
+     * @return true if the document and the declarations it depends on are unchanged
+     */
+    public synchronized boolean isUnchanged(String documentKey, String source) {
+
+        return this.unchangedDocuments.computeIfAbsent(documentKey,
+                key -> getEntry(key, source).isPresent());
+    }
+
+    /**
+     * Returns the modified source cached for the document and keeps the entry for the next build.
+     *
+     * @param documentKey key of the document
+     * @param source      source of the document before modification
+     * @return modified source if the document and the declarations it depends on are unchanged
+     */
+    public synchronized Optional<String> get(String documentKey, String source) {
+
+        Optional<JsonObject> entry = getEntry(documentKey, source);
+        entry.ifPresent(entryObj -> this.currentDocuments.put(documentKey, entryObj));
+        return entry.map(entryObj -> entryObj.get(SOURCE).getAsString());
+    }
+
+    /**
+     * Records the modified source of a document.
+     *
+     * @param documentKey    key of the document
+     * @param source         source of the document before modification
+     * @param modifiedSource source produced by the code modifier
+     */
+    public synchronized void put(String documentKey, String source, String modifiedSource) {
+
+        JsonObject entry = new JsonObject();
+        entry.addProperty(HASH, FunctionsAnalysisCache.hash(source, this.declarationsHash));
+        entry.addProperty(SOURCE, modifiedSource);
+        this.currentDocuments.put(documentKey, entry);
+    }
+
+    /**
+     * Writes the entries used by the current build, dropping the ones of removed documents. Failures are ignored as
+     * the cache is only an optimization.
+     */
+    public synchronized void save() {
+
+        FunctionsAnalysisCache.writeDocuments(this.cacheFile, this.environmentKey, this.currentDocuments);
+    }
+
+    private Optional<JsonObject> getEntry(String documentKey, String source) {
+
+        JsonElement entry = this.previousDocuments.get(documentKey);
+        if (entry == null || !entry.isJsonObject()) {
+            return Optional.empty();
+        }
+        JsonObject entryObj = entry.getAsJsonObject();
+        if (!entryObj.has(HASH) || !entryObj.has(SOURCE) ||
+                !FunctionsAnalysisCache.hash(source, this.declarationsHash).equals(entryObj.get(HASH).getAsString())) {
+            return Optional.empty();
+        }
+        return Optional.of(entryObj);
+    }
+
+    /**
+     * Computes the hash of the module level declarations of all modules of the package. Function definitions
+     * contribute only their signatures and service declarations are left out, as neither affects how the services of
+     * other documents are modified.
+     *
+     * @param currentPackage package being modified
+     * @return hex encoded hash
+     */
+    public static String hashDeclarations(Package currentPackage) {
+
+        List<Module> modules = new ArrayList<>();
+        for (ModuleId moduleId : currentPackage.moduleIds()) {
+            modules.add(currentPackage.module(moduleId));
+        }
+        modules.sort(Comparator.comparing(module -> module.moduleName().toString()));
+        List<String> parts = new ArrayList<>();
+        for (Module module : modules) {
+            List<Document> documents = new ArrayList<>();
+            module.documentIds().forEach(documentId -> documents.add(module.document(documentId)));
+            documents.sort(Comparator.comparing(Document::name));
+            for (Document document : documents) {
+                parts.add(module.moduleName() + "/" + document.name());
+                for (ModuleMemberDeclarationNode member : document.syntaxTree().rootNode().members()) {
+                    if (member.kind() == SyntaxKind.SERVICE_DECLARATION) {
+                        continue;
+                    }
+                    if (member.kind() == SyntaxKind.FUNCTION_DEFINITION) {
+                        FunctionDefinitionNode function = (FunctionDefinitionNode) member;
+                        parts.add(function.qualifierList().toSourceCode() + function.functionName().text() +
+                                function.functionSignature().toSourceCode());
+                        continue;
+                    }
+                    parts.add(member.toSourceCode());
+                }
+            }
+        }
+        return FunctionsAnalysisCache.hash(parts.toArray(new String[0]));
+    }
+
+    /**
+     * Shares the cache of a package between the payload parameter analysis and the source modifier, which run as
+     * separate tasks of the same compilation.
+     */
+    public static class Holder {
+
+        private Package currentPackage;
+        private Optional<ModifiedSourceCache> cache = Optional.empty();
+
+        public synchronized Optional<ModifiedSourceCache> get(Package currentPackage) {
+
+            if (this.currentPackage != currentPackage) {
+                this.currentPackage = currentPackage;
+                this.cache = forPackage(currentPackage);
+            }
+            return this.cache;
+        }
+    }
+}
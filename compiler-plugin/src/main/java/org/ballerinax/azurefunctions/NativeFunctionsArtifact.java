@@ -31,8 +31,12 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import static io.ballerina.projects.util.ProjectConstants.BIN_DIR_NAME;
 import static io.ballerina.projects.util.ProjectConstants.DOT;
@@ -42,6 +46,7 @@ import static io.ballerina.projects.util.ProjectConstants.DOT;
  */
 public class NativeFunctionsArtifact extends FunctionsArtifact {
     private static final PrintStream OUT = System.out;
+    private static final int PGO_PROFILE_KEY_LENGTH = 16;
 
     public NativeFunctionsArtifact(Map<String, JsonObject> functions, Path jarPath, Project project) {
         super(functions, jarPath, project);
@@ -94,25 +99,154 @@ public class NativeFunctionsArtifact extends FunctionsArtifact {
 
     @Override
     protected void generateExecutable(Path functionsDir) throws IOException {
+        // native-image writes into an empty build directory, so everything left in it after the build, including
+        // shared libraries next to the executable, is an output of this build.
+        Path buildDir = Util.getTargetDir(project, this.jarPath).resolve(Constants.NATIVE_BUILD_DIRECTORY);
+        Util.deleteDirectory(buildDir);
+        Files.createDirectories(buildDir);
         Path jarFileName = this.jarPath.getFileName();
-        Path azureFunctionsJar = functionsDir.resolve(jarFileName);
-        Files.copy(this.jarPath, azureFunctionsJar, StandardCopyOption.REPLACE_EXISTING);
+        Path buildJar = buildDir.resolve(jarFileName);
+        Files.copy(this.jarPath, buildJar, StandardCopyOption.REPLACE_EXISTING);
+        NativeImageMetadata nativeImageMetadata = new NativeImageMetadata(project.currentPackage());
+        nativeImageMetadata.collectBindingTypes();
+        nativeImageMetadata.write(buildJar);
         String jarFileNameString = jarFileName.toString();
         String cloudBuildOption = Util.getCloudBuildOption(project);
         if (cloudBuildOption.equals(Constants.AZURE_FUNCTIONS_BUILD_OPTION)) {
-            buildRemoteArtifacts(functionsDir, jarFileNameString);
+            buildRemoteArtifacts(buildDir, jarFileNameString);
         } else {
-            buildLocalArtifacts(functionsDir, jarFileNameString);
+            buildLocalArtifacts(buildDir, jarFileNameString);
+        }
+        Files.delete(buildJar);
+        moveBuildOutputs(buildDir, functionsDir);
+        Util.deleteDirectory(buildDir);
+    }
+
+    private void moveBuildOutputs(Path buildDir, Path functionsDir) throws IOException {
+        try (Stream<Path> outputs = Files.list(buildDir)) {
+            for (Path output : outputs.toList()) {
+                Path target = functionsDir.resolve(output.getFileName().toString());
+                if (Files.isDirectory(target)) {
+                    Util.deleteDirectory(target);
+                }
+                Files.move(output, target, StandardCopyOption.REPLACE_EXISTING);
+                markGenerated(target);
+            }
         }
-        Files.deleteIfExists(functionsDir.resolve(azureFunctionsJar));
     }
     
     public void buildLocalArtifacts(Path azureFunctionsDir, String jarFileName) {
         OUT.println("\t@azure.functions: Building native executable compatible for the local operating system." +
                 "This may take a while.\n");
         Path jarPath = azureFunctionsDir.resolve(jarFileName);
+        String nativeImageCommand = getNativeImageCommand();
         String nativeImageName;
-        String[] command;
+        if (project.kind().equals(ProjectKind.SINGLE_FILE_PROJECT)) {
+            String fileName = project.sourceRoot().toFile().getName();
+            nativeImageName = fileName.substring(0, fileName.lastIndexOf(DOT));
+        } else {
+            nativeImageName = project.currentPackage().packageName().toString();
+        }
+
+        List<String> buildOptions = getGraalVMBuildOptions();
+        boolean isPgoEnabled = buildOptions.remove(Constants.PGO_BUILD_OPTION);
+        if (isPgoEnabled) {
+            Path profile = getPgoProfile(nativeImageCommand, jarPath, nativeImageName, buildOptions);
+            buildOptions.add(Constants.PGO_BUILD_OPTION + "=" + profile);
+        }
+
+        List<String> cacheFlags = new ArrayList<>(buildOptions);
+        cacheFlags.add(0, nativeImageName);
+        NativeImageCache nativeImageCache = new NativeImageCache();
+        Optional<String> cacheKey = getCacheKey(jarPath, cacheFlags,
+                NativeImageCache.getGraalVMVersion(nativeImageCommand));
+        if (cacheKey.isPresent() && nativeImageCache.restore(cacheKey.get(), azureFunctionsDir)) {
+            OUT.println("\t@azure.functions: Native executable restored from the build cache.\n");
+            return;
+        }
+        runNativeImage(nativeImageCommand, jarPath, nativeImageName, azureFunctionsDir, buildOptions);
+        cacheKey.ifPresent(key -> storeBuildOutputs(nativeImageCache, key, azureFunctionsDir, jarPath));
+    }
+
+    private static void storeBuildOutputs(NativeImageCache nativeImageCache, String key, Path buildDir,
+                                          Path jarPath) {
+        // Shared libraries generated next to the executable are cached with it, as it cannot run without them.
+        List<Path> outputs;
+        try (Stream<Path> files = Files.list(buildDir)) {
+            outputs = files.filter(file -> !file.equals(jarPath)).toList();
+        } catch (IOException e) {
+            return;
+        }
+        nativeImageCache.store(key, outputs);
+    }
+
+    private Optional<String> getCacheKey(Path jarPath, List<String> buildFlags, String graalVMVersion) {
+        try {
+            return Optional.of(NativeImageCache.computeKey(jarPath, buildFlags, graalVMVersion));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private Path getPgoProfile(String nativeImageCommand, Path jarPath, String nativeImageName,
+                               List<String> buildOptions) {
+        Path pgoDir = Util.getTargetDir(project, this.jarPath).resolve(Constants.PGO_DIRECTORY);
+        List<String> instrumentOptions = new ArrayList<>(buildOptions);
+        instrumentOptions.add(Constants.PGO_INSTRUMENT_OPTION);
+        // The profile is dumped on exit, which a native executable only runs on SIGTERM with the exit handlers.
+        if (!instrumentOptions.contains(Constants.INSTALL_EXIT_HANDLERS_OPTION)) {
+            instrumentOptions.add(Constants.INSTALL_EXIT_HANDLERS_OPTION);
+        }
+        // The profile is only valid for the code it was collected from, so it is keyed on the jar and the options.
+        String profilePrefix = nativeImageName + "-";
+        Path profile;
+        try {
+            String key = NativeImageCache.computeKey(jarPath, instrumentOptions,
+                    NativeImageCache.getGraalVMVersion(nativeImageCommand));
+            profile = pgoDir.resolve(profilePrefix + key.substring(0, PGO_PROFILE_KEY_LENGTH) +
+                    Constants.PGO_PROFILE_EXTENSION);
+        } catch (IOException e) {
+            throw new ProjectException("unable to create native image : " + e.getMessage());
+        }
+        if (Files.exists(profile)) {
+            OUT.println("\t@azure.functions: Using the cached PGO profile " + profile + ".\n");
+            return profile;
+        }
+        OUT.println("\t@azure.functions: Building instrumented native executable to collect the PGO profile.\n");
+        Path instrumentedDir = pgoDir.resolve(Constants.PGO_INSTRUMENTED_DIRECTORY);
+        try {
+            deleteStaleProfiles(pgoDir, profilePrefix);
+            Util.deleteDirectory(instrumentedDir);
+            Files.createDirectories(instrumentedDir);
+        } catch (IOException e) {
+            throw new ProjectException("unable to create native image : " + e.getMessage());
+        }
+        runNativeImage(nativeImageCommand, jarPath, nativeImageName, instrumentedDir, instrumentOptions);
+        Path instrumentedExecutable = instrumentedDir.resolve(nativeImageName + Util.getExecutableExtension());
+        Path workloadDir = Util.getProjectDir(project, this.jarPath).resolve(Constants.PGO_WORKLOAD_DIRECTORY);
+        new PgoWorkloadRunner(this.functions, instrumentedExecutable, workloadDir).run(profile);
+        return profile;
+    }
+
+    private static void deleteStaleProfiles(Path pgoDir, String profilePrefix) throws IOException {
+        if (!Files.isDirectory(pgoDir)) {
+            return;
+        }
+        try (Stream<Path> profiles = Files.list(pgoDir)) {
+            for (Path stale : profiles.toList()) {
+                String fileName = stale.getFileName().toString();
+                if (fileName.startsWith(profilePrefix) && fileName.endsWith(Constants.PGO_PROFILE_EXTENSION)) {
+                    Files.delete(stale);
+                }
+            }
+        }
+    }
+
+    private List<String> getGraalVMBuildOptions() {
+        return Util.splitBuildOptions(project.buildOptions().graalVMBuildOptions());
+    }
+
+    private String getNativeImageCommand() {
         String nativeImageCommand = System.getenv("GRAALVM_HOME");
 
         if (nativeImageCommand == null) {
@@ -129,29 +263,19 @@ public class NativeFunctionsArtifact extends FunctionsArtifact {
             throw new ProjectException("cannot find '" + commandExecutable.getName() + "' in the GRAALVM_HOME. " +
                     "Install it using: gu install native-image");
         }
+        return nativeImageCommand;
+    }
 
-        if (project.kind().equals(ProjectKind.SINGLE_FILE_PROJECT)) {
-            String fileName = project.sourceRoot().toFile().getName();
-            nativeImageName = fileName.substring(0, fileName.lastIndexOf(DOT));
-            command = new String[] {
-                    nativeImageCommand,
-                    "-jar",
-                    jarPath.toString(),
-                    "-H:Path=" + azureFunctionsDir,
-                    "-H:Name=" + nativeImageName,
-                    "--no-fallback"
-            };
-        } else {
-            nativeImageName = project.currentPackage().packageName().toString();
-            command = new String[]{
-                    nativeImageCommand,
-                    "-jar",
-                    jarPath.toString(),
-                    "-H:Name=" + nativeImageName,
-                    "-H:Path=" + azureFunctionsDir,
-                    "--no-fallback"
-            };
-        }
+    private void runNativeImage(String nativeImageCommand, Path jarPath, String nativeImageName, Path outputDir,
+                                List<String> buildOptions) {
+        List<String> command = new ArrayList<>();
+        command.add(nativeImageCommand);
+        command.add("-jar");
+        command.add(jarPath.toString());
+        command.add("-H:Name=" + nativeImageName);
+        command.add("-H:Path=" + outputDir);
+        command.add("--no-fallback");
+        command.addAll(buildOptions);
 
         try {
             ProcessBuilder builder = new ProcessBuilder();
@@ -166,6 +290,7 @@ public class NativeFunctionsArtifact extends FunctionsArtifact {
             throw new ProjectException("unable to create native image : " + e.getMessage());
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
+            throw new ProjectException("unable to create native image : interrupted");
         }
     }
 
@@ -173,10 +298,20 @@ public class NativeFunctionsArtifact extends FunctionsArtifact {
         OUT.println("\t@azure.functions: Building native image compatible for the Cloud using Docker. " +
                 "This may take a while.\n");
         String executableName = getExecutableFileName();
+        Path jarPath = azureFunctionsDir.resolve(jarFileName);
+        NativeImageCache nativeImageCache = new NativeImageCache();
+        // The tag is mutable, so the cache is keyed on the resolved image and the build runs that exact image.
+        Optional<String> builderImageId = NativeImageCache.getBuilderImageId(Constants.NATIVE_BUILDER_IMAGE);
+        Optional<String> cacheKey = builderImageId.flatMap(imageId -> getCacheKey(jarPath,
+                List.of(executableName, Constants.AZURE_REMOTE_COMPATIBLE_ARCHITECTURE), imageId));
+        if (cacheKey.isPresent() && nativeImageCache.restore(cacheKey.get(), azureFunctionsDir)) {
+            OUT.println("\t@azure.functions: Native executable restored from the build cache.\n");
+            return;
+        }
         String volumeMount = azureFunctionsDir.toAbsolutePath() + Constants.CONTAINER_OUTPUT_PATH;
         ProcessBuilder pb = new ProcessBuilder("docker", "run", "--rm", Constants.DOCKER_PLATFORM_FLAG,
-                Constants.AZURE_REMOTE_COMPATIBLE_ARCHITECTURE, "-v", volumeMount, Constants.NATIVE_BUILDER_IMAGE,
-                jarFileName, executableName);
+                Constants.AZURE_REMOTE_COMPATIBLE_ARCHITECTURE, "-v", volumeMount,
+                builderImageId.orElse(Constants.NATIVE_BUILDER_IMAGE), jarFileName, executableName);
         pb.inheritIO();
 
         try {
@@ -192,5 +327,6 @@ public class NativeFunctionsArtifact extends FunctionsArtifact {
                     "Native executable generation for cloud using docker failed. Refer to the above build log for " +
                             "information");
         }
+        cacheKey.ifPresent(key -> storeBuildOutputs(nativeImageCache, key, azureFunctionsDir, jarPath));
     }
 }
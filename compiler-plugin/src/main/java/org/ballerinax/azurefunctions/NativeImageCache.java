@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.azurefunctions;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Content addressed cache of native executables and the files native-image generates next to them.
+ * <p>
+ * Entries are keyed by the content of the executable jar, the native image build flags and the GraalVM version, and
+ * stored outside the target directory so that they survive clean builds. The least recently used entries are pruned
+ * once the cache grows beyond its size limit.
+ *
+ * @since 4.2.0
+ */
+public class NativeImageCache {
+
+    // Outputs live in a sub directory so that entries of older plugin versions, which held only the executable,
+    // are not restored as an incomplete output set.
+    private static final String OUTPUTS_DIRECTORY = "outputs";
+
+    private static final long BYTES_PER_MB = 1024L * 1024L;
+
+    private final Path cacheDir;
+    private final long maxSizeBytes;
+
+    public NativeImageCache() {
+        String cacheDirEnv = System.getenv(Constants.NATIVE_CACHE_DIR_ENV);
+        if (cacheDirEnv != null && !cacheDirEnv.isBlank()) {
+            this.cacheDir = Paths.get(cacheDirEnv);
+        } else {
+            this.cacheDir = Paths.get(System.getProperty("user.home"), Constants.NATIVE_CACHE_DIRECTORY);
+        }
+        this.maxSizeBytes = getMaxSizeMb() * BYTES_PER_MB;
+    }
+
+    public NativeImageCache(Path cacheDir) {
+        this(cacheDir, Constants.NATIVE_CACHE_DEFAULT_MAX_SIZE_MB * BYTES_PER_MB);
+    }
+
+    public NativeImageCache(Path cacheDir, long maxSizeBytes) {
+        this.cacheDir = cacheDir;
+        this.maxSizeBytes = maxSizeBytes;
+    }
+
+    private static long getMaxSizeMb() {
+
+        String maxSizeEnv = System.getenv(Constants.NATIVE_CACHE_MAX_SIZE_ENV);
+        if (maxSizeEnv == null || maxSizeEnv.isBlank()) {
+            return Constants.NATIVE_CACHE_DEFAULT_MAX_SIZE_MB;
+        }
+        try {
+            return Math.max(0, Long.parseLong(maxSizeEnv.trim()));
+        } catch (NumberFormatException e) {
+            return Constants.NATIVE_CACHE_DEFAULT_MAX_SIZE_MB;
+        }
+    }
+
+    /**
+     * Computes the cache key of a native image build.
+     *
+     * @param jarPath       executable jar the image is built from
+     * @param buildFlags    flags that affect the generated executable
+     * @param graalVMVersion version of GraalVM or the builder image used to build the executable
+     * @return hex encoded key
+     * @throws IOException if the jar or a profile referenced by the flags cannot be read
+     */
+    public static String computeKey(Path jarPath, List<String> buildFlags, String graalVMVersion)
+            throws IOException {
+
+        MessageDigest digest = Util.getSha256Digest();
+        try (ZipFile jar = new ZipFile(jarPath.toFile())) {
+            // Entries are hashed by name and content so that timestamps in the jar do not affect the key.
+            List<String> entryNames = new ArrayList<>();
+            Enumeration<? extends ZipEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                if (!entry.isDirectory()) {
+                    entryNames.add(entry.getName());
+                }
+            }
+            Collections.sort(entryNames);
+            for (String entryName : entryNames) {
+                digest.update(entryName.getBytes(StandardCharsets.UTF_8));
+                try (InputStream inputStream = jar.getInputStream(jar.getEntry(entryName))) {
+                    digest.update(inputStream.readAllBytes());
+                }
+            }
+        }
+        for (String flag : buildFlags) {
+            if (flag.startsWith(Constants.PGO_BUILD_OPTION + "=")) {
+                Path profile = Paths.get(flag.substring(Constants.PGO_BUILD_OPTION.length() + 1));
+                digest.update(Constants.PGO_BUILD_OPTION.getBytes(StandardCharsets.UTF_8));
+                digest.update(Files.readAllBytes(profile));
+                continue;
+            }
+            digest.update(flag.getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update(graalVMVersion.getBytes(StandardCharsets.UTF_8));
+        return Util.toHex(digest.digest());
+    }
+
+    /**
+     * Copies the cached outputs of the given key into the output directory.
+     *
+     * @param key       cache key
+     * @param outputDir directory the executable and the files generated next to it are restored to
+     * @return true if the outputs were restored from the cache
+     */
+    public boolean restore(String key, Path outputDir) {
+
+        Path entryDir = this.cacheDir.resolve(key);
+        Path cachedOutputs = entryDir.resolve(OUTPUTS_DIRECTORY);
+        if (!Files.isDirectory(cachedOutputs)) {
+            return false;
+        }
+        try {
+            Util.copyFolder(cachedOutputs, outputDir, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.COPY_ATTRIBUTES);
+            // The modification time of the entry directory records its last use for pruning.
+            Files.setLastModifiedTime(entryDir, FileTime.fromMillis(System.currentTimeMillis()));
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Stores the outputs of a native image build in the cache. Failures are ignored as the cache is only an
+     * optimization.
+     *
+     * @param key     cache key
+     * @param outputs executable and the files generated next to it, such as shared libraries
+     */
+    public void store(String key, List<Path> outputs) {
+
+        if (outputs.isEmpty()) {
+            return;
+        }
+        Path entryDir = this.cacheDir.resolve(key);
+        Path tempDir = null;
+        try {
+            Files.createDirectories(this.cacheDir);
+            // The outputs are staged next to the entry and moved in at once, so a restore never sees a partial set.
+            tempDir = Files.createTempDirectory(this.cacheDir, key + ".tmp");
+            Path stagedOutputs = Files.createDirectory(tempDir.resolve(OUTPUTS_DIRECTORY));
+            for (Path output : outputs) {
+                Path target = stagedOutputs.resolve(getFileName(output));
+                if (Files.isDirectory(output)) {
+                    Util.copyFolder(output, target, StandardCopyOption.COPY_ATTRIBUTES);
+                } else {
+                    Files.copy(output, target, StandardCopyOption.COPY_ATTRIBUTES);
+                }
+            }
+            Util.deleteDirectory(entryDir);
+            Files.move(tempDir, entryDir, StandardCopyOption.ATOMIC_MOVE);
+            tempDir = null;
+            Files.setLastModifiedTime(entryDir, FileTime.fromMillis(System.currentTimeMillis()));
+            prune(key);
+        } catch (IOException e) {
+            if (tempDir != null) {
+                try {
+                    Util.deleteDirectory(tempDir);
+                } catch (IOException ignored) {
+                    // Nothing to clean up.
+                }
+            }
+        }
+    }
+
+    /**
+     * Deletes the least recently used entries until the cache fits in its size limit. The given entry is kept even
+     * when it alone exceeds the limit.
+     *
+     * @param keep key of the entry that must not be deleted
+     * @throws IOException if the cache directory cannot be read
+     */
+    private void prune(String keep) throws IOException {
+
+        List<Path> entries;
+        try (Stream<Path> paths = Files.list(this.cacheDir)) {
+            entries = paths.filter(Files::isDirectory).collect(Collectors.toCollection(ArrayList::new));
+        }
+        Map<Path, FileTime> lastUsed = new HashMap<>();
+        Map<Path, Long> sizes = new HashMap<>();
+        long totalSize = 0;
+        for (Path entry : entries) {
+            long size = getSize(entry);
+            lastUsed.put(entry, Files.getLastModifiedTime(entry));
+            sizes.put(entry, size);
+            totalSize += size;
+        }
+        entries.sort(Comparator.comparing(lastUsed::get));
+        for (Path entry : entries) {
+            if (totalSize <= this.maxSizeBytes) {
+                return;
+            }
+            if (getFileName(entry).equals(keep)) {
+                continue;
+            }
+            Util.deleteDirectory(entry);
+            totalSize -= sizes.get(entry);
+        }
+    }
+
+    private static long getSize(Path entry) throws IOException {
+
+        long size = 0;
+        try (Stream<Path> files = Files.walk(entry)) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                size += Files.size(file);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Resolves the given builder image tag to the id of the image that a build with it would run. The image is only
+     * pulled when it is not available locally, so a build does not reach the registry once the image is present.
+     *
+     * @param image builder image tag
+     * @return image id, or empty if docker cannot resolve the image
+     */
+    public static Optional<String> getBuilderImageId(String image) {
+
+        try {
+            Optional<String> imageId = inspectImageId(image);
+            if (imageId.isPresent()) {
+                return imageId;
+            }
+            runDocker("pull", "-q", Constants.DOCKER_PLATFORM_FLAG, Constants.AZURE_REMOTE_COMPATIBLE_ARCHITECTURE,
+                    image);
+            return inspectImageId(image);
+        } catch (IOException e) {
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<String> inspectImageId(String image) throws IOException, InterruptedException {
+
+        return runDocker("image", "inspect", "--format", "{{.Id}}", image);
+    }
+
+    private static Optional<String> runDocker(String... args) throws IOException, InterruptedException {
+
+        List<String> command = new ArrayList<>();
+        command.add("docker");
+        command.addAll(List.of(args));
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output;
+        try (InputStream inputStream = process.getInputStream()) {
+            output = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8).trim();
+        }
+        if (process.waitFor() != 0 || output.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(output);
+    }
+
+    /**
+     * Returns the version reported by the given {@code native-image} command.
+     *
+     * @param nativeImageCommand path to the native-image executable
+     * @return version string or the command path if the version cannot be read
+     */
+    public static String getGraalVMVersion(String nativeImageCommand) {
+
+        try {
+            ProcessBuilder builder = new ProcessBuilder(nativeImageCommand, "--version");
+            builder.redirectErrorStream(true);
+            Process process = builder.start();
+            String version;
+            try (InputStream inputStream = process.getInputStream()) {
+                version = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8).trim();
+            }
+            if (process.waitFor() == 0 && !version.isEmpty()) {
+                return version;
+            }
+        } catch (IOException e) {
+            return nativeImageCommand;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return nativeImageCommand;
+    }
+
+    private static String getFileName(Path path) {
+
+        Path fileName = path.getFileName();
+        return fileName == null ? "" : fileName.toString();
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.azurefunctions;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.ArrayTypeSymbol;
+import io.ballerina.compiler.api.symbols.FunctionSymbol;
+import io.ballerina.compiler.api.symbols.FunctionTypeSymbol;
+import io.ballerina.compiler.api.symbols.IntersectionTypeSymbol;
+import io.ballerina.compiler.api.symbols.MapTypeSymbol;
+import io.ballerina.compiler.api.symbols.ModuleID;
+import io.ballerina.compiler.api.symbols.ParameterSymbol;
+import io.ballerina.compiler.api.symbols.RecordFieldSymbol;
+import io.ballerina.compiler.api.symbols.RecordTypeSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.TableTypeSymbol;
+import io.ballerina.compiler.api.symbols.TupleTypeSymbol;
+import io.ballerina.compiler.api.symbols.TypeDescKind;
+import io.ballerina.compiler.api.symbols.TypeReferenceTypeSymbol;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.compiler.api.symbols.UnionTypeSymbol;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.Package;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Generates GraalVM reachability metadata for the record types bound by Azure functions.
+ * <p>
+ * Payload, header and input binding parameters as well as the output binding return types are converted
+ * reflectively by the runtime, so their generated value classes are registered for the native image.
+ *
+ * @since 4.2.0
+ */
+public class NativeImageMetadata {
+
+    private static final String RECORD_VALUE_CLASS_PREFIX = "$value$";
+    private static final String ENCODED_DOT = "&0046";
+
+    private final Package currentPackage;
+    private final Set<String> recordClassNames = new TreeSet<>();
+
+    public NativeImageMetadata(Package currentPackage) {
+        this.currentPackage = currentPackage;
+    }
+
+    /**
+     * Collects the JVM class names of the record types bound by the functions of all modules in the package.
+     *
+     * @return sorted set of fully qualified record value class names
+     */
+    public Set<String> collectBindingTypes() {
+
+        for (ModuleId moduleId : this.currentPackage.moduleIds()) {
+            Module module = this.currentPackage.module(moduleId);
+            SemanticModel semanticModel = module.getCompilation().getSemanticModel();
+            for (DocumentId documentId : module.documentIds()) {
+                Document document = module.document(documentId);
+                ModulePartNode rootNode = document.syntaxTree().rootNode();
+                for (ModuleMemberDeclarationNode member : rootNode.members()) {
+                    if (member.kind() != SyntaxKind.SERVICE_DECLARATION) {
+                        continue;
+                    }
+                    ServiceDeclarationNode serviceNode = (ServiceDeclarationNode) member;
+                    if (!Util.isAzureFunctionsService(semanticModel, serviceNode)) {
+                        continue;
+                    }
+                    collectServiceTypes(semanticModel, serviceNode);
+                }
+            }
+        }
+        return this.recordClassNames;
+    }
+
+    private void collectServiceTypes(SemanticModel semanticModel, ServiceDeclarationNode serviceNode) {
+
+        Set<String> visited = new HashSet<>();
+        for (Node member : serviceNode.members()) {
+            if (!Util.isAnalyzableFunction(member)) {
+                continue;
+            }
+            Optional<Symbol> symbol = semanticModel.symbol(member);
+            if (symbol.isEmpty() || !(symbol.get() instanceof FunctionSymbol)) {
+                continue;
+            }
+            FunctionTypeSymbol functionType = ((FunctionSymbol) symbol.get()).typeDescriptor();
+            functionType.params().ifPresent(params -> {
+                for (ParameterSymbol param : params) {
+                    collectRecordTypes(param.typeDescriptor(), visited);
+                }
+            });
+            functionType.returnTypeDescriptor().ifPresent(returnType -> collectRecordTypes(returnType, visited));
+        }
+    }
+
+    private void collectRecordTypes(TypeSymbol typeSymbol, Set<String> visited) {
+
+        if (!visited.add(typeSymbol.signature())) {
+            return;
+        }
+        TypeDescKind kind = typeSymbol.typeKind();
+        switch (kind) {
+            case TYPE_REFERENCE:
+                TypeReferenceTypeSymbol referenceType = (TypeReferenceTypeSymbol) typeSymbol;
+                TypeSymbol referredType = referenceType.typeDescriptor();
+                if (Util.getReferencedTypeDescKind(referredType) == TypeDescKind.RECORD) {
+                    getRecordClassName(referenceType).ifPresent(this.recordClassNames::add);
+                }
+                collectRecordTypes(referredType, visited);
+                break;
+            case RECORD:
+                Map<String, RecordFieldSymbol> fields = ((RecordTypeSymbol) typeSymbol).fieldDescriptors();
+                for (RecordFieldSymbol field : fields.values()) {
+                    collectRecordTypes(field.typeDescriptor(), visited);
+                }
+                break;
+            case UNION:
+                for (TypeSymbol member : ((UnionTypeSymbol) typeSymbol).memberTypeDescriptors()) {
+                    collectRecordTypes(member, visited);
+                }
+                break;
+            case TUPLE:
+                TupleTypeSymbol tupleType = (TupleTypeSymbol) typeSymbol;
+                for (TypeSymbol member : tupleType.memberTypeDescriptors()) {
+                    collectRecordTypes(member, visited);
+                }
+                tupleType.restTypeDescriptor().ifPresent(rest -> collectRecordTypes(rest, visited));
+                break;
+            case ARRAY:
+                collectRecordTypes(((ArrayTypeSymbol) typeSymbol).memberTypeDescriptor(), visited);
+                break;
+            case MAP:
+                collectRecordTypes(((MapTypeSymbol) typeSymbol).typeParam(), visited);
+                break;
+            case TABLE:
+                collectRecordTypes(((TableTypeSymbol) typeSymbol).rowTypeParameter(), visited);
+                break;
+            case INTERSECTION:
+                collectRecordTypes(((IntersectionTypeSymbol) typeSymbol).effectiveTypeDescriptor(), visited);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private Optional<String> getRecordClassName(TypeReferenceTypeSymbol referenceType) {
+
+        Optional<String> typeName = referenceType.definition().getName();
+        if (typeName.isEmpty() || referenceType.definition().getModule().isEmpty()) {
+            return Optional.empty();
+        }
+        ModuleID moduleId = referenceType.definition().getModule().get().id();
+        String majorVersion = moduleId.version().split("\\.")[0];
+        String packageName = moduleId.orgName() + "." + moduleId.moduleName().replace(".", ENCODED_DOT) + "." +
+                majorVersion;
+        return Optional.of(packageName + "." + RECORD_VALUE_CLASS_PREFIX + typeName.get());
+    }
+
+    /**
+     * Writes the metadata into the {@code META-INF/native-image} directory of the given executable jar so that it is
+     * picked up by both local and docker based native image builds.
+     *
+     * @param jarPath path to the executable jar
+     * @throws IOException if the jar cannot be updated
+     */
+    public void write(Path jarPath) throws IOException {
+
+        if (this.recordClassNames.isEmpty()) {
+            return;
+        }
+        Gson gson = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+        JsonArray reflection = new JsonArray();
+        for (String className : this.recordClassNames) {
+            JsonObject entry = new JsonObject();
+            entry.addProperty("type", className);
+            entry.addProperty("allDeclaredConstructors", true);
+            entry.addProperty("allDeclaredMethods", true);
+            entry.addProperty("allDeclaredFields", true);
+            reflection.add(entry);
+        }
+        JsonObject reachabilityMetadata = new JsonObject();
+        reachabilityMetadata.add("reflection", reflection);
+
+        JsonArray reflectConfig = new JsonArray();
+        for (String className : this.recordClassNames) {
+            JsonObject entry = new JsonObject();
+            entry.addProperty("name", className);
+            entry.addProperty("allDeclaredConstructors", true);
+            entry.addProperty("allDeclaredMethods", true);
+            entry.addProperty("allDeclaredFields", true);
+            reflectConfig.add(entry);
+        }
+
+        String metadataDir = Constants.NATIVE_IMAGE_METADATA_DIR + "/" + this.currentPackage.packageOrg().value() +
+                "/" + this.currentPackage.packageName().value();
+        Map<String, String> env = new HashMap<>();
+        env.put("create", "false");
+        URI jarUri = URI.create("jar:" + jarPath.toUri());
+        try (FileSystem jarFs = FileSystems.newFileSystem(jarUri, env)) {
+            Path dir = jarFs.getPath(metadataDir);
+            Files.createDirectories(dir);
+            Files.writeString(dir.resolve(Constants.REACHABILITY_METADATA_FILE_NAME),
+                    gson.toJson(reachabilityMetadata), StandardCharsets.UTF_8);
+            Files.writeString(dir.resolve(Constants.REFLECT_CONFIG_FILE_NAME), gson.toJson(reflectConfig),
+                    StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.azurefunctions;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.ballerina.projects.ProjectException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Runs an instrumented native executable against a local envelope workload to collect a PGO profile.
+ * <p>
+ * Envelopes recorded from the Functions host are read from the {@code pgo-workload} directory of the project. When
+ * there are none, a synthetic workload is generated for the HTTP triggered functions.
+ *
+ * @since 4.2.0
+ */
+public class PgoWorkloadRunner {
+
+    private static final PrintStream OUT = System.out;
+    private static final int STARTUP_TIMEOUT_MILLIS = 60000;
+    private static final int SHUTDOWN_TIMEOUT_SECONDS = 30;
+    private static final int ITERATIONS = 200;
+    private static final String DEFAULT_METHOD = "GET";
+
+    private final Map<String, JsonObject> functions;
+    private final Path executable;
+    private final Path workloadDir;
+
+    public PgoWorkloadRunner(Map<String, JsonObject> functions, Path executable, Path workloadDir) {
+        this.functions = functions;
+        this.executable = executable;
+        this.workloadDir = workloadDir;
+    }
+
+    /**
+     * Starts the instrumented executable, replays the workload and writes the collected profile.
+     *
+     * @param profile path the collected {@code .iprof} file is written to
+     */
+    public void run(Path profile) {
+
+        List<JsonObject> envelopes = getEnvelopes();
+        if (envelopes.isEmpty()) {
+            throw new ProjectException("unable to collect the PGO profile: no envelopes found to replay");
+        }
+        Path workingDir = this.executable.getParent();
+        Process process = null;
+        try {
+            int port = getFreePort();
+            ProcessBuilder builder = new ProcessBuilder(this.executable.toString());
+            builder.directory(workingDir.toFile());
+            builder.environment().put(Constants.FUNCTIONS_CUSTOMHANDLER_PORT, String.valueOf(port));
+            builder.redirectErrorStream(true);
+            builder.redirectOutput(workingDir.resolve(Constants.PGO_WORKLOAD_LOG_FILE_NAME).toFile());
+            process = builder.start();
+            waitForPort(port, process);
+            OUT.println("\t@azure.functions: Replaying " + envelopes.size() + " envelope(s) to collect the " +
+                    "PGO profile.");
+            for (int i = 0; i < ITERATIONS; i++) {
+                for (JsonObject envelope : envelopes) {
+                    post(port, envelope);
+                }
+            }
+            // SIGTERM runs the exit handlers installed in the instrumented executable, which write the profile.
+            process.destroy();
+            if (!process.waitFor(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                throw new ProjectException("unable to collect the PGO profile: instrumented executable did not " +
+                        "stop");
+            }
+            Path dumpedProfile = workingDir.resolve(Constants.PGO_DEFAULT_PROFILE_NAME);
+            if (!Files.exists(dumpedProfile)) {
+                throw new ProjectException("unable to collect the PGO profile: '" + dumpedProfile +
+                        "' was not written");
+            }
+            Files.createDirectories(profile.getParent());
+            Files.move(dumpedProfile, profile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new ProjectException("unable to collect the PGO profile : " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProjectException("unable to collect the PGO profile: interrupted");
+        } finally {
+            if (process != null && process.isAlive()) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private List<JsonObject> getEnvelopes() {
+
+        List<JsonObject> envelopes = new ArrayList<>();
+        if (this.workloadDir != null && Files.isDirectory(this.workloadDir)) {
+            JsonParser parser = new JsonParser();
+            try (Stream<Path> files = Files.list(this.workloadDir)) {
+                for (Path file : files.sorted().toList()) {
+                    if (!file.toString().endsWith(".json")) {
+                        continue;
+                    }
+                    JsonElement envelope = parser.parse(Files.readString(file, StandardCharsets.UTF_8));
+                    if (envelope.isJsonObject()) {
+                        envelopes.add(envelope.getAsJsonObject());
+                    }
+                }
+            } catch (IOException e) {
+                throw new ProjectException("unable to read the PGO workload : " + e.getMessage());
+            }
+        }
+        if (!envelopes.isEmpty()) {
+            return envelopes;
+        }
+        for (Map.Entry<String, JsonObject> function : this.functions.entrySet()) {
+            JsonArray bindings = function.getValue().getAsJsonArray("bindings");
+            for (JsonElement binding : bindings) {
+                JsonObject bindingObj = binding.getAsJsonObject();
+                if (!"httpTrigger".equals(bindingObj.get("type").getAsString())) {
+                    continue;
+                }
+                // Azure accepts every method and uses the function name as the route when these are omitted.
+                JsonArray methods = bindingObj.getAsJsonArray("methods");
+                String method = methods == null || methods.size() == 0 ? DEFAULT_METHOD :
+                        methods.get(0).getAsString().toUpperCase(Locale.ENGLISH);
+                String route = bindingObj.has("route") ? bindingObj.get("route").getAsString() : function.getKey();
+                envelopes.add(createHttpEnvelope(function.getKey(), method, route));
+            }
+        }
+        return envelopes;
+    }
+
+    private static JsonObject createHttpEnvelope(String functionName, String method, String route) {
+
+        JsonObject params = new JsonObject();
+        StringBuilder url = new StringBuilder("http://localhost");
+        for (String segment : route.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            url.append("/");
+            if (segment.startsWith("{") && segment.endsWith("}")) {
+                String paramName = segment.substring(1, segment.length() - 1).replace("**", "");
+                params.addProperty(paramName, "1");
+                url.append("1");
+            } else {
+                url.append(segment);
+            }
+        }
+        JsonObject headers = new JsonObject();
+        JsonArray contentType = new JsonArray();
+        contentType.add("application/json");
+        headers.add("Content-Type", contentType);
+
+        JsonObject httpPayload = new JsonObject();
+        httpPayload.addProperty("Url", url.toString());
+        httpPayload.addProperty("Method", method);
+        httpPayload.add("Query", new JsonObject());
+        httpPayload.add("Headers", headers);
+        httpPayload.add("Params", params);
+        httpPayload.add("Identities", new JsonArray());
+        httpPayload.addProperty("Body", "{}");
+
+        JsonObject data = new JsonObject();
+        data.add("httpPayload", httpPayload);
+        JsonObject sys = new JsonObject();
+        sys.addProperty("MethodName", functionName);
+        sys.addProperty("UtcNow", "2024-01-01T00:00:00.000Z");
+        sys.addProperty("RandGuid", UUID.randomUUID().toString());
+        JsonObject metadata = new JsonObject();
+        metadata.add("Query", new JsonObject());
+        metadata.add("Headers", new JsonObject());
+        metadata.add("sys", sys);
+
+        JsonObject envelope = new JsonObject();
+        envelope.add("Data", data);
+        envelope.add("Metadata", metadata);
+        return envelope;
+    }
+
+    private static void post(int port, JsonObject envelope) throws IOException {
+
+        String functionName = envelope.getAsJsonObject("Metadata").getAsJsonObject("sys").get("MethodName")
+                .getAsString();
+        URL url = new URL("http", "localhost", port, "/" + functionName);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        try {
+            connection.setRequestMethod("POST");
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", "application/json");
+            try (OutputStream outputStream = connection.getOutputStream()) {
+                outputStream.write(envelope.toString().getBytes(StandardCharsets.UTF_8));
+            }
+            connection.getResponseCode();
+            InputStream inputStream = connection.getErrorStream() != null ? connection.getErrorStream() :
+                    connection.getInputStream();
+            try (inputStream) {
+                inputStream.readAllBytes();
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static int getFreePort() throws IOException {
+
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static void waitForPort(int port, Process process) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + STARTUP_TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            if (!process.isAlive()) {
+                throw new ProjectException("unable to collect the PGO profile: instrumented executable exited " +
+                        "with code " + process.exitValue());
+            }
+            try (Socket socket = new Socket()) {
+                socket.connect(new InetSocketAddress("localhost", port), 500);
+                return;
+            } catch (IOException e) {
+                Thread.sleep(100);
+            }
+        }
+        throw new ProjectException("unable to collect the PGO profile: instrumented executable did not start " +
+                "listening on port " + port);
+    }
+}
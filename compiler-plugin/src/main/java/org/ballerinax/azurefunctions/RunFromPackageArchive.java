@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.azurefunctions;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Creates a reproducible run-from-package zip from the azure_functions directory.
+ * <p>
+ * Entries are sorted and use a fixed timestamp, so identical inputs produce an identical archive. The executable jar
+ * is stored without compression, and a manifest with the content hash of each function is added to the archive.
+ *
+ * @since 4.2.0
+ */
+public class RunFromPackageArchive {
+
+    private static final LocalDateTime ENTRY_TIME = LocalDateTime.of(1980, 1, 1, 0, 0);
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Path functionsDir;
+    private final Map<String, JsonObject> functions;
+
+    public RunFromPackageArchive(Path functionsDir, Map<String, JsonObject> functions) {
+        this.functionsDir = functionsDir;
+        this.functions = functions;
+    }
+
+    /**
+     * Writes the archive to the given path.
+     *
+     * @param zipPath path of the zip file
+     * @throws IOException if the archive cannot be written
+     */
+    public void write(Path zipPath) throws IOException {
+
+        Map<String, Path> entries = new TreeMap<>();
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(this.functionsDir)) {
+            files = walk.filter(Files::isRegularFile).toList();
+        }
+        for (Path file : files) {
+            String entryName = toEntryName(this.functionsDir.relativize(file));
+            if (Constants.SETTINGS_LOCAL_FILE_NAME.equals(entryName)) {
+                continue;
+            }
+            entries.put(entryName, file);
+        }
+
+        Path tempZip = Files.createTempFile(zipPath.toAbsolutePath().getParent(), "azure_functions", ".zip.tmp");
+        try {
+            try (ZipOutputStream zipOutputStream = new ZipOutputStream(Files.newOutputStream(tempZip))) {
+                for (Map.Entry<String, Path> entry : entries.entrySet()) {
+                    if (entry.getKey().endsWith(".jar")) {
+                        putStoredEntry(zipOutputStream, entry.getKey(), entry.getValue());
+                    } else {
+                        putDeflatedEntry(zipOutputStream, entry.getKey(), Files.readAllBytes(entry.getValue()));
+                    }
+                }
+                putDeflatedEntry(zipOutputStream, Constants.PACKAGE_MANIFEST_FILE_NAME, createManifest(entries));
+            }
+            Files.move(tempZip, zipPath, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempZip);
+        }
+    }
+
+    private byte[] createManifest(Map<String, Path> entries) throws IOException {
+
+        JsonObject functionHashes = new JsonObject();
+        for (String functionName : new TreeMap<>(this.functions).keySet()) {
+            MessageDigest digest = Util.getSha256Digest();
+            String prefix = functionName + "/";
+            for (Map.Entry<String, Path> entry : entries.entrySet()) {
+                if (!entry.getKey().startsWith(prefix)) {
+                    continue;
+                }
+                digest.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+                digest.update(Files.readAllBytes(entry.getValue()));
+            }
+            functionHashes.addProperty(functionName, Util.toHex(digest.digest()));
+        }
+        JsonObject fileHashes = new JsonObject();
+        for (Map.Entry<String, Path> entry : entries.entrySet()) {
+            if (entry.getKey().contains("/")) {
+                continue;
+            }
+            fileHashes.addProperty(entry.getKey(), Util.toHex(hashFile(entry.getValue())));
+        }
+        JsonObject manifest = new JsonObject();
+        manifest.add("functions", functionHashes);
+        manifest.add("files", fileHashes);
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        return gson.toJson(manifest).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void putDeflatedEntry(ZipOutputStream zipOutputStream, String name, byte[] content)
+            throws IOException {
+
+        ZipEntry zipEntry = new ZipEntry(name);
+        zipEntry.setTimeLocal(ENTRY_TIME);
+        zipEntry.setMethod(ZipEntry.DEFLATED);
+        zipOutputStream.putNextEntry(zipEntry);
+        zipOutputStream.write(content);
+        zipOutputStream.closeEntry();
+    }
+
+    private static void putStoredEntry(ZipOutputStream zipOutputStream, String name, Path file) throws IOException {
+
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        long size = Files.size(file);
+        ZipEntry zipEntry = new ZipEntry(name);
+        zipEntry.setTimeLocal(ENTRY_TIME);
+        zipEntry.setMethod(ZipEntry.STORED);
+        zipEntry.setSize(size);
+        zipEntry.setCompressedSize(size);
+        zipEntry.setCrc(crc.getValue());
+        zipOutputStream.putNextEntry(zipEntry);
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            inputStream.transferTo(zipOutputStream);
+        }
+        zipOutputStream.closeEntry();
+    }
+
+    private static byte[] hashFile(Path file) throws IOException {
+
+        MessageDigest digest = Util.getSha256Digest();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return digest.digest();
+    }
+
+    private static String toEntryName(Path relativePath) {
+
+        List<String> segments = new ArrayList<>();
+        for (Path segment : relativePath) {
+            segments.add(segment.toString());
+        }
+        return String.join("/", segments);
+    }
+}
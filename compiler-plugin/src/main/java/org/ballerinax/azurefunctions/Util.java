@@ -39,12 +39,14 @@ import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeList;
 import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.ResourcePathParameterNode;
 import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
 import io.ballerina.compiler.syntax.tree.SpecificFieldNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.projects.Project;
+import io.ballerina.projects.ProjectException;
 import io.ballerina.projects.ProjectKind;
 import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
 import io.ballerina.tools.diagnostics.Diagnostic;
@@ -65,9 +67,13 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -140,6 +146,44 @@ public class Util {
         return finalPath;
     }
 
+    /**
+     * Builds the full path of a resource function by appending its relative path to the service path.
+     *
+     * @param servicePath            base path of the service
+     * @param functionDefinitionNode resource function
+     * @param routeTemplate          whether path parameters are written as Azure route template parameters
+     * @return resource path
+     */
+    public static String getResourcePath(String servicePath, FunctionDefinitionNode functionDefinitionNode,
+                                         boolean routeTemplate) {
+
+        StringBuilder resourcePath = new StringBuilder(servicePath.replace("\\", ""));
+        for (Node pathBlock : functionDefinitionNode.relativeResourcePath()) {
+            if (pathBlock.kind() == SyntaxKind.IDENTIFIER_TOKEN) {
+                resourcePath.append("/").append(((IdentifierToken) pathBlock).text().replace("\\", ""));
+                continue;
+            }
+            if (pathBlock.kind() != SyntaxKind.RESOURCE_PATH_SEGMENT_PARAM &&
+                    pathBlock.kind() != SyntaxKind.RESOURCE_PATH_REST_PARAM) {
+                continue;
+            }
+            Optional<Token> paramName = ((ResourcePathParameterNode) pathBlock).paramName();
+            if (paramName.isEmpty()) {
+                continue;
+            }
+            resourcePath.append("/");
+            if (!routeTemplate) {
+                resourcePath.append(paramName.get().text());
+            } else if (pathBlock.kind() == SyntaxKind.RESOURCE_PATH_SEGMENT_PARAM) {
+                //TODO Handle optional
+                resourcePath.append("{").append(paramName.get().text()).append("}");
+            } else {
+                resourcePath.append("{**").append(paramName.get().text()).append("}");
+            }
+        }
+        return resourcePath.toString();
+    }
+
     public static Diagnostic getDiagnostic(Location location, AzureDiagnosticCodes diagnosticCode, Object... argName) {
 
         DiagnosticInfo diagnosticInfo = getDiagnosticInfo(diagnosticCode, argName);
@@ -162,7 +206,7 @@ public class Util {
 
     public static void updateDiagnostic(SyntaxNodeAnalysisContext ctx, Location location,
                                         AzureDiagnosticCodes azureDiagnosticCodes,
-                                        List<DiagnosticProperty<?>> diagnosticProperties, String argName) {
+                                        List<DiagnosticProperty<?>> diagnosticProperties, Object... argName) {
 
         DiagnosticInfo diagnosticInfo = getDiagnosticInfo(azureDiagnosticCodes, argName);
         ctx.reportDiagnostic(DiagnosticFactory.createDiagnostic(diagnosticInfo, location, diagnosticProperties));
@@ -218,6 +262,88 @@ public class Util {
         }
     }
 
+    /**
+     * Creates the SHA-256 digest used to key the build caches and the deployment manifest.
+     *
+     * @return new message digest
+     */
+    public static MessageDigest getSha256Digest() {
+
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Encodes the given digest as lower case hex.
+     *
+     * @param digest digest bytes
+     * @return hex encoded digest
+     */
+    public static String toHex(byte[] digest) {
+
+        return HexFormat.of().formatHex(digest);
+    }
+
+    /**
+     * Splits GraalVM build options into arguments the way a POSIX shell would, so that quoted options such as
+     * {@code "-H:Name=my app"} are passed to native-image as a single argument.
+     *
+     * @param buildOptions build options as given in the command line or Ballerina.toml
+     * @return list of arguments
+     */
+    public static List<String> splitBuildOptions(String buildOptions) {
+
+        List<String> options = new ArrayList<>();
+        if (buildOptions == null) {
+            return options;
+        }
+        StringBuilder current = new StringBuilder();
+        boolean inOption = false;
+        char quote = 0;
+        for (int i = 0; i < buildOptions.length(); i++) {
+            char c = buildOptions.charAt(i);
+            if (quote == '\'') {
+                if (c == '\'') {
+                    quote = 0;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '\\' && i + 1 < buildOptions.length() &&
+                    (quote == 0 || buildOptions.charAt(i + 1) == '"' || buildOptions.charAt(i + 1) == '\\')) {
+                current.append(buildOptions.charAt(++i));
+                inOption = true;
+            } else if (quote == '"') {
+                if (c == '"') {
+                    quote = 0;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+                inOption = true;
+            } else if (Character.isWhitespace(c)) {
+                if (inOption) {
+                    options.add(current.toString());
+                    current.setLength(0);
+                    inOption = false;
+                }
+            } else {
+                current.append(c);
+                inOption = true;
+            }
+        }
+        if (quote != 0) {
+            throw new ProjectException("unterminated quote in the GraalVM build options: " + buildOptions);
+        }
+        if (inOption) {
+            options.add(current.toString());
+        }
+        return options;
+    }
+
     public static String getExecutableExtension() {
 
         String os = System.getProperty("os.name");
@@ -401,16 +527,41 @@ public class Util {
         return null;
     }
 
+    /**
+     * Returns the type symbols used to validate resource signatures.
+     *
+     * @param ctx syntax node analysis context
+     * @return unmodifiable map of type name to type symbol
+     */
     public static Map<String, TypeSymbol> getCtxTypes(SyntaxNodeAnalysisContext ctx) {
         Map<String, TypeSymbol> typeSymbols = new HashMap<>();
-        populateBasicTypes(ctx, typeSymbols);
-        populateHttpModuleTypes(ctx, typeSymbols);
-        return typeSymbols;
+        populateBasicTypes(ctx.semanticModel(), typeSymbols);
+        populateHttpModuleTypes(ctx.semanticModel(), typeSymbols);
+        return Collections.unmodifiableMap(typeSymbols);
+    }
+
+    /**
+     * Keeps the type symbols of the last semantic model, so that an analysis task builds them once per module instead
+     * of once per node. It is held by the task, which lives as long as the compilation.
+     */
+    public static class CtxTypesCache {
+
+        private SemanticModel semanticModel;
+        private Map<String, TypeSymbol> typeSymbols;
+
+        public synchronized Map<String, TypeSymbol> get(SyntaxNodeAnalysisContext ctx) {
+
+            if (this.semanticModel != ctx.semanticModel()) {
+                this.semanticModel = ctx.semanticModel();
+                this.typeSymbols = getCtxTypes(ctx);
+            }
+            return this.typeSymbols;
+        }
     }
 
-    private static void populateHttpModuleTypes(SyntaxNodeAnalysisContext ctx, Map<String, TypeSymbol> typeSymbols) {
+    private static void populateHttpModuleTypes(SemanticModel semanticModel, Map<String, TypeSymbol> typeSymbols) {
         String[] requiredTypeNames = {Constants.RESOURCE_RETURN_TYPE, Constants.HEADER_OBJ_NAME};
-        Optional<Map<String, Symbol>> optionalMap = ctx.semanticModel().types().typesInModule(Constants.BALLERINA_ORG,
+        Optional<Map<String, Symbol>> optionalMap = semanticModel.types().typesInModule(Constants.BALLERINA_ORG,
                 HTTP, Constants.EMPTY);
         if (optionalMap.isPresent()) {
             Map<String, Symbol> symbolMap = optionalMap.get();
@@ -425,8 +576,8 @@ public class Util {
         }
     }
 
-    private static void populateBasicTypes(SyntaxNodeAnalysisContext ctx, Map<String, TypeSymbol> typeSymbols) {
-        Types types = ctx.semanticModel().types();
+    private static void populateBasicTypes(SemanticModel semanticModel, Map<String, TypeSymbol> typeSymbols) {
+        Types types = semanticModel.types();
         typeSymbols.put(Constants.ANYDATA, types.ANYDATA);
         typeSymbols.put(Constants.JSON, types.JSON);
         typeSymbols.put(Constants.ERROR, types.ERROR);
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.azurefunctions.codeactions;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.plugins.codeaction.CodeAction;
+import io.ballerina.projects.plugins.codeaction.CodeActionArgument;
+import io.ballerina.projects.plugins.codeaction.CodeActionContext;
+import io.ballerina.projects.plugins.codeaction.CodeActionExecutionContext;
+import io.ballerina.projects.plugins.codeaction.CodeActionInfo;
+import io.ballerina.projects.plugins.codeaction.DocumentEdit;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.text.LineRange;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextRange;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Base of the quick fixes that insert text at the start of the location of a diagnostic.
+ *
+ * @since 4.2.0
+ */
+public abstract class AbstractInsertTextCodeAction implements CodeAction {
+
+    protected static final String NODE_LOCATION_KEY = "node.location";
+
+    /**
+     * Returns the title of the quick fix.
+     *
+     * @return title shown in the editor
+     */
+    protected abstract String title();
+
+    /**
+     * Returns the text inserted at the start of the diagnostic location.
+     *
+     * @return text to insert
+     */
+    protected abstract String text();
+
+    /**
+     * Checks whether the text can be inserted at the given position of the document.
+     *
+     * @param diagnostic   diagnostic to fix
+     * @param textDocument document of the diagnostic
+     * @param position     start position of the diagnostic
+     * @return true if the quick fix applies
+     */
+    protected boolean isApplicable(Diagnostic diagnostic, TextDocument textDocument, int position) {
+        return true;
+    }
+
+    @Override
+    public Optional<CodeActionInfo> codeActionInfo(CodeActionContext context) {
+        Diagnostic diagnostic = context.diagnostic();
+        if (diagnostic.location() == null) {
+            return Optional.empty();
+        }
+        LineRange lineRange = diagnostic.location().lineRange();
+        TextDocument textDocument = context.currentDocument().syntaxTree().textDocument();
+        if (!isApplicable(diagnostic, textDocument, textDocument.textPositionFrom(lineRange.startLine()))) {
+            return Optional.empty();
+        }
+        CodeActionArgument locationArg = CodeActionArgument.from(NODE_LOCATION_KEY, lineRange);
+        return Optional.of(CodeActionInfo.from(title(), List.of(locationArg)));
+    }
+
+    @Override
+    public List<DocumentEdit> execute(CodeActionExecutionContext context) {
+        LineRange lineRange = null;
+        for (CodeActionArgument argument : context.arguments()) {
+            if (NODE_LOCATION_KEY.equals(argument.key())) {
+                lineRange = argument.valueAs(LineRange.class);
+            }
+        }
+        if (lineRange == null) {
+            return Collections.emptyList();
+        }
+        SyntaxTree syntaxTree = context.currentDocument().syntaxTree();
+        TextDocument textDocument = syntaxTree.textDocument();
+        int start = textDocument.textPositionFrom(lineRange.startLine());
+        TextEdit textEdit = TextEdit.from(TextRange.from(start, 0), text());
+        TextDocument modifiedTextDocument = textDocument.apply(TextDocumentChange.from(new TextEdit[]{textEdit}));
+        return Collections.singletonList(new DocumentEdit(context.fileUri(), SyntaxTree.from(modifiedTextDocument)));
+    }
+}
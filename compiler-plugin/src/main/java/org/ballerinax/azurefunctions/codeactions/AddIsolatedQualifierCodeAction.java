@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.azurefunctions.codeactions;
+
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.diagnostics.DiagnosticProperty;
+import io.ballerina.tools.text.TextDocument;
+import org.ballerinax.azurefunctions.AzureDiagnosticCodes;
+import org.wso2.ballerinalang.compiler.diagnostic.properties.BStringProperty;
+
+import java.util.List;
+
+/**
+ * Quick fix that marks a service or a resource function as isolated.
+ * <p>
+ * The qualifier alone does not compile when the construct accesses mutable state, so the fix is only offered for the
+ * diagnostics that the validator marks with {@link #APPLICABLE_PROPERTY}. Mutable module-level variables are not
+ * fixed, since marking them as isolated also requires a 'lock' statement around every access.
+ *
+ * @since 4.2.0
+ */
+public class AddIsolatedQualifierCodeAction extends AbstractInsertTextCodeAction {
+
+    public static final DiagnosticProperty<String> APPLICABLE_PROPERTY = new BStringProperty("isolatable");
+
+    @Override
+    public List<String> supportedDiagnosticCodes() {
+        return List.of(AzureDiagnosticCodes.AF_021.getCode(), AzureDiagnosticCodes.AF_022.getCode());
+    }
+
+    @Override
+    public String name() {
+        return "ADD_ISOLATED_QUALIFIER";
+    }
+
+    @Override
+    protected String title() {
+        return "Add 'isolated' qualifier";
+    }
+
+    @Override
+    protected String text() {
+        return "isolated ";
+    }
+
+    @Override
+    protected boolean isApplicable(Diagnostic diagnostic, TextDocument textDocument, int position) {
+        for (DiagnosticProperty<?> property : diagnostic.properties()) {
+            if (APPLICABLE_PROPERTY.value().equals(property.value())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.azurefunctions.codeactions;
+
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.text.TextDocument;
+import org.ballerinax.azurefunctions.AzureDiagnosticCodes;
+
+import java.util.List;
+
+/**
+ * Quick fix that intersects the type of a payload parameter or a final module-level variable with readonly.
+ *
+ * @since 4.2.0
+ */
+public class AddReadonlyIntersectionCodeAction extends AbstractInsertTextCodeAction {
+
+    private static final String VAR_KEYWORD = "var";
+
+    @Override
+    public List<String> supportedDiagnosticCodes() {
+        return List.of(AzureDiagnosticCodes.AF_024.getCode(), AzureDiagnosticCodes.AF_025.getCode());
+    }
+
+    @Override
+    public String name() {
+        return "ADD_READONLY_INTERSECTION";
+    }
+
+    @Override
+    protected String title() {
+        return "Use a readonly intersection type";
+    }
+
+    @Override
+    protected String text() {
+        return "readonly & ";
+    }
+
+    @Override
+    protected boolean isApplicable(Diagnostic diagnostic, TextDocument textDocument, int position) {
+        // An inferred 'var' type cannot be intersected.
+        return !textDocument.toString().startsWith(VAR_KEYWORD, position);
+    }
+}
@@ -33,7 +33,6 @@ import io.ballerina.compiler.syntax.tree.NodeList;
 import io.ballerina.compiler.syntax.tree.ParameterNode;
 import io.ballerina.compiler.syntax.tree.QualifiedNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.RequiredParameterNode;
-import io.ballerina.compiler.syntax.tree.ResourcePathParameterNode;
 import io.ballerina.compiler.syntax.tree.ReturnTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
@@ -92,27 +91,8 @@ public class HTTPTriggerBinding extends TriggerBinding {
             FunctionDefinitionNode functionDefinitionNode = (FunctionDefinitionNode) node;
             String method = functionDefinitionNode.functionName().text();
             httpTriggerBinding.setMethods(method);
-            StringBuilder resourcePath = new StringBuilder();
-            resourcePath.append(servicePath);
-            for (Node pathBlock : functionDefinitionNode.relativeResourcePath()) {
-                if (pathBlock.kind() == SyntaxKind.IDENTIFIER_TOKEN) {
-                    String specialCharReplacedPathBlock = (((IdentifierToken) pathBlock).text()).replace("\\", "");
-                    resourcePath.append("/").append(specialCharReplacedPathBlock);
-                    continue;
-                }
-                if (pathBlock.kind() == SyntaxKind.RESOURCE_PATH_SEGMENT_PARAM) {
-                    ResourcePathParameterNode pathParamNode = (ResourcePathParameterNode) pathBlock;
-                    //TODO Handle optional
-                    resourcePath.append("/" + "{").append(pathParamNode.paramName().get().text()).append("}");
-                }
-                if (pathBlock.kind() == SyntaxKind.RESOURCE_PATH_REST_PARAM) {
-                    ResourcePathParameterNode pathParamNode = (ResourcePathParameterNode) pathBlock;
-                    if (pathParamNode.paramName().isPresent()) {
-                        resourcePath.append("/" + "{**").append(pathParamNode.paramName().get().text()).append("}");
-                    }
-                }
-            }
-            httpTriggerBinding.setPath(getFunctionPath(resourcePath.toString()));
+            String resourcePath = Util.getResourcePath(servicePath, functionDefinitionNode, true);
+            httpTriggerBinding.setPath(getFunctionPath(resourcePath));
             bindings.add(httpTriggerBinding);
             String variableName;
             SeparatedNodeList<ParameterNode> parameters = functionDefinitionNode.functionSignature().parameters();
@@ -144,11 +124,25 @@ public class HTTPTriggerBinding extends TriggerBinding {
                 }
             }
             Optional<String> functionName = getFunctionNameFromAnnotation(functionDefinitionNode);
-            functionContexts.add(new FunctionContext(functionName.get(), bindings));
+            FunctionContext functionContext = new FunctionContext(functionName.get(), bindings);
+            functionContext.setRouted(isRouted(functionDefinitionNode));
+            functionContexts.add(functionContext);
         }
         return functionContexts;
     }
 
+    /**
+     * Returns the auth level configured on the listener of the service.
+     *
+     * @return auth level of the HTTP functions of the service
+     */
+    public String getServiceAuthLevel() {
+        Optional<AnnotationNode> httpTriggerAnnot =
+                getListenerAnnotation(this.serviceDeclarationNode, Constants.ANNOTATION_HTTP_TRIGGER);
+        httpTriggerAnnot.ifPresent(trigger -> getAnnotation(this, trigger));
+        return this.authLevel;
+    }
+
     private String getFunctionPath(String resourcePath) {
         if (resourcePath.startsWith("/")) {
             return resourcePath.substring(1);
@@ -221,6 +215,40 @@ public class HTTPTriggerBinding extends TriggerBinding {
         return Optional.empty();
     }
 
+    /**
+     * Checks whether the code modifier marked the resource as routed in its binding descriptor. The runtime only
+     * dispatches the requests of the router function to such resources.
+     *
+     * @param functionDefinitionNode resource function
+     * @return true if the resource is served by the HTTP router function
+     */
+    private static boolean isRouted(FunctionDefinitionNode functionDefinitionNode) {
+        Optional<MetadataNode> metadataNode = functionDefinitionNode.metadata();
+        if (metadataNode.isEmpty()) {
+            return false;
+        }
+        for (AnnotationNode annotationNode : metadataNode.get().annotations()) {
+            Node ref = annotationNode.annotReference();
+            if (ref.kind() != SyntaxKind.QUALIFIED_NAME_REFERENCE || !((QualifiedNameReferenceNode) ref).identifier()
+                    .text().equals(Constants.BINDING_DESCRIPTOR_ANNOTATION) || annotationNode.annotValue().isEmpty()) {
+                continue;
+            }
+            for (MappingFieldNode field : annotationNode.annotValue().get().fields()) {
+                if (field.kind() != SyntaxKind.SPECIFIC_FIELD) {
+                    continue;
+                }
+                SpecificFieldNode specificFieldNode = (SpecificFieldNode) field;
+                if (specificFieldNode.fieldName().kind() == SyntaxKind.IDENTIFIER_TOKEN &&
+                        Constants.BINDING_DESCRIPTOR_ROUTED_FIELD.equals(
+                                ((IdentifierToken) specificFieldNode.fieldName()).text())) {
+                    return specificFieldNode.valueExpr().filter(value -> value.kind() == SyntaxKind.BOOLEAN_LITERAL &&
+                            "true".equals(((BasicLiteralNode) value).literalToken().text())).isPresent();
+                }
+            }
+        }
+        return false;
+    }
+
     public void setPath(String path) {
         this.path = path;
     }
@@ -97,7 +97,6 @@ import static org.ballerinax.azurefunctions.Constants.TUPLE_OF_ANYDATA;
 import static org.ballerinax.azurefunctions.Constants.XML;
 import static org.ballerinax.azurefunctions.HttpPayloadParamIdentifier.validateAnnotatedParams;
 import static org.ballerinax.azurefunctions.HttpPayloadParamIdentifier.validateNonAnnotatedParams;
-import static org.ballerinax.azurefunctions.Util.getCtxTypes;
 import static org.ballerinax.azurefunctions.Util.getEffectiveTypeFromReadonlyIntersection;
 import static org.ballerinax.azurefunctions.Util.updateDiagnostic;
 
@@ -106,6 +105,8 @@ import static org.ballerinax.azurefunctions.Util.updateDiagnostic;
  */
 public class HttpServiceValidator extends BaseHttpCodeAnalyzerTask {
 
+    private final Util.CtxTypesCache ctxTypes = new Util.CtxTypesCache();
+
     @Override
     public void perform(SyntaxNodeAnalysisContext syntaxNodeAnalysisContext) {
 
@@ -116,6 +117,7 @@ public class HttpServiceValidator extends BaseHttpCodeAnalyzerTask {
         ServiceDeclarationNode serviceDeclarationNode = (ServiceDeclarationNode) syntaxNodeAnalysisContext.node();
         extractServiceAnnotationAndValidate(syntaxNodeAnalysisContext, serviceDeclarationNode);
         NodeList<Node> members = serviceDeclarationNode.members();
+        Map<String, TypeSymbol> typeSymbols = this.ctxTypes.get(syntaxNodeAnalysisContext);
         for (Node member : members) {
             if (member.kind() == SyntaxKind.OBJECT_METHOD_DEFINITION) {
                 FunctionDefinitionNode node = (FunctionDefinitionNode) member;
@@ -130,8 +132,7 @@ public class HttpServiceValidator extends BaseHttpCodeAnalyzerTask {
                     syntaxNodeAnalysisContext.reportDiagnostic(diagnostic);
                 }
             } else if (member.kind() == SyntaxKind.RESOURCE_ACCESSOR_DEFINITION) {
-                validateResourceFunction(syntaxNodeAnalysisContext, (FunctionDefinitionNode) member,
-                        getCtxTypes(syntaxNodeAnalysisContext));
+                validateResourceFunction(syntaxNodeAnalysisContext, (FunctionDefinitionNode) member, typeSymbols);
             }
         }
     }
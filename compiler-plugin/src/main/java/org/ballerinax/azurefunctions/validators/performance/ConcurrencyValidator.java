@@ -0,0 +1,441 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.azurefunctions.validators.performance;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.AnnotationSymbol;
+import io.ballerina.compiler.api.symbols.ArrayTypeSymbol;
+import io.ballerina.compiler.api.symbols.FunctionSymbol;
+import io.ballerina.compiler.api.symbols.ModuleSymbol;
+import io.ballerina.compiler.api.symbols.ObjectTypeSymbol;
+import io.ballerina.compiler.api.symbols.ParameterSymbol;
+import io.ballerina.compiler.api.symbols.Qualifier;
+import io.ballerina.compiler.api.symbols.RecordFieldSymbol;
+import io.ballerina.compiler.api.symbols.RecordTypeSymbol;
+import io.ballerina.compiler.api.symbols.ServiceDeclarationSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.SymbolKind;
+import io.ballerina.compiler.api.symbols.TypeDescKind;
+import io.ballerina.compiler.api.symbols.TypeReferenceTypeSymbol;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.compiler.api.symbols.UnionTypeSymbol;
+import io.ballerina.compiler.api.symbols.VariableSymbol;
+import io.ballerina.compiler.syntax.tree.ClientResourceAccessActionNode;
+import io.ballerina.compiler.syntax.tree.ExplicitNewExpressionNode;
+import io.ballerina.compiler.syntax.tree.FunctionCallExpressionNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ImplicitNewExpressionNode;
+import io.ballerina.compiler.syntax.tree.MethodCallExpressionNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.ModuleVariableDeclarationNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.ParameterNode;
+import io.ballerina.compiler.syntax.tree.RemoteMethodCallActionNode;
+import io.ballerina.compiler.syntax.tree.RequiredParameterNode;
+import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
+import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
+import io.ballerina.tools.diagnostics.DiagnosticProperty;
+import io.ballerina.tools.diagnostics.Location;
+import io.ballerina.tools.text.LineRange;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextRange;
+import org.ballerinax.azurefunctions.AzureDiagnosticCodes;
+import org.ballerinax.azurefunctions.Util;
+import org.ballerinax.azurefunctions.codeactions.AddIsolatedQualifierCodeAction;
+import org.ballerinax.azurefunctions.validators.http.BaseHttpCodeAnalyzerTask;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.ballerinax.azurefunctions.Constants.GET;
+import static org.ballerinax.azurefunctions.Constants.HEAD;
+import static org.ballerinax.azurefunctions.Constants.HTTP;
+import static org.ballerinax.azurefunctions.Constants.OPTIONS;
+import static org.ballerinax.azurefunctions.Constants.PAYLOAD_ANNOTATION_TYPE;
+
+/**
+ * Reports the constructs that keep the runtime from invoking Azure functions concurrently.
+ * <p>
+ * A resource function is run on an isolated strand only when both the service and the function are isolated, and a
+ * remote function only when the service is isolated. Otherwise the invocations of an instance are serialized. These
+ * warnings are only reported for code without compilation errors, and isolation inferred by the compiler is honoured.
+ *
+ * @since 4.2.0
+ */
+public class ConcurrencyValidator extends BaseHttpCodeAnalyzerTask {
+
+    private static final int LARGE_PAYLOAD_FIELD_COUNT = 16;
+
+    @Override
+    public void perform(SyntaxNodeAnalysisContext ctx) {
+
+        ServiceDeclarationNode serviceNode = (ServiceDeclarationNode) ctx.node();
+        SemanticModel semanticModel = ctx.semanticModel();
+        if (!Util.isAzureFunctionsService(semanticModel, serviceNode) || Util.diagnosticContainsErrors(ctx)) {
+            return;
+        }
+        Optional<Symbol> serviceSymbol = semanticModel.symbol(serviceNode);
+        if (serviceSymbol.isEmpty() || !(serviceSymbol.get() instanceof ServiceDeclarationSymbol)) {
+            return;
+        }
+        if (!((ServiceDeclarationSymbol) serviceSymbol.get()).qualifiers().contains(Qualifier.ISOLATED)) {
+            Util.updateDiagnostic(ctx, serviceNode.serviceKeyword().location(), AzureDiagnosticCodes.AF_021,
+                    getQuickFixProperties(canIsolateService(serviceNode)));
+        }
+
+        boolean httpService = isHttpListener(ctx);
+        Map<LineRange, VariableSymbol> moduleVariables = null;
+        Set<LineRange> reportedVariables = new HashSet<>();
+        for (Node member : serviceNode.members()) {
+            if (!Util.isAnalyzableFunction(member)) {
+                continue;
+            }
+            FunctionDefinitionNode functionNode = (FunctionDefinitionNode) member;
+            Optional<Symbol> functionSymbol = semanticModel.symbol(functionNode);
+            if (functionSymbol.isEmpty() || !(functionSymbol.get() instanceof FunctionSymbol)) {
+                continue;
+            }
+            boolean resource = member.kind() == SyntaxKind.RESOURCE_ACCESSOR_DEFINITION;
+            String functionName = getFunctionName(functionNode, resource);
+            if (!((FunctionSymbol) functionSymbol.get()).qualifiers().contains(Qualifier.ISOLATED)) {
+                if (moduleVariables == null) {
+                    moduleVariables = getModuleVariables(semanticModel);
+                }
+                ReferenceCollector collector = new ReferenceCollector();
+                functionNode.functionBody().accept(collector);
+                boolean accessesMutableState = validateModuleStateAccess(ctx, collector.references, functionName,
+                        moduleVariables, reportedVariables);
+                if (httpService && resource) {
+                    boolean canIsolate = !accessesMutableState && collector.newExpressions == 0 &&
+                            callsIsolatedFunctions(semanticModel, collector.calls);
+                    Token firstQualifier = functionNode.qualifierList().get(0);
+                    Util.updateDiagnostic(ctx, firstQualifier.location(), AzureDiagnosticCodes.AF_022,
+                            getQuickFixProperties(canIsolate), functionName);
+                }
+            }
+            validatePayloadParams(ctx, functionNode, httpService, resource);
+        }
+    }
+
+    private static String getFunctionName(FunctionDefinitionNode functionNode, boolean resource) {
+
+        String name = functionNode.functionName().text();
+        if (!resource) {
+            return name;
+        }
+        String path = Util.resourcePathToString(functionNode.relativeResourcePath());
+        return path.isEmpty() ? name : name + " " + path;
+    }
+
+    private static Map<LineRange, VariableSymbol> getModuleVariables(SemanticModel semanticModel) {
+
+        Map<LineRange, VariableSymbol> variables = new HashMap<>();
+        for (Symbol symbol : semanticModel.moduleSymbols()) {
+            if (symbol.kind() == SymbolKind.VARIABLE && symbol.getLocation().isPresent()) {
+                variables.put(symbol.getLocation().get().lineRange(), (VariableSymbol) symbol);
+            }
+        }
+        return variables;
+    }
+
+    /**
+     * Reports the mutable module-level variables accessed by a function that are not reported yet, and returns
+     * whether the function accesses any mutable module-level variable.
+     */
+    private static boolean validateModuleStateAccess(SyntaxNodeAnalysisContext ctx,
+                                                     List<SimpleNameReferenceNode> references, String functionName,
+                                                     Map<LineRange, VariableSymbol> moduleVariables,
+                                                     Set<LineRange> reportedVariables) {
+
+        if (moduleVariables.isEmpty()) {
+            return false;
+        }
+        boolean accessesMutableState = false;
+        SemanticModel semanticModel = ctx.semanticModel();
+        for (SimpleNameReferenceNode reference : references) {
+            Optional<Symbol> symbol = semanticModel.symbol(reference);
+            if (symbol.isEmpty() || symbol.get().getLocation().isEmpty()) {
+                continue;
+            }
+            LineRange declaration = symbol.get().getLocation().get().lineRange();
+            VariableSymbol variable = moduleVariables.get(declaration);
+            if (variable == null) {
+                continue;
+            }
+            Optional<AzureDiagnosticCodes> diagnosticCode = getMutableStateDiagnostic(semanticModel, variable);
+            if (diagnosticCode.isEmpty()) {
+                continue;
+            }
+            accessesMutableState = true;
+            if (reportedVariables.contains(declaration)) {
+                continue;
+            }
+            Optional<Location> location = getDeclarationLocation(ctx, symbol.get().getLocation().get());
+            if (location.isEmpty()) {
+                continue;
+            }
+            reportedVariables.add(declaration);
+            Util.updateDiagnostic(ctx, location.get(), diagnosticCode.get(), variable.getName().orElse(""),
+                    functionName);
+        }
+        return accessesMutableState;
+    }
+
+    /**
+     * Checks whether a service stays valid when it is marked as isolated. The fields of an isolated service have to
+     * be private and accessed within 'lock' statements, so only services without fields are considered.
+     */
+    private static boolean canIsolateService(ServiceDeclarationNode serviceNode) {
+
+        for (Node member : serviceNode.members()) {
+            if (member.kind() == SyntaxKind.OBJECT_FIELD) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean callsIsolatedFunctions(SemanticModel semanticModel, List<Node> calls) {
+
+        for (Node call : calls) {
+            Optional<Symbol> symbol = semanticModel.symbol(call);
+            if (symbol.isEmpty() || !(symbol.get() instanceof FunctionSymbol) ||
+                    !((FunctionSymbol) symbol.get()).qualifiers().contains(Qualifier.ISOLATED)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<DiagnosticProperty<?>> getQuickFixProperties(boolean canIsolate) {
+
+        return canIsolate ? List.of(AddIsolatedQualifierCodeAction.APPLICABLE_PROPERTY) : List.of();
+    }
+
+    private static Optional<AzureDiagnosticCodes> getMutableStateDiagnostic(SemanticModel semanticModel,
+                                                                           VariableSymbol variable) {
+
+        List<Qualifier> qualifiers = variable.qualifiers();
+        if (qualifiers.contains(Qualifier.ISOLATED) || qualifiers.contains(Qualifier.CONFIGURABLE)) {
+            return Optional.empty();
+        }
+        if (!qualifiers.contains(Qualifier.FINAL)) {
+            return Optional.of(AzureDiagnosticCodes.AF_023);
+        }
+        TypeSymbol type = variable.typeDescriptor();
+        if (type.subtypeOf(semanticModel.types().READONLY) || isIsolatedObject(type)) {
+            return Optional.empty();
+        }
+        return Optional.of(AzureDiagnosticCodes.AF_024);
+    }
+
+    private static boolean isIsolatedObject(TypeSymbol type) {
+
+        TypeSymbol referredType = type;
+        while (referredType.typeKind() == TypeDescKind.TYPE_REFERENCE) {
+            referredType = ((TypeReferenceTypeSymbol) referredType).typeDescriptor();
+        }
+        return referredType instanceof ObjectTypeSymbol &&
+                ((ObjectTypeSymbol) referredType).qualifiers().contains(Qualifier.ISOLATED);
+    }
+
+    /**
+     * Returns the location of the typed binding pattern of a module variable declaration, which is where the quick
+     * fixes insert the qualifier or the readonly type.
+     */
+    private static Optional<Location> getDeclarationLocation(SyntaxNodeAnalysisContext ctx, Location symbolLocation) {
+
+        Module module = ctx.currentPackage().module(ctx.moduleId());
+        String fileName = symbolLocation.lineRange().fileName();
+        for (DocumentId documentId : module.documentIds()) {
+            Document document = module.document(documentId);
+            if (!document.name().equals(fileName)) {
+                continue;
+            }
+            SyntaxTree syntaxTree = document.syntaxTree();
+            TextDocument textDocument = syntaxTree.textDocument();
+            LineRange symbolRange = symbolLocation.lineRange();
+            int start = textDocument.textPositionFrom(symbolRange.startLine());
+            int end = textDocument.textPositionFrom(symbolRange.endLine());
+            NonTerminalNode node = ((ModulePartNode) syntaxTree.rootNode())
+                    .findNode(TextRange.from(start, end - start), true);
+            while (node != null && node.kind() != SyntaxKind.MODULE_VAR_DECL) {
+                node = node.parent();
+            }
+            if (node == null) {
+                return Optional.empty();
+            }
+            return Optional.of(((ModuleVariableDeclarationNode) node).typedBindingPattern().location());
+        }
+        return Optional.empty();
+    }
+
+    private static void validatePayloadParams(SyntaxNodeAnalysisContext ctx, FunctionDefinitionNode functionNode,
+                                              boolean httpService, boolean resource) {
+
+        if (resource) {
+            String accessor = functionNode.functionName().text();
+            if (Stream.of(GET, HEAD, OPTIONS).anyMatch(accessor::equals)) {
+                return;
+            }
+        }
+        SemanticModel semanticModel = ctx.semanticModel();
+        for (ParameterNode parameterNode : functionNode.functionSignature().parameters()) {
+            if (parameterNode.kind() != SyntaxKind.REQUIRED_PARAM) {
+                continue;
+            }
+            RequiredParameterNode requiredParam = (RequiredParameterNode) parameterNode;
+            Optional<Symbol> symbol = semanticModel.symbol(requiredParam);
+            if (symbol.isEmpty() || !(symbol.get() instanceof ParameterSymbol)) {
+                continue;
+            }
+            ParameterSymbol param = (ParameterSymbol) symbol.get();
+            if (!isPayloadParam(param, httpService)) {
+                continue;
+            }
+            TypeSymbol type = param.typeDescriptor();
+            if (type.typeKind() == TypeDescKind.INTERSECTION || type.subtypeOf(semanticModel.types().READONLY)) {
+                continue;
+            }
+            int fieldCount = countFields(type, new HashSet<>());
+            if (fieldCount >= LARGE_PAYLOAD_FIELD_COUNT) {
+                Util.updateDiagnostic(ctx, requiredParam.typeName().location(), AzureDiagnosticCodes.AF_025,
+                        param.getName().orElse(""), fieldCount);
+            }
+        }
+    }
+
+    private static boolean isPayloadParam(ParameterSymbol param, boolean httpService) {
+
+        List<AnnotationSymbol> annotations = new ArrayList<>();
+        for (AnnotationSymbol annotation : param.annotations()) {
+            if (annotation.typeDescriptor().isPresent()) {
+                annotations.add(annotation);
+            }
+        }
+        if (annotations.isEmpty()) {
+            // Structured parameters without annotations are bound from the request body, and for the other triggers
+            // from the trigger data.
+            TypeDescKind kind = Util.getReferencedTypeDescKind(param.typeDescriptor());
+            return !httpService || kind == TypeDescKind.RECORD || kind == TypeDescKind.ARRAY;
+        }
+        for (AnnotationSymbol annotation : annotations) {
+            TypeSymbol annotationType = annotation.typeDescriptor().get();
+            Optional<ModuleSymbol> module = annotationType.getModule();
+            if (module.isPresent() && module.get().getName().filter(HTTP::equals).isPresent() &&
+                    annotationType.getName().filter(PAYLOAD_ANNOTATION_TYPE::equals).isPresent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int countFields(TypeSymbol type, Set<String> visited) {
+
+        switch (type.typeKind()) {
+            case TYPE_REFERENCE:
+                if (!visited.add(type.signature())) {
+                    return 0;
+                }
+                return countFields(((TypeReferenceTypeSymbol) type).typeDescriptor(), visited);
+            case RECORD:
+                int count = 0;
+                for (RecordFieldSymbol field : ((RecordTypeSymbol) type).fieldDescriptors().values()) {
+                    count += 1 + countFields(field.typeDescriptor(), visited);
+                }
+                return count;
+            case ARRAY:
+                return countFields(((ArrayTypeSymbol) type).memberTypeDescriptor(), visited);
+            case UNION:
+                int unionCount = 0;
+                for (TypeSymbol member : ((UnionTypeSymbol) type).memberTypeDescriptors()) {
+                    unionCount += countFields(member, visited);
+                }
+                return unionCount;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Collects the simple name references, the function and method calls and the object constructions of a function
+     * body.
+     */
+    private static class ReferenceCollector extends NodeVisitor {
+
+        private final List<SimpleNameReferenceNode> references = new ArrayList<>();
+        private final List<Node> calls = new ArrayList<>();
+        private int newExpressions = 0;
+
+        @Override
+        public void visit(SimpleNameReferenceNode simpleNameReferenceNode) {
+            references.add(simpleNameReferenceNode);
+        }
+
+        @Override
+        public void visit(FunctionCallExpressionNode functionCallExpressionNode) {
+            calls.add(functionCallExpressionNode);
+            super.visit(functionCallExpressionNode);
+        }
+
+        @Override
+        public void visit(MethodCallExpressionNode methodCallExpressionNode) {
+            calls.add(methodCallExpressionNode);
+            super.visit(methodCallExpressionNode);
+        }
+
+        @Override
+        public void visit(RemoteMethodCallActionNode remoteMethodCallActionNode) {
+            calls.add(remoteMethodCallActionNode);
+            super.visit(remoteMethodCallActionNode);
+        }
+
+        @Override
+        public void visit(ClientResourceAccessActionNode clientResourceAccessActionNode) {
+            calls.add(clientResourceAccessActionNode);
+            super.visit(clientResourceAccessActionNode);
+        }
+
+        @Override
+        public void visit(ImplicitNewExpressionNode implicitNewExpressionNode) {
+            newExpressions++;
+            super.visit(implicitNewExpressionNode);
+        }
+
+        @Override
+        public void visit(ExplicitNewExpressionNode explicitNewExpressionNode) {
+            newExpressions++;
+            super.visit(explicitNewExpressionNode);
+        }
+    }
+}
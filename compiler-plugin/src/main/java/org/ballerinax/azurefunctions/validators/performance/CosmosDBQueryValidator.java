@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.azurefunctions.validators.performance;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.AnnotationSymbol;
+import io.ballerina.compiler.api.symbols.ParameterSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.TypeDescKind;
+import io.ballerina.compiler.syntax.tree.AnnotationNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.IdentifierToken;
+import io.ballerina.compiler.syntax.tree.MappingConstructorExpressionNode;
+import io.ballerina.compiler.syntax.tree.MappingFieldNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.ParameterNode;
+import io.ballerina.compiler.syntax.tree.QualifiedNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.RequiredParameterNode;
+import io.ballerina.compiler.syntax.tree.ResourcePathParameterNode;
+import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
+import io.ballerina.compiler.syntax.tree.SpecificFieldNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
+import org.ballerinax.azurefunctions.AzureDiagnosticCodes;
+import org.ballerinax.azurefunctions.Constants;
+import org.ballerinax.azurefunctions.Util;
+import org.ballerinax.azurefunctions.validators.http.BaseHttpCodeAnalyzerTask;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.ballerinax.azurefunctions.Constants.GET;
+import static org.ballerinax.azurefunctions.Constants.HEAD;
+import static org.ballerinax.azurefunctions.Constants.HTTP;
+import static org.ballerinax.azurefunctions.Constants.OPTIONS;
+import static org.ballerinax.azurefunctions.Constants.QUERY_ANNOTATION_TYPE;
+
+/**
+ * Reports Cosmos DB input bindings that cannot be routed to a single partition.
+ * <p>
+ * The Functions host runs an input binding without a partition key as a cross-partition query, which fans out to
+ * every physical partition on each invocation. For HTTP resources the binding expressions of the input are also
+ * resolved against the path and query parameters, as an unresolved expression fails every invocation.
+ *
+ * @since 4.2.0
+ */
+public class CosmosDBQueryValidator extends BaseHttpCodeAnalyzerTask {
+
+    private static final String SQL_QUERY = "sqlQuery";
+    private static final String ID = "id";
+    private static final String PARTITION_KEY = "partitionKey";
+    private static final String QUERY_PREFIX = "query.";
+    private static final Set<String> SYSTEM_EXPRESSIONS = Set.of("rand-guid", "datetime");
+
+    @Override
+    public void perform(SyntaxNodeAnalysisContext ctx) {
+
+        ServiceDeclarationNode serviceNode = (ServiceDeclarationNode) ctx.node();
+        SemanticModel semanticModel = ctx.semanticModel();
+        if (!Util.isAzureFunctionsService(semanticModel, serviceNode) || Util.diagnosticContainsErrors(ctx)) {
+            return;
+        }
+        boolean httpService = isHttpListener(ctx);
+        for (Node member : serviceNode.members()) {
+            if (!Util.isAnalyzableFunction(member)) {
+                continue;
+            }
+            FunctionDefinitionNode functionNode = (FunctionDefinitionNode) member;
+            // Binding expressions of other triggers are resolved from the trigger data, which is not known here.
+            Optional<ResourceParams> resourceParams = Optional.empty();
+            if (httpService && member.kind() == SyntaxKind.RESOURCE_ACCESSOR_DEFINITION) {
+                resourceParams = Optional.of(getResourceParams(semanticModel, functionNode));
+            }
+            for (ParameterNode parameterNode : functionNode.functionSignature().parameters()) {
+                if (parameterNode.kind() != SyntaxKind.REQUIRED_PARAM) {
+                    continue;
+                }
+                RequiredParameterNode requiredParam = (RequiredParameterNode) parameterNode;
+                if (requiredParam.paramName().isEmpty()) {
+                    continue;
+                }
+                for (AnnotationNode annotation : requiredParam.annotations()) {
+                    if (isCosmosDBInput(semanticModel, annotation)) {
+                        validateInput(ctx, annotation, requiredParam.paramName().get().text(), resourceParams);
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean isCosmosDBInput(SemanticModel semanticModel, AnnotationNode annotation) {
+
+        Node annotReference = annotation.annotReference();
+        if (annotReference.kind() != SyntaxKind.QUALIFIED_NAME_REFERENCE ||
+                !Constants.COSMOS_INPUT_BINDING.equals(((QualifiedNameReferenceNode) annotReference).identifier()
+                        .text())) {
+            return false;
+        }
+        Optional<Symbol> symbol = semanticModel.symbol(annotation);
+        return symbol.isPresent() && Util.isSymbolAzureFunctions(symbol.get());
+    }
+
+    private static void validateInput(SyntaxNodeAnalysisContext ctx, AnnotationNode annotation, String paramName,
+                                      Optional<ResourceParams> resourceParams) {
+
+        Optional<MappingConstructorExpressionNode> annotValue = annotation.annotValue();
+        if (annotValue.isEmpty()) {
+            return;
+        }
+        Map<String, SpecificFieldNode> fields = new HashMap<>();
+        for (MappingFieldNode fieldNode : annotValue.get().fields()) {
+            if (fieldNode.kind() == SyntaxKind.SPECIFIC_FIELD &&
+                    ((SpecificFieldNode) fieldNode).fieldName().kind() == SyntaxKind.IDENTIFIER_TOKEN) {
+                SpecificFieldNode specificField = (SpecificFieldNode) fieldNode;
+                fields.put(((IdentifierToken) specificField.fieldName()).text(), specificField);
+            }
+        }
+
+        List<BindingExpression> queryExpressions = new ArrayList<>();
+        SpecificFieldNode sqlQueryField = fields.get(SQL_QUERY);
+        if (sqlQueryField != null) {
+            Util.extractValueFromAnnotationField(sqlQueryField)
+                    .ifPresent(query -> queryExpressions.addAll(parseBindingExpressions(query)));
+        }
+        if (resourceParams.isPresent()) {
+            validateExpressions(ctx, sqlQueryField, queryExpressions, paramName, resourceParams.get());
+            for (String fieldName : List.of(ID, PARTITION_KEY)) {
+                SpecificFieldNode field = fields.get(fieldName);
+                if (field != null) {
+                    Optional<String> value = Util.extractValueFromAnnotationField(field);
+                    List<BindingExpression> expressions =
+                            value.map(CosmosDBQueryValidator::parseBindingExpressions).orElse(List.of());
+                    validateExpressions(ctx, field, expressions, paramName, resourceParams.get());
+                }
+            }
+        }
+        if (fields.containsKey(PARTITION_KEY)) {
+            return;
+        }
+        if (sqlQueryField != null) {
+            String suggestion = getPartitionKeySuggestion(queryExpressions, resourceParams);
+            Util.updateDiagnostic(ctx, sqlQueryField.location(), AzureDiagnosticCodes.AF_026, paramName,
+                    suggestion);
+        }
+        SpecificFieldNode idField = fields.get(ID);
+        if (idField != null) {
+            String id = Util.extractValueFromAnnotationField(idField).orElse(idField.valueExpr()
+                    .map(Node::toSourceCode).orElse("").strip());
+            Util.updateDiagnostic(ctx, idField.location(), AzureDiagnosticCodes.AF_027, paramName, id);
+        }
+    }
+
+    private static void validateExpressions(SyntaxNodeAnalysisContext ctx, SpecificFieldNode field,
+                                            List<BindingExpression> expressions, String paramName,
+                                            ResourceParams resourceParams) {
+
+        Set<String> reported = new HashSet<>();
+        for (BindingExpression expression : expressions) {
+            if (resourceParams.isBound(expression.name) || !reported.add(expression.name)) {
+                continue;
+            }
+            Util.updateDiagnostic(ctx, field.location(), AzureDiagnosticCodes.AF_028, expression.name, paramName);
+        }
+    }
+
+    /**
+     * Picks the binding expression the query filters on by equality, as that is the usual partition key of a
+     * query. Falls back to the first path parameter of the resource.
+     */
+    private static String getPartitionKeySuggestion(List<BindingExpression> queryExpressions,
+                                                    Optional<ResourceParams> resourceParams) {
+
+        for (BindingExpression expression : queryExpressions) {
+            if (expression.equality) {
+                return "{" + expression.name + "}";
+            }
+        }
+        if (!queryExpressions.isEmpty()) {
+            return "{" + queryExpressions.get(0).name + "}";
+        }
+        if (resourceParams.isPresent() && !resourceParams.get().pathParams.isEmpty()) {
+            return "{" + resourceParams.get().pathParams.get(0) + "}";
+        }
+        return "{" + ID + "}";
+    }
+
+    /**
+     * Returns the binding expressions of a Cosmos DB query, skipping the braces within SQL string literals.
+     *
+     * @param query value of the sqlQuery field
+     * @return binding expressions in the order they appear
+     */
+    static List<BindingExpression> parseBindingExpressions(String query) {
+
+        List<BindingExpression> expressions = new ArrayList<>();
+        int length = query.length();
+        int index = 0;
+        while (index < length) {
+            char c = query.charAt(index);
+            if (c == '\'' || c == '"') {
+                int end = query.indexOf(c, index + 1);
+                if (end < 0) {
+                    break;
+                }
+                index = end + 1;
+                continue;
+            }
+            if (c != '{') {
+                index++;
+                continue;
+            }
+            int end = query.indexOf('}', index + 1);
+            if (end < 0) {
+                break;
+            }
+            String name = query.substring(index + 1, end).strip();
+            if (!name.isEmpty()) {
+                boolean equality = isEqualityOperator(query, previousNonWhitespace(query, index)) ||
+                        nextNonWhitespace(query, end + 1) == '=';
+                expressions.add(new BindingExpression(name, equality));
+            }
+            index = end + 1;
+        }
+        return expressions;
+    }
+
+    private static boolean isEqualityOperator(String query, int position) {
+
+        return position >= 0 && query.charAt(position) == '=' &&
+                (position == 0 || "!<>".indexOf(query.charAt(position - 1)) < 0);
+    }
+
+    private static int previousNonWhitespace(String query, int index) {
+
+        int position = index - 1;
+        while (position >= 0 && Character.isWhitespace(query.charAt(position))) {
+            position--;
+        }
+        return position;
+    }
+
+    private static char nextNonWhitespace(String query, int index) {
+
+        int position = index;
+        while (position < query.length() && Character.isWhitespace(query.charAt(position))) {
+            position++;
+        }
+        return position < query.length() ? query.charAt(position) : 0;
+    }
+
+    private static ResourceParams getResourceParams(SemanticModel semanticModel, FunctionDefinitionNode functionNode) {
+
+        ResourceParams resourceParams = new ResourceParams();
+        resourceParams.entityBody = Stream.of(GET, HEAD, OPTIONS)
+                .noneMatch(functionNode.functionName().text()::equals);
+        for (Node pathBlock : functionNode.relativeResourcePath()) {
+            if (pathBlock.kind() != SyntaxKind.RESOURCE_PATH_SEGMENT_PARAM &&
+                    pathBlock.kind() != SyntaxKind.RESOURCE_PATH_REST_PARAM) {
+                continue;
+            }
+            Optional<Token> paramName = ((ResourcePathParameterNode) pathBlock).paramName();
+            paramName.ifPresent(token -> resourceParams.pathParams.add(unescape(token.text())));
+        }
+        for (ParameterNode parameterNode : functionNode.functionSignature().parameters()) {
+            if (parameterNode.kind() != SyntaxKind.REQUIRED_PARAM) {
+                continue;
+            }
+            RequiredParameterNode requiredParam = (RequiredParameterNode) parameterNode;
+            if (requiredParam.paramName().isEmpty() || !isQueryParam(semanticModel, requiredParam)) {
+                continue;
+            }
+            resourceParams.queryParams.add(unescape(requiredParam.paramName().get().text()));
+        }
+        return resourceParams;
+    }
+
+    private static boolean isQueryParam(SemanticModel semanticModel, RequiredParameterNode requiredParam) {
+
+        if (requiredParam.annotations().isEmpty()) {
+            Optional<Symbol> symbol = semanticModel.symbol(requiredParam);
+            if (symbol.isEmpty() || !(symbol.get() instanceof ParameterSymbol)) {
+                return false;
+            }
+            // Record parameters without annotations are bound from the request body.
+            TypeDescKind kind = Util.getReferencedTypeDescKind(((ParameterSymbol) symbol.get()).typeDescriptor());
+            return kind != TypeDescKind.RECORD;
+        }
+        for (AnnotationNode annotation : requiredParam.annotations()) {
+            Optional<Symbol> symbol = semanticModel.symbol(annotation);
+            if (symbol.isEmpty() || !(symbol.get() instanceof AnnotationSymbol)) {
+                continue;
+            }
+            AnnotationSymbol annotationSymbol = (AnnotationSymbol) symbol.get();
+            if (annotationSymbol.getModule().flatMap(Symbol::getName).filter(HTTP::equals).isPresent() &&
+                    annotationSymbol.typeDescriptor().flatMap(Symbol::getName)
+                            .filter(QUERY_ANNOTATION_TYPE::equals).isPresent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String unescape(String identifier) {
+
+        return identifier.startsWith("'") ? identifier.substring(1) : identifier;
+    }
+
+    /**
+     * Represents a binding expression of a Cosmos DB input.
+     */
+    static class BindingExpression {
+
+        final String name;
+        final boolean equality;
+
+        BindingExpression(String name, boolean equality) {
+            this.name = name;
+            this.equality = equality;
+        }
+    }
+
+    /**
+     * Path and query parameters that binding expressions of an HTTP resource can refer to.
+     */
+    private static class ResourceParams {
+
+        private final List<String> pathParams = new ArrayList<>();
+        private final Set<String> queryParams = new HashSet<>();
+        private boolean entityBody;
+
+        private boolean isBound(String expression) {
+
+            String lowerCase = expression.toLowerCase(Locale.ROOT);
+            if (lowerCase.startsWith(QUERY_PREFIX)) {
+                return queryParams.contains(expression.substring(QUERY_PREFIX.length()));
+            }
+            if (pathParams.contains(expression) || SYSTEM_EXPRESSIONS.contains(lowerCase)) {
+                return true;
+            }
+            // Other dotted expressions refer to trigger metadata, and the remaining ones may refer to the properties
+            // of a JSON request body.
+            return expression.contains(".") || entityBody;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.azure.functions.benchmarks;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Creates the request envelopes the Functions host sends to the custom handler for an HTTP trigger.
+ *
+ * @since 4.2.0
+ */
+public final class Envelopes {
+
+    private static final String BOUNDARY = "----BallerinaBenchmarkBoundary";
+
+    /**
+     * Request body of an envelope, along with the content type and the type of the payload parameter it is bound to.
+     */
+    public enum Body {
+        SMALL_JSON("application/json", TypeCreator.createMapType(PredefinedTypes.TYPE_JSON)),
+        MEDIUM_JSON("application/json", TypeCreator.createMapType(PredefinedTypes.TYPE_JSON)),
+        LARGE_JSON("application/json", PredefinedTypes.TYPE_JSON),
+        FORM("application/x-www-form-urlencoded", TypeCreator.createMapType(PredefinedTypes.TYPE_STRING)),
+        MULTIPART("multipart/form-data; boundary=" + BOUNDARY, TypeCreator.createArrayType(PredefinedTypes.TYPE_BYTE)),
+        XML("application/xml", PredefinedTypes.TYPE_XML),
+        BLOB("application/octet-stream", TypeCreator.createArrayType(PredefinedTypes.TYPE_BYTE));
+
+        private final String contentType;
+        private final Type payloadType;
+
+        Body(String contentType, Type payloadType) {
+            this.contentType = contentType;
+            this.payloadType = payloadType;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public Type getPayloadType() {
+            return payloadType;
+        }
+    }
+
+    private Envelopes() {
+    }
+
+    /**
+     * Returns the JSON text of the envelope the host posts for a request to {@code POST /orders/42?page=3}.
+     *
+     * @param body        request body
+     * @param headerCount number of headers besides the content type
+     * @return envelope
+     */
+    public static String create(Body body, int headerCount) {
+
+        StringBuilder headers = new StringBuilder();
+        headers.append("\"Content-Type\":[").append(quote(body.getContentType())).append(']');
+        for (int i = 0; i < headerCount; i++) {
+            headers.append(",\"X-Benchmark-Header-").append(i).append("\":[\"value-").append(i).append("\"]");
+        }
+        String httpPayload = "{\"Url\":\"http://localhost:7071/orders/42?page=3\",\"Method\":\"POST\"," +
+                "\"Query\":{\"page\":\"3\"},\"Headers\":{" + headers + "},\"Params\":{\"id\":\"42\"}," +
+                "\"Identities\":[],\"Body\":" + quote(createBody(body)) + "}";
+        return "{\"Data\":{\"httpPayload\":" + httpPayload + "},\"Metadata\":{\"Query\":{\"page\":\"3\"}," +
+                "\"Headers\":{},\"sys\":{\"MethodName\":\"post-orders-id\",\"UtcNow\":\"2024-01-01T00:00:00Z\"," +
+                "\"RandGuid\":\"00000000-0000-0000-0000-000000000000\"}}}";
+    }
+
+    /**
+     * Parses the envelope and returns its {@code Data} member, as passed to the native adaptor.
+     *
+     * @param envelope JSON text of the envelope
+     * @return invocation data
+     */
+    public static BMap<?, ?> parseData(String envelope) {
+        BMap<?, ?> message = (BMap<?, ?>) JsonUtils.parse(envelope);
+        return message.getMapValue(StringUtils.fromString("Data"));
+    }
+
+    static String createBody(Body body) {
+
+        switch (body) {
+            case SMALL_JSON:
+                return createJsonObject(4);
+            case MEDIUM_JSON:
+                return createJsonObject(64);
+            case LARGE_JSON:
+                StringBuilder items = new StringBuilder("[");
+                for (int i = 0; i < 512; i++) {
+                    if (i > 0) {
+                        items.append(',');
+                    }
+                    items.append(createJsonObject(8));
+                }
+                return items.append(']').toString();
+            case FORM:
+                StringBuilder form = new StringBuilder();
+                for (int i = 0; i < 16; i++) {
+                    if (i > 0) {
+                        form.append('&');
+                    }
+                    form.append("field").append(i).append("=value%20").append(i);
+                }
+                return form.toString();
+            case MULTIPART:
+                String multipart = "--" + BOUNDARY + "\r\n" +
+                        "Content-Disposition: form-data; name=\"file\"; filename=\"data.bin\"\r\n" +
+                        "Content-Type: application/octet-stream\r\n\r\n" + "x".repeat(16 * 1024) + "\r\n" +
+                        "--" + BOUNDARY + "--\r\n";
+                return Base64.getEncoder().encodeToString(multipart.getBytes(StandardCharsets.UTF_8));
+            case XML:
+                StringBuilder xml = new StringBuilder("<orders>");
+                for (int i = 0; i < 64; i++) {
+                    xml.append("<order id=\"").append(i).append("\"><item>item-").append(i)
+                            .append("</item><quantity>").append(i % 5 + 1).append("</quantity></order>");
+                }
+                return xml.append("</orders>").toString();
+            case BLOB:
+                byte[] blob = new byte[64 * 1024];
+                for (int i = 0; i < blob.length; i++) {
+                    blob[i] = (byte) i;
+                }
+                return Base64.getEncoder().encodeToString(blob);
+            default:
+                throw new IllegalArgumentException(body.name());
+        }
+    }
+
+    private static String createJsonObject(int fieldCount) {
+
+        StringBuilder json = new StringBuilder("{");
+        for (int i = 0; i < fieldCount; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("\"field").append(i).append("\":");
+            switch (i % 4) {
+                case 0:
+                    json.append("\"value-").append(i).append('"');
+                    break;
+                case 1:
+                    json.append(i);
+                    break;
+                case 2:
+                    json.append(i % 3 == 0);
+                    break;
+                default:
+                    json.append(i).append(".5");
+                    break;
+            }
+        }
+        return json.append('}').toString();
+    }
+
+    private static String quote(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\r", "\\r")
+                .replace("\n", "\\n") + "\"";
+    }
+}
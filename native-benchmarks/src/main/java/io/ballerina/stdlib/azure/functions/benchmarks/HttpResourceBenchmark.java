@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.azure.functions.benchmarks;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.ResourceMethodType;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.stdlib.azure.functions.HttpResource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures binding the arguments of a resource from the invocation data, covering the path parameter, the query
+ * parameter and the request body.
+ *
+ * @since 4.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HttpResourceBenchmark {
+
+    @Param({"SMALL_JSON", "MEDIUM_JSON", "LARGE_JSON", "FORM", "MULTIPART", "XML", "BLOB"})
+    private Envelopes.Body body;
+
+    @Param({"0", "10", "40"})
+    private int headerCount;
+
+    private ResourceMethodType resourceMethod;
+    private BMap<?, ?> data;
+    private BMap<?, ?> serviceAnnotations;
+
+    @Setup
+    public void setup() {
+        this.resourceMethod = ResourceMethods.createOrderResource(body.getPayloadType(), PredefinedTypes.TYPE_STRING);
+        this.data = Envelopes.parseData(Envelopes.create(body, headerCount));
+        this.serviceAnnotations = ValueCreator.createMapValue();
+    }
+
+    @Benchmark
+    public Object[] bindArguments() {
+        return new HttpResource(resourceMethod, data, serviceAnnotations).getArgList();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.azure.functions.benchmarks;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.azure.functions.Utils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures converting path, query and header values to the types of the parameters they are bound to.
+ *
+ * @since 4.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParamConversionBenchmark {
+
+    @Param({"string", "int", "float", "decimal", "boolean", "int[]", "int?"})
+    private String typeName;
+
+    private Type type;
+    private BString value;
+
+    @Setup
+    public void setup() {
+        switch (typeName) {
+            case "int":
+                this.type = PredefinedTypes.TYPE_INT;
+                this.value = StringUtils.fromString("1234567");
+                break;
+            case "float":
+                this.type = PredefinedTypes.TYPE_FLOAT;
+                this.value = StringUtils.fromString("1234.567");
+                break;
+            case "decimal":
+                this.type = PredefinedTypes.TYPE_DECIMAL;
+                this.value = StringUtils.fromString("1234.567");
+                break;
+            case "boolean":
+                this.type = PredefinedTypes.TYPE_BOOLEAN;
+                this.value = StringUtils.fromString("true");
+                break;
+            case "int[]":
+                this.type = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+                this.value = StringUtils.fromString("1,2,3,4,5,6,7,8");
+                break;
+            case "int?":
+                this.type = TypeCreator.createUnionType(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_NULL);
+                this.value = StringUtils.fromString("1234567");
+                break;
+            default:
+                this.type = PredefinedTypes.TYPE_STRING;
+                this.value = StringUtils.fromString("order-1234567");
+                break;
+        }
+    }
+
+    @Benchmark
+    public Object createValue() {
+        return Utils.createValue(type, value);
+    }
+}
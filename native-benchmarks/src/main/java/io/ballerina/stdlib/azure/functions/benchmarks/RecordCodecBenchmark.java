@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.azure.functions.benchmarks;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.flags.TypeFlags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.azure.functions.converter.RecordJsonCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares writing record values with the record JSON codec to the generic {@code toJsonString} conversion.
+ * <p>
+ * Decoding is not measured here, since both paths create record values through the value creator of the compiled
+ * module that declares the type. It is covered by the round-trip tests of the codec and by the load harness.
+ *
+ * @since 4.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecordCodecBenchmark {
+
+    private static final Module MODULE = new Module("azf_benchmark", "orders", "1");
+    private static final long REQUIRED_FIELD = SymbolFlags.PUBLIC | SymbolFlags.REQUIRED;
+    private static final int LARGE_ORDER_COUNT = 512;
+    private static final int ITEM_COUNT = 4;
+
+    @Param({"SMALL", "LARGE"})
+    private String size;
+
+    private Object value;
+
+    @Setup
+    public void setup() {
+        RecordType addressType = createRecordType("Address",
+                "street", PredefinedTypes.TYPE_STRING,
+                "city", PredefinedTypes.TYPE_STRING,
+                "zip", TypeCreator.createUnionType(PredefinedTypes.TYPE_STRING, PredefinedTypes.TYPE_NULL));
+        RecordType itemType = createRecordType("Item",
+                "sku", PredefinedTypes.TYPE_STRING,
+                "quantity", PredefinedTypes.TYPE_INT,
+                "price", PredefinedTypes.TYPE_DECIMAL);
+        ArrayType itemsType = TypeCreator.createArrayType(itemType);
+        RecordType orderType = createRecordType("Order",
+                "id", PredefinedTypes.TYPE_STRING,
+                "express", PredefinedTypes.TYPE_BOOLEAN,
+                "weight", PredefinedTypes.TYPE_FLOAT,
+                "shipping", addressType,
+                "items", itemsType);
+        if ("LARGE".equals(size)) {
+            ArrayType ordersType = TypeCreator.createArrayType(orderType);
+            BArray orders = ValueCreator.createArrayValue(ordersType);
+            for (int i = 0; i < LARGE_ORDER_COUNT; i++) {
+                orders.append(createOrder(orderType, addressType, itemType, itemsType, i));
+            }
+            RecordJsonCodec.prepare(ordersType);
+            this.value = orders;
+        } else {
+            RecordJsonCodec.prepare(orderType);
+            this.value = createOrder(orderType, addressType, itemType, itemsType, 0);
+        }
+    }
+
+    @Benchmark
+    public String codecToJsonString() {
+        return RecordJsonCodec.toJsonString(value);
+    }
+
+    @Benchmark
+    public String genericToJsonString() {
+        return StringUtils.getJsonString(value);
+    }
+
+    private static BMap<BString, Object> createOrder(RecordType orderType, RecordType addressType,
+                                                     RecordType itemType, ArrayType itemsType, int index) {
+
+        BMap<BString, Object> address = ValueCreator.createMapValue(addressType);
+        address.put(StringUtils.fromString("street"), StringUtils.fromString(index + " Main \"Street\""));
+        address.put(StringUtils.fromString("city"), StringUtils.fromString("Colombo"));
+        address.put(StringUtils.fromString("zip"), null);
+        BArray items = ValueCreator.createArrayValue(itemsType);
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            BMap<BString, Object> item = ValueCreator.createMapValue(itemType);
+            item.put(StringUtils.fromString("sku"), StringUtils.fromString("sku-" + i));
+            item.put(StringUtils.fromString("quantity"), (long) i + 1);
+            item.put(StringUtils.fromString("price"), ValueCreator.createDecimalValue(i + ".50"));
+            items.append(item);
+        }
+        BMap<BString, Object> order = ValueCreator.createMapValue(orderType);
+        order.put(StringUtils.fromString("id"), StringUtils.fromString("order-" + index));
+        order.put(StringUtils.fromString("express"), index % 2 == 0);
+        order.put(StringUtils.fromString("weight"), index + 0.25);
+        order.put(StringUtils.fromString("shipping"), address);
+        order.put(StringUtils.fromString("items"), items);
+        return order;
+    }
+
+    /**
+     * Creates a closed record type with required fields, given as alternating names and types.
+     */
+    private static RecordType createRecordType(String name, Object... fieldsAndTypes) {
+
+        Map<String, Field> fields = new LinkedHashMap<>();
+        for (int i = 0; i < fieldsAndTypes.length; i += 2) {
+            String fieldName = (String) fieldsAndTypes[i];
+            fields.put(fieldName, TypeCreator.createField((Type) fieldsAndTypes[i + 1], fieldName, REQUIRED_FIELD));
+        }
+        return TypeCreator.createRecordType(name, MODULE, SymbolFlags.PUBLIC, fields, PredefinedTypes.TYPE_NEVER, true,
+                TypeFlags.asMask(TypeFlags.ANYDATA, TypeFlags.PURETYPE));
+    }
+}
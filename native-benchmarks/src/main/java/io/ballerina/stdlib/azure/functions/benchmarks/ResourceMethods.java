@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.azure.functions.benchmarks;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.FunctionType;
+import io.ballerina.runtime.api.types.Parameter;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.ResourceMethodType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Creates resource method types for the benchmarks, which otherwise are only created by compiled Ballerina services.
+ * <p>
+ * The types only answer the calls made by the binding and response pipeline of the native module. The resource carries
+ * the binding descriptor generated by the compiler plugin, so the descriptor is read the same way as in a deployed
+ * function.
+ *
+ * @since 4.2.0
+ */
+public final class ResourceMethods {
+
+    private static final String BINDING_DESCRIPTOR_ANNOTATION = "ballerinax/azure.functions:4:BindingDescriptor";
+
+    private ResourceMethods() {
+    }
+
+    /**
+     * Returns the type of {@code resource function post orders/[int id](@http:Payload T payload, int page)}.
+     *
+     * @param payloadType type of the payload parameter
+     * @param returnType  return type of the resource
+     * @return resource method type
+     */
+    public static ResourceMethodType createOrderResource(Type payloadType, Type returnType) {
+
+        Parameter[] parameters = {
+                new Parameter("id", false, PredefinedTypes.TYPE_INT),
+                new Parameter("payload", false, payloadType),
+                new Parameter("page", false, PredefinedTypes.TYPE_INT)
+        };
+        BMap<BString, Object> descriptor = ValueCreator.createMapValue();
+        descriptor.put(StringUtils.fromString("params"), ValueCreator.createArrayValue(
+                new BString[]{StringUtils.fromString("PAYLOAD"), StringUtils.fromString("QUERY")}));
+        descriptor.put(StringUtils.fromString("treatNilableAsOptional"), true);
+        descriptor.put(StringUtils.fromString("routed"), false);
+        Map<String, Object> annotations = new HashMap<>();
+        annotations.put(BINDING_DESCRIPTOR_ANNOTATION, descriptor);
+
+        FunctionType functionType = createProxy(FunctionType.class, Map.of("getReturnType", returnType,
+                "getParameters", parameters), Map.of());
+        Map<String, Object> values = new HashMap<>();
+        values.put("getName", "$post$orders$^");
+        values.put("getAccessor", "post");
+        values.put("getResourcePath", new String[]{"orders", "^"});
+        values.put("getParameters", parameters);
+        values.put("getType", functionType);
+        return createProxy(ResourceMethodType.class, values, annotations);
+    }
+
+    private static <T> T createProxy(Class<T> type, Map<String, Object> values, Map<String, Object> annotations) {
+
+        Object proxy = Proxy.newProxyInstance(ResourceMethods.class.getClassLoader(), new Class<?>[]{type},
+                (self, method, args) -> {
+                    switch (method.getName()) {
+                        case "hashCode":
+                            return System.identityHashCode(self);
+                        case "equals":
+                            return self == args[0];
+                        case "toString":
+                            return String.valueOf(values.get("getName"));
+                        case "getAnnotation":
+                            return annotations.get(((BString) args[0]).getValue());
+                        default:
+                            Object value = values.get(method.getName());
+                            if (value != null || !method.getReturnType().isPrimitive()) {
+                                return value;
+                            }
+                            return getDefaultValue(method.getReturnType());
+                    }
+                });
+        return type.cast(proxy);
+    }
+
+    private static Object getDefaultValue(Class<?> primitiveType) {
+
+        if (primitiveType == boolean.class) {
+            return false;
+        } else if (primitiveType == long.class) {
+            return 0L;
+        } else if (primitiveType == int.class) {
+            return 0;
+        }
+        return null;
+    }
+}
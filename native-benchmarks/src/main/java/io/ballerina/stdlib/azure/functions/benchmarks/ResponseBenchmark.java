@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.azure.functions.benchmarks;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.ResourceMethodType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.XmlUtils;
+import io.ballerina.stdlib.azure.functions.FunctionCallback;
+import io.ballerina.stdlib.azure.functions.logging.InvocationLog;
+import io.ballerina.stdlib.azure.functions.tracing.InvocationTrace;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures converting the value returned by a resource to the outputs sent back to the Functions host.
+ *
+ * @since 4.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseBenchmark {
+
+    private static final Module MODULE = new Module("ballerinax", "azure.functions", "4");
+
+    @Param({"NIL", "STRING", "SMALL_JSON", "LARGE_JSON", "XML", "BLOB"})
+    private String output;
+
+    private ResourceMethodType resourceMethod;
+    private Object result;
+
+    @Setup
+    public void setup() {
+        Type returnType;
+        switch (output) {
+            case "NIL":
+                returnType = PredefinedTypes.TYPE_NULL;
+                this.result = null;
+                break;
+            case "SMALL_JSON":
+                returnType = TypeCreator.createMapType(PredefinedTypes.TYPE_JSON);
+                this.result = JsonUtils.parse(Envelopes.createBody(Envelopes.Body.SMALL_JSON));
+                break;
+            case "LARGE_JSON":
+                returnType = PredefinedTypes.TYPE_JSON;
+                this.result = JsonUtils.parse(Envelopes.createBody(Envelopes.Body.LARGE_JSON));
+                break;
+            case "XML":
+                returnType = PredefinedTypes.TYPE_XML;
+                this.result = XmlUtils.parse(Envelopes.createBody(Envelopes.Body.XML));
+                break;
+            case "BLOB":
+                returnType = TypeCreator.createArrayType(PredefinedTypes.TYPE_BYTE);
+                this.result = ValueCreator.createArrayValue(new byte[64 * 1024]);
+                break;
+            default:
+                returnType = PredefinedTypes.TYPE_STRING;
+                this.result = StringUtils.fromString("Hello from the benchmark");
+                break;
+        }
+        this.resourceMethod = ResourceMethods.createOrderResource(PredefinedTypes.TYPE_STRING, returnType);
+    }
+
+    @Benchmark
+    public Object writeOutputs() throws ExecutionException, InterruptedException {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        new FunctionCallback(future, MODULE, resourceMethod, new InvocationLog(), InvocationTrace.none())
+                .notifySuccess(result);
+        return future.get();
+    }
+}
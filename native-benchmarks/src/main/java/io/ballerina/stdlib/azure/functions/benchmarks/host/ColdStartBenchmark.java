@@ -0,0 +1,312 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.azure.functions.benchmarks.host;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures the cold start of the worker generated for the JVM and the native builds, for apps of different sizes.
+ * <p>
+ * For each app size a package with that many HTTP functions is generated and built with {@code bal build}, once for
+ * each build kind. The worker is then launched the way the {@code customHandler} of {@code host.json} describes, and
+ * the time until it listens on its port, the time until the first envelope succeeds and the resident set size after
+ * the first requests are recorded, along with the startup checkpoints the worker logs after its first response. Each
+ * worker is launched several times and the medians are reported, so the JSON report can be compared with the report of
+ * another commit given with {@code --baseline}.
+ *
+ * @since 4.2.0
+ */
+public class ColdStartBenchmark {
+
+    private static final PrintStream OUT = System.out;
+    private static final int FUNCTIONS_PER_SERVICE = 50;
+    private static final long POLL_INTERVAL_MILLIS = 5;
+    private static final String STARTUP_TIMELINE_KEY = "startupTimeline=";
+
+    private ColdStartBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+
+        Options options = new Options(args);
+        List<Integer> sizes = new ArrayList<>();
+        for (String size : options.getString("sizes", "1,10,100,500").split(",")) {
+            sizes.add(Integer.parseInt(size.trim()));
+        }
+        List<String> kinds = Arrays.asList(options.getString("kinds", "jvm,native").split(","));
+        Path workDir = options.getPath("work-dir", "build/cold-start");
+        int runs = options.getInt("runs", 5);
+        int requests = options.getInt("requests", 100);
+        int port = options.getInt("port", 7072);
+        Duration startupTimeout = options.getSeconds("startup-timeout", 120);
+        Duration requestTimeout = options.getSeconds("request-timeout", 30);
+
+        JsonArray results = new JsonArray();
+        OUT.printf("%-8s %8s %14s %20s %12s%n", "build", "functions", "port ms", "first response ms", "RSS MB");
+        for (int size : sizes) {
+            Path projectDir = generateProject(workDir, size);
+            for (String kind : kinds) {
+                Path functionsDir = build(options, projectDir, kind.trim());
+                FunctionsHost host = FunctionsHost.load(functionsDir);
+                List<FunctionDefinition> functions = host.getFunctions();
+                List<Long> timesToPort = new ArrayList<>();
+                List<Long> timesToFirstResponse = new ArrayList<>();
+                List<Long> residentSetSizes = new ArrayList<>();
+                Map<String, List<Long>> checkpoints = new LinkedHashMap<>();
+                for (int run = 0; run < runs; run++) {
+                    int runPort = port++;
+                    try (WorkerProcess worker = host.start(runPort, Map.of())) {
+                        timesToPort.add(worker.awaitPort(startupTimeout).toNanos());
+                        EnvelopeClient client = new EnvelopeClient(runPort, requestTimeout);
+                        timesToFirstResponse.add(awaitFirstResponse(worker, client, functions.get(0), startupTimeout));
+                        for (int i = 1; i < requests; i++) {
+                            client.invoke(functions.get(i % functions.size()));
+                        }
+                        OptionalLong rss = worker.getResidentSetSize();
+                        if (rss.isPresent()) {
+                            residentSetSizes.add(rss.getAsLong());
+                        }
+                        Optional<JsonObject> timeline =
+                                readStartupTimeline(functionsDir.resolve("worker-" + runPort + ".log"));
+                        timeline.ifPresent(value -> addCheckpoints(checkpoints, value));
+                    }
+                }
+                JsonObject result = new JsonObject();
+                result.addProperty("kind", kind.trim());
+                result.addProperty("functions", size);
+                result.addProperty("runs", runs);
+                result.addProperty("timeToPortMillis", median(timesToPort) / 1e6);
+                result.addProperty("timeToFirstResponseMillis", median(timesToFirstResponse) / 1e6);
+                result.addProperty("residentSetSizeBytes", residentSetSizes.isEmpty() ? -1 : median(residentSetSizes));
+                JsonObject checkpointMillis = new JsonObject();
+                for (Map.Entry<String, List<Long>> checkpoint : checkpoints.entrySet()) {
+                    checkpointMillis.addProperty(checkpoint.getKey(), median(checkpoint.getValue()) / 1e6);
+                }
+                result.add("startupCheckpointMillis", checkpointMillis);
+                results.add(result);
+                OUT.printf("%-8s %8d %14.1f %20.1f %12.1f%n", kind.trim(), size,
+                        result.get("timeToPortMillis").getAsDouble(),
+                        result.get("timeToFirstResponseMillis").getAsDouble(),
+                        result.get("residentSetSizeBytes").getAsLong() / (1024.0 * 1024.0));
+            }
+        }
+
+        JsonObject report = new JsonObject();
+        report.addProperty("commit", options.getString("label", getCommit()));
+        report.addProperty("requests", requests);
+        report.add("results", results);
+        Path reportPath = options.getPath("report", "build/reports/cold-start/cold-start-report.json");
+        Files.createDirectories(reportPath.toAbsolutePath().getParent());
+        Files.writeString(reportPath, new GsonBuilder().setPrettyPrinting().create().toJson(report),
+                StandardCharsets.UTF_8);
+        OUT.println("report written to " + reportPath.toAbsolutePath());
+        if (options.has("baseline")) {
+            compare(FunctionsHost.readJson(options.getPath("baseline", null)), report);
+        }
+    }
+
+    private static long awaitFirstResponse(WorkerProcess worker, EnvelopeClient client, FunctionDefinition function,
+                                           Duration timeout) throws IOException, InterruptedException {
+
+        long deadline = worker.getStartNanos() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (client.invoke(function)) {
+                return System.nanoTime() - worker.getStartNanos();
+            }
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        }
+        throw new IOException("function " + function.getName() + " did not succeed within " + timeout);
+    }
+
+    /**
+     * Reads the startup timeline the worker logs after its first response, as the value of the
+     * {@code startupTimeline} key of the log line.
+     */
+    private static Optional<JsonObject> readStartupTimeline(Path log) throws IOException {
+
+        if (!Files.exists(log)) {
+            return Optional.empty();
+        }
+        for (String line : Files.readAllLines(log, StandardCharsets.UTF_8)) {
+            int index = line.indexOf(STARTUP_TIMELINE_KEY);
+            if (index < 0) {
+                continue;
+            }
+            try {
+                JsonElement timeline = new JsonParser().parse(line.substring(index + STARTUP_TIMELINE_KEY.length()));
+                if (timeline.isJsonObject()) {
+                    return Optional.of(timeline.getAsJsonObject());
+                }
+            } catch (JsonParseException e) {
+                return Optional.empty();
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static void addCheckpoints(Map<String, List<Long>> checkpoints, JsonObject timeline) {
+
+        for (JsonElement element : timeline.getAsJsonArray("checkpoints")) {
+            JsonObject checkpoint = element.getAsJsonObject();
+            long nanos = (long) (checkpoint.get("sinceProcessStartMillis").getAsDouble() * 1e6);
+            checkpoints.computeIfAbsent(checkpoint.get("name").getAsString(), name -> new ArrayList<>()).add(nanos);
+        }
+    }
+
+    /**
+     * Generates an app of HTTP functions without parameters or bindings, so that every function can be invoked with an
+     * empty envelope. The projects of the compiler plugin benchmarks are not used, as their functions need payloads and
+     * Azure resources to succeed.
+     */
+    private static Path generateProject(Path workDir, int functionCount) throws IOException {
+
+        Path projectDir = workDir.resolve("app_" + functionCount).toAbsolutePath();
+        Files.createDirectories(projectDir);
+        Files.writeString(projectDir.resolve("Ballerina.toml"), "[package]\norg = \"ballerinax\"\nname = \"app_" +
+                functionCount + "\"\nversion = \"1.0.0\"\n");
+
+        StringBuilder source = new StringBuilder();
+        source.append("import ballerinax/azure.functions as af;\n\n");
+        source.append("listener af:HttpListener ep = new ();\n\n");
+        int serviceCount = (functionCount + FUNCTIONS_PER_SERVICE - 1) / FUNCTIONS_PER_SERVICE;
+        for (int service = 0; service < serviceCount; service++) {
+            source.append("service /svc").append(service).append(" on ep {\n");
+            int resources = Math.min(FUNCTIONS_PER_SERVICE, functionCount - service * FUNCTIONS_PER_SERVICE);
+            for (int resource = 0; resource < resources; resource++) {
+                source.append("    resource function get res").append(resource).append("() returns string {\n")
+                        .append("        return \"res").append(resource).append("\";\n    }\n");
+            }
+            source.append("}\n\n");
+        }
+        Files.writeString(projectDir.resolve("main.bal"), source.toString());
+        return projectDir;
+    }
+
+    private static Path build(Options options, Path projectDir, String kind) throws IOException, InterruptedException {
+
+        List<String> command = new ArrayList<>();
+        command.add(options.getString("bal", "bal"));
+        command.add("build");
+        command.add("--offline");
+        if ("native".equals(kind)) {
+            // The local build option produces an executable for the current platform instead of a Linux container.
+            command.add("--graalvm");
+            command.add("--cloud=azure_functions_local");
+        } else if ("jvm".equals(kind)) {
+            command.add("--cloud=azure_functions");
+        } else {
+            throw new IllegalArgumentException("unknown build kind '" + kind + "', expected 'jvm' or 'native'");
+        }
+        Process process = new ProcessBuilder(command).directory(projectDir.toFile()).redirectErrorStream(true)
+                .redirectOutput(projectDir.resolve("build-" + kind + ".log").toFile()).start();
+        if (!process.waitFor(30, TimeUnit.MINUTES) || process.exitValue() != 0) {
+            process.destroyForcibly();
+            throw new IOException("'" + String.join(" ", command) + "' failed, see " +
+                    projectDir.resolve("build-" + kind + ".log"));
+        }
+        Path functionsDir = projectDir.resolve("target").resolve("azure_functions");
+        // Keep the artifact of each kind, as both builds write to the same directory.
+        Path kindDir = projectDir.resolve("target").resolve("azure_functions_" + kind);
+        deleteDirectory(kindDir);
+        Files.move(functionsDir, kindDir);
+        return kindDir;
+    }
+
+    private static void deleteDirectory(Path dir) throws IOException {
+
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Collections.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private static long median(List<Long> values) {
+
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        return sorted.get(sorted.size() / 2);
+    }
+
+    private static String getCommit() {
+
+        try {
+            Process process = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").redirectErrorStream(true)
+                    .start();
+            String commit = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+            return process.waitFor() == 0 ? commit : "unknown";
+        } catch (IOException e) {
+            return "unknown";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "unknown";
+        }
+    }
+
+    private static void compare(JsonObject baseline, JsonObject report) {
+
+        OUT.printf("%ncompared with %s%n", baseline.get("commit").getAsString());
+        OUT.printf("%-8s %8s %14s %20s %12s%n", "build", "functions", "port", "first response", "RSS");
+        for (JsonElement element : report.getAsJsonArray("results")) {
+            JsonObject result = element.getAsJsonObject();
+            for (JsonElement baselineElement : baseline.getAsJsonArray("results")) {
+                JsonObject baselineResult = baselineElement.getAsJsonObject();
+                if (!baselineResult.get("kind").equals(result.get("kind"))
+                        || !baselineResult.get("functions").equals(result.get("functions"))) {
+                    continue;
+                }
+                OUT.printf("%-8s %8d %13.1f%% %19.1f%% %11.1f%%%n", result.get("kind").getAsString(),
+                        result.get("functions").getAsInt(),
+                        change(baselineResult, result, "timeToPortMillis"),
+                        change(baselineResult, result, "timeToFirstResponseMillis"),
+                        change(baselineResult, result, "residentSetSizeBytes"));
+            }
+        }
+    }
+
+    private static double change(JsonObject baseline, JsonObject result, String member) {
+
+        double before = baseline.get(member).getAsDouble();
+        return before <= 0 ? 0 : (result.get(member).getAsDouble() - before) * 100 / before;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.azure.functions.benchmarks.host;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Posts invocation envelopes to the worker the way the Functions host does.
+ *
+ * @since 4.2.0
+ */
+public class EnvelopeClient {
+
+    private static final int SERVER_ERROR = 500;
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final Duration timeout;
+
+    public EnvelopeClient(int port, Duration timeout) {
+        this.httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).connectTimeout(timeout)
+                .build();
+        this.baseUrl = "http://localhost:" + port + "/";
+        this.timeout = timeout;
+    }
+
+    /**
+     * Invokes the function and checks the response. An invocation fails when the worker does not respond with 200, or
+     * when an HTTP function responds with a server error status code.
+     *
+     * @param function function to invoke
+     * @return whether the invocation succeeded
+     */
+    public boolean invoke(FunctionDefinition function) {
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + function.getName())).timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(function.getEnvelope())).build();
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        if (response.statusCode() != 200) {
+            return false;
+        }
+        return !function.isHttp() || !isServerError(response.body());
+    }
+
+    private static boolean isServerError(String body) {
+
+        try {
+            JsonObject outputs = new JsonParser().parse(body).getAsJsonObject().getAsJsonObject("Outputs");
+            for (Map.Entry<String, JsonElement> output : outputs.entrySet()) {
+                if (!output.getValue().isJsonObject()) {
+                    continue;
+                }
+                JsonElement statusCode = output.getValue().getAsJsonObject().get("statusCode");
+                if (statusCode != null && statusCode.getAsInt() >= SERVER_ERROR) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (RuntimeException e) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.azure.functions.benchmarks.host;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * A function read from its {@code function.json}, along with the envelope the host posts to invoke it.
+ *
+ * @since 4.2.0
+ */
+public class FunctionDefinition {
+
+    private final String name;
+    private final String triggerType;
+    private final String triggerName;
+    private final String method;
+    private final String route;
+    private String envelope;
+
+    private FunctionDefinition(String name, String triggerType, String triggerName, String method, String route) {
+        this.name = name;
+        this.triggerType = triggerType;
+        this.triggerName = triggerName;
+        this.method = method;
+        this.route = route;
+        this.envelope = createEnvelope();
+    }
+
+    static FunctionDefinition fromFunctionJson(String name, JsonObject functionJson) {
+
+        for (JsonElement element : functionJson.getAsJsonArray("bindings")) {
+            JsonObject binding = element.getAsJsonObject();
+            String type = binding.get("type").getAsString();
+            if (!type.endsWith("Trigger")) {
+                continue;
+            }
+            String method = "POST";
+            JsonArray methods = binding.getAsJsonArray("methods");
+            if (methods != null && methods.size() > 0) {
+                method = methods.get(0).getAsString();
+            }
+            String route = binding.has("route") ? binding.get("route").getAsString() : name;
+            return new FunctionDefinition(name, type, binding.get("name").getAsString(), method, route);
+        }
+        throw new IllegalArgumentException("no trigger binding found in function '" + name + "'");
+    }
+
+    /**
+     * Replaces the generated envelope with {@code <function name>.json} of the given directory, if it exists. This is
+     * used for functions whose parameters cannot be bound from the generated request.
+     *
+     * @param envelopesDir directory of the envelope templates
+     * @throws IOException if the template cannot be read
+     */
+    public void loadEnvelope(Path envelopesDir) throws IOException {
+        Path template = envelopesDir.resolve(name + ".json");
+        if (Files.isRegularFile(template)) {
+            this.envelope = Files.readString(template, StandardCharsets.UTF_8);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getTriggerType() {
+        return triggerType;
+    }
+
+    public boolean isHttp() {
+        return "httpTrigger".equals(triggerType);
+    }
+
+    public String getEnvelope() {
+        return envelope;
+    }
+
+    private String createEnvelope() {
+
+        JsonObject data = new JsonObject();
+        JsonObject metadata = new JsonObject();
+        switch (triggerType) {
+            case "httpTrigger":
+                data.add(triggerName, createHttpPayload());
+                break;
+            case "queueTrigger":
+                data.addProperty(triggerName, "\"load test message\"");
+                break;
+            case "blobTrigger":
+                data.addProperty(triggerName,
+                        Base64.getEncoder().encodeToString("load test blob".getBytes(StandardCharsets.UTF_8)));
+                metadata.addProperty("name", "\"load-test.txt\"");
+                metadata.addProperty("Uri", "\"http://127.0.0.1:10000/devstoreaccount1/load/load-test.txt\"");
+                break;
+            case "timerTrigger":
+                JsonObject timer = new JsonObject();
+                JsonObject schedule = new JsonObject();
+                schedule.addProperty("AdjustForDST", true);
+                timer.add("Schedule", schedule);
+                timer.add("ScheduleStatus", null);
+                timer.addProperty("IsPastDue", false);
+                data.add(triggerName, timer);
+                break;
+            case "cosmosDBTrigger":
+                data.addProperty(triggerName, "[{\"id\":\"" + UUID.randomUUID() + "\",\"name\":\"load test\"," +
+                        "\"_rid\":\"zlIsAKxe8VCBhB4AAAAAAA==\",\"_ts\":1656497818}]");
+                break;
+            default:
+                data.addProperty(triggerName, "\"load test\"");
+                break;
+        }
+        JsonObject sys = new JsonObject();
+        sys.addProperty("MethodName", name);
+        sys.addProperty("UtcNow", "2024-01-01T00:00:00Z");
+        sys.addProperty("RandGuid", UUID.randomUUID().toString());
+        metadata.add("sys", sys);
+        JsonObject envelope = new JsonObject();
+        envelope.add("Data", data);
+        envelope.add("Metadata", metadata);
+        return envelope.toString();
+    }
+
+    private JsonObject createHttpPayload() {
+
+        // Path parameters are bound to "1", which can be converted to any of the path parameter types, the same way
+        // the host binds the route parameters.
+        JsonObject params = new JsonObject();
+        StringBuilder path = new StringBuilder();
+        for (String segment : route.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            String value = segment;
+            if (segment.startsWith("{") && segment.endsWith("}")) {
+                boolean rest = segment.startsWith("{*");
+                String paramName = segment.substring(1, segment.length() - 1).replace("*", "");
+                value = rest ? "1/2" : "1";
+                params.addProperty(paramName, value);
+            }
+            path.append('/').append(value);
+        }
+        JsonObject headers = new JsonObject();
+        headers.add("Content-Type", singleValue("text/plain"));
+        headers.add("Host", singleValue("localhost:7071"));
+        headers.add("User-Agent", singleValue("ballerina-load-harness"));
+        JsonObject payload = new JsonObject();
+        payload.addProperty("Url", "http://localhost:7071" + path);
+        payload.addProperty("Method", method);
+        payload.add("Query", new JsonObject());
+        payload.add("Headers", headers);
+        payload.add("Params", params);
+        payload.add("Identities", new JsonArray());
+        payload.addProperty("Body", "load test");
+        return payload;
+    }
+
+    private static JsonArray singleValue(String value) {
+        JsonArray values = new JsonArray();
+        values.add(new JsonPrimitive(value));
+        return values;
+    }
+}
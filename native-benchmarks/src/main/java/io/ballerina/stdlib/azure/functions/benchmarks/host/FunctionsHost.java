@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.azure.functions.benchmarks.host;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Stands in for the Functions host on a generated {@code azure_functions} directory.
+ * <p>
+ * The worker is launched the way the {@code customHandler} section of {@code host.json} describes, and the functions
+ * are read from the {@code function.json} files, so the artifacts are exercised exactly as they are deployed.
+ *
+ * @since 4.2.0
+ */
+public class FunctionsHost {
+
+    private static final Pattern APP_SETTING = Pattern.compile("%([A-Za-z0-9_]+)%");
+
+    private final Path functionsDir;
+    private final List<String> command;
+    private final Path workingDir;
+    private final List<FunctionDefinition> functions;
+
+    private FunctionsHost(Path functionsDir, List<String> command, Path workingDir,
+                          List<FunctionDefinition> functions) {
+        this.functionsDir = functionsDir;
+        this.command = command;
+        this.workingDir = workingDir;
+        this.functions = functions;
+    }
+
+    /**
+     * Reads the host configuration and the functions of the given directory.
+     *
+     * @param functionsDir generated azure_functions directory
+     * @return host stand-in
+     * @throws IOException if the directory cannot be read
+     */
+    public static FunctionsHost load(Path functionsDir) throws IOException {
+
+        JsonObject hostJson = readJson(functionsDir.resolve("host.json"));
+        JsonObject description = hostJson.getAsJsonObject("customHandler").getAsJsonObject("description");
+        List<String> command = new ArrayList<>();
+        String executable = description.get("defaultExecutablePath").getAsString();
+        Path localExecutable = functionsDir.resolve(executable);
+        command.add(Files.isRegularFile(localExecutable) ? localExecutable.toAbsolutePath().toString() : executable);
+        JsonArray arguments = description.has("arguments") ? description.getAsJsonArray("arguments") : new JsonArray();
+        for (JsonElement argument : arguments) {
+            String value = expandAppSettings(argument.getAsString());
+            if (!value.isBlank()) {
+                command.add(value);
+            }
+        }
+        if (description.has("defaultWorkerPath")) {
+            command.add(functionsDir.resolve(description.get("defaultWorkerPath").getAsString()).toAbsolutePath()
+                    .toString());
+        }
+        Path workingDir = functionsDir;
+        if (description.has("workingDirectory") && !description.get("workingDirectory").getAsString().isEmpty()) {
+            workingDir = functionsDir.resolve(description.get("workingDirectory").getAsString());
+        }
+
+        List<FunctionDefinition> functions = new ArrayList<>();
+        try (Stream<Path> children = Files.list(functionsDir)) {
+            for (Path functionJson : children.map(child -> child.resolve("function.json")).sorted().toList()) {
+                if (Files.isRegularFile(functionJson)) {
+                    String name = functionJson.getParent().getFileName().toString();
+                    functions.add(FunctionDefinition.fromFunctionJson(name, readJson(functionJson)));
+                }
+            }
+        }
+        return new FunctionsHost(functionsDir, command, workingDir, functions);
+    }
+
+    public List<FunctionDefinition> getFunctions() {
+        return functions;
+    }
+
+    public Path getFunctionsDir() {
+        return functionsDir;
+    }
+
+    /**
+     * Launches the worker with {@code FUNCTIONS_CUSTOMHANDLER_PORT} set to the given port.
+     *
+     * @param port        port the worker listens on
+     * @param environment additional environment variables
+     * @return worker process
+     * @throws IOException if the worker cannot be launched
+     */
+    public WorkerProcess start(int port, Map<String, String> environment) throws IOException {
+
+        ProcessBuilder processBuilder = new ProcessBuilder(command).directory(workingDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(functionsDir.resolve("worker-" + port + ".log").toFile());
+        processBuilder.environment().putAll(environment);
+        processBuilder.environment().put("FUNCTIONS_CUSTOMHANDLER_PORT", Integer.toString(port));
+        long startNanos = System.nanoTime();
+        return new WorkerProcess(processBuilder.start(), port, startNanos);
+    }
+
+    private static String expandAppSettings(String value) {
+
+        Matcher matcher = APP_SETTING.matcher(value);
+        StringBuilder expanded = new StringBuilder();
+        while (matcher.find()) {
+            String setting = System.getenv(matcher.group(1));
+            matcher.appendReplacement(expanded, Matcher.quoteReplacement(setting == null ? "" : setting));
+        }
+        matcher.appendTail(expanded);
+        return expanded.toString();
+    }
+
+    static JsonObject readJson(Path path) throws IOException {
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return new JsonParser().parse(reader).getAsJsonObject();
+        }
+    }
+}
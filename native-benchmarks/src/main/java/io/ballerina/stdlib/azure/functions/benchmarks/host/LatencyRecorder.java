@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.azure.functions.benchmarks.host;
+
+import com.google.gson.JsonObject;
+
+import java.util.Arrays;
+
+/**
+ * Records the latency and the outcome of the invocations of a function.
+ *
+ * @since 4.2.0
+ */
+public class LatencyRecorder {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private long errors;
+
+    /**
+     * Records an invocation.
+     *
+     * @param latencyNanos time from the intended send time until the response was received
+     * @param success      whether the invocation succeeded
+     */
+    public synchronized void record(long latencyNanos, boolean success) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    /**
+     * Adds the invocations recorded by this recorder to the given recorder.
+     *
+     * @param target recorder to add the invocations to
+     */
+    public synchronized void copyTo(LatencyRecorder target) {
+        long remainingErrors = errors;
+        for (int i = 0; i < count; i++) {
+            target.record(latencies[i], remainingErrors-- <= 0);
+        }
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Returns the summary of the recorded invocations as JSON.
+     *
+     * @param durationNanos duration of the measurement
+     * @return summary with the throughput, the error rate and the latency percentiles in milliseconds
+     */
+    public synchronized JsonObject summarize(long durationNanos) {
+
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        JsonObject summary = new JsonObject();
+        summary.addProperty("requests", count);
+        summary.addProperty("errors", errors);
+        summary.addProperty("errorRate", count == 0 ? 0 : (double) errors / count);
+        summary.addProperty("throughput", count * 1_000_000_000.0 / Math.max(durationNanos, 1));
+        summary.addProperty("p50Millis", percentile(sorted, 0.5));
+        summary.addProperty("p99Millis", percentile(sorted, 0.99));
+        summary.addProperty("p999Millis", percentile(sorted, 0.999));
+        summary.addProperty("maxMillis", count == 0 ? 0 : sorted[count - 1] / NANOS_PER_MILLI);
+        return summary;
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / NANOS_PER_MILLI;
+    }
+}
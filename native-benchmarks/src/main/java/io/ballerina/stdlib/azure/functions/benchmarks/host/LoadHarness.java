@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.azure.functions.benchmarks.host;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+/**
+ * Load tests a generated {@code azure_functions} directory end to end, with this tool in the role of the Functions
+ * host.
+ * <p>
+ * The worker is launched with {@code FUNCTIONS_CUSTOMHANDLER_PORT} set, and invocation envelopes for the HTTP, queue,
+ * blob, timer and Cosmos DB triggers are posted to it at the given concurrency. When a rate is given, requests are
+ * sent on a fixed schedule and the latency is measured from the scheduled send time, so a slow worker is not hidden
+ * by the harness backing off. Everything runs against localhost, so the harness works offline.
+ * <p>
+ * The throughput, the error rate and the p50, p99 and p99.9 latencies of each function are printed and written to a
+ * JSON report. The process exits with 1 when {@code --max-error-rate} or {@code --max-p99-millis} is exceeded, so it
+ * can be used as a release gate.
+ *
+ * @since 4.2.0
+ */
+public class LoadHarness {
+
+    private static final PrintStream OUT = System.out;
+
+    private LoadHarness() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+
+        Options options = new Options(args);
+        FunctionsHost host = FunctionsHost.load(options.getPath("functions-dir", null));
+        List<FunctionDefinition> functions = selectFunctions(host.getFunctions(), options.getString("functions", ""));
+        if (options.has("envelopes")) {
+            for (FunctionDefinition function : functions) {
+                function.loadEnvelope(options.getPath("envelopes", null));
+            }
+        }
+        int port = options.getInt("port", 7072);
+        int concurrency = options.getInt("concurrency", 16);
+        double rate = options.getDouble("rate", 0);
+        Duration warmup = options.getSeconds("warmup", 5);
+        Duration duration = options.getSeconds("duration", 30);
+
+        JsonObject report = new JsonObject();
+        try (WorkerProcess worker = host.start(port, Map.of())) {
+            Duration timeToPort = worker.awaitPort(options.getSeconds("startup-timeout", 120));
+            OUT.printf("worker listening on port %d after %d ms%n", port, timeToPort.toMillis());
+            EnvelopeClient client = new EnvelopeClient(port, options.getSeconds("request-timeout", 30));
+            run(client, functions, concurrency, rate, warmup, new LinkedHashMap<>());
+            Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+            long elapsedNanos = run(client, functions, concurrency, rate, duration, recorders);
+
+            JsonObject functionReports = new JsonObject();
+            LatencyRecorder total = new LatencyRecorder();
+            OUT.printf("%-40s %10s %8s %12s %10s %10s %10s%n", "function", "requests", "errors", "req/s",
+                    "p50 ms", "p99 ms", "p99.9 ms");
+            for (Map.Entry<String, LatencyRecorder> entry : recorders.entrySet()) {
+                JsonObject summary = entry.getValue().summarize(elapsedNanos);
+                functionReports.add(entry.getKey(), summary);
+                print(entry.getKey(), summary);
+            }
+            report.addProperty("concurrency", concurrency);
+            report.addProperty("rate", rate);
+            report.addProperty("durationSeconds", duration.getSeconds());
+            report.addProperty("timeToPortMillis", timeToPort.toMillis());
+            report.add("functions", functionReports);
+            report.add("total", merge(recorders, total).summarize(elapsedNanos));
+            print("total", report.getAsJsonObject("total"));
+        }
+
+        Path reportPath = options.getPath("report", "build/reports/load/load-report.json");
+        Files.createDirectories(reportPath.toAbsolutePath().getParent());
+        Files.writeString(reportPath, new GsonBuilder().setPrettyPrinting().create().toJson(report),
+                StandardCharsets.UTF_8);
+        OUT.println("report written to " + reportPath.toAbsolutePath());
+
+        JsonObject totals = report.getAsJsonObject("total");
+        double maxErrorRate = options.getDouble("max-error-rate", 1);
+        double maxP99 = options.getDouble("max-p99-millis", Double.MAX_VALUE);
+        if (totals.get("errorRate").getAsDouble() > maxErrorRate || totals.get("p99Millis").getAsDouble() > maxP99) {
+            OUT.println("load test thresholds exceeded");
+            System.exit(1);
+        }
+    }
+
+    private static long run(EnvelopeClient client, List<FunctionDefinition> functions, int concurrency, double rate,
+                            Duration duration, Map<String, LatencyRecorder> recorders) throws InterruptedException {
+
+        for (FunctionDefinition function : functions) {
+            recorders.put(function.getName(), new LatencyRecorder());
+        }
+        long startNanos = System.nanoTime();
+        long endNanos = startNanos + duration.toNanos();
+        long intervalNanos = rate > 0 ? (long) (1_000_000_000L / rate) : 0;
+        AtomicLong nextSendNanos = new AtomicLong(startNanos);
+        AtomicLong sequence = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            executor.execute(() -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                    long sendNanos = System.nanoTime();
+                    if (intervalNanos > 0) {
+                        sendNanos = nextSendNanos.getAndAdd(intervalNanos);
+                        long waitNanos = sendNanos - System.nanoTime();
+                        if (waitNanos > 0) {
+                            LockSupport.parkNanos(waitNanos);
+                        }
+                    }
+                    if (sendNanos >= endNanos) {
+                        return;
+                    }
+                    FunctionDefinition function =
+                            functions.get((int) (sequence.getAndIncrement() % functions.size()));
+                    boolean success = client.invoke(function);
+                    recorders.get(function.getName()).record(System.nanoTime() - sendNanos, success);
+                }
+            });
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+        return System.nanoTime() - startNanos;
+    }
+
+    private static List<FunctionDefinition> selectFunctions(List<FunctionDefinition> functions, String names) {
+
+        if (names.isBlank()) {
+            return functions;
+        }
+        Set<String> selected = Arrays.stream(names.split(",")).map(String::trim).collect(Collectors.toSet());
+        List<FunctionDefinition> selectedFunctions = new ArrayList<>();
+        for (FunctionDefinition function : functions) {
+            if (selected.contains(function.getName())) {
+                selectedFunctions.add(function);
+            }
+        }
+        if (selectedFunctions.isEmpty()) {
+            throw new IllegalArgumentException("none of the functions '" + names + "' exist");
+        }
+        return selectedFunctions;
+    }
+
+    private static LatencyRecorder merge(Map<String, LatencyRecorder> recorders, LatencyRecorder total) {
+        for (LatencyRecorder recorder : recorders.values()) {
+            recorder.copyTo(total);
+        }
+        return total;
+    }
+
+    private static void print(String name, JsonObject summary) {
+        OUT.printf("%-40s %10d %8d %12.1f %10.2f %10.2f %10.2f%n", name, summary.get("requests").getAsLong(),
+                summary.get("errors").getAsLong(), summary.get("throughput").getAsDouble(),
+                summary.get("p50Millis").getAsDouble(), summary.get("p99Millis").getAsDouble(),
+                summary.get("p999Millis").getAsDouble());
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.azure.functions.benchmarks.host;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command line options of the benchmark tools, given as {@code --name value} pairs.
+ *
+ * @since 4.2.0
+ */
+public class Options {
+
+    private final Map<String, String> values = new HashMap<>();
+
+    public Options(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 == args.length) {
+                throw new IllegalArgumentException("expected '--<name> <value>' but found '" + args[i] + "'");
+            }
+            values.put(args[i].substring(2), args[++i]);
+        }
+    }
+
+    public String getString(String name, String defaultValue) {
+        return values.getOrDefault(name, defaultValue);
+    }
+
+    public Path getPath(String name, String defaultValue) {
+        String value = values.getOrDefault(name, defaultValue);
+        if (value == null) {
+            throw new IllegalArgumentException("option '--" + name + "' is required");
+        }
+        return Path.of(value);
+    }
+
+    public int getInt(String name, int defaultValue) {
+        return values.containsKey(name) ? Integer.parseInt(values.get(name)) : defaultValue;
+    }
+
+    public double getDouble(String name, double defaultValue) {
+        return values.containsKey(name) ? Double.parseDouble(values.get(name)) : defaultValue;
+    }
+
+    /**
+     * Returns a duration given in seconds.
+     *
+     * @param name         option name
+     * @param defaultValue default value in seconds
+     * @return duration
+     */
+    public Duration getSeconds(String name, long defaultValue) {
+        return Duration.ofSeconds(values.containsKey(name) ? Long.parseLong(values.get(name)) : defaultValue);
+    }
+
+    public boolean has(String name) {
+        return values.containsKey(name);
+    }
+}
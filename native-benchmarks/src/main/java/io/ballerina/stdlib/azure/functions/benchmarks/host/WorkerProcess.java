@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.azure.functions.benchmarks.host;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A worker launched by {@link FunctionsHost}.
+ *
+ * @since 4.2.0
+ */
+public class WorkerProcess implements AutoCloseable {
+
+    private static final int CONNECT_TIMEOUT_MILLIS = 100;
+    private static final long POLL_INTERVAL_MILLIS = 5;
+
+    private final Process process;
+    private final int port;
+    private final long startNanos;
+
+    WorkerProcess(Process process, int port, long startNanos) {
+        this.process = process;
+        this.port = port;
+        this.startNanos = startNanos;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * Returns the {@link System#nanoTime()} at which the worker was launched.
+     *
+     * @return launch time
+     */
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    /**
+     * Waits until the worker accepts connections on its port.
+     *
+     * @param timeout maximum time to wait
+     * @return time from the launch until the port accepted a connection
+     * @throws IOException if the worker exits or does not listen within the timeout
+     */
+    public Duration awaitPort(Duration timeout) throws IOException {
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IOException("worker exited with code " + process.exitValue() + " before listening");
+            }
+            try (Socket socket = new Socket()) {
+                socket.connect(new InetSocketAddress("localhost", port), CONNECT_TIMEOUT_MILLIS);
+                return Duration.ofNanos(System.nanoTime() - startNanos);
+            } catch (IOException e) {
+                sleep(POLL_INTERVAL_MILLIS);
+            }
+        }
+        throw new IOException("worker did not listen on port " + port + " within " + timeout);
+    }
+
+    /**
+     * Returns the resident set size of the worker, read from {@code /proc}.
+     *
+     * @return resident set size in bytes, or empty where it cannot be read
+     */
+    public OptionalLong getResidentSetSize() {
+
+        Path status = Path.of("/proc", Long.toString(process.pid()), "status");
+        if (!Files.isReadable(status)) {
+            return OptionalLong.empty();
+        }
+        try {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmRSS:")) {
+                    String[] parts = line.substring("VmRSS:".length()).trim().split("\\s+");
+                    return OptionalLong.of(Long.parseLong(parts[0]) * 1024);
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.empty();
+    }
+
+    @Override
+    public void close() {
+        process.descendants().forEach(ProcessHandle::destroy);
+        process.destroy();
+        try {
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            process.destroyForcibly();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.azure.functions;
+
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.Parameter;
+import io.ballerina.runtime.api.types.RemoteMethodType;
+import io.ballerina.runtime.api.types.ResourceMethodType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.azure.functions.bindings.input.InputBinding;
+import io.ballerina.stdlib.azure.functions.converter.RecordJsonCodec;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Describes how each parameter of a resource or remote function is bound.
+ * <p>
+ * The descriptor is read from the {@code @af:BindingDescriptor} annotation generated by the compiler plugin. Functions
+ * without it, such as the ones of packages built with an older plugin, are described by inspecting the parameter
+ * annotations instead. Either way the descriptor is created once per function and reused for every invocation, and the
+ * JSON codecs of the record types the function binds are built along with it. The generated descriptor also records the
+ * output binding of each member of a tuple return type, and whether the resource is served by the HTTP router function.
+ *
+ * @since 4.2.0
+ */
+public class BindingDescriptor {
+
+    private static final Map<MethodType, BindingDescriptor> DESCRIPTORS = new ConcurrentHashMap<>();
+
+    /**
+     * Binding kind of a parameter.
+     */
+    public enum Kind {
+        PATH, QUERY, PAYLOAD, HEADER, INPUT, BINDING_NAME, DATA, NONE
+    }
+
+    private final Kind[] kinds;
+    private final String[] headerNames;
+    private final InputBinding[] inputBindings;
+    private final int pathParamCount;
+    private final boolean treatNilableAsOptional;
+    private List<String> outputBindings;
+
+    private BindingDescriptor(int paramCount, int pathParamCount, boolean treatNilableAsOptional) {
+        this.kinds = new Kind[paramCount];
+        this.headerNames = new String[paramCount];
+        this.inputBindings = new InputBinding[paramCount];
+        this.pathParamCount = pathParamCount;
+        this.treatNilableAsOptional = treatNilableAsOptional;
+        for (int i = 0; i < pathParamCount; i++) {
+            this.kinds[i] = Kind.PATH;
+        }
+    }
+
+    public static BindingDescriptor getResourceDescriptor(ResourceMethodType resourceMethod,
+                                                          BMap<?, ?> serviceAnnotations) {
+        return DESCRIPTORS.computeIfAbsent(resourceMethod,
+                method -> prepareCodecs(method, createResourceDescriptor(resourceMethod, serviceAnnotations)));
+    }
+
+    public static BindingDescriptor getRemoteDescriptor(RemoteMethodType remoteMethod) {
+        return DESCRIPTORS.computeIfAbsent(remoteMethod,
+                method -> prepareCodecs(method, createRemoteDescriptor(remoteMethod)));
+    }
+
+    /**
+     * Returns the output binding of each member of the tuple returned by the given function, as recorded by the
+     * compiler plugin.
+     *
+     * @param method resource or remote function, whose descriptor has been created
+     * @return output binding names, or empty if the layout has not been recorded
+     */
+    public static Optional<List<String>> getOutputBindings(MethodType method) {
+        BindingDescriptor descriptor = DESCRIPTORS.get(method);
+        return descriptor == null ? Optional.empty() : Optional.ofNullable(descriptor.outputBindings);
+    }
+
+    /**
+     * Checks whether the compiler plugin has marked the resource to be served by the HTTP router function.
+     *
+     * @param resourceMethod resource function
+     * @return true if the resource does not have a function of its own
+     */
+    public static boolean isRouted(ResourceMethodType resourceMethod) {
+        Object generated = resourceMethod.getAnnotation(
+                StringUtils.fromString(Constants.BINDING_DESCRIPTOR_ANNOTATION_COMPLETE));
+        return generated instanceof BMap && ((BMap<?, ?>) generated).getBooleanValue(
+                StringUtils.fromString(Constants.BINDING_DESCRIPTOR_ROUTED_FIELD));
+    }
+
+    public Kind getKind(int index) {
+        return kinds[index];
+    }
+
+    /**
+     * Returns the header name given in the {@code @http:Header} annotation of the parameter.
+     *
+     * @param index parameter index
+     * @return header name, or null if the parameter name or the record fields are used
+     */
+    public String getHeaderName(int index) {
+        return headerNames[index];
+    }
+
+    public InputBinding getInputBinding(int index) {
+        return inputBindings[index];
+    }
+
+    public int getParamCount() {
+        return kinds.length;
+    }
+
+    public int getPathParamCount() {
+        return pathParamCount;
+    }
+
+    public boolean isTreatNilableAsOptional() {
+        return treatNilableAsOptional;
+    }
+
+    private static BindingDescriptor prepareCodecs(MethodType method, BindingDescriptor descriptor) {
+        Parameter[] parameters = method.getParameters();
+        for (int i = 0; i < parameters.length; i++) {
+            Kind kind = descriptor.kinds[i];
+            if (kind == Kind.PAYLOAD || kind == Kind.INPUT || kind == Kind.DATA) {
+                RecordJsonCodec.prepare(parameters[i].type);
+            }
+        }
+        RecordJsonCodec.prepare(method.getType().getReturnType());
+        return descriptor;
+    }
+
+    private static BindingDescriptor createResourceDescriptor(ResourceMethodType resourceMethod,
+                                                              BMap<?, ?> serviceAnnotations) {
+        Parameter[] parameters = resourceMethod.getParameters();
+        int pathParamCount = 0;
+        for (String path : resourceMethod.getResourcePath()) {
+            if (path.equals(Constants.PATH_PARAM) || path.equals(Constants.REST_PATH_PARAM)) {
+                pathParamCount++;
+            }
+        }
+        Object generated = resourceMethod.getAnnotation(
+                StringUtils.fromString(Constants.BINDING_DESCRIPTOR_ANNOTATION_COMPLETE));
+        if (generated instanceof BMap) {
+            BMap<?, ?> generatedDescriptor = (BMap<?, ?>) generated;
+            boolean treatNilableAsOptional = generatedDescriptor.getBooleanValue(
+                    StringUtils.fromString(Constants.TREAT_NILABLE_AS_OPTIONAL));
+            Optional<BindingDescriptor> descriptor = fromGeneratedDescriptor(generatedDescriptor,
+                    parameters.length, pathParamCount, treatNilableAsOptional);
+            if (descriptor.isPresent()) {
+                return descriptor.get();
+            }
+        }
+
+        boolean treatNilableAsOptional = true;
+        if (ParamHandler.isHttpServiceConfExist(serviceAnnotations)) {
+            String serviceConfig = Constants.HTTP_ANNOTATION_PREFIX + Constants.SERVICE_CONF_ANNOTATION;
+            treatNilableAsOptional = serviceAnnotations.getMapValue(StringUtils.fromString(serviceConfig))
+                    .getBooleanValue(StringUtils.fromString(Constants.TREAT_NILABLE_AS_OPTIONAL));
+        }
+        BindingDescriptor descriptor = new BindingDescriptor(parameters.length, pathParamCount,
+                treatNilableAsOptional);
+        for (int i = pathParamCount; i < parameters.length; i++) {
+            Object annotation = resourceMethod.getAnnotation(
+                    StringUtils.fromString(Constants.PARAMETER_ANNOTATION + parameters[i].name));
+            Optional<InputBinding> inputBinding = ParamHandler.getInputBindingHandler(annotation);
+            if (inputBinding.isPresent()) {
+                descriptor.kinds[i] = Kind.INPUT;
+                descriptor.inputBindings[i] = inputBinding.get();
+            } else if (ParamHandler.isPayloadAnnotationParam(annotation)) {
+                descriptor.kinds[i] = Kind.PAYLOAD;
+            } else if (ParamHandler.isHeaderAnnotationParam(annotation)) {
+                descriptor.kinds[i] = Kind.HEADER;
+                descriptor.headerNames[i] = getHeaderName((BMap<?, ?>) annotation);
+            } else if (ParamHandler.isQueryAnnotationParam(annotation)) {
+                descriptor.kinds[i] = Kind.QUERY;
+            } else {
+                descriptor.kinds[i] = Kind.NONE;
+            }
+        }
+        return descriptor;
+    }
+
+    private static BindingDescriptor createRemoteDescriptor(RemoteMethodType remoteMethod) {
+        Parameter[] parameters = remoteMethod.getParameters();
+        Object generated = remoteMethod.getAnnotation(
+                StringUtils.fromString(Constants.BINDING_DESCRIPTOR_ANNOTATION_COMPLETE));
+        if (generated instanceof BMap) {
+            Optional<BindingDescriptor> descriptor = fromGeneratedDescriptor((BMap<?, ?>) generated,
+                    parameters.length, 0, true);
+            if (descriptor.isPresent()) {
+                return descriptor.get();
+            }
+        }
+
+        BindingDescriptor descriptor = new BindingDescriptor(parameters.length, 0, true);
+        for (int i = 0; i < parameters.length; i++) {
+            Object annotation = remoteMethod.getAnnotation(
+                    StringUtils.fromString(Constants.PARAMETER_ANNOTATION + parameters[i].name));
+            if (!ParamHandler.isAzureAnnotationExist(annotation)) {
+                descriptor.kinds[i] = Kind.DATA;
+            } else if (ParamHandler.isBindingNameParam(annotation)) {
+                descriptor.kinds[i] = Kind.BINDING_NAME;
+            } else {
+                Optional<InputBinding> inputBinding = ParamHandler.getInputBindingHandler(annotation);
+                descriptor.kinds[i] = inputBinding.isPresent() ? Kind.INPUT : Kind.NONE;
+                descriptor.inputBindings[i] = inputBinding.orElse(null);
+            }
+        }
+        return descriptor;
+    }
+
+    private static Optional<BindingDescriptor> fromGeneratedDescriptor(BMap<?, ?> generatedDescriptor,
+                                                                       int paramCount, int pathParamCount,
+                                                                       boolean treatNilableAsOptional) {
+        BArray params = generatedDescriptor.getArrayValue(
+                StringUtils.fromString(Constants.BINDING_DESCRIPTOR_PARAMS_FIELD));
+        if (params == null || params.size() != paramCount - pathParamCount) {
+            return Optional.empty();
+        }
+        BindingDescriptor descriptor = new BindingDescriptor(paramCount, pathParamCount, treatNilableAsOptional);
+        for (int i = 0; i < params.size(); i++) {
+            String param = ((BString) params.get(i)).getValue();
+            int separator = param.indexOf(':');
+            String kindName = separator < 0 ? param : param.substring(0, separator);
+            String argument = separator < 0 ? null : param.substring(separator + 1);
+            Kind kind;
+            try {
+                kind = Kind.valueOf(kindName);
+            } catch (IllegalArgumentException e) {
+                return Optional.empty();
+            }
+            int index = pathParamCount + i;
+            descriptor.kinds[index] = kind;
+            if (kind == Kind.HEADER) {
+                descriptor.headerNames[index] = argument;
+            } else if (kind == Kind.INPUT) {
+                Optional<InputBinding> inputBinding = ParamHandler.getInputBinding(argument);
+                if (inputBinding.isEmpty()) {
+                    return Optional.empty();
+                }
+                descriptor.inputBindings[index] = inputBinding.get();
+            }
+        }
+        BArray outputs = generatedDescriptor.getArrayValue(
+                StringUtils.fromString(Constants.BINDING_DESCRIPTOR_OUTPUTS_FIELD));
+        if (outputs != null) {
+            List<String> outputBindings = new ArrayList<>(outputs.size());
+            for (int i = 0; i < outputs.size(); i++) {
+                outputBindings.add(((BString) outputs.get(i)).getValue());
+            }
+            descriptor.outputBindings = Collections.unmodifiableList(outputBindings);
+        }
+        return Optional.of(descriptor);
+    }
+
+    private static String getHeaderName(BMap<?, ?> annotation) {
+        String headerAnnotation = Constants.HTTP_ANNOTATION_PREFIX + Constants.HEADER_ANNOTATION;
+        BMap<?, ?> headerAnnotationField = (BMap<?, ?>) annotation.get(StringUtils.fromString(headerAnnotation));
+        if (headerAnnotationField == null || headerAnnotationField.size() == 0) {
+            //No annotation field defined {name: ....}
+            return null;
+        }
+        if (headerAnnotationField.size() > 1) {
+            throw new RuntimeException("Header annotation can have only one name field.");
+        }
+        return headerAnnotationField.getStringValue(StringUtils.fromString("name")).getValue();
+    }
+}
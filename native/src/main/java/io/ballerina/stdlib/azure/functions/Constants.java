@@ -29,11 +29,17 @@ public interface Constants {
     String PACKAGE_NAME = "azure.functions";
     //TODO restrict "httpPayload" from the param names.
     String HTTP_TRIGGER_IDENTIFIER = "httpPayload";
+    String HTTP_TRIGGER_TYPE = "httpTrigger";
     String PARAMETER_ANNOTATION = "$param$.";
     String RETURN_ANNOTATION = "$returns$";
     String PACKAGE_COMPLETE = PACKAGE_ORG + "/" + PACKAGE_NAME + ":4";
     String FUNCTION_ANNOTATION_COMPLETE = PACKAGE_COMPLETE + ":Function";
     String FUNCTION_ANNOTATION_NAME_FIELD = "name";
+    String BINDING_DESCRIPTOR_ANNOTATION_COMPLETE = PACKAGE_COMPLETE + ":BindingDescriptor";
+    String BINDING_DESCRIPTOR_PARAMS_FIELD = "params";
+    String BINDING_DESCRIPTOR_OUTPUTS_FIELD = "outputs";
+    String BINDING_DESCRIPTOR_ROUTED_FIELD = "routed";
+    String TREAT_NILABLE_AS_OPTIONAL = "treatNilableAsOptional";
     String BALLERINA_PACKAGE = "ballerina";
     String HTTP_PACKAGE_ORG = BALLERINA_PACKAGE;
     String HTTP_PACKAGE_NAME = "http";
@@ -69,6 +75,7 @@ public interface Constants {
     String TABLE_TYPE = "table";
     String PAYLOAD_NOT_FOUND_ERROR = "PayloadNotFoundError";
     String FUNCTION_NOT_FOUND_ERROR = "FunctionNotFoundError";
+    String ROUTE_NOT_FOUND_ERROR = "RouteNotFoundError";
     String INVALID_PAYLOAD_ERROR = "InvalidPayloadError";
     String HEADER_NOT_FOUND_ERROR = "HeaderNotFoundError";
     String UNSUPPORTED_TYPE_ERROR = "UnsupportedTypeError";
@@ -77,10 +84,21 @@ public interface Constants {
     String PATH_PARAM = "^";
     String REST_PATH_PARAM = "^^";
     String AZURE_PAYLOAD_PARAMS = "Params";
+    String AZURE_PAYLOAD_URL = "Url";
+    String AZURE_PAYLOAD_METHOD = "Method";
+    String DEFAULT_ACCESSOR = "default";
     String AZURE_PAYLOAD_HEADERS = "Headers";
     String AZURE_QUERY_HEADERS = "Query";
     String AZURE_BODY_HEADERS = "Body";
     String MIME_PACKAGE_NAME = "mime";
+    String INVOCATION_METRICS_ENV = "AZURE_FUNCTIONS_INVOCATION_METRICS";
+    String RESOURCE_ACCOUNTING_ENV = "AZURE_FUNCTIONS_RESOURCE_ACCOUNTING";
+    String INVOCATION_LOG = "AZURE_FUNCTION_INVOCATION_LOG";
+    String LOG_LEVEL_ENV = "AZURE_FUNCTIONS_LOG_LEVEL";
+    String LOG_MAX_ENTRIES_ENV = "AZURE_FUNCTIONS_LOG_MAX_ENTRIES";
+    String LOG_MAX_CHARS_ENV = "AZURE_FUNCTIONS_LOG_MAX_CHARS";
+    String STACK_TRACES_PER_SECOND_ENV = "AZURE_FUNCTIONS_STACK_TRACES_PER_SECOND";
+    String TRACE_EXPORTER_ENV = "AZURE_FUNCTIONS_TRACE_EXPORTER";
     String ENTITY = "Entity";
     
     String UNSUPPORTED_TYPE_MESSAGE = "return type is not supported for azure functions";
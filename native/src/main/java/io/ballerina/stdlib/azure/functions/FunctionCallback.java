@@ -40,7 +40,12 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTable;
 import io.ballerina.runtime.api.values.BValue;
 import io.ballerina.runtime.api.values.BXmlItem;
+import io.ballerina.stdlib.azure.functions.converter.RecordJsonCodec;
+import io.ballerina.stdlib.azure.functions.events.AzfOutputBindingEvent;
+import io.ballerina.stdlib.azure.functions.events.AzfSerializationEvent;
 import io.ballerina.stdlib.azure.functions.exceptions.UnsupportedTypeException;
+import io.ballerina.stdlib.azure.functions.logging.InvocationLog;
+import io.ballerina.stdlib.azure.functions.tracing.InvocationTrace;
 import org.ballerinalang.langlib.array.ToBase64;
 
 import java.util.ArrayList;
@@ -49,6 +54,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 import static io.ballerina.runtime.api.utils.StringUtils.fromString;
 
@@ -60,11 +66,16 @@ public class FunctionCallback implements CallbackHandler {
     private final CompletableFuture<Object> future;
     private final Module module;
     private final MethodType methodType;
+    private final InvocationLog log;
+    private final InvocationTrace trace;
 
-    public FunctionCallback(CompletableFuture<Object> future, Module module, MethodType methodType) {
+    public FunctionCallback(CompletableFuture<Object> future, Module module, MethodType methodType,
+                            InvocationLog log, InvocationTrace trace) {
         this.future = future;
         this.module = module;
         this.methodType = methodType;
+        this.log = log;
+        this.trace = trace;
     }
 
     private String getOutputAnnotation() {
@@ -109,7 +120,7 @@ public class FunctionCallback implements CallbackHandler {
         if (result instanceof BError) {
             BError error = (BError) result;
             if (!isModuleDefinedError(error)) {
-                error.printStackTrace();
+                log.log("function returned an error", error);
             }
             future.complete(result);
             return;
@@ -120,7 +131,7 @@ public class FunctionCallback implements CallbackHandler {
         //Refactor to readable
         if (result == null) {
             handleNilReturnType(mapValue);
-            future.complete(mapValue);
+            complete(mapValue);
             return;
         }
 
@@ -129,20 +140,20 @@ public class FunctionCallback implements CallbackHandler {
                 BValue bValue = (BValue) result;
                 if (bValue.getType().getTag() == TypeTags.TUPLE_TAG) {
                     BArray tupleValues = (BArray) result;
-                    BMap<BString, Object> tupleAnnotations =
-                            ((AnnotatableType) tupleValues.getTypedesc().getDescribingType()).getAnnotations();
-                    List<String> annotations = parseTupleAnnotations(tupleAnnotations);
+                    List<String> annotations = getOutputBindings(tupleValues, () ->
+                            ((AnnotatableType) tupleValues.getTypedesc().getDescribingType()).getAnnotations());
                     handleTuples(mapValue, tupleValues, annotations);
-                    future.complete(mapValue);
+                    complete(mapValue);
                     return;
                 } else if (bValue.getType().getTag() == TypeTags.TYPE_REFERENCED_TYPE_TAG) {
                     ReferenceType typeRef = (ReferenceType) bValue.getType();
                     Type referredType = typeRef.getReferredType();
                     if (referredType.getTag() == TypeTags.TUPLE_TAG) {
                         BArray tupleValues = (BArray) bValue;
-                        BMap<BString, Object> annotations = ((AnnotatableType) typeRef).getAnnotations();
-                        handleTuples(mapValue, tupleValues, parseTupleAnnotations(annotations));
-                        future.complete(mapValue);
+                        List<String> annotations = getOutputBindings(tupleValues,
+                                ((AnnotatableType) typeRef)::getAnnotations);
+                        handleTuples(mapValue, tupleValues, annotations);
+                        complete(mapValue);
                         return;
                     }
                 }
@@ -150,7 +161,7 @@ public class FunctionCallback implements CallbackHandler {
             String outputBinding = getOutputAnnotation();
             Map.Entry<BString, Object> webWorkerResponse = handleOutputBinding(outputBinding, result, 0);
             mapValue.put(webWorkerResponse.getKey(), webWorkerResponse.getValue());
-            future.complete(mapValue);
+            complete(mapValue);
         } catch (UnsupportedTypeException e) {
             future.complete(Utils.createError(module, e.getMessage(), e.getType()));
         } catch (Exception e) {
@@ -159,6 +170,36 @@ public class FunctionCallback implements CallbackHandler {
         }
     }
 
+    /**
+     * Returns the output binding of each tuple member. The layout recorded at compile time is used when available, so
+     * that the returned tuple is not required to carry the annotated return type.
+     *
+     * @param tupleValues     returned tuple
+     * @param typeAnnotations supplies the annotations of the tuple type, used when the layout has not been recorded
+     * @return output binding names
+     */
+    private List<String> getOutputBindings(BArray tupleValues, Supplier<BMap<BString, Object>> typeAnnotations) {
+        Optional<List<String>> outputBindings = BindingDescriptor.getOutputBindings(methodType);
+        if (outputBindings.isPresent() && outputBindings.get().size() == tupleValues.size()) {
+            return outputBindings.get();
+        }
+        return parseTupleAnnotations(typeAnnotations.get());
+    }
+
+    /**
+     * Completes the invocation with the JSON text of the outputs. Record values are written by their codecs, so the
+     * outputs are not converted to json again before they are sent to the Functions host.
+     *
+     * @param mapValue outputs of the invocation
+     */
+    private void complete(BMap<BString, Object> mapValue) {
+        AzfSerializationEvent event = new AzfSerializationEvent();
+        event.begin();
+        String outputs = RecordJsonCodec.toJsonString(mapValue);
+        event.complete(methodType, outputs.length());
+        future.complete(StringUtils.fromString(outputs));
+    }
+
     private void handleTuples(BMap<BString, Object> mapValue, BArray tupleValues, List<String> annotations) {
         Object[] values = tupleValues.getValues();
         for (int i = 0, valuesLength = values.length; i < valuesLength; i++) {
@@ -171,6 +212,16 @@ public class FunctionCallback implements CallbackHandler {
     }
 
     private Map.Entry<BString, Object> handleOutputBinding(String outputBinding, Object value, int index) {
+        AzfOutputBindingEvent event = new AzfOutputBindingEvent();
+        event.begin();
+        long startNanos = System.nanoTime();
+        Map.Entry<BString, Object> output = createOutputBinding(outputBinding, value, index);
+        trace.recordOutputBinding(outputBinding, index, startNanos, System.nanoTime());
+        event.complete(methodType, outputBinding, index);
+        return output;
+    }
+
+    private Map.Entry<BString, Object> createOutputBinding(String outputBinding, Object value, int index) {
         if (Constants.QUEUE_OUTPUT.equals(outputBinding) || Constants.COSMOS_DBOUTPUT.equals(outputBinding)) {
             return Map.entry(StringUtils.fromString(getBindingIdentifier(index)), value);
 
@@ -201,7 +252,7 @@ public class FunctionCallback implements CallbackHandler {
 
     @Override
     public void notifyFailure(BError bError) {
-        bError.printStackTrace();
+        log.log("function failed", bError);
         future.complete(Utils.createError(module, "internal server error", Constants.INTERNAL_SERVER_ERROR));
     }
 
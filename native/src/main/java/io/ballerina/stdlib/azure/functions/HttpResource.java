@@ -55,31 +55,30 @@ public class HttpResource {
     private QueryParameter[] queryParameter;
     private PayloadParameter payloadParameter;
     private InputBindingParameter[] inputBindingParameters;
-    private HeaderParameter headerParameter;
+    private HeaderParameter[] headerParameters;
 
     public HttpResource(ResourceMethodType resourceMethodType, BMap<?, ?> body, BMap<?, ?> serviceAnnotations) {
+        BindingDescriptor descriptor = BindingDescriptor.getResourceDescriptor(resourceMethodType, serviceAnnotations);
         this.pathParams = getPathParams(resourceMethodType, body);
-        this.payloadParameter = processPayloadParam(resourceMethodType, body).orElse(null);
-        this.queryParameter = getQueryParams(resourceMethodType, body);
-        this.inputBindingParameters = getInputBindingParams(resourceMethodType, body);
-        this.headerParameter = processHeaderParam(resourceMethodType, body, serviceAnnotations).orElse(null);
+        this.payloadParameter = processPayloadParam(resourceMethodType, descriptor, body).orElse(null);
+        this.queryParameter = getQueryParams(resourceMethodType, descriptor, body);
+        this.inputBindingParameters = getInputBindingParams(resourceMethodType, descriptor, body);
+        this.headerParameters = processHeaderParams(resourceMethodType, descriptor, body);
     }
 
-    private InputBindingParameter[] getInputBindingParams(ResourceMethodType resourceMethod, BMap<?, ?> body)
+    private InputBindingParameter[] getInputBindingParams(ResourceMethodType resourceMethod,
+                                                          BindingDescriptor descriptor, BMap<?, ?> body)
             throws InvalidPayloadException {
         Parameter[] parameters = resourceMethod.getParameters();
         List<InputBindingParameter> inputBindingParameters = new ArrayList<>();
         for (int i = this.pathParams.length, parametersLength = parameters.length; i < parametersLength; i++) {
-            Parameter parameter = parameters[i];
-            String name = parameter.name;
-            Object annotation =
-                    resourceMethod.getAnnotation(StringUtils.fromString(Constants.PARAMETER_ANNOTATION + name));
-            Optional<InputBinding> inputBindingHandler = ParamHandler.getInputBindingHandler(annotation);
-            if (inputBindingHandler.isEmpty()) {
+            if (descriptor.getKind(i) != BindingDescriptor.Kind.INPUT) {
                 continue;
             }
+            Parameter parameter = parameters[i];
+            String name = parameter.name;
             BString bodyValue = body.getStringValue(StringUtils.fromString(name));
-            InputBinding inputBinding = inputBindingHandler.get();
+            InputBinding inputBinding = descriptor.getInputBinding(i);
             Type type = parameter.type;
             try {
                 AbstractPayloadBuilder payloadBuilder = inputBinding.getPayloadBuilder(type);
@@ -93,19 +92,18 @@ public class HttpResource {
         return inputBindingParameters.toArray(InputBindingParameter[]::new);
     }
 
-    private QueryParameter[] getQueryParams(ResourceMethodType resourceMethod, BMap<?, ?> body) {
+    private QueryParameter[] getQueryParams(ResourceMethodType resourceMethod, BindingDescriptor descriptor,
+                                            BMap<?, ?> body) {
         BMap<?, ?> queryParams = body.getMapValue(StringUtils.fromString(Constants.HTTP_TRIGGER_IDENTIFIER))
                 .getMapValue(StringUtils.fromString(Constants.AZURE_QUERY_HEADERS));
         Parameter[] parameters = resourceMethod.getParameters();
         List<QueryParameter> queryParameters = new ArrayList<>();
         for (int i = this.pathParams.length, parametersLength = parameters.length; i < parametersLength; i++) {
-            Parameter parameter = parameters[i];
-            String name = parameter.name;
-            Object annotation =
-                    resourceMethod.getAnnotation(StringUtils.fromString(Constants.PARAMETER_ANNOTATION + name));
-            if (!ParamHandler.isQueryAnnotationParam(annotation)) {
+            if (descriptor.getKind(i) != BindingDescriptor.Kind.QUERY) {
                 continue;
             }
+            Parameter parameter = parameters[i];
+            String name = parameter.name;
             BString queryValue = queryParams.getStringValue(StringUtils.fromString(name));
             // '<url-query-param>' and '<url-query-param>=' are identical in azure platform.
             if (queryValue == null && !Utils.isNilType(parameter.type)) {
@@ -153,17 +151,16 @@ public class HttpResource {
         return pathParams.toArray(PathParameter[]::new);
     }
 
-    private Optional<PayloadParameter> processPayloadParam(ResourceMethodType resourceMethod, BMap<?, ?> body)
+    private Optional<PayloadParameter> processPayloadParam(ResourceMethodType resourceMethod,
+                                                           BindingDescriptor descriptor, BMap<?, ?> body)
             throws PayloadNotFoundException {
         Parameter[] parameters = resourceMethod.getParameters();
         for (int i = this.pathParams.length, parametersLength = parameters.length; i < parametersLength; i++) {
-            Parameter parameter = parameters[i];
-            String name = parameter.name;
-            Object annotation =
-                    resourceMethod.getAnnotation(StringUtils.fromString(Constants.PARAMETER_ANNOTATION + name));
-            if (!ParamHandler.isPayloadAnnotationParam(annotation)) {
+            if (descriptor.getKind(i) != BindingDescriptor.Kind.PAYLOAD) {
                 continue;
             }
+            Parameter parameter = parameters[i];
+            String name = parameter.name;
             BMap<?, ?> httpPayload = body.getMapValue(StringUtils.fromString(Constants.HTTP_TRIGGER_IDENTIFIER));
             BMap<?, ?> headers = httpPayload.getMapValue(StringUtils.fromString(Constants.AZURE_PAYLOAD_HEADERS));
             Type type = parameter.type;
@@ -183,55 +180,37 @@ public class HttpResource {
         return Optional.empty();
     }
 
-    private Optional<HeaderParameter> processHeaderParam(ResourceMethodType resourceMethod, BMap<?, ?> body,
-                                                         BMap<?, ?> serviceAnnotations) {
+    private HeaderParameter[] processHeaderParams(ResourceMethodType resourceMethod, BindingDescriptor descriptor,
+                                                  BMap<?, ?> body) {
         Parameter[] parameters = resourceMethod.getParameters();
-        Object headerParam;
-        Boolean treatNilableAsOptional = true;
-        String serviceConfig = Constants.HTTP_ANNOTATION_PREFIX + Constants.SERVICE_CONF_ANNOTATION;
-        boolean isServiceConfExist = ParamHandler.isHttpServiceConfExist(serviceAnnotations);
-        if (isServiceConfExist) {
-            treatNilableAsOptional = serviceAnnotations.getMapValue(StringUtils.fromString(serviceConfig)).
-                    getBooleanValue(StringUtils.fromString("treatNilableAsOptional"));
-        }
+        boolean treatNilableAsOptional = descriptor.isTreatNilableAsOptional();
+        List<HeaderParameter> headerParameters = new ArrayList<>();
         for (int i = this.pathParams.length, parametersLength = parameters.length; i < parametersLength; i++) {
-            Parameter parameter = parameters[i];
-            String name = parameter.name;
-            Object annotation =
-                    resourceMethod.getAnnotation(StringUtils.fromString(Constants.PARAMETER_ANNOTATION + name));
-            if (annotation == null) {
-                continue;
-            }
-            boolean isHeaderAnnotation = ParamHandler.isHeaderAnnotationParam(annotation);
-            if (!isHeaderAnnotation) {
+            if (descriptor.getKind(i) != BindingDescriptor.Kind.HEADER) {
                 continue;
             }
+            Parameter parameter = parameters[i];
             BMap<?, ?> httpPayload = body.getMapValue(StringUtils.fromString(Constants.HTTP_TRIGGER_IDENTIFIER));
             BMap<BString, ?> headers =
                     (BMap<BString, ?>) httpPayload.getMapValue(StringUtils.fromString(Constants.AZURE_PAYLOAD_HEADERS));
 
-            String headerAnnotation = Constants.HTTP_ANNOTATION_PREFIX + Constants.HEADER_ANNOTATION;
-            BMap<?, ?> headerAnnotationField =
-                    (BMap<?, ?>) ((BMap<?, ?>) annotation).get(StringUtils.fromString(headerAnnotation));
-            if (headerAnnotationField.size() == 0) {
+            Object headerParam;
+            String headerName = descriptor.getHeaderName(i);
+            if (headerName == null) {
                 //No annotation field defined {name: ....}
                 if ((parameter.type).getTag() == TypeTags.TYPE_REFERENCED_TYPE_TAG) {
                     ReferenceType type = (ReferenceType) parameter.type;
                     headerParam = processHeaderRecordParam(headers, type, treatNilableAsOptional);
-                    return Optional.of(new HeaderParameter(i, parameter, headerParam));
+                } else {
+                    headerParam = getHeaderValue(headers, parameter.type, parameter.name, treatNilableAsOptional);
                 }
-                headerParam = getHeaderValue(headers, parameter.type, name, treatNilableAsOptional);
-                return Optional.of(new HeaderParameter(i, parameter, headerParam));
-            } else if (headerAnnotationField.size() == 1) {
-                // Annotation field is defined
-                BString headerName = headerAnnotationField.getStringValue(StringUtils.fromString("name"));
-                headerParam = getHeaderValue(headers, parameter.type, headerName.getValue(), treatNilableAsOptional);
-                return Optional.of(new HeaderParameter(i, parameter, headerParam));
             } else {
-                throw new RuntimeException("Header annotation can have only one name field.");
+                // Annotation field is defined
+                headerParam = getHeaderValue(headers, parameter.type, headerName, treatNilableAsOptional);
             }
+            headerParameters.add(new HeaderParameter(i, parameter, headerParam));
         }
-        return Optional.empty();
+        return headerParameters.toArray(HeaderParameter[]::new);
     }
 
     private Object getHeaderValue(BMap<BString, ?> headers, Type type, String fieldName,
@@ -285,9 +264,7 @@ public class HttpResource {
         if (payloadParameter != null) {
             parameters.add(payloadParameter);
         }
-        if (headerParameter != null) {
-            parameters.add(headerParameter);
-        }
+        parameters.addAll(Arrays.asList(headerParameters));
         //TODO add more input output binding params
         Collections.sort(parameters);
 
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.azure.functions;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.types.Parameter;
+import io.ballerina.runtime.api.types.ResourceMethodType;
+import io.ballerina.runtime.api.types.ServiceType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.azure.functions.logging.InvocationLog;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.ballerina.stdlib.azure.functions.Constants.SERVICE_OBJECT;
+
+/**
+ * Dispatches the requests received by the catch-all HTTP router function to the matching resource.
+ * <p>
+ * The routes of the resources marked as routed by the compiler plugin are kept in a {@link RouteTrie} of path
+ * segments, which matches literal segments before path parameters and path parameters before rest parameters.
+ *
+ * @since 4.2.0
+ */
+public class HttpRouter {
+
+    private static final RouteTrie<Route> ROUTE_TRIE = new RouteTrie<>();
+    private static final Map<String, Route> ROUTES = new ConcurrentHashMap<>();
+
+    private HttpRouter() {
+    }
+
+    /**
+     * Adds the routed resources of the service to the router.
+     *
+     * @param adaptor adaptor of the service
+     * @param name    attach point of the service
+     * @return true if the service has routed resources
+     */
+    public static synchronized boolean registerRoutes(BObject adaptor, Object name) {
+        BObject service = (BObject) adaptor.getNativeData(SERVICE_OBJECT);
+        ServiceType serviceType = (ServiceType) service.getType();
+        List<String> basePath = getBasePath(name);
+        boolean routed = false;
+        for (ResourceMethodType resourceMethod : serviceType.getResourceMethods()) {
+            if (!BindingDescriptor.isRouted(resourceMethod)) {
+                continue;
+            }
+            String functionName = ((BMap<?, ?>) resourceMethod.getAnnotation(
+                    StringUtils.fromString(Constants.FUNCTION_ANNOTATION_COMPLETE)))
+                    .getStringValue(StringUtils.fromString(Constants.FUNCTION_ANNOTATION_NAME_FIELD)).getValue();
+            addRoute(new Route(functionName, service, resourceMethod), basePath);
+            routed = true;
+        }
+        return routed;
+    }
+
+    /**
+     * Finds the resource matching the URL and the method of the request, and adds the values of its path parameters
+     * to the request.
+     *
+     * @param body request data received from the functions host
+     * @return function name of the resource, or an error if no resource matches
+     */
+    public static Object resolveRoute(BMap<?, ?> body) {
+        @SuppressWarnings("unchecked")
+        BMap<BString, Object> httpPayload =
+                (BMap<BString, Object>) body.getMapValue(StringUtils.fromString(Constants.HTTP_TRIGGER_IDENTIFIER));
+        String method = httpPayload.getStringValue(StringUtils.fromString(Constants.AZURE_PAYLOAD_METHOD)).getValue()
+                .toLowerCase(Locale.ROOT);
+        String url = httpPayload.getStringValue(StringUtils.fromString(Constants.AZURE_PAYLOAD_URL)).getValue();
+        List<String> segments = getSegments(url);
+        List<String> values = new ArrayList<>();
+        Route route = ROUTE_TRIE.match(segments, method, values);
+        if (route == null) {
+            return Utils.createError(ModuleUtils.getModule(), "no resource found for " +
+                    method.toUpperCase(Locale.ROOT) + " /" + String.join("/", segments),
+                    Constants.ROUTE_NOT_FOUND_ERROR);
+        }
+        @SuppressWarnings("unchecked")
+        BMap<BString, Object> params =
+                (BMap<BString, Object>) httpPayload.getMapValue(StringUtils.fromString(Constants.AZURE_PAYLOAD_PARAMS));
+        for (int i = 0; i < values.size(); i++) {
+            params.put(StringUtils.fromString(route.paramNames[i]), StringUtils.fromString(values.get(i)));
+        }
+        return StringUtils.fromString(route.functionName);
+    }
+
+    /**
+     * Invokes the resource resolved by {@link #resolveRoute(BMap)}.
+     *
+     * @param env           current environment
+     * @param body          request data received from the functions host
+     * @param functionName  function name of the resource
+     * @param invocationLog log of the invocation
+     * @return outputs of the function, or an error
+     */
+    public static Object callRoutedMethod(Environment env, BMap<?, ?> body, BString functionName,
+                                          BObject invocationLog) {
+        Route route = ROUTES.get(functionName.getValue());
+        if (route == null) {
+            return Utils.createError(ModuleUtils.getModule(), "function " + functionName.getValue() +
+                    " not found in the code", Constants.FUNCTION_NOT_FOUND_ERROR);
+        }
+        return env.yieldAndRun(() -> NativeHttpToAzureAdaptor.invokeResourceMethod(env, route.service,
+                route.resourceMethod, body, route.functionName, InvocationLog.get(invocationLog)));
+    }
+
+    private static void addRoute(Route route, List<String> basePath) {
+        ROUTE_TRIE.add(basePath, route.resourceMethod.getResourcePath(), route.resourceMethod.getParameters(),
+                route.accessor, route);
+        ROUTES.put(route.functionName, route);
+    }
+
+    private static List<String> getBasePath(Object name) {
+        List<String> basePath = new ArrayList<>();
+        if (name instanceof BArray) {
+            for (String segment : ((BArray) name).getStringArray()) {
+                addSegments(basePath, segment);
+            }
+        } else if (name instanceof BString) {
+            addSegments(basePath, ((BString) name).getValue());
+        }
+        return basePath;
+    }
+
+    private static void addSegments(List<String> segments, String path) {
+        for (String segment : path.split(Constants.SLASH)) {
+            if (!segment.isEmpty()) {
+                segments.add(segment);
+            }
+        }
+    }
+
+    private static List<String> getSegments(String url) {
+        String path;
+        try {
+            path = new URI(url).getRawPath();
+        } catch (URISyntaxException e) {
+            path = url;
+        }
+        List<String> segments = new ArrayList<>();
+        if (path == null) {
+            return segments;
+        }
+        for (String segment : path.split(Constants.SLASH)) {
+            if (!segment.isEmpty()) {
+                // '+' is a literal character in a path segment.
+                segments.add(URLDecoder.decode(segment.replace("+", "%2B"), StandardCharsets.UTF_8));
+            }
+        }
+        return segments;
+    }
+
+    private static final class Route {
+        private final String functionName;
+        private final BObject service;
+        private final ResourceMethodType resourceMethod;
+        private final String accessor;
+        private final String[] paramNames;
+
+        private Route(String functionName, BObject service, ResourceMethodType resourceMethod) {
+            this.functionName = functionName;
+            this.service = service;
+            this.resourceMethod = resourceMethod;
+            this.accessor = resourceMethod.getAccessor().toLowerCase(Locale.ROOT);
+            List<String> names = new ArrayList<>();
+            Parameter[] parameters = resourceMethod.getParameters();
+            int paramIndex = 0;
+            for (String segment : resourceMethod.getResourcePath()) {
+                if (segment.equals(Constants.PATH_PARAM) || segment.equals(Constants.REST_PATH_PARAM)) {
+                    names.add(parameters[paramIndex++].name);
+                }
+            }
+            this.paramNames = names.toArray(String[]::new);
+        }
+    }
+}
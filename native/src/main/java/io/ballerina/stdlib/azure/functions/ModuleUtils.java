@@ -22,6 +22,7 @@ import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.Module;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.values.BError;
+import io.ballerina.stdlib.azure.functions.metrics.StartupTimeline;
 
 import java.util.concurrent.CompletableFuture;
 
@@ -36,6 +37,7 @@ public class ModuleUtils {
 
     public static void setModule(Environment environment) {
         module = environment.getCurrentModule();
+        StartupTimeline.recordModuleInit();
     }
 
     public static Module getModule() {
@@ -29,7 +29,14 @@ import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.azure.functions.events.AzfBindingEvent;
+import io.ballerina.stdlib.azure.functions.events.AzfInvocationEvent;
 import io.ballerina.stdlib.azure.functions.exceptions.BadRequestException;
+import io.ballerina.stdlib.azure.functions.logging.InvocationLog;
+import io.ballerina.stdlib.azure.functions.metrics.InvocationMetrics;
+import io.ballerina.stdlib.azure.functions.metrics.Phase;
+import io.ballerina.stdlib.azure.functions.metrics.ResourceAccounting;
+import io.ballerina.stdlib.azure.functions.tracing.InvocationTrace;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -52,6 +59,9 @@ public class NativeHttpToAzureAdaptor {
         ServiceType svcType = (ServiceType) bHubService.getType();
         List<BString> functionNameList = new ArrayList<>();
         for (ResourceMethodType resourceMethod : svcType.getResourceMethods()) {
+            if (BindingDescriptor.isRouted(resourceMethod)) {
+                continue;
+            }
             BString functionName = ((BMap<?, ?>) resourceMethod
                     .getAnnotation(StringUtils.fromString(Constants.FUNCTION_ANNOTATION_COMPLETE)))
                     .getStringValue(StringUtils.fromString(Constants.FUNCTION_ANNOTATION_NAME_FIELD));
@@ -60,15 +70,16 @@ public class NativeHttpToAzureAdaptor {
         return ValueCreator.createArrayValue(functionNameList.toArray(BString[]::new));
     }
 
-    public static Object callNativeMethod(Environment env, BObject adaptor, BMap<?, ?> body, BString functionName) {
+    public static Object callNativeMethod(Environment env, BObject adaptor, BMap<?, ?> body, BString functionName,
+                                          BObject invocationLog) {
         BObject bHubService = (BObject) adaptor.getNativeData(SERVICE_OBJECT);
         return invokeResourceFunction(env, bHubService,
-                "callNativeMethod", body, functionName);
+                "callNativeMethod", body, functionName, InvocationLog.get(invocationLog));
     }
     
     //Todo See if we can call parent bal method directly and check deprecated usages
     private static Object invokeResourceFunction(Environment env, BObject bHubService, String parentFunctionName,
-                                                 BMap<?, ?> body, BString functionName) {
+                                                 BMap<?, ?> body, BString functionName, InvocationLog log) {
         return env.yieldAndRun(() -> {
             ServiceType serviceType = (ServiceType) bHubService.getType();
             ResourceMethodType[] resourceMethods = serviceType.getResourceMethods();
@@ -77,28 +88,80 @@ public class NativeHttpToAzureAdaptor {
                 return Utils.createError(ModuleUtils.getModule(), "function " + functionName.getValue() +
                         " not found in the " + "code", Constants.FUNCTION_NOT_FOUND_ERROR);
             }
-            ResourceMethodType resourceMethod = resourceMethodType.get();
+            return invokeResourceMethod(env, bHubService, resourceMethodType.get(), body, functionName.getValue(),
+                    log);
+        });
+    }
+
+    /**
+     * Invokes the given resource of the service. This has to be called within {@code Environment#yieldAndRun}.
+     */
+    static Object invokeResourceMethod(Environment env, BObject bHubService, ResourceMethodType resourceMethod,
+                                       BMap<?, ?> body, String functionName, InvocationLog log) {
+        ServiceType serviceType = (ServiceType) bHubService.getType();
+        AzfInvocationEvent invocationEvent = new AzfInvocationEvent();
+        invocationEvent.begin();
+        long startNanos = System.nanoTime();
+        ResourceAccounting.Sample usage = ResourceAccounting.start();
+        InvocationTrace trace = InvocationTrace.start(functionName, serviceType, body, startNanos);
+        boolean completed = false;
+        try {
+            BMap<?, ?> serviceAnnotations = serviceType.getAnnotations();
+            AzfBindingEvent bindingEvent = new AzfBindingEvent();
+            bindingEvent.begin();
+            HttpResource httpResource = new HttpResource(resourceMethod, body, serviceAnnotations);
+            Object[] args = httpResource.getArgList();
+            bindingEvent.complete(functionName, args.length);
+            CompletableFuture<Object> balFuture = new CompletableFuture<>();
+            FunctionCallback functionCallback = new FunctionCallback(balFuture,
+                    ModuleUtils.getModule(), resourceMethod, log, trace);
+            boolean isIsolated = serviceType.isIsolated() && resourceMethod.isIsolated();
+            long boundNanos = System.nanoTime();
+            usage.mark(Phase.PARAMETER_BINDING);
+            long returnedNanos;
+            trace.attach();
+            log.attach();
             try {
-                BMap<?, ?> serviceAnnotations = serviceType.getAnnotations();
-                HttpResource httpResource = new HttpResource(resourceMethod, body, serviceAnnotations);
-                Object[] args = httpResource.getArgList();
-                CompletableFuture<Object> balFuture = new CompletableFuture<>();
-                FunctionCallback functionCallback = new FunctionCallback(balFuture,
-                        ModuleUtils.getModule(), resourceMethod);
-                boolean isIsolated = serviceType.isIsolated() && resourceMethod.isIsolated();
-                try {
-                    Object result = env.getRuntime().callMethod(bHubService, resourceMethod.getName(),
-                            new StrandMetadata(isIsolated, null), args);
-                    functionCallback.notifySuccess(result);
-                    return ModuleUtils.getResult(balFuture);
-                } catch (BError bError) {
-                    functionCallback.notifyFailure(bError);
-                    return ModuleUtils.getResult(balFuture);
-                }
-            } catch (BadRequestException e) {
-                return Utils.createError(ModuleUtils.getModule(), e.getMessage(), e.getType());
+                Object result = env.getRuntime().callMethod(bHubService, resourceMethod.getName(),
+                        new StrandMetadata(isIsolated, null), args);
+                returnedNanos = System.nanoTime();
+                usage.mark(Phase.USER_CODE);
+                functionCallback.notifySuccess(result);
+            } catch (BError bError) {
+                returnedNanos = System.nanoTime();
+                usage.mark(Phase.USER_CODE);
+                functionCallback.notifyFailure(bError);
+            } finally {
+                trace.detach();
+                log.detach();
             }
-        });
+            Object outputs = ModuleUtils.getResult(balFuture);
+            usage.mark(Phase.RESPONSE_SHAPING);
+            usage.finish(functionName);
+            InvocationMetrics.recordExecution(functionName, startNanos, boundNanos, returnedNanos);
+            trace.finish(boundNanos, returnedNanos, !(outputs instanceof BError));
+            invocationEvent.complete(functionName, serviceType, body, startNanos, boundNanos, returnedNanos,
+                    !(outputs instanceof BError));
+            completed = true;
+            return outputs;
+        } catch (BadRequestException e) {
+            long failedNanos = System.nanoTime();
+            usage.mark(Phase.PARAMETER_BINDING);
+            usage.finish(functionName);
+            trace.fail();
+            invocationEvent.complete(functionName, serviceType, body, startNanos, failedNanos, failedNanos, false);
+            completed = true;
+            return Utils.createError(ModuleUtils.getModule(), e.getMessage(), e.getType());
+        } finally {
+            if (!completed) {
+                // Balances the accounting, the span and the event when an unexpected exception escapes.
+                long failedNanos = System.nanoTime();
+                usage.discard();
+                trace.fail();
+                invocationEvent.complete(functionName, serviceType, body, startNanos, failedNanos, failedNanos,
+                        false);
+            }
+        }
     }
 
     private static Optional<ResourceMethodType> getResourceMethodType(ResourceMethodType[] types,
@@ -23,17 +23,22 @@ import io.ballerina.runtime.api.concurrent.StrandMetadata;
 import io.ballerina.runtime.api.types.Parameter;
 import io.ballerina.runtime.api.types.RemoteMethodType;
 import io.ballerina.runtime.api.types.ServiceType;
-import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.TypeId;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
-import io.ballerina.stdlib.azure.functions.bindings.input.InputBinding;
 import io.ballerina.stdlib.azure.functions.builder.AbstractPayloadBuilder;
 import io.ballerina.stdlib.azure.functions.builder.BinaryPayloadBuilder;
 import io.ballerina.stdlib.azure.functions.builder.JsonPayloadBuilder;
+import io.ballerina.stdlib.azure.functions.events.AzfBindingEvent;
+import io.ballerina.stdlib.azure.functions.events.AzfInvocationEvent;
+import io.ballerina.stdlib.azure.functions.logging.InvocationLog;
+import io.ballerina.stdlib.azure.functions.metrics.InvocationMetrics;
+import io.ballerina.stdlib.azure.functions.metrics.Phase;
+import io.ballerina.stdlib.azure.functions.metrics.ResourceAccounting;
+import io.ballerina.stdlib.azure.functions.tracing.InvocationTrace;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -51,59 +56,104 @@ public class NativeRemoteAdapter {
         adaptor.addNativeData(SERVICE_OBJECT, serviceObj);
     }
 
-    public static Object callRemoteFunction(Environment env, BObject adaptor, BMap<?, ?> body, BString remoteFuncName) {
+    public static Object callRemoteFunction(Environment env, BObject adaptor, BMap<?, ?> body, BString remoteFuncName,
+                                            BString functionName, BObject invocationLog) {
         BObject bHubService = (BObject) adaptor.getNativeData(SERVICE_OBJECT);
-        return invokeRemoteFunction(env, bHubService, "callRemoteFunction", body, remoteFuncName);
+        return invokeRemoteFunction(env, bHubService, "callRemoteFunction", body, remoteFuncName,
+                functionName.getValue(), InvocationLog.get(invocationLog));
     }
 
     private static Object invokeRemoteFunction(Environment env, BObject bHubService, String parentFunctionName,
-                                               BMap<?, ?> body, BString remoteFuncName) {
+                                               BMap<?, ?> body, BString remoteFuncName, String functionName,
+                                               InvocationLog log) {
         BMap<?, ?> data = body.getMapValue(StringUtils.fromString("Data"));
         return env.yieldAndRun(() -> {
+            AzfInvocationEvent invocationEvent = new AzfInvocationEvent();
+            invocationEvent.begin();
+            long startNanos = System.nanoTime();
+            ResourceAccounting.Sample usage = ResourceAccounting.start();
             ServiceType serviceType = (ServiceType) bHubService.getType();
-            List<Object> argList = new ArrayList<>();
-            RemoteMethodType methodType = getRemoteMethod(serviceType, remoteFuncName).orElseThrow();
-            Parameter[] parameters = methodType.getParameters();
+            InvocationTrace trace = InvocationTrace.start(functionName, serviceType, body, startNanos);
+            boolean completed = false;
             try {
-                for (Parameter parameter : parameters) {
-                    String name = parameter.name;
-                    BString parameterAnnotation = StringUtils.fromString(Constants.PARAMETER_ANNOTATION + name);
-                    Object annotation =  methodType.getAnnotation(parameterAnnotation);
-                    if (!ParamHandler.isAzureAnnotationExist(annotation)) {
-                        Object bValue = getDataboundValue(data, parameter, serviceType);
-                        argList.add(bValue);
-                    } else if (ParamHandler.isBindingNameParam(annotation)) {
-                        BString nameParam = body.getMapValue(StringUtils.fromString("Metadata"))
-                                .getStringValue(StringUtils.fromString("name"));
-                        Type type = parameter.type;
-                        JsonPayloadBuilder jsonPayloadBuilder = new JsonPayloadBuilder(type);
-                        Object bValue = jsonPayloadBuilder.getValue(nameParam, false);
-                        argList.add(bValue);
-                    } else {
-                        Optional<InputBinding> inputBindingHandler = ParamHandler.getInputBindingHandler(annotation);
-                        if (inputBindingHandler.isPresent()) {
-                            BString bodyValue = data.getStringValue(StringUtils.fromString(name));
-                            Type type = parameter.type;
-                            AbstractPayloadBuilder payloadBuilder = inputBindingHandler.get().getPayloadBuilder(type);
-                            Object bValue = payloadBuilder.getValue(bodyValue, false);
-                            argList.add(bValue);
-                        }
+                List<Object> argList = new ArrayList<>();
+                RemoteMethodType methodType = getRemoteMethod(serviceType, remoteFuncName).orElseThrow();
+                Parameter[] parameters = methodType.getParameters();
+                BindingDescriptor descriptor = BindingDescriptor.getRemoteDescriptor(methodType);
+                AzfBindingEvent bindingEvent = new AzfBindingEvent();
+                bindingEvent.begin();
+                for (int i = 0; i < parameters.length; i++) {
+                    Parameter parameter = parameters[i];
+                    switch (descriptor.getKind(i)) {
+                        case DATA:
+                            argList.add(getDataboundValue(data, parameter, serviceType));
+                            break;
+                        case BINDING_NAME:
+                            BString nameParam = body.getMapValue(StringUtils.fromString("Metadata"))
+                                    .getStringValue(StringUtils.fromString("name"));
+                            JsonPayloadBuilder jsonPayloadBuilder = new JsonPayloadBuilder(parameter.type);
+                            argList.add(jsonPayloadBuilder.getValue(nameParam, false));
+                            break;
+                        case INPUT:
+                            BString bodyValue = data.getStringValue(StringUtils.fromString(parameter.name));
+                            AbstractPayloadBuilder payloadBuilder =
+                                    descriptor.getInputBinding(i).getPayloadBuilder(parameter.type);
+                            argList.add(payloadBuilder.getValue(bodyValue, false));
+                            break;
+                        default:
+                            break;
                     }
                 }
                 Object[] args = argList.toArray();
+                bindingEvent.complete(functionName, args.length);
                 CompletableFuture<Object> balFuture = new CompletableFuture<>();
-                FunctionCallback funcCallback = new FunctionCallback(balFuture, ModuleUtils.getModule(), methodType);
+                FunctionCallback funcCallback = new FunctionCallback(balFuture, ModuleUtils.getModule(), methodType,
+                        log, trace);
+                long boundNanos = System.nanoTime();
+                usage.mark(Phase.PARAMETER_BINDING);
+                long returnedNanos;
+                trace.attach();
+                log.attach();
                 try {
                     Object result = env.getRuntime().callMethod(bHubService, remoteFuncName.getValue(),
                             new StrandMetadata(serviceType.isIsolated(), null), args);
+                    returnedNanos = System.nanoTime();
+                    usage.mark(Phase.USER_CODE);
                     funcCallback.notifySuccess(result);
-                    return ModuleUtils.getResult(balFuture);
                 } catch (BError bError) {
+                    returnedNanos = System.nanoTime();
+                    usage.mark(Phase.USER_CODE);
                     funcCallback.notifyFailure(bError);
-                    return ModuleUtils.getResult(balFuture);
+                } finally {
+                    trace.detach();
+                    log.detach();
                 }
+                Object outputs = ModuleUtils.getResult(balFuture);
+                usage.mark(Phase.RESPONSE_SHAPING);
+                usage.finish(functionName);
+                InvocationMetrics.recordExecution(functionName, startNanos, boundNanos, returnedNanos);
+                trace.finish(boundNanos, returnedNanos, !(outputs instanceof BError));
+                invocationEvent.complete(functionName, serviceType, body, startNanos, boundNanos, returnedNanos,
+                        !(outputs instanceof BError));
+                completed = true;
+                return outputs;
             } catch (BError e) {
+                long failedNanos = System.nanoTime();
+                usage.mark(Phase.PARAMETER_BINDING);
+                usage.finish(functionName);
+                trace.fail();
+                invocationEvent.complete(functionName, serviceType, body, startNanos, failedNanos, failedNanos, false);
+                completed = true;
                 return Utils.createError(ModuleUtils.getModule(), e.getMessage(), Constants.INTERNAL_SERVER_ERROR);
+            } finally {
+                if (!completed) {
+                    // Balances the accounting, the span and the event when an unexpected exception escapes.
+                    long failedNanos = System.nanoTime();
+                    usage.discard();
+                    trace.fail();
+                    invocationEvent.complete(functionName, serviceType, body, startNanos, failedNanos, failedNanos,
+                            false);
+                }
             }
         });
     }
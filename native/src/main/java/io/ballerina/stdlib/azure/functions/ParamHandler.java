@@ -121,15 +121,22 @@ public class ParamHandler {
         for (BString key : ((BMap<BString, ?>) annotation).getKeys()) {
             String annotationKey = key.getValue();
             String annotationName = annotationKey.substring(annotationKey.lastIndexOf(':') + 1);
+            Optional<InputBinding> inputBinding = getInputBinding(annotationName);
+            if (inputBinding.isPresent()) {
+                return inputBinding;
+            }
+        }
+        return Optional.empty();
+    }
 
-            List<InputBinding> inputBindings = new ArrayList<>();
-            inputBindings.add(new BlobInput());
-            inputBindings.add(new CosmosInput());
+    public static Optional<InputBinding> getInputBinding(String annotationName) {
+        List<InputBinding> inputBindings = new ArrayList<>();
+        inputBindings.add(new BlobInput());
+        inputBindings.add(new CosmosInput());
 
-            for (InputBinding inputBinding : inputBindings) {
-                if (inputBinding.getName().equals(annotationName)) {
-                    return Optional.of(inputBinding);
-                }
+        for (InputBinding inputBinding : inputBindings) {
+            if (inputBinding.getName().equals(annotationName)) {
+                return Optional.of(inputBinding);
             }
         }
         return Optional.empty();
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.azure.functions;
+
+import io.ballerina.runtime.api.types.Parameter;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.TypeUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Trie of the path segments of the routed resources, used by {@link HttpRouter}.
+ * <p>
+ * Literal segments are matched first, followed by the path parameters in the order of int, boolean, decimal, float and
+ * string, so a segment is bound to the most specific parameter type it can be converted to. Rest parameters are matched
+ * last. When a branch has no resource for the remaining segments, the next branch is tried.
+ *
+ * @param <T> type of the routes
+ * @since 4.2.0
+ */
+final class RouteTrie<T> {
+
+    private final Node<T> root = new Node<>();
+
+    /**
+     * Adds the route of a resource. The first route added for a path and an accessor is kept.
+     *
+     * @param basePath     segments of the attach point of the service
+     * @param resourcePath resource path of the resource method, with {@code ^} for path parameters and {@code ^^} for
+     *                     a rest parameter
+     * @param parameters   parameters of the resource method, starting with the path parameters
+     * @param accessor     accessor of the resource method in lower case
+     * @param route        route of the resource
+     */
+    void add(List<String> basePath, String[] resourcePath, Parameter[] parameters, String accessor, T route) {
+        Node<T> node = root;
+        for (String segment : basePath) {
+            node = node.literals.computeIfAbsent(segment, key -> new Node<>());
+        }
+        int paramIndex = 0;
+        for (String segment : resourcePath) {
+            if (segment.equals(Constants.REST_PATH_PARAM)) {
+                node.restRoutes.putIfAbsent(accessor, route);
+                return;
+            }
+            if (segment.equals(Constants.PATH_PARAM)) {
+                node = node.getParamChild(parameters[paramIndex++].type);
+            } else if (!segment.equals(".")) {
+                node = node.literals.computeIfAbsent(segment, key -> new Node<>());
+            }
+        }
+        node.routes.putIfAbsent(accessor, route);
+    }
+
+    /**
+     * Finds the route matching the request path and method.
+     *
+     * @param segments decoded segments of the request path
+     * @param method   request method in lower case
+     * @param values   receives the values of the path parameters and the rest parameter of the matched route
+     * @return the matched route, or null if no resource matches
+     */
+    T match(List<String> segments, String method, List<String> values) {
+        return match(root, segments, 0, method, values);
+    }
+
+    private static <T> T match(Node<T> node, List<String> segments, int index, String method, List<String> values) {
+        if (index == segments.size()) {
+            T route = getRoute(node.routes, method);
+            if (route != null) {
+                return route;
+            }
+        } else {
+            String segment = segments.get(index);
+            Node<T> literal = node.literals.get(segment);
+            if (literal != null) {
+                T route = match(literal, segments, index + 1, method, values);
+                if (route != null) {
+                    return route;
+                }
+            }
+            for (ParamEdge<T> param : node.params) {
+                if (!param.accepts(segment)) {
+                    continue;
+                }
+                values.add(segment);
+                T route = match(param.child, segments, index + 1, method, values);
+                if (route != null) {
+                    return route;
+                }
+                values.remove(values.size() - 1);
+            }
+        }
+        T route = getRoute(node.restRoutes, method);
+        if (route != null) {
+            values.add(String.join(Constants.SLASH, segments.subList(index, segments.size())));
+        }
+        return route;
+    }
+
+    private static <T> T getRoute(Map<String, T> routes, String method) {
+        T route = routes.get(method);
+        return route != null ? route : routes.get(Constants.DEFAULT_ACCESSOR);
+    }
+
+    private static final class Node<T> {
+        private final Map<String, Node<T>> literals = new ConcurrentHashMap<>();
+        private final List<ParamEdge<T>> params = new CopyOnWriteArrayList<>();
+        private final Map<String, T> routes = new ConcurrentHashMap<>();
+        private final Map<String, T> restRoutes = new ConcurrentHashMap<>();
+
+        private Node<T> getParamChild(Type type) {
+            int typeTag = TypeUtils.getImpliedType(type).getTag();
+            int index = 0;
+            for (ParamEdge<T> param : params) {
+                if (param.typeTag == typeTag) {
+                    return param.child;
+                }
+                if (ParamEdge.rank(param.typeTag) > ParamEdge.rank(typeTag)) {
+                    break;
+                }
+                index++;
+            }
+            ParamEdge<T> param = new ParamEdge<>(typeTag);
+            params.add(index, param);
+            return param.child;
+        }
+    }
+
+    private static final class ParamEdge<T> {
+        private final int typeTag;
+        private final Node<T> child = new Node<>();
+
+        private ParamEdge(int typeTag) {
+            this.typeTag = typeTag;
+        }
+
+        private static int rank(int typeTag) {
+            switch (typeTag) {
+                case TypeTags.INT_TAG:
+                    return 0;
+                case TypeTags.BOOLEAN_TAG:
+                    return 1;
+                case TypeTags.DECIMAL_TAG:
+                    return 2;
+                case TypeTags.FLOAT_TAG:
+                    return 3;
+                default:
+                    return 4;
+            }
+        }
+
+        private boolean accepts(String segment) {
+            try {
+                switch (typeTag) {
+                    case TypeTags.INT_TAG:
+                        Long.parseLong(segment);
+                        return true;
+                    case TypeTags.BOOLEAN_TAG:
+                        return segment.equalsIgnoreCase("true") || segment.equalsIgnoreCase("false");
+                    case TypeTags.DECIMAL_TAG:
+                        new BigDecimal(segment);
+                        return true;
+                    case TypeTags.FLOAT_TAG:
+                        Double.parseDouble(segment);
+                        return true;
+                    default:
+                        return true;
+                }
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+    }
+}
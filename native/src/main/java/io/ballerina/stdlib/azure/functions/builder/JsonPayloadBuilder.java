@@ -27,10 +27,12 @@ import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BRefValue;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.azure.functions.converter.JsonToRecordConverter;
+import io.ballerina.stdlib.azure.functions.converter.RecordJsonCodec;
 import io.ballerina.stdlib.azure.functions.converter.StringToByteArrayConverter;
 import org.ballerinalang.langlib.value.FromJsonString;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * The json type payload builder.
@@ -46,6 +48,14 @@ public class JsonPayloadBuilder extends AbstractPayloadBuilder {
 
     @Override
     public Object getValue(BString dataSource, boolean readonly) {
+        Optional<Object> decoded = RecordJsonCodec.decode(payloadType, dataSource);
+        if (decoded.isPresent()) {
+            Object value = decoded.get();
+            if (readonly && value instanceof BRefValue) {
+                ((BRefValue) value).freezeDirect();
+            }
+            return value;
+        }
         // Following can be removed based on the solution of
         // https://github.com/ballerina-platform/ballerina-lang/issues/35780
         Object obj = FromJsonString.fromJsonString(dataSource);
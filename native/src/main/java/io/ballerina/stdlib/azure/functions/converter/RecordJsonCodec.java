@@ -0,0 +1,797 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.azure.functions.converter;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.IntersectionType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BRefValue;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Type specialized JSON codecs for the record types bound by Azure functions.
+ * <p>
+ * A codec is built once per record type from its field layout. Decoding reads the JSON text straight into the record
+ * value, and encoding writes the fields in declaration order with direct writes for the primitive field types. Neither
+ * goes through the generic json value conversion. Input that a codec cannot map exactly is left to the generic
+ * conversion, so that the error reported for an invalid payload stays the same.
+ *
+ * @since 4.2.0
+ */
+public final class RecordJsonCodec {
+
+    private static final Map<Type, Optional<ValueCodec>> CODECS = new ConcurrentHashMap<>();
+    private static final MismatchException MISMATCH = new MismatchException();
+    private static final int MAX_FIELDS = Long.SIZE;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private RecordJsonCodec() {}
+
+    /**
+     * Builds the codecs of the record types in the given type ahead of the first invocation.
+     *
+     * @param type parameter or return type of a function
+     */
+    public static void prepare(Type type) {
+
+        Type referredType = TypeUtils.getReferredType(type);
+        if (referredType.getTag() == TypeTags.INTERSECTION_TAG) {
+            for (Type constituentType : ((IntersectionType) referredType).getConstituentTypes()) {
+                prepare(constituentType);
+            }
+            return;
+        }
+        Type impliedType = TypeUtils.getImpliedType(type);
+        if (impliedType.getTag() == TypeTags.UNION_TAG) {
+            for (Type memberType : ((UnionType) impliedType).getMemberTypes()) {
+                prepare(memberType);
+            }
+            return;
+        }
+        getCodec(impliedType);
+    }
+
+    /**
+     * Decodes a JSON document to a record or an array of records of the given type.
+     *
+     * @param type       record or array type
+     * @param dataSource JSON text
+     * @return the decoded value, or empty if the type has no codec or the document does not match it exactly
+     */
+    public static Optional<Object> decode(Type type, BString dataSource) {
+
+        Type referredType = TypeUtils.getReferredType(type);
+        if (referredType.getTag() == TypeTags.INTERSECTION_TAG) {
+            // A readonly payload is decoded to the mutable constituent type and frozen in place, instead of being
+            // cloned to an immutable value.
+            for (Type constituentType : ((IntersectionType) referredType).getConstituentTypes()) {
+                if (TypeUtils.getReferredType(constituentType).getTag() == TypeTags.READONLY_TAG) {
+                    continue;
+                }
+                Optional<Object> value = decode(constituentType, dataSource);
+                value.ifPresent(decoded -> ((BRefValue) decoded).freezeDirect());
+                return value;
+            }
+            return Optional.empty();
+        }
+        Optional<ValueCodec> codec = getCodec(type);
+        if (codec.isEmpty() || !codec.get().isStructured()) {
+            return Optional.empty();
+        }
+        try {
+            JsonReader reader = new JsonReader(dataSource.getValue());
+            Object value = codec.get().read(reader);
+            reader.expectEnd();
+            return Optional.of(value);
+        } catch (MismatchException | BError e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Serializes a value to JSON text. Records with a codec are written field by field and other values are written
+     * the same way as {@code toJsonString}.
+     *
+     * @param value anydata value
+     * @return JSON text
+     */
+    public static String toJsonString(Object value) {
+
+        StringBuilder builder = new StringBuilder();
+        writeValue(value, builder);
+        return builder.toString();
+    }
+
+    private static void writeValue(Object value, StringBuilder builder) {
+
+        if (value instanceof BString) {
+            writeString(((BString) value).getValue(), builder);
+        } else if (value instanceof Long || value instanceof Boolean) {
+            builder.append(value);
+        } else if (value instanceof BMap) {
+            BMap<?, ?> mapValue = (BMap<?, ?>) value;
+            Type type = TypeUtils.getImpliedType(mapValue.getType());
+            Optional<ValueCodec> codec = getCodec(type);
+            if (codec.isPresent()) {
+                codec.get().write(value, builder);
+            } else if (type.getTag() == TypeTags.MAP_TAG) {
+                builder.append('{');
+                boolean first = true;
+                for (Map.Entry<?, ?> entry : mapValue.entrySet()) {
+                    if (!first) {
+                        builder.append(',');
+                    }
+                    first = false;
+                    writeString(entry.getKey().toString(), builder);
+                    builder.append(':');
+                    writeValue(entry.getValue(), builder);
+                }
+                builder.append('}');
+            } else {
+                builder.append(StringUtils.getJsonString(value));
+            }
+        } else if (value instanceof BArray) {
+            Optional<ValueCodec> codec = getCodec(((BArray) value).getType());
+            if (codec.isPresent()) {
+                codec.get().write(value, builder);
+            } else {
+                builder.append(StringUtils.getJsonString(value));
+            }
+        } else {
+            builder.append(StringUtils.getJsonString(value));
+        }
+    }
+
+    private static Optional<ValueCodec> getCodec(Type type) {
+
+        Optional<ValueCodec> codec = CODECS.get(type);
+        if (codec == null) {
+            codec = build(type, new HashMap<>());
+            CODECS.putIfAbsent(type, codec);
+        }
+        return codec;
+    }
+
+    private static Optional<ValueCodec> build(Type type, Map<Type, RecordCodec> inProgress) {
+
+        Type impliedType = TypeUtils.getImpliedType(type);
+        switch (impliedType.getTag()) {
+            case TypeTags.STRING_TAG:
+                return Optional.of(PrimitiveCodec.STRING);
+            case TypeTags.INT_TAG:
+                return Optional.of(PrimitiveCodec.INT);
+            case TypeTags.FLOAT_TAG:
+                return Optional.of(PrimitiveCodec.FLOAT);
+            case TypeTags.DECIMAL_TAG:
+                return Optional.of(PrimitiveCodec.DECIMAL);
+            case TypeTags.BOOLEAN_TAG:
+                return Optional.of(PrimitiveCodec.BOOLEAN);
+            case TypeTags.UNION_TAG:
+                return buildNilable((UnionType) impliedType, inProgress);
+            case TypeTags.ARRAY_TAG:
+                ArrayType arrayType = (ArrayType) impliedType;
+                if (arrayType.isReadOnly() || arrayType.getSize() >= 0) {
+                    return Optional.empty();
+                }
+                return build(arrayType.getElementType(), inProgress)
+                        .map(elementCodec -> new ArrayCodec(arrayType, elementCodec));
+            case TypeTags.RECORD_TYPE_TAG:
+                return buildRecord((RecordType) impliedType, inProgress);
+            default:
+                return Optional.empty();
+        }
+    }
+
+    private static Optional<ValueCodec> buildNilable(UnionType unionType, Map<Type, RecordCodec> inProgress) {
+
+        List<Type> memberTypes = unionType.getMemberTypes();
+        if (memberTypes.size() != 2) {
+            return Optional.empty();
+        }
+        Type first = TypeUtils.getImpliedType(memberTypes.get(0));
+        Type second = TypeUtils.getImpliedType(memberTypes.get(1));
+        if (first.getTag() == TypeTags.NULL_TAG) {
+            return build(second, inProgress).map(NilableCodec::new);
+        } else if (second.getTag() == TypeTags.NULL_TAG) {
+            return build(first, inProgress).map(NilableCodec::new);
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<ValueCodec> buildRecord(RecordType recordType, Map<Type, RecordCodec> inProgress) {
+
+        RecordCodec recursive = inProgress.get(recordType);
+        if (recursive != null) {
+            return Optional.of(recursive);
+        }
+        Map<String, Field> fields = recordType.getFields();
+        if (recordType.isReadOnly() || recordType.getName().contains("$") || fields.size() > MAX_FIELDS) {
+            return Optional.empty();
+        }
+        boolean open = !recordType.isSealed();
+        if (open) {
+            int restTypeTag = TypeUtils.getImpliedType(recordType.getRestFieldType()).getTag();
+            if (restTypeTag != TypeTags.ANYDATA_TAG && restTypeTag != TypeTags.JSON_TAG) {
+                return Optional.empty();
+            }
+        }
+        RecordCodec codec = new RecordCodec(recordType, open, fields.size());
+        inProgress.put(recordType, codec);
+        int index = 0;
+        for (Field field : fields.values()) {
+            long flags = field.getFlags();
+            if (SymbolFlags.isFlagOn(flags, SymbolFlags.READONLY)) {
+                return Optional.empty();
+            }
+            Optional<ValueCodec> fieldCodec = build(field.getFieldType(), inProgress);
+            if (fieldCodec.isEmpty()) {
+                return Optional.empty();
+            }
+            codec.addField(index++, field.getFieldName(), fieldCodec.get(),
+                    SymbolFlags.isFlagOn(flags, SymbolFlags.REQUIRED));
+        }
+        return Optional.of(codec);
+    }
+
+    private static void writeString(String value, StringBuilder builder) {
+
+        builder.append('"');
+        int start = 0;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char ch = value.charAt(i);
+            if (ch >= 0x20 && ch != '"' && ch != '\\') {
+                continue;
+            }
+            builder.append(value, start, i);
+            start = i + 1;
+            switch (ch) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                case '\b':
+                    builder.append("\\b");
+                    break;
+                case '\f':
+                    builder.append("\\f");
+                    break;
+                default:
+                    builder.append("\\u00").append(HEX_DIGITS[ch >> 4]).append(HEX_DIGITS[ch & 0xF]);
+                    break;
+            }
+        }
+        builder.append(value, start, length).append('"');
+    }
+
+    /**
+     * Reads and writes the values of one type.
+     */
+    private interface ValueCodec {
+
+        Object read(JsonReader reader);
+
+        void write(Object value, StringBuilder builder);
+
+        default boolean isStructured() {
+            return false;
+        }
+    }
+
+    private enum PrimitiveCodec implements ValueCodec {
+        STRING {
+            @Override
+            public Object read(JsonReader reader) {
+                return StringUtils.fromString(reader.readString());
+            }
+
+            @Override
+            public void write(Object value, StringBuilder builder) {
+                writeString(((BString) value).getValue(), builder);
+            }
+        },
+        INT {
+            @Override
+            public Object read(JsonReader reader) {
+                String number = reader.readNumber();
+                try {
+                    return Long.parseLong(number);
+                } catch (NumberFormatException e) {
+                    throw MISMATCH;
+                }
+            }
+
+            @Override
+            public void write(Object value, StringBuilder builder) {
+                builder.append(((Long) value).longValue());
+            }
+        },
+        FLOAT {
+            @Override
+            public Object read(JsonReader reader) {
+                String number = reader.readNumber();
+                try {
+                    return Double.parseDouble(number);
+                } catch (NumberFormatException e) {
+                    throw MISMATCH;
+                }
+            }
+
+            @Override
+            public void write(Object value, StringBuilder builder) {
+                builder.append(StringUtils.getJsonString(value));
+            }
+        },
+        DECIMAL {
+            @Override
+            public Object read(JsonReader reader) {
+                try {
+                    return ValueCreator.createDecimalValue(reader.readNumber());
+                } catch (NumberFormatException e) {
+                    throw MISMATCH;
+                }
+            }
+
+            @Override
+            public void write(Object value, StringBuilder builder) {
+                builder.append(StringUtils.getJsonString(value));
+            }
+        },
+        BOOLEAN {
+            @Override
+            public Object read(JsonReader reader) {
+                return reader.readBoolean();
+            }
+
+            @Override
+            public void write(Object value, StringBuilder builder) {
+                builder.append(((Boolean) value).booleanValue());
+            }
+        }
+    }
+
+    private static final class NilableCodec implements ValueCodec {
+
+        private final ValueCodec codec;
+
+        private NilableCodec(ValueCodec codec) {
+            this.codec = codec;
+        }
+
+        @Override
+        public Object read(JsonReader reader) {
+            return reader.readNull() ? null : codec.read(reader);
+        }
+
+        @Override
+        public void write(Object value, StringBuilder builder) {
+            if (value == null) {
+                builder.append("null");
+            } else {
+                codec.write(value, builder);
+            }
+        }
+    }
+
+    private static final class ArrayCodec implements ValueCodec {
+
+        private final ArrayType arrayType;
+        private final ValueCodec elementCodec;
+
+        private ArrayCodec(ArrayType arrayType, ValueCodec elementCodec) {
+            this.arrayType = arrayType;
+            this.elementCodec = elementCodec;
+        }
+
+        @Override
+        public Object read(JsonReader reader) {
+            BArray array = ValueCreator.createArrayValue(arrayType);
+            reader.expect('[');
+            if (reader.consume(']')) {
+                return array;
+            }
+            do {
+                array.append(elementCodec.read(reader));
+            } while (reader.consume(','));
+            reader.expect(']');
+            return array;
+        }
+
+        @Override
+        public void write(Object value, StringBuilder builder) {
+            BArray array = (BArray) value;
+            builder.append('[');
+            for (int i = 0, size = array.size(); i < size; i++) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+                elementCodec.write(array.get(i), builder);
+            }
+            builder.append(']');
+        }
+
+        @Override
+        public boolean isStructured() {
+            return true;
+        }
+    }
+
+    private static final class RecordCodec implements ValueCodec {
+
+        private final RecordType recordType;
+        private final boolean open;
+        private final BString[] keys;
+        private final String[] names;
+        private final ValueCodec[] codecs;
+        private final Map<String, Integer> indexes;
+        private long requiredMask;
+
+        private RecordCodec(RecordType recordType, boolean open, int fieldCount) {
+            this.recordType = recordType;
+            this.open = open;
+            this.keys = new BString[fieldCount];
+            this.names = new String[fieldCount];
+            this.codecs = new ValueCodec[fieldCount];
+            this.indexes = new HashMap<>(fieldCount * 2);
+        }
+
+        private void addField(int index, String name, ValueCodec codec, boolean required) {
+            keys[index] = StringUtils.fromString(name);
+            names[index] = name;
+            codecs[index] = codec;
+            indexes.put(name, index);
+            if (required) {
+                requiredMask |= 1L << index;
+            }
+        }
+
+        @Override
+        public Object read(JsonReader reader) {
+            BMap<BString, Object> record = ValueCreator.createRecordValue(recordType.getPackage(),
+                    recordType.getName());
+            long seen = 0;
+            reader.expect('{');
+            if (!reader.consume('}')) {
+                do {
+                    String name = reader.readString();
+                    reader.expect(':');
+                    Integer index = indexes.get(name);
+                    if (index != null) {
+                        record.put(keys[index], codecs[index].read(reader));
+                        seen |= 1L << index;
+                    } else if (open) {
+                        record.put(StringUtils.fromString(name), JsonUtils.parse(reader.readRawValue()));
+                    } else {
+                        throw MISMATCH;
+                    }
+                } while (reader.consume(','));
+                reader.expect('}');
+            }
+            if ((seen & requiredMask) != requiredMask) {
+                throw MISMATCH;
+            }
+            return record;
+        }
+
+        @Override
+        public void write(Object value, StringBuilder builder) {
+            BMap<?, ?> record = (BMap<?, ?>) value;
+            builder.append('{');
+            boolean first = true;
+            int written = 0;
+            for (int i = 0; i < keys.length; i++) {
+                if (!record.containsKey(keys[i])) {
+                    continue;
+                }
+                if (!first) {
+                    builder.append(',');
+                }
+                first = false;
+                writeString(names[i], builder);
+                builder.append(':');
+                codecs[i].write(record.get(keys[i]), builder);
+                written++;
+            }
+            if (open && record.size() > written) {
+                for (Map.Entry<?, ?> entry : record.entrySet()) {
+                    String name = entry.getKey().toString();
+                    if (indexes.containsKey(name)) {
+                        continue;
+                    }
+                    if (!first) {
+                        builder.append(',');
+                    }
+                    first = false;
+                    writeString(name, builder);
+                    builder.append(':');
+                    writeValue(entry.getValue(), builder);
+                }
+            }
+            builder.append('}');
+        }
+
+        @Override
+        public boolean isStructured() {
+            return true;
+        }
+    }
+
+    /**
+     * Minimal pull reader over a JSON document. Any unexpected token is reported as a mismatch.
+     */
+    private static final class JsonReader {
+
+        private final String json;
+        private final int length;
+        private int position;
+
+        private JsonReader(String json) {
+            this.json = json;
+            this.length = json.length();
+        }
+
+        private void skipWhitespace() {
+            while (position < length) {
+                char ch = json.charAt(position);
+                if (ch != ' ' && ch != '\n' && ch != '\r' && ch != '\t') {
+                    return;
+                }
+                position++;
+            }
+        }
+
+        private char peek() {
+            skipWhitespace();
+            if (position >= length) {
+                throw MISMATCH;
+            }
+            return json.charAt(position);
+        }
+
+        private void expect(char expected) {
+            if (peek() != expected) {
+                throw MISMATCH;
+            }
+            position++;
+        }
+
+        private boolean consume(char expected) {
+            if (peek() == expected) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expectEnd() {
+            skipWhitespace();
+            if (position != length) {
+                throw MISMATCH;
+            }
+        }
+
+        private String readString() {
+            expect('"');
+            int start = position;
+            while (position < length) {
+                char ch = json.charAt(position);
+                if (ch == '"') {
+                    return json.substring(start, position++);
+                } else if (ch == '\\') {
+                    return readEscapedString(start);
+                } else if (ch < 0x20) {
+                    throw MISMATCH;
+                }
+                position++;
+            }
+            throw MISMATCH;
+        }
+
+        private String readEscapedString(int start) {
+            StringBuilder builder = new StringBuilder(json.length() - start);
+            builder.append(json, start, position);
+            while (position < length) {
+                char ch = json.charAt(position++);
+                if (ch == '"') {
+                    return builder.toString();
+                } else if (ch < 0x20) {
+                    throw MISMATCH;
+                } else if (ch != '\\') {
+                    builder.append(ch);
+                    continue;
+                }
+                if (position >= length) {
+                    throw MISMATCH;
+                }
+                char escaped = json.charAt(position++);
+                switch (escaped) {
+                    case '"':
+                    case '\\':
+                    case '/':
+                        builder.append(escaped);
+                        break;
+                    case 'n':
+                        builder.append('\n');
+                        break;
+                    case 'r':
+                        builder.append('\r');
+                        break;
+                    case 't':
+                        builder.append('\t');
+                        break;
+                    case 'b':
+                        builder.append('\b');
+                        break;
+                    case 'f':
+                        builder.append('\f');
+                        break;
+                    case 'u':
+                        if (position + 4 > length) {
+                            throw MISMATCH;
+                        }
+                        try {
+                            builder.append((char) Integer.parseInt(json.substring(position, position + 4), 16));
+                        } catch (NumberFormatException e) {
+                            throw MISMATCH;
+                        }
+                        position += 4;
+                        break;
+                    default:
+                        throw MISMATCH;
+                }
+            }
+            throw MISMATCH;
+        }
+
+        private String readNumber() {
+            skipWhitespace();
+            int start = position;
+            skip('-');
+            if (!skip('0')) {
+                skipDigits();
+            }
+            if (skip('.')) {
+                skipDigits();
+            }
+            if (skip('e') || skip('E')) {
+                if (!skip('+')) {
+                    skip('-');
+                }
+                skipDigits();
+            }
+            return json.substring(start, position);
+        }
+
+        private boolean skip(char expected) {
+            if (position < length && json.charAt(position) == expected) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void skipDigits() {
+            int start = position;
+            while (position < length && json.charAt(position) >= '0' && json.charAt(position) <= '9') {
+                position++;
+            }
+            if (start == position) {
+                throw MISMATCH;
+            }
+        }
+
+        private boolean readBoolean() {
+            skipWhitespace();
+            if (json.startsWith("true", position)) {
+                position += 4;
+                return true;
+            } else if (json.startsWith("false", position)) {
+                position += 5;
+                return false;
+            }
+            throw MISMATCH;
+        }
+
+        private boolean readNull() {
+            skipWhitespace();
+            if (json.startsWith("null", position)) {
+                position += 4;
+                return true;
+            }
+            return false;
+        }
+
+        private String readRawValue() {
+            skipWhitespace();
+            int start = position;
+            skipValue();
+            return json.substring(start, position);
+        }
+
+        private void skipValue() {
+            char ch = peek();
+            if (ch == '{') {
+                position++;
+                if (consume('}')) {
+                    return;
+                }
+                do {
+                    readString();
+                    expect(':');
+                    skipValue();
+                } while (consume(','));
+                expect('}');
+            } else if (ch == '[') {
+                position++;
+                if (consume(']')) {
+                    return;
+                }
+                do {
+                    skipValue();
+                } while (consume(','));
+                expect(']');
+            } else if (ch == '"') {
+                readString();
+            } else if (ch == 't' || ch == 'f') {
+                readBoolean();
+            } else if (!readNull()) {
+                readNumber();
+            }
+        }
+    }
+
+    /**
+     * Signals that the input does not match the codec. It carries no stack trace as it is used for control flow.
+     */
+    private static final class MismatchException extends RuntimeException {
+
+        private MismatchException() {
+            super(null, null, false, false);
+        }
+    }
+}
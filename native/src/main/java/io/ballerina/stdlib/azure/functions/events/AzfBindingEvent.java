@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.azure.functions.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for converting the invocation data to the arguments of a function.
+ *
+ * @since 4.2.0
+ */
+@Name(InvocationEvents.EVENT_NAME_PREFIX + "AzfBinding")
+@Label("Azure Function Parameter Binding")
+@Description("Conversion of the invocation data to the arguments of a function")
+@Category({InvocationEvents.CATEGORY_BALLERINA, InvocationEvents.CATEGORY_AZURE_FUNCTIONS})
+@Threshold("5 ms")
+@StackTrace(false)
+public class AzfBindingEvent extends Event {
+
+    @Label("Function Name")
+    String functionName;
+
+    @Label("Parameter Count")
+    int parameterCount;
+
+    /**
+     * Ends the event and commits it when it is enabled and exceeds its threshold.
+     *
+     * @param functionName   name of the function
+     * @param parameterCount number of arguments bound
+     */
+    public void complete(String functionName, int parameterCount) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.functionName = functionName;
+        this.parameterCount = parameterCount;
+        commit();
+    }
+}
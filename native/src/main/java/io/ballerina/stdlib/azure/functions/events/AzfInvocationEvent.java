@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.azure.functions.events;
+
+import io.ballerina.runtime.api.types.ServiceType;
+import io.ballerina.runtime.api.values.BMap;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for an invocation dispatched by the native adaptors, from the parameter binding until the outputs are
+ * created.
+ *
+ * @since 4.2.0
+ */
+@Name(InvocationEvents.EVENT_NAME_PREFIX + "AzfInvocation")
+@Label("Azure Function Invocation")
+@Description("Invocation of a function, with the time spent in each phase")
+@Category({InvocationEvents.CATEGORY_BALLERINA, InvocationEvents.CATEGORY_AZURE_FUNCTIONS})
+@Threshold("20 ms")
+@StackTrace(false)
+public class AzfInvocationEvent extends Event {
+
+    @Label("Function Name")
+    String functionName;
+
+    @Label("Trigger Type")
+    String triggerType;
+
+    @Label("Payload Size")
+    @Description("UTF-8 encoded size of the request body, or of the trigger and input data")
+    @DataAmount(DataAmount.BYTES)
+    long payloadSize;
+
+    @Label("Content Type")
+    String contentType;
+
+    @Label("Binding Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long bindingDuration;
+
+    @Label("User Code Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long userCodeDuration;
+
+    @Label("Response Shaping Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long responseShapingDuration;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    /**
+     * Ends the event and commits it when it is enabled and exceeds its threshold. The payload of the invocation is
+     * only inspected when the event is committed.
+     *
+     * @param functionName  name of the function
+     * @param serviceType   type of the service of the function
+     * @param body          invocation data received from the Functions host
+     * @param startNanos    time at which the parameter binding started
+     * @param boundNanos    time at which the function was called
+     * @param returnedNanos time at which the function returned
+     * @param succeeded     whether the invocation produced its outputs
+     */
+    public void complete(String functionName, ServiceType serviceType, BMap<?, ?> body, long startNanos,
+                         long boundNanos, long returnedNanos, boolean succeeded) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.functionName = functionName;
+        this.triggerType = InvocationEvents.getTriggerType(serviceType);
+        this.payloadSize = InvocationEvents.getPayloadSize(body);
+        this.contentType = InvocationEvents.getContentType(body);
+        this.bindingDuration = boundNanos - startNanos;
+        this.userCodeDuration = returnedNanos - boundNanos;
+        this.responseShapingDuration = System.nanoTime() - returnedNanos;
+        this.succeeded = succeeded;
+        commit();
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.azure.functions.events;
+
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.ServiceType;
+import io.ballerina.runtime.api.types.TypeId;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.azure.functions.Constants;
+import io.ballerina.stdlib.azure.functions.Utils;
+
+import java.util.List;
+
+/**
+ * Describes the invocations recorded by the JFR events of the module. These are only called once an event is known to
+ * be committed, so they are not on the path of invocations which are not recorded.
+ *
+ * @since 4.2.0
+ */
+public final class InvocationEvents {
+
+    static final String EVENT_NAME_PREFIX = "ballerinax.azure.functions.";
+    static final String CATEGORY_BALLERINA = "Ballerina";
+    static final String CATEGORY_AZURE_FUNCTIONS = "Azure Functions";
+
+    private static final String SERVICE_SUFFIX = "Service";
+
+    private InvocationEvents() {
+    }
+
+    /**
+     * Returns the trigger binding type of a service, such as {@code httpTrigger} or {@code queueTrigger}.
+     *
+     * @param serviceType type of the service
+     * @return trigger type
+     */
+    public static String getTriggerType(ServiceType serviceType) {
+        List<TypeId> ids = serviceType.getTypeIdSet().getIds();
+        if (ids.isEmpty()) {
+            return Constants.HTTP_TRIGGER_TYPE;
+        }
+        String name = ids.get(0).getName();
+        if (name.equals("CosmosService")) {
+            return "cosmosDBTrigger";
+        }
+        if (name.endsWith(SERVICE_SUFFIX)) {
+            name = name.substring(0, name.length() - SERVICE_SUFFIX.length());
+        }
+        return name.isEmpty() ? Constants.HTTP_TRIGGER_TYPE
+                : Character.toLowerCase(name.charAt(0)) + name.substring(1) + "Trigger";
+    }
+
+    /**
+     * Returns the size of the payload of an invocation in bytes. This is the UTF-8 encoded size of the request body for
+     * HTTP triggers, and the total size of the trigger and input data for the others.
+     *
+     * @param body invocation data of an HTTP trigger, or the invocation request of the other triggers
+     * @return payload size in bytes
+     */
+    static long getPayloadSize(BMap<?, ?> body) {
+        BMap<?, ?> httpPayload = getHttpPayload(body);
+        if (httpPayload != null) {
+            Object requestBody = httpPayload.get(StringUtils.fromString(Constants.AZURE_BODY_HEADERS));
+            return requestBody instanceof BString ? getUtf8Length(((BString) requestBody).getValue()) : 0;
+        }
+        Object data = body.get(StringUtils.fromString("Data"));
+        if (!(data instanceof BMap)) {
+            return 0;
+        }
+        long size = 0;
+        for (Object value : ((BMap<?, ?>) data).values()) {
+            if (value instanceof BString) {
+                size += getUtf8Length(((BString) value).getValue());
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the number of bytes of the UTF-8 encoding of the given string, without encoding it.
+     *
+     * @param value string to be measured
+     * @return encoded length in bytes
+     */
+    static long getUtf8Length(String value) {
+        long length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (!Character.isSurrogate(c)) {
+                length += 3;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() &&
+                    Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                // An unpaired surrogate is replaced with '?' by the encoder, as in String#getBytes.
+                length++;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Returns the content type of the request of an HTTP trigger.
+     *
+     * @param body invocation data of an HTTP trigger, or the invocation request of the other triggers
+     * @return content type, or null if there is none
+     */
+    static String getContentType(BMap<?, ?> body) {
+        BMap<?, ?> httpPayload = getHttpPayload(body);
+        if (httpPayload == null) {
+            return null;
+        }
+        Object headers = httpPayload.get(StringUtils.fromString(Constants.AZURE_PAYLOAD_HEADERS));
+        return headers instanceof BMap ? Utils.getContentTypeHeader((BMap<?, ?>) headers) : null;
+    }
+
+    /**
+     * Returns the name of the function of a resource, or the method name for remote functions.
+     *
+     * @param methodType method of the function
+     * @return function name
+     */
+    static String getFunctionName(MethodType methodType) {
+        Object annotation = methodType.getAnnotation(StringUtils.fromString(Constants.FUNCTION_ANNOTATION_COMPLETE));
+        if (annotation instanceof BMap) {
+            BString name = ((BMap<?, ?>) annotation)
+                    .getStringValue(StringUtils.fromString(Constants.FUNCTION_ANNOTATION_NAME_FIELD));
+            if (name != null) {
+                return name.getValue();
+            }
+        }
+        return methodType.getName();
+    }
+
+    private static BMap<?, ?> getHttpPayload(BMap<?, ?> body) {
+        Object httpPayload = body.get(StringUtils.fromString(Constants.HTTP_TRIGGER_IDENTIFIER));
+        return httpPayload instanceof BMap ? (BMap<?, ?>) httpPayload : null;
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.azure.functions.logging;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.azure.functions.Constants;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Buffers the log entries of one invocation, which are returned to the Functions host in the {@code Logs} field of
+ * the response, so they are correlated with the invocation instead of being written to the standard error of the
+ * worker.
+ * <p>
+ * The errors of the invocation are logged by the module, and the user code logs through the {@code print} functions
+ * of the module, which add to the buffer of the invocation attached to the calling thread. Entries logged outside of
+ * an invocation are written to the standard error.
+ * <p>
+ * Entries below the level given by the {@code AZURE_FUNCTIONS_LOG_LEVEL} environment variable are dropped, and so are
+ * the entries past {@code AZURE_FUNCTIONS_LOG_MAX_ENTRIES} entries or {@code AZURE_FUNCTIONS_LOG_MAX_CHARS}
+ * characters, in which case the number of dropped entries is logged last. Stack traces are added to at most
+ * {@code AZURE_FUNCTIONS_STACK_TRACES_PER_SECOND} entries per second across all invocations, so a burst of errors does
+ * not stall the worker formatting them.
+ *
+ * @since 4.2.0
+ */
+public class InvocationLog {
+
+    /**
+     * Severity of a log entry.
+     */
+    public enum Level {
+        DEBUG, INFO, WARN, ERROR
+    }
+
+    private static final Level LEVEL = getLevel(System.getenv(Constants.LOG_LEVEL_ENV));
+    private static final int MAX_ENTRIES = getLimit(Constants.LOG_MAX_ENTRIES_ENV, 100);
+    private static final int MAX_CHARS = getLimit(Constants.LOG_MAX_CHARS_ENV, 16 * 1024);
+    private static final int STACK_TRACES_PER_SECOND = getLimit(Constants.STACK_TRACES_PER_SECOND_ENV, 5);
+    private static final long WINDOW_NANOS = 1_000_000_000L;
+    private static final AtomicLong WINDOW_START = new AtomicLong(System.nanoTime());
+    private static final AtomicInteger STACK_TRACES_IN_WINDOW = new AtomicInteger();
+    private static final InheritableThreadLocal<InvocationLog> CURRENT = new InheritableThreadLocal<>();
+    private static final PrintStream ERR = System.err;
+
+    private final List<String> entries = new ArrayList<>();
+    private int chars;
+    private int dropped;
+
+    public static void externInvocationLogInit(BObject invocationLog) {
+        invocationLog.addNativeData(Constants.INVOCATION_LOG, new InvocationLog());
+    }
+
+    /**
+     * Logs an entry of the user code to the invocation being handled.
+     *
+     * @param level   name of the level of the entry
+     * @param message message of the entry
+     * @param error   error to log with the message, or nil
+     */
+    public static void print(BString level, BString message, Object error) {
+        Level entryLevel = Level.valueOf(level.getValue());
+        InvocationLog log = CURRENT.get();
+        if (log == null) {
+            if (isEnabled(entryLevel)) {
+                ERR.println(entryLevel.name() + ": " + message.getValue() +
+                        (error instanceof BError ? ": " + ((BError) error).getPrintableStackTrace() : ""));
+            }
+        } else if (error instanceof BError) {
+            log.log(entryLevel, message.getValue(), (BError) error);
+        } else {
+            log.log(entryLevel, message.getValue());
+        }
+    }
+
+    public static BString toJson(BObject invocationLog) {
+        return StringUtils.fromString(get(invocationLog).toJson());
+    }
+
+    /**
+     * Returns the buffer attached to the Ballerina {@code InvocationLog} object.
+     *
+     * @param invocationLog Ballerina object of the invocation log
+     * @return buffer of the invocation
+     */
+    public static InvocationLog get(BObject invocationLog) {
+        return (InvocationLog) invocationLog.getNativeData(Constants.INVOCATION_LOG);
+    }
+
+    /**
+     * Makes the buffer the target of the entries logged by the user code called on this thread, and on the strands
+     * it starts.
+     */
+    public void attach() {
+        CURRENT.set(this);
+    }
+
+    public void detach() {
+        CURRENT.remove();
+    }
+
+    public static boolean isEnabled(Level level) {
+        return level.compareTo(LEVEL) >= 0;
+    }
+
+    /**
+     * Adds an entry, unless it is below the configured level or the buffer is full.
+     *
+     * @param level   level of the entry
+     * @param message message of the entry
+     */
+    public synchronized void log(Level level, String message) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        String entry = level.name() + ": " + message;
+        if (entries.size() >= MAX_ENTRIES || chars >= MAX_CHARS) {
+            dropped++;
+            return;
+        }
+        if (chars + entry.length() > MAX_CHARS) {
+            entry = entry.substring(0, MAX_CHARS - chars) + "...";
+        }
+        entries.add(entry);
+        chars += entry.length();
+    }
+
+    /**
+     * Adds an error entry with the stack trace of the error, unless too many stack traces were logged in the last
+     * second.
+     *
+     * @param message message of the entry
+     * @param error   error which caused the entry
+     */
+    public void log(String message, BError error) {
+        log(Level.ERROR, message, error);
+    }
+
+    /**
+     * Adds an entry with the stack trace of the error, unless too many stack traces were logged in the last second.
+     *
+     * @param level   level of the entry
+     * @param message message of the entry
+     * @param error   error logged with the entry
+     */
+    public void log(Level level, String message, BError error) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        if (tryAcquireStackTrace()) {
+            log(level, message + ": " + error.getPrintableStackTrace());
+        } else {
+            log(level, message + ": " + error.getMessage() + " (stack trace suppressed)");
+        }
+    }
+
+    /**
+     * Returns the entries as a JSON array of strings.
+     *
+     * @return JSON text of the entries
+     */
+    public synchronized String toJson() {
+        StringBuilder json = new StringBuilder("[");
+        for (String entry : entries) {
+            appendString(json, entry);
+            json.append(',');
+        }
+        if (dropped > 0) {
+            appendString(json, Level.WARN.name() + ": " + dropped + " log entries dropped");
+            json.append(',');
+        }
+        if (json.length() > 1) {
+            json.setLength(json.length() - 1);
+        }
+        return json.append(']').toString();
+    }
+
+    private static boolean tryAcquireStackTrace() {
+        long now = System.nanoTime();
+        long windowStart = WINDOW_START.get();
+        if (now - windowStart >= WINDOW_NANOS && WINDOW_START.compareAndSet(windowStart, now)) {
+            STACK_TRACES_IN_WINDOW.set(0);
+        }
+        return STACK_TRACES_IN_WINDOW.incrementAndGet() <= STACK_TRACES_PER_SECOND;
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                case '\r':
+                    json.append("\\r");
+                    break;
+                case '\t':
+                    json.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                    break;
+            }
+        }
+        json.append('"');
+    }
+
+    private static Level getLevel(String value) {
+        if (value == null) {
+            return Level.INFO;
+        }
+        try {
+            return Level.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return Level.INFO;
+        }
+    }
+
+    private static int getLimit(String variable, int defaultValue) {
+        String value = System.getenv(variable);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Math.max(0, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.azure.functions.metrics;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.azure.functions.Constants;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the latency of each phase of an invocation, per function.
+ * <p>
+ * The envelope parsing and the total latency are reported by the Ballerina services receiving the envelope, while the
+ * parameter binding, the user code and the response shaping are recorded by the native adaptors. Recording is enabled
+ * unless the {@code AZURE_FUNCTIONS_INVOCATION_METRICS} environment variable is set to {@code false}.
+ *
+ * @since 4.2.0
+ */
+public final class InvocationMetrics {
+
+    private static final boolean ENABLED = !"false".equalsIgnoreCase(System.getenv(Constants.INVOCATION_METRICS_ENV));
+    private static final Phase[] PHASES = Phase.values();
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    private static final String[] PERCENTILE_NAMES = {"p50Millis", "p90Millis", "p99Millis", "p999Millis"};
+    private static final Map<String, LatencyHistogram[]> FUNCTIONS = new ConcurrentHashMap<>();
+
+    private InvocationMetrics() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    public static long nanoTime() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Records the latency of a phase.
+     *
+     * @param functionName name of the function
+     * @param phase        phase of the invocation
+     * @param nanos        latency in nanoseconds
+     */
+    public static void record(String functionName, Phase phase, long nanos) {
+        if (!ENABLED) {
+            return;
+        }
+        getHistograms(functionName)[phase.ordinal()].record(nanos);
+    }
+
+    /**
+     * Records the phases run by the native adaptors, once the outputs of the function have been created.
+     *
+     * @param functionName  name of the function
+     * @param startNanos    time at which the parameter binding started
+     * @param boundNanos    time at which the function was called
+     * @param returnedNanos time at which the function returned
+     */
+    public static void recordExecution(String functionName, long startNanos, long boundNanos, long returnedNanos) {
+        if (!ENABLED) {
+            return;
+        }
+        LatencyHistogram[] histograms = getHistograms(functionName);
+        histograms[Phase.PARAMETER_BINDING.ordinal()].record(boundNanos - startNanos);
+        histograms[Phase.USER_CODE.ordinal()].record(returnedNanos - boundNanos);
+        histograms[Phase.RESPONSE_SHAPING.ordinal()].record(System.nanoTime() - returnedNanos);
+    }
+
+    /**
+     * Records the envelope parsing and the total latency of an invocation, once its response is ready.
+     *
+     * @param functionName  name of the function
+     * @param receivedNanos time at which the envelope was received
+     * @param parsedNanos   time at which the envelope was parsed
+     */
+    public static void recordInvocation(BString functionName, long receivedNanos, long parsedNanos) {
+        if (!ENABLED) {
+            return;
+        }
+        LatencyHistogram[] histograms = getHistograms(functionName.getValue());
+        histograms[Phase.ENVELOPE_PARSING.ordinal()].record(parsedNanos - receivedNanos);
+        histograms[Phase.TOTAL.ordinal()].record(System.nanoTime() - receivedNanos);
+    }
+
+    /**
+     * Returns the recorded latencies as JSON, with the count, mean, percentiles and maximum of each phase of each
+     * function, along with the CPU time and the allocated bytes accounted by {@link ResourceAccounting} and the
+     * checkpoints of the {@link StartupTimeline}.
+     *
+     * @return JSON text of the metrics
+     */
+    public static BString getInvocationMetrics() {
+        StringBuilder json = new StringBuilder("{\"enabled\":").append(ENABLED).append(",\"functions\":{");
+        boolean firstFunction = true;
+        for (Map.Entry<String, LatencyHistogram[]> function : new TreeMap<>(FUNCTIONS).entrySet()) {
+            if (!firstFunction) {
+                json.append(',');
+            }
+            firstFunction = false;
+            appendString(json, function.getKey());
+            json.append(":{");
+            for (int i = 0; i < PHASES.length; i++) {
+                if (i > 0) {
+                    json.append(',');
+                }
+                appendString(json, PHASES[i].getName());
+                appendSnapshot(json, function.getValue()[i].snapshot());
+            }
+            json.append('}');
+        }
+        json.append("},\"resourceUsage\":").append(ResourceAccounting.toJson());
+        json.append(",\"startup\":").append(StartupTimeline.toJson());
+        return StringUtils.fromString(json.append('}').toString());
+    }
+
+    private static LatencyHistogram[] getHistograms(String functionName) {
+        LatencyHistogram[] histograms = FUNCTIONS.get(functionName);
+        if (histograms != null) {
+            return histograms;
+        }
+        return FUNCTIONS.computeIfAbsent(functionName, name -> {
+            LatencyHistogram[] created = new LatencyHistogram[PHASES.length];
+            for (int i = 0; i < created.length; i++) {
+                created[i] = new LatencyHistogram();
+            }
+            return created;
+        });
+    }
+
+    private static void appendSnapshot(StringBuilder json, LatencyHistogram.Snapshot snapshot) {
+        json.append(":{\"count\":").append(snapshot.getCount())
+                .append(",\"meanMillis\":").append(snapshot.getMeanMillis());
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            json.append(",\"").append(PERCENTILE_NAMES[i]).append("\":")
+                    .append(snapshot.getPercentileMillis(PERCENTILES[i]));
+        }
+        json.append(",\"maxMillis\":").append(snapshot.getMaxMillis()).append('}');
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"').append(value.replace("\\", "\\\\").replace("\"", "\\\"")).append('"');
+    }
+}
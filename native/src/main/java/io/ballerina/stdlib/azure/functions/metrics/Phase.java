@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.azure.functions.metrics;
+
+/**
+ * Phases of an invocation for which the latency is recorded.
+ *
+ * @since 4.2.0
+ */
+public enum Phase {
+    /**
+     * Reading the invocation envelope sent by the Functions host and finding the function to call.
+     */
+    ENVELOPE_PARSING("envelopeParsing"),
+    /**
+     * Converting the envelope data to the arguments of the function.
+     */
+    PARAMETER_BINDING("parameterBinding"),
+    /**
+     * Running the function.
+     */
+    USER_CODE("userCode"),
+    /**
+     * Converting the returned value to the outputs of the function.
+     */
+    RESPONSE_SHAPING("responseShaping"),
+    /**
+     * From receiving the envelope until the response is ready to be sent.
+     */
+    TOTAL("total");
+
+    private final String name;
+
+    Phase(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
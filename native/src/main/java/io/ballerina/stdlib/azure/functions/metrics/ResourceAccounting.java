@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.azure.functions.metrics;
+
+import io.ballerina.stdlib.azure.functions.Constants;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Attributes the CPU time and the heap allocated by the parameter binding, the user code and the response shaping to
+ * the function being invoked.
+ * <p>
+ * Accounting is enabled by setting the {@code AZURE_FUNCTIONS_RESOURCE_ACCOUNTING} environment variable to
+ * {@code true}. When the invocation runs on a platform thread, the CPU time and the allocated bytes of that thread are
+ * sampled around each phase. The JVM does not report them for virtual threads, which the Ballerina runtime uses for
+ * strands, so in that case the CPU time of the process and the bytes allocated by all threads are sampled instead, and
+ * divided among the invocations in flight. The usage of such invocations is an estimate, and is reported apart from the
+ * measured usage under the {@code estimated} members.
+ *
+ * @since 4.2.0
+ */
+public final class ResourceAccounting {
+
+    private static final boolean ENABLED = "true".equalsIgnoreCase(System.getenv(Constants.RESOURCE_ACCOUNTING_ENV));
+    private static final Phase[] PHASES = {Phase.PARAMETER_BINDING, Phase.USER_CODE, Phase.RESPONSE_SHAPING};
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final com.sun.management.OperatingSystemMXBean OPERATING_SYSTEM =
+            (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+    private static final boolean THREAD_ACCOUNTING_SUPPORTED = isThreadAccountingSupported();
+    private static final Map<String, FunctionUsage> FUNCTIONS = new ConcurrentHashMap<>();
+    private static final AtomicInteger IN_FLIGHT = new AtomicInteger();
+    private static final Sample DISABLED = new Sample(false);
+
+    private ResourceAccounting() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Starts sampling an invocation. The returned sample does nothing when accounting is disabled.
+     *
+     * @return sample of the invocation
+     */
+    public static Sample start() {
+        if (!ENABLED) {
+            return DISABLED;
+        }
+        boolean exact = THREAD_ACCOUNTING_SUPPORTED && !Thread.currentThread().isVirtual();
+        Sample sample = new Sample(exact);
+        if (!exact) {
+            IN_FLIGHT.incrementAndGet();
+        }
+        sample.reset();
+        return sample;
+    }
+
+    /**
+     * Returns the accounted usage of each function as JSON, with the totals of each phase and the averages per
+     * invocation.
+     *
+     * @return JSON text of the usage
+     */
+    static String toJson() {
+        StringBuilder json = new StringBuilder("{\"enabled\":").append(ENABLED).append(",\"functions\":{");
+        boolean first = true;
+        for (Map.Entry<String, FunctionUsage> function : new TreeMap<>(FUNCTIONS).entrySet()) {
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            json.append('"').append(function.getKey().replace("\\", "\\\\").replace("\"", "\\\"")).append("\":");
+            function.getValue().appendJson(json);
+        }
+        return json.append("}}").toString();
+    }
+
+    private static boolean isThreadAccountingSupported() {
+        if (!ENABLED) {
+            return false;
+        }
+        try {
+            if (!THREADS.isCurrentThreadCpuTimeSupported() || !THREADS.isThreadAllocatedMemorySupported()) {
+                return false;
+            }
+            THREADS.setThreadCpuTimeEnabled(true);
+            THREADS.setThreadAllocatedMemoryEnabled(true);
+            return true;
+        } catch (UnsupportedOperationException | SecurityException e) {
+            return false;
+        }
+    }
+
+    /**
+     * CPU time and allocated bytes of one invocation, accumulated phase by phase.
+     */
+    public static class Sample {
+
+        private final boolean exact;
+        private final long[] cpuNanos = new long[PHASES.length];
+        private final long[] allocatedBytes = new long[PHASES.length];
+        private long lastCpuNanos;
+        private long lastAllocatedBytes;
+        private boolean done;
+
+        private Sample(boolean exact) {
+            this.exact = exact;
+        }
+
+        /**
+         * Charges the usage since the previous phase ended to the given phase.
+         *
+         * @param phase phase which ended
+         */
+        public void mark(Phase phase) {
+            if (this == DISABLED) {
+                return;
+            }
+            long cpu = getCpuNanos();
+            long allocated = getAllocatedBytes();
+            int index = getIndex(phase);
+            int share = exact ? 1 : Math.max(1, IN_FLIGHT.get());
+            cpuNanos[index] += Math.max(0, cpu - lastCpuNanos) / share;
+            allocatedBytes[index] += Math.max(0, allocated - lastAllocatedBytes) / share;
+            lastCpuNanos = cpu;
+            lastAllocatedBytes = allocated;
+        }
+
+        /**
+         * Adds the usage of the invocation to the totals of the function.
+         *
+         * @param functionName name of the function
+         */
+        public void finish(String functionName) {
+            if (this == DISABLED || done) {
+                return;
+            }
+            release();
+            FunctionUsage usage = FUNCTIONS.get(functionName);
+            if (usage == null) {
+                usage = FUNCTIONS.computeIfAbsent(functionName, name -> new FunctionUsage());
+            }
+            usage.add(this);
+        }
+
+        /**
+         * Ends the sampling of an invocation which did not complete, without adding its usage. Does nothing if the
+         * invocation is already finished.
+         */
+        public void discard() {
+            if (this == DISABLED || done) {
+                return;
+            }
+            release();
+        }
+
+        private void release() {
+            done = true;
+            if (!exact) {
+                IN_FLIGHT.decrementAndGet();
+            }
+        }
+
+        private void reset() {
+            lastCpuNanos = getCpuNanos();
+            lastAllocatedBytes = getAllocatedBytes();
+        }
+
+        private long getCpuNanos() {
+            return exact ? THREADS.getCurrentThreadCpuTime() : OPERATING_SYSTEM.getProcessCpuTime();
+        }
+
+        private long getAllocatedBytes() {
+            return exact ? THREADS.getCurrentThreadAllocatedBytes() : THREADS.getTotalThreadAllocatedBytes();
+        }
+
+        private static int getIndex(Phase phase) {
+            for (int i = 0; i < PHASES.length; i++) {
+                if (PHASES[i] == phase) {
+                    return i;
+                }
+            }
+            throw new IllegalArgumentException("resource usage is not accounted for " + phase.getName());
+        }
+    }
+
+    private static class FunctionUsage {
+
+        private final Totals measured = new Totals();
+        private final Totals estimated = new Totals();
+
+        private void add(Sample sample) {
+            (sample.exact ? measured : estimated).add(sample);
+        }
+
+        private void appendJson(StringBuilder json) {
+            json.append("{\"invocations\":").append(measured.invocations.sum() + estimated.invocations.sum())
+                    .append(",\"estimatedInvocations\":").append(estimated.invocations.sum()).append(',');
+            measured.appendJson(json, "");
+            json.append(',');
+            estimated.appendJson(json, "estimated");
+            json.append('}');
+        }
+    }
+
+    private static class Totals {
+
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder[] cpuNanos = createAdders();
+        private final LongAdder[] allocatedBytes = createAdders();
+
+        private void add(Sample sample) {
+            invocations.increment();
+            for (int i = 0; i < PHASES.length; i++) {
+                cpuNanos[i].add(sample.cpuNanos[i]);
+                allocatedBytes[i].add(sample.allocatedBytes[i]);
+            }
+        }
+
+        private void appendJson(StringBuilder json, String prefix) {
+            long count = invocations.sum();
+            long totalCpuNanos = 0;
+            long totalAllocatedBytes = 0;
+            StringBuilder cpu = new StringBuilder("{");
+            StringBuilder allocated = new StringBuilder("{");
+            for (int i = 0; i < PHASES.length; i++) {
+                if (i > 0) {
+                    cpu.append(',');
+                    allocated.append(',');
+                }
+                long phaseCpuNanos = cpuNanos[i].sum();
+                long phaseAllocatedBytes = allocatedBytes[i].sum();
+                totalCpuNanos += phaseCpuNanos;
+                totalAllocatedBytes += phaseAllocatedBytes;
+                cpu.append('"').append(PHASES[i].getName()).append("\":").append(phaseCpuNanos / 1e6);
+                allocated.append('"').append(PHASES[i].getName()).append("\":").append(phaseAllocatedBytes);
+            }
+            json.append('"').append(getName(prefix, "cpuMillis")).append("\":").append(cpu).append('}')
+                    .append(",\"").append(getName(prefix, "allocatedBytes")).append("\":").append(allocated)
+                    .append('}')
+                    .append(",\"").append(getName(prefix, "cpuMillisPerInvocation")).append("\":")
+                    .append(count == 0 ? 0 : totalCpuNanos / 1e6 / count)
+                    .append(",\"").append(getName(prefix, "allocatedBytesPerInvocation")).append("\":")
+                    .append(count == 0 ? 0 : totalAllocatedBytes / count);
+        }
+
+        private static String getName(String prefix, String name) {
+            return prefix.isEmpty() ? name : prefix + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        }
+
+        private static LongAdder[] createAdders() {
+            LongAdder[] adders = new LongAdder[PHASES.length];
+            for (int i = 0; i < adders.length; i++) {
+                adders[i] = new LongAdder();
+            }
+            return adders;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.azure.functions.metrics;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Records checkpoints of the worker startup, from the start of the process to the first response written to the
+ * Functions host, so the cold start of releases can be compared phase by phase.
+ * <p>
+ * Checkpoints are recorded for the module initialization, each listener attach, the start of the HTTP listener, the
+ * first envelope received and the first response written. The timeline is complete once the first response is
+ * written, and later checkpoints are ignored.
+ *
+ * @since 4.2.0
+ */
+public final class StartupTimeline {
+
+    static final String MODULE_INIT = "moduleInit";
+    static final String LISTENER_START = "httpListener.start";
+    static final String FIRST_ENVELOPE_RECEIVED = "firstEnvelopeReceived";
+    static final String FIRST_RESPONSE_WRITTEN = "firstResponseWritten";
+
+    // Relates System.nanoTime() to the wall clock, which the process start time is given in.
+    private static final long BASE_NANOS = System.nanoTime();
+    private static final long BASE_EPOCH_NANOS = toEpochNanos(Instant.now());
+    private static final long PROCESS_START_EPOCH_NANOS = getProcessStartEpochNanos();
+    private static final List<Checkpoint> CHECKPOINTS = new ArrayList<>();
+    private static volatile boolean completed;
+    private static boolean listenerStarted;
+
+    private StartupTimeline() {
+    }
+
+    /**
+     * Records a checkpoint at the current time.
+     *
+     * @param name name of the checkpoint
+     */
+    public static void recordStartupCheckpoint(BString name) {
+        record(name.getValue(), System.nanoTime());
+    }
+
+    public static void recordModuleInit() {
+        record(MODULE_INIT, System.nanoTime());
+    }
+
+    /**
+     * Records the start of the HTTP listener. Every Azure Functions listener starts the same HTTP listener, so only
+     * the first start is recorded.
+     */
+    public static synchronized void recordListenerStart() {
+        if (listenerStarted) {
+            return;
+        }
+        listenerStarted = true;
+        record(LISTENER_START, System.nanoTime());
+    }
+
+    /**
+     * Completes the timeline when the first response is written. Only the first call, after the first response,
+     * returns the timeline, so it is logged once.
+     *
+     * @param receivedNanos {@link System#nanoTime()} when the envelope of the response was received
+     * @return timeline as JSON, or nil if the timeline was already completed
+     */
+    public static Object recordResponseWritten(long receivedNanos) {
+        if (completed) {
+            return null;
+        }
+        long writtenNanos = System.nanoTime();
+        synchronized (StartupTimeline.class) {
+            if (completed) {
+                return null;
+            }
+            CHECKPOINTS.add(new Checkpoint(FIRST_ENVELOPE_RECEIVED, receivedNanos));
+            CHECKPOINTS.add(new Checkpoint(FIRST_RESPONSE_WRITTEN, writtenNanos));
+            completed = true;
+        }
+        return StringUtils.fromString(toJson());
+    }
+
+    /**
+     * Returns the timeline as JSON, with the time of each checkpoint since the start of the process and since the
+     * previous checkpoint.
+     *
+     * @return JSON text of the timeline
+     */
+    public static synchronized String toJson() {
+        StringBuilder json = new StringBuilder("{\"runtime\":\"").append(getRuntime())
+                .append("\",\"processStartEpochMillis\":").append(PROCESS_START_EPOCH_NANOS / 1_000_000)
+                .append(",\"completed\":").append(completed).append(",\"checkpoints\":[");
+        double previousMillis = 0;
+        for (int i = 0; i < CHECKPOINTS.size(); i++) {
+            Checkpoint checkpoint = CHECKPOINTS.get(i);
+            double sinceStartMillis = getSinceProcessStartMillis(checkpoint.nanos);
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"name\":\"").append(checkpoint.name.replace("\\", "\\\\").replace("\"", "\\\""))
+                    .append("\",\"sinceProcessStartMillis\":").append(sinceStartMillis)
+                    .append(",\"sincePreviousMillis\":").append(sinceStartMillis - previousMillis).append('}');
+            previousMillis = sinceStartMillis;
+        }
+        return json.append("]}").toString();
+    }
+
+    private static synchronized void record(String name, long nanos) {
+        if (completed) {
+            return;
+        }
+        // Numbers repeated checkpoints, such as the attach of several listeners of the same type.
+        int occurrence = 1;
+        for (Checkpoint checkpoint : CHECKPOINTS) {
+            if (checkpoint.name.equals(name) || checkpoint.name.startsWith(name + "#")) {
+                occurrence++;
+            }
+        }
+        CHECKPOINTS.add(new Checkpoint(occurrence == 1 ? name : name + "#" + occurrence, nanos));
+    }
+
+    private static double getSinceProcessStartMillis(long nanos) {
+        return (BASE_EPOCH_NANOS + (nanos - BASE_NANOS) - PROCESS_START_EPOCH_NANOS) / 1e6;
+    }
+
+    private static String getRuntime() {
+        return System.getProperty("org.graalvm.nativeimage.imagecode") == null ? "jvm" : "native";
+    }
+
+    private static long getProcessStartEpochNanos() {
+        // Falls back to the first checkpoint when the platform does not report the start time of the process.
+        Optional<Instant> start = ProcessHandle.current().info().startInstant();
+        return start.map(StartupTimeline::toEpochNanos).orElse(BASE_EPOCH_NANOS);
+    }
+
+    private static long toEpochNanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    private static class Checkpoint {
+
+        private final String name;
+        private final long nanos;
+
+        private Checkpoint(String name, long nanos) {
+            this.name = name;
+            this.nanos = nanos;
+        }
+    }
+}
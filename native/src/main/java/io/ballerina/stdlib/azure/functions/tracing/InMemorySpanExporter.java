@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.azure.functions.tracing;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the last finished spans in memory, so tests can check the spans of the invocations they make.
+ *
+ * @since 4.2.0
+ */
+public final class InMemorySpanExporter implements SpanExporter {
+
+    private static final int CAPACITY = 1000;
+    private static final InMemorySpanExporter INSTANCE = new InMemorySpanExporter();
+
+    private final Deque<RecordedSpan> spans = new ArrayDeque<>();
+
+    private InMemorySpanExporter() {
+    }
+
+    public static InMemorySpanExporter getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the finished spans as JSON. Called by the admin service when spans are exported in memory.
+     *
+     * @return JSON text of the spans, oldest first
+     */
+    public static BString getRecordedSpans() {
+        StringBuilder json = new StringBuilder("[");
+        for (RecordedSpan span : INSTANCE.getSpans()) {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            span.appendJson(json);
+        }
+        return StringUtils.fromString(json.append(']').toString());
+    }
+
+    @Override
+    public Span startSpan(String name, TraceContext parent, long startEpochNanos) {
+        TraceContext context = parent == null ? TraceContext.createRoot() : parent.createChild();
+        return new RecordedSpan(name, context, parent == null ? null : parent.getSpanId(), startEpochNanos);
+    }
+
+    public synchronized List<RecordedSpan> getSpans() {
+        return new ArrayList<>(spans);
+    }
+
+    public synchronized void reset() {
+        spans.clear();
+    }
+
+    private synchronized void add(RecordedSpan span) {
+        if (spans.size() == CAPACITY) {
+            spans.removeFirst();
+        }
+        spans.addLast(span);
+    }
+
+    /**
+     * Span kept in memory.
+     */
+    public final class RecordedSpan implements Span {
+
+        private final String name;
+        private final TraceContext context;
+        private final String parentSpanId;
+        private final long startEpochNanos;
+        private final Map<String, String> attributes = new LinkedHashMap<>();
+        private long endEpochNanos;
+        private boolean failed;
+
+        private RecordedSpan(String name, TraceContext context, String parentSpanId, long startEpochNanos) {
+            this.name = name;
+            this.context = context;
+            this.parentSpanId = parentSpanId;
+            this.startEpochNanos = startEpochNanos;
+        }
+
+        @Override
+        public TraceContext getContext() {
+            return context;
+        }
+
+        @Override
+        public void setAttribute(String key, String value) {
+            attributes.put(key, value);
+        }
+
+        @Override
+        public void end(long endEpochNanos, boolean failed) {
+            this.endEpochNanos = endEpochNanos;
+            this.failed = failed;
+            add(this);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getParentSpanId() {
+            return parentSpanId;
+        }
+
+        public Map<String, String> getAttributes() {
+            return attributes;
+        }
+
+        public long getDurationNanos() {
+            return endEpochNanos - startEpochNanos;
+        }
+
+        public boolean isFailed() {
+            return failed;
+        }
+
+        private void appendJson(StringBuilder json) {
+            json.append("{\"name\":");
+            appendString(json, name);
+            json.append(",\"traceId\":\"").append(context.getTraceId())
+                    .append("\",\"spanId\":\"").append(context.getSpanId()).append("\",\"parentSpanId\":");
+            if (parentSpanId == null) {
+                json.append("null");
+            } else {
+                json.append('"').append(parentSpanId).append('"');
+            }
+            json.append(",\"startEpochNanos\":").append(startEpochNanos)
+                    .append(",\"durationNanos\":").append(getDurationNanos())
+                    .append(",\"failed\":").append(failed)
+                    .append(",\"attributes\":{");
+            boolean first = true;
+            for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+                if (!first) {
+                    json.append(',');
+                }
+                first = false;
+                appendString(json, attribute.getKey());
+                json.append(':');
+                appendString(json, attribute.getValue());
+            }
+            json.append("}}");
+        }
+
+        private void appendString(StringBuilder json, String value) {
+            json.append('"').append(value.replace("\\", "\\\\").replace("\"", "\\\"")).append('"');
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.azure.functions.tracing;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ServiceType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.azure.functions.Constants;
+import io.ballerina.stdlib.azure.functions.ModuleUtils;
+import io.ballerina.stdlib.azure.functions.events.InvocationEvents;
+
+import java.time.Instant;
+import java.util.Locale;
+
+/**
+ * Traces an invocation as a child of the trace context received with the envelope, with a span for the invocation and
+ * child spans for the parameter binding, the user code, the response shaping and each output binding.
+ * <p>
+ * The exporter is chosen by the {@code AZURE_FUNCTIONS_TRACE_EXPORTER} environment variable. {@code observe}, the
+ * default, exports through Ballerina observability when tracing is enabled, {@code memory} keeps the spans in memory
+ * for tests and {@code none} turns recording off. The trace context of the invocation is visible to the user code
+ * through {@code getTraceContext()} in any case.
+ *
+ * @since 4.2.0
+ */
+public final class InvocationTrace {
+
+    static final String EXPORTER_OBSERVE = "observe";
+    static final String EXPORTER_MEMORY = "memory";
+    static final String TRACE_CONTEXT_RECORD = "TraceContext";
+
+    private static final SpanExporter EXPORTER = createExporter(System.getenv(Constants.TRACE_EXPORTER_ENV));
+    private static final InheritableThreadLocal<TraceContext> CURRENT = new InheritableThreadLocal<>();
+    private static final InvocationTrace NONE = new InvocationTrace(null, null, 0, 0);
+
+    private final SpanExporter.Span span;
+    private final TraceContext context;
+    private final long startNanos;
+    private final long startEpochNanos;
+
+    private InvocationTrace(SpanExporter.Span span, TraceContext context, long startNanos, long startEpochNanos) {
+        this.span = span;
+        this.context = context;
+        this.startNanos = startNanos;
+        this.startEpochNanos = startEpochNanos;
+    }
+
+    /**
+     * Starts the span of an invocation, as a child of the trace context in the headers of the envelope.
+     *
+     * @param functionName name of the function
+     * @param serviceType  type of the service of the function, which gives the trigger type of a recorded span
+     * @param body         data of the envelope, or the envelope itself
+     * @param startNanos   {@link System#nanoTime()} when the invocation started
+     * @return trace of the invocation
+     */
+    public static InvocationTrace start(String functionName, ServiceType serviceType, BMap<?, ?> body,
+                                        long startNanos) {
+        TraceContext parent = TraceContext.fromBody(body);
+        if (EXPORTER == null) {
+            return parent == null ? NONE : new InvocationTrace(null, parent, startNanos, 0);
+        }
+        Instant now = Instant.now();
+        long startEpochNanos = now.getEpochSecond() * 1_000_000_000L + now.getNano();
+        SpanExporter.Span span = EXPORTER.startSpan("invoke " + functionName, parent, startEpochNanos);
+        span.setAttribute("faas.name", functionName);
+        span.setAttribute("faas.trigger", InvocationEvents.getTriggerType(serviceType));
+        return new InvocationTrace(span, span.getContext(), startNanos, startEpochNanos);
+    }
+
+    /**
+     * Returns an invocation trace which records nothing.
+     *
+     * @return trace which records nothing
+     */
+    public static InvocationTrace none() {
+        return NONE;
+    }
+
+    /**
+     * Makes the trace context visible to the user code called on this thread, and on the strands it starts.
+     */
+    public void attach() {
+        if (context != null) {
+            CURRENT.set(context);
+        }
+    }
+
+    public void detach() {
+        if (context != null) {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * Records the span of an output binding.
+     *
+     * @param bindingType type of the output binding
+     * @param index       index of the output within the return value
+     * @param startNanos  {@link System#nanoTime()} when the binding started
+     * @param endNanos    {@link System#nanoTime()} when the binding ended
+     */
+    public void recordOutputBinding(String bindingType, int index, long startNanos, long endNanos) {
+        if (span == null) {
+            return;
+        }
+        SpanExporter.Span outputSpan = EXPORTER.startSpan("outputBinding", context, toEpochNanos(startNanos));
+        outputSpan.setAttribute("azure.functions.output_binding", bindingType == null ? "" : bindingType);
+        outputSpan.setAttribute("azure.functions.output_index", String.valueOf(index));
+        outputSpan.end(toEpochNanos(endNanos), false);
+    }
+
+    /**
+     * Records the spans of the phases and ends the span of the invocation.
+     *
+     * @param boundNanos    {@link System#nanoTime()} when the parameters were bound
+     * @param returnedNanos {@link System#nanoTime()} when the user code returned
+     * @param succeeded     whether the invocation succeeded
+     */
+    public void finish(long boundNanos, long returnedNanos, boolean succeeded) {
+        if (span == null) {
+            return;
+        }
+        long endNanos = System.nanoTime();
+        recordPhase("binding", startNanos, boundNanos, false);
+        recordPhase("userCode", boundNanos, returnedNanos, !succeeded);
+        recordPhase("responseShaping", returnedNanos, endNanos, false);
+        span.end(toEpochNanos(endNanos), !succeeded);
+    }
+
+    /**
+     * Ends the span of an invocation which failed before the user code was called.
+     */
+    public void fail() {
+        if (span == null) {
+            return;
+        }
+        span.end(toEpochNanos(System.nanoTime()), true);
+    }
+
+    /**
+     * Returns the trace context of the invocation the calling user code is handling.
+     *
+     * @return {@code TraceContext} record, or nil outside an invocation or when the invocation is not traced
+     */
+    public static Object getTraceContext() {
+        TraceContext context = CURRENT.get();
+        if (context == null) {
+            return null;
+        }
+        BMap<BString, Object> record = ValueCreator.createRecordValue(ModuleUtils.getModule(), TRACE_CONTEXT_RECORD);
+        record.put(StringUtils.fromString("traceId"), StringUtils.fromString(context.getTraceId()));
+        record.put(StringUtils.fromString("spanId"), StringUtils.fromString(context.getSpanId()));
+        record.put(StringUtils.fromString(TraceContext.TRACEPARENT_HEADER),
+                StringUtils.fromString(context.getTraceparent()));
+        if (context.getTraceState() != null) {
+            record.put(StringUtils.fromString(TraceContext.TRACESTATE_HEADER),
+                    StringUtils.fromString(context.getTraceState()));
+        }
+        return record;
+    }
+
+    private void recordPhase(String name, long phaseStartNanos, long phaseEndNanos, boolean failed) {
+        EXPORTER.startSpan(name, context, toEpochNanos(phaseStartNanos)).end(toEpochNanos(phaseEndNanos), failed);
+    }
+
+    private long toEpochNanos(long nanos) {
+        return startEpochNanos + (nanos - startNanos);
+    }
+
+    private static SpanExporter createExporter(String exporter) {
+        String name = exporter == null ? EXPORTER_OBSERVE : exporter.trim().toLowerCase(Locale.ROOT);
+        if (EXPORTER_MEMORY.equals(name)) {
+            return InMemorySpanExporter.getInstance();
+        } else if (EXPORTER_OBSERVE.equals(name) && ObservabilitySpanExporter.isTracingEnabled()) {
+            return new ObservabilitySpanExporter();
+        }
+        return null;
+    }
+}
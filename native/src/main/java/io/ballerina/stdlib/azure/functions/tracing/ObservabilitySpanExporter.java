@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.azure.functions.tracing;
+
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.tracer.TracersStore;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exports the spans through the tracer of Ballerina observability, so they are sent to the tracing provider the
+ * function app is configured with, along with the spans of the Ballerina libraries.
+ *
+ * @since 4.2.0
+ */
+final class ObservabilitySpanExporter implements SpanExporter {
+
+    private static final String SERVICE_NAME = "ballerinax/azure.functions";
+
+    /**
+     * Returns whether tracing is enabled in the observability configuration of the function app.
+     *
+     * @return whether spans can be exported
+     */
+    static boolean isTracingEnabled() {
+        try {
+            return ObserveUtils.isTracingEnabled();
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+
+    @Override
+    public Span startSpan(String name, TraceContext parent, long startEpochNanos) {
+        Tracer tracer = TracersStore.getInstance().getTracer(SERVICE_NAME);
+        SpanBuilder builder = tracer.spanBuilder(name).setStartTimestamp(startEpochNanos, TimeUnit.NANOSECONDS);
+        if (parent == null) {
+            builder.setNoParent();
+        } else {
+            TraceFlags flags = TraceFlags.fromHex(parent.getFlags(), 0);
+            SpanContext parentContext = parent.isRemote()
+                    ? SpanContext.createFromRemoteParent(parent.getTraceId(), parent.getSpanId(), flags,
+                    TraceState.getDefault())
+                    : SpanContext.create(parent.getTraceId(), parent.getSpanId(), flags, TraceState.getDefault());
+            builder.setParent(Context.root().with(io.opentelemetry.api.trace.Span.wrap(parentContext)));
+        }
+        io.opentelemetry.api.trace.Span span = builder.startSpan();
+        SpanContext spanContext = span.getSpanContext();
+        TraceContext context = new TraceContext(spanContext.getTraceId(), spanContext.getSpanId(),
+                spanContext.getTraceFlags().asHex(), parent == null ? null : parent.getTraceState(), false);
+        return new ObservedSpan(span, context);
+    }
+
+    private static class ObservedSpan implements Span {
+
+        private final io.opentelemetry.api.trace.Span span;
+        private final TraceContext context;
+
+        private ObservedSpan(io.opentelemetry.api.trace.Span span, TraceContext context) {
+            this.span = span;
+            this.context = context;
+        }
+
+        @Override
+        public TraceContext getContext() {
+            return context;
+        }
+
+        @Override
+        public void setAttribute(String key, String value) {
+            span.setAttribute(key, value);
+        }
+
+        @Override
+        public void end(long endEpochNanos, boolean failed) {
+            if (failed) {
+                span.setStatus(StatusCode.ERROR);
+            }
+            span.end(endEpochNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.azure.functions.tracing;
+
+/**
+ * Exports the spans recorded for the invocations. Spans are started with explicit timestamps, as the phases of an
+ * invocation are timed before their spans are created.
+ *
+ * @since 4.2.0
+ */
+public interface SpanExporter {
+
+    /**
+     * Starts a span.
+     *
+     * @param name            name of the span
+     * @param parent          context of the parent span, or {@code null} to start a new trace
+     * @param startEpochNanos start time, in nanoseconds since the epoch
+     * @return started span
+     */
+    Span startSpan(String name, TraceContext parent, long startEpochNanos);
+
+    /**
+     * Span started by an exporter.
+     */
+    interface Span {
+
+        TraceContext getContext();
+
+        void setAttribute(String key, String value);
+
+        /**
+         * Ends the span and exports it.
+         *
+         * @param endEpochNanos end time, in nanoseconds since the epoch
+         * @param failed        whether the operation of the span failed
+         */
+        void end(long endEpochNanos, boolean failed);
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.azure.functions.tracing;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.azure.functions.Constants;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * W3C trace context of a span, as carried by the {@code traceparent} and {@code tracestate} headers.
+ *
+ * @since 4.2.0
+ */
+public final class TraceContext {
+
+    static final String TRACEPARENT_HEADER = "traceparent";
+    static final String TRACESTATE_HEADER = "tracestate";
+
+    private static final Pattern TRACEPARENT =
+            Pattern.compile("([0-9a-f]{2})-([0-9a-f]{32})-([0-9a-f]{16})-([0-9a-f]{2})(-.*)?");
+    private static final String INVALID_TRACE_ID = "00000000000000000000000000000000";
+    private static final String INVALID_SPAN_ID = "0000000000000000";
+    private static final String SAMPLED = "01";
+
+    private final String traceId;
+    private final String spanId;
+    private final String flags;
+    private final String traceState;
+    private final boolean remote;
+
+    TraceContext(String traceId, String spanId, String flags, String traceState, boolean remote) {
+        this.traceId = traceId;
+        this.spanId = spanId;
+        this.flags = flags;
+        this.traceState = traceState;
+        this.remote = remote;
+    }
+
+    /**
+     * Parses a {@code traceparent} header. Versions after {@code 00} are accepted as long as they start with the
+     * fields of version {@code 00}, as the specification requires.
+     *
+     * @param traceparent value of the {@code traceparent} header
+     * @param traceState  value of the {@code tracestate} header, or {@code null}
+     * @return trace context, or {@code null} if the header is not valid
+     */
+    public static TraceContext parse(String traceparent, String traceState) {
+        if (traceparent == null) {
+            return null;
+        }
+        Matcher matcher = TRACEPARENT.matcher(traceparent.trim().toLowerCase(Locale.ROOT));
+        if (!matcher.matches()) {
+            return null;
+        }
+        String version = matcher.group(1);
+        if ("ff".equals(version) || ("00".equals(version) && matcher.group(5) != null)
+                || INVALID_TRACE_ID.equals(matcher.group(2)) || INVALID_SPAN_ID.equals(matcher.group(3))) {
+            return null;
+        }
+        return new TraceContext(matcher.group(2), matcher.group(3), matcher.group(4), traceState, true);
+    }
+
+    /**
+     * Extracts the trace context from the headers of the HTTP request of an envelope, which the Functions host passes
+     * as arrays of values.
+     *
+     * @param body data of the envelope, or the envelope itself
+     * @return trace context of the caller, or {@code null} if the request has no valid {@code traceparent} header
+     */
+    public static TraceContext fromBody(BMap<?, ?> body) {
+        BMap<?, ?> httpPayload = getMap(body, Constants.HTTP_TRIGGER_IDENTIFIER);
+        if (httpPayload == null) {
+            BMap<?, ?> data = getMap(body, "Data");
+            httpPayload = data == null ? null : getMap(data, Constants.HTTP_TRIGGER_IDENTIFIER);
+        }
+        BMap<?, ?> headers = httpPayload == null ? null : getMap(httpPayload, Constants.AZURE_PAYLOAD_HEADERS);
+        if (headers == null) {
+            return null;
+        }
+        String traceparent = null;
+        String traceState = null;
+        for (Object key : headers.getKeys()) {
+            String name = key.toString();
+            if (TRACEPARENT_HEADER.equalsIgnoreCase(name)) {
+                traceparent = getHeaderValue(headers.get(key));
+            } else if (TRACESTATE_HEADER.equalsIgnoreCase(name)) {
+                traceState = getHeaderValue(headers.get(key));
+            }
+        }
+        return parse(traceparent, traceState);
+    }
+
+    /**
+     * Creates the context of a span which starts a new trace.
+     *
+     * @return trace context
+     */
+    public static TraceContext createRoot() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String traceId = toHex(random.nextLong() | 1) + toHex(random.nextLong());
+        return new TraceContext(traceId, createSpanId(), SAMPLED, null, false);
+    }
+
+    /**
+     * Creates the context of a child span, in the same trace.
+     *
+     * @return trace context of the child span
+     */
+    public TraceContext createChild() {
+        return new TraceContext(traceId, createSpanId(), flags, traceState, false);
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public String getSpanId() {
+        return spanId;
+    }
+
+    public String getFlags() {
+        return flags;
+    }
+
+    public String getTraceState() {
+        return traceState;
+    }
+
+    public boolean isRemote() {
+        return remote;
+    }
+
+    public String getTraceparent() {
+        return "00-" + traceId + "-" + spanId + "-" + flags;
+    }
+
+    private static String createSpanId() {
+        return toHex(ThreadLocalRandom.current().nextLong() | 1);
+    }
+
+    private static String toHex(long value) {
+        String hex = Long.toHexString(value);
+        return "0000000000000000".substring(hex.length()) + hex;
+    }
+
+    private static BMap<?, ?> getMap(BMap<?, ?> map, String key) {
+        Object value = map.get(StringUtils.fromString(key));
+        return value instanceof BMap ? (BMap<?, ?>) value : null;
+    }
+
+    private static String getHeaderValue(Object value) {
+        if (value instanceof BArray) {
+            BArray values = (BArray) value;
+            return values.size() == 0 ? null : String.valueOf(values.get(0));
+        } else if (value instanceof BString) {
+            return ((BString) value).getValue();
+        }
+        return null;
+    }
+}
@@ -29,4 +29,11 @@ module io.ballerina.stdlib.azure.functions {
     requires org.jvnet.mimepull;
     requires jakarta.activation;
     requires io.ballerina.stdlib.mime;
+    requires jdk.jfr;
+    requires jdk.management;
+    requires static io.opentelemetry.api;
+    requires static io.opentelemetry.context;
+
+    // JFR reads the fields of the event classes.
+    exports io.ballerina.stdlib.azure.functions.events;
 }
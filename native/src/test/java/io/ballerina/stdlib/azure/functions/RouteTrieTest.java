@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.azure.functions;
+
+import io.ballerina.runtime.api.types.Parameter;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.Type;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test cases for matching the request paths against the routes of the resources.
+ */
+public class RouteTrieTest {
+
+    private static final List<String> BASE_PATH = List.of("api");
+
+    @Test
+    public void testLiteralBeforeParamBeforeRest() {
+
+        RouteTrie<String> trie = new RouteTrie<>();
+        add(trie, "get", "rest", new String[]{"users", "^^"}, PredefinedTypes.TYPE_STRING);
+        add(trie, "get", "param", new String[]{"users", "^"}, PredefinedTypes.TYPE_STRING);
+        add(trie, "get", "literal", new String[]{"users", "me"});
+
+        assertMatch(trie, "get", List.of("api", "users", "me"), "literal");
+        assertMatch(trie, "get", List.of("api", "users", "john"), "param", "john");
+        assertMatch(trie, "get", List.of("api", "users", "john", "posts"), "rest", "john/posts");
+        assertMatch(trie, "get", List.of("api", "users"), "rest", "");
+    }
+
+    @Test
+    public void testParamTypeOrder() {
+
+        RouteTrie<String> trie = new RouteTrie<>();
+        add(trie, "get", "string", new String[]{"items", "^"}, PredefinedTypes.TYPE_STRING);
+        add(trie, "get", "float", new String[]{"items", "^"}, PredefinedTypes.TYPE_FLOAT);
+        add(trie, "get", "decimal", new String[]{"items", "^"}, PredefinedTypes.TYPE_DECIMAL);
+        add(trie, "get", "boolean", new String[]{"items", "^"}, PredefinedTypes.TYPE_BOOLEAN);
+        add(trie, "get", "int", new String[]{"items", "^"}, PredefinedTypes.TYPE_INT);
+
+        assertMatch(trie, "get", List.of("api", "items", "42"), "int", "42");
+        assertMatch(trie, "get", List.of("api", "items", "TRUE"), "boolean", "TRUE");
+        assertMatch(trie, "get", List.of("api", "items", "4.2"), "decimal", "4.2");
+        assertMatch(trie, "get", List.of("api", "items", "NaN"), "float", "NaN");
+        assertMatch(trie, "get", List.of("api", "items", "apple"), "string", "apple");
+    }
+
+    @Test
+    public void testBacktracking() {
+
+        RouteTrie<String> trie = new RouteTrie<>();
+        add(trie, "get", "literal", new String[]{"orders", "latest", "items"});
+        add(trie, "get", "int", new String[]{"orders", "^", "total"}, PredefinedTypes.TYPE_INT);
+        add(trie, "get", "string", new String[]{"orders", "^", "status"}, PredefinedTypes.TYPE_STRING);
+
+        assertMatch(trie, "get", List.of("api", "orders", "latest", "items"), "literal");
+        assertMatch(trie, "get", List.of("api", "orders", "latest", "status"), "string", "latest");
+        assertMatch(trie, "get", List.of("api", "orders", "7", "total"), "int", "7");
+        assertMatch(trie, "get", List.of("api", "orders", "7", "status"), "string", "7");
+    }
+
+    @Test
+    public void testDefaultAccessor() {
+
+        RouteTrie<String> trie = new RouteTrie<>();
+        add(trie, "default", "default", new String[]{"hello"});
+        add(trie, "post", "post", new String[]{"hello"});
+
+        assertMatch(trie, "post", List.of("api", "hello"), "post");
+        assertMatch(trie, "put", List.of("api", "hello"), "default");
+    }
+
+    @Test
+    public void testNoMatch() {
+
+        RouteTrie<String> trie = new RouteTrie<>();
+        add(trie, "get", "int", new String[]{"orders", "^"}, PredefinedTypes.TYPE_INT);
+        add(trie, "post", "literal", new String[]{"orders"});
+
+        List<String> values = new ArrayList<>();
+        Assert.assertNull(trie.match(List.of("api", "orders", "latest"), "get", values));
+        Assert.assertNull(trie.match(List.of("api", "orders"), "get", values));
+        Assert.assertNull(trie.match(List.of("orders", "7"), "get", values));
+        Assert.assertNull(trie.match(List.of("api", "orders", "7", "items"), "get", values));
+        Assert.assertTrue(values.isEmpty());
+    }
+
+    private static void add(RouteTrie<String> trie, String accessor, String route, String[] resourcePath,
+                            Type... paramTypes) {
+
+        Parameter[] parameters = new Parameter[paramTypes.length];
+        for (int i = 0; i < paramTypes.length; i++) {
+            parameters[i] = new Parameter("p" + i, false, paramTypes[i]);
+        }
+        trie.add(BASE_PATH, resourcePath, parameters, accessor, route);
+    }
+
+    private static void assertMatch(RouteTrie<String> trie, String method, List<String> segments, String route,
+                                    String... values) {
+
+        List<String> matchedValues = new ArrayList<>();
+        Assert.assertEquals(trie.match(segments, method, matchedValues), route);
+        Assert.assertEquals(matchedValues, List.of(values));
+    }
+}
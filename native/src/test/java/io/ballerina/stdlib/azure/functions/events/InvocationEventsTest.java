@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.azure.functions.events;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Test cases for the payload size reported by the invocation events.
+ */
+public class InvocationEventsTest {
+
+    @Test
+    public void testUtf8Length() {
+
+        String[] values = {"", "hello", "caf\u00e9", "\u20ac100", "\ud83d\ude00 smile", "{\"name\":\"\u0dc1\u0dca\"}"};
+        for (String value : values) {
+            Assert.assertEquals(InvocationEvents.getUtf8Length(value), value.getBytes(StandardCharsets.UTF_8).length,
+                    value);
+        }
+    }
+
+    @Test
+    public void testUnpairedSurrogates() {
+
+        String[] values = {"\ud83d", "a\ude00b", "\ude00\ud83d"};
+        for (String value : values) {
+            Assert.assertEquals(InvocationEvents.getUtf8Length(value), value.getBytes(StandardCharsets.UTF_8).length,
+                    value);
+        }
+    }
+}
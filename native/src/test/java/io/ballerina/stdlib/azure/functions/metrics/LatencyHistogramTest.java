@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.azure.functions.metrics;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for the bucketing and the percentiles of the latency histogram.
+ */
+public class LatencyHistogramTest {
+
+    private static final long MAX_TESTED_MICROS = 1L << 20;
+
+    @Test
+    public void testSmallValuesHaveABucketEach() {
+
+        for (int micros = 0; micros < 64; micros++) {
+            Assert.assertEquals(LatencyHistogram.getIndex(micros), micros);
+            Assert.assertEquals(LatencyHistogram.getUpperBound(micros), micros);
+        }
+    }
+
+    @Test
+    public void testBucketBoundaries() {
+
+        Assert.assertEquals(LatencyHistogram.getIndex(64), 64);
+        Assert.assertEquals(LatencyHistogram.getIndex(65), 64);
+        Assert.assertEquals(LatencyHistogram.getIndex(66), 65);
+        Assert.assertEquals(LatencyHistogram.getUpperBound(64), 65);
+        Assert.assertEquals(LatencyHistogram.getIndex(127), 95);
+        Assert.assertEquals(LatencyHistogram.getUpperBound(95), 127);
+        Assert.assertEquals(LatencyHistogram.getIndex(128), 96);
+        Assert.assertEquals(LatencyHistogram.getUpperBound(96), 131);
+    }
+
+    @Test
+    public void testUpperBoundIsWithinRelativeError() {
+
+        int previousIndex = -1;
+        for (long micros = 0; micros <= MAX_TESTED_MICROS; micros++) {
+            int index = LatencyHistogram.getIndex(micros);
+            long upperBound = LatencyHistogram.getUpperBound(index);
+            Assert.assertTrue(index == previousIndex || index == previousIndex + 1, "index of " + micros);
+            Assert.assertTrue(upperBound >= micros, "upper bound of " + micros);
+            Assert.assertTrue(upperBound - micros <= micros / 32, "relative error of " + micros);
+            Assert.assertEquals(LatencyHistogram.getIndex(upperBound), index);
+            previousIndex = index;
+        }
+    }
+
+    @Test
+    public void testPercentiles() {
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 100; millis++) {
+            histogram.record(millis * 1_000_000L);
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        Assert.assertEquals(snapshot.getCount(), 100);
+        Assert.assertEquals(snapshot.getMeanMillis(), 50.5);
+        Assert.assertEquals(snapshot.getMaxMillis(), 100.0);
+        Assert.assertEquals(snapshot.getPercentileMillis(50), 50.0, 50.0 / 32);
+        Assert.assertEquals(snapshot.getPercentileMillis(90), 90.0, 90.0 / 32);
+        Assert.assertEquals(snapshot.getPercentileMillis(99), 99.0, 99.0 / 32);
+        // The percentile is capped at the maximum, so it does not report the upper bound of the last bucket.
+        Assert.assertEquals(snapshot.getPercentileMillis(100), 100.0);
+    }
+
+    @Test
+    public void testEmptyAndOutOfRangeValues() {
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assert.assertEquals(histogram.snapshot().getPercentileMillis(99), 0.0);
+        Assert.assertEquals(histogram.snapshot().getMeanMillis(), 0.0);
+
+        histogram.record(-1000);
+        histogram.record(Long.MAX_VALUE);
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        Assert.assertEquals(snapshot.getCount(), 2);
+        Assert.assertEquals(snapshot.getPercentileMillis(50), 0.0);
+        Assert.assertEquals(snapshot.getMaxMillis(), ((1L << 31) - 1) / 1000.0);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.azure.functions.metrics;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Test cases for the order and the timing of the startup checkpoints.
+ */
+public class StartupTimelineTest {
+
+    private static final Pattern CHECKPOINT = Pattern.compile(
+            "\\{\"name\":\"([^\"]*)\",\"sinceProcessStartMillis\":([^,]*),\"sincePreviousMillis\":([^}]*)}");
+
+    // The timeline is kept for the life of the worker, so the whole startup is covered by a single test.
+    @Test
+    public void testCheckpointOrder() {
+
+        StartupTimeline.recordModuleInit();
+        StartupTimeline.recordStartupCheckpoint(StringUtils.fromString("listener.attach"));
+        StartupTimeline.recordStartupCheckpoint(StringUtils.fromString("listener.attach"));
+        StartupTimeline.recordListenerStart();
+        StartupTimeline.recordListenerStart();
+        long receivedNanos = System.nanoTime();
+        Assert.assertTrue(StartupTimeline.toJson().contains("\"completed\":false"));
+
+        Assert.assertNotNull(StartupTimeline.recordResponseWritten(receivedNanos));
+        Assert.assertNull(StartupTimeline.recordResponseWritten(System.nanoTime()));
+        StartupTimeline.recordStartupCheckpoint(StringUtils.fromString("late"));
+
+        String json = StartupTimeline.toJson();
+        Assert.assertTrue(json.contains("\"completed\":true"));
+        List<String> names = new ArrayList<>();
+        List<Double> sinceStart = new ArrayList<>();
+        List<Double> sincePrevious = new ArrayList<>();
+        Matcher matcher = CHECKPOINT.matcher(json);
+        while (matcher.find()) {
+            names.add(matcher.group(1));
+            sinceStart.add(Double.parseDouble(matcher.group(2)));
+            sincePrevious.add(Double.parseDouble(matcher.group(3)));
+        }
+        Assert.assertEquals(names, List.of(StartupTimeline.MODULE_INIT, "listener.attach", "listener.attach#2",
+                StartupTimeline.LISTENER_START, StartupTimeline.FIRST_ENVELOPE_RECEIVED,
+                StartupTimeline.FIRST_RESPONSE_WRITTEN));
+        for (int i = 1; i < names.size(); i++) {
+            Assert.assertTrue(sinceStart.get(i) >= sinceStart.get(i - 1), names.get(i));
+            Assert.assertEquals(sincePrevious.get(i), sinceStart.get(i) - sinceStart.get(i - 1), 1e-6, names.get(i));
+        }
+    }
+}